@@ -0,0 +1,47 @@
+package com.investment.proposal;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Main Spring Boot Application Class for Investment Proposal Management System
+ * Spring Boot: Entry point and main configuration class for investment management
+ * This class bootstraps the entire investment proposal management application
+ * and enables all necessary Spring Boot features for investment operations
+ */
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)  // Spring Boot: Main application annotation enabling auto-configuration
+                        // Automatically configures Spring Boot components for investment system
+                        // A ConnectionFactory bean would make the JDBC DataSource back off, so the
+                        // reactive API builds its R2DBC pool itself (see ReactiveProposalConfig)
+@EnableConfigurationProperties  // Spring Boot: Enable configuration properties processing
+                                // Allows investment system to use externalized configuration
+@EnableAsync  // Spring Boot: Enable asynchronous method execution for investment processing
+              // Supports concurrent investment operations and background tasks
+@EnableScheduling  // Spring Boot: Enable scheduled task execution for investment maintenance
+                   // Allows investment system to run periodic portfolio reviews and cleanup
+public class InvestmentProposalApplication {
+
+    /**
+     * Main method to start Spring Boot Investment Management Application
+     * Spring Boot: Application entry point with embedded server startup
+     * This method launches the investment proposal management system
+     * and initializes all Spring Boot components for investment operations
+     * 
+     * @param args Command line arguments for investment system startup
+     *             Allows runtime configuration of investment application
+     */
+    public static void main(String[] args) {
+        // Spring Boot: Launch investment proposal management application
+        // Starts embedded web server and initializes all investment components
+        SpringApplication.run(InvestmentProposalApplication.class, args);
+        
+        // Spring Boot: Log successful startup of investment management system
+        // Confirms that all investment services are ready for operation
+        System.out.println("Investment Proposal Management System Started Successfully!");
+        System.out.println("Access investment management features at: http://localhost:8080/investment");
+    }
+}
\ No newline at end of file
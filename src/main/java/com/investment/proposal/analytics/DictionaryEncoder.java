@@ -0,0 +1,62 @@
+package com.investment.proposal.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary Encoder for Categorical Investment Columns
+ * Spring Boot: Maps repeated string values to dense integer codes
+ * Lets the columnar investment snapshot store advisors and investment types as ints,
+ * so group-by loops index plain arrays instead of hashing strings per row
+ *
+ * Not thread-safe on its own; callers hold the column store write lock when encoding.
+ */
+class DictionaryEncoder {
+
+    /**
+     * Forward dictionary from categorical value to code
+     */
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    /**
+     * Reverse dictionary from code to categorical value
+     */
+    private final List<String> values = new ArrayList<>();
+
+    /**
+     * Encode a categorical investment value, assigning the next code on first sight
+     *
+     * @param value Categorical value such as an advisor name or investment type
+     * @return Dense integer code for the value
+     */
+    int encode(String value) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        return code;
+    }
+
+    /**
+     * Decode an integer code back to its categorical investment value
+     *
+     * @param code Dense integer code
+     * @return Categorical value for the code
+     */
+    String decode(int code) {
+        return values.get(code);
+    }
+
+    /**
+     * Number of distinct categorical values seen so far
+     *
+     * @return Dictionary cardinality
+     */
+    int size() {
+        return values.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.investment.proposal.analytics;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Flow Bucket Result for Investment Proposal Dashboards
+ * Spring Boot: Immutable counts and amount totals for one time bucket or window
+ */
+public class FlowBucket {
+
+    private final Instant start;
+    private final long created;
+    private final long approved;
+    private final BigDecimal createdAmount;
+    private final BigDecimal approvedAmount;
+
+    /**
+     * Constructor for an investment proposal flow bucket
+     *
+     * @param start Bucket or window start time
+     * @param created Investment proposals created in the bucket
+     * @param approved Investment proposals approved in the bucket
+     * @param createdAmount Investment amount created in the bucket
+     * @param approvedAmount Investment amount approved in the bucket
+     */
+    public FlowBucket(Instant start, long created, long approved, BigDecimal createdAmount, BigDecimal approvedAmount) {
+        this.start = start;
+        this.created = created;
+        this.approved = approved;
+        this.createdAmount = createdAmount;
+        this.approvedAmount = approvedAmount;
+    }
+
+    // Getters for investment proposal flow bucket data access
+    public Instant getStart() { return start; }
+    public long getCreated() { return created; }
+    public long getApproved() { return approved; }
+    public BigDecimal getCreatedAmount() { return createdAmount; }
+    public BigDecimal getApprovedAmount() { return approvedAmount; }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.investment.proposal.analytics;
+
+/**
+ * Flow Granularity Enum for Rolling Investment Proposal Aggregates
+ * Spring Boot: Enum for the bucket widths and retention of proposal flow rings
+ * Each granularity keeps a fixed number of buckets, which bounds both memory
+ * and the cost of any rolling-window query
+ */
+public enum FlowGranularity {
+    MINUTE(60_000L, 1_440),       // One bucket per minute, last 24 hours
+    HOUR(3_600_000L, 24 * 14),    // One bucket per hour, last 14 days
+    DAY(86_400_000L, 366);        // One bucket per day, last year
+
+    private final long bucketMillis;
+    private final int slots;
+
+    FlowGranularity(long bucketMillis, int slots) {
+        this.bucketMillis = bucketMillis;
+        this.slots = slots;
+    }
+
+    public long getBucketMillis() { return bucketMillis; }
+    public int getSlots() { return slots; }
+}
\ No newline at end of file
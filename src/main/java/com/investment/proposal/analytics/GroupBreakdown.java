@@ -0,0 +1,52 @@
+package com.investment.proposal.analytics;
+
+import java.math.BigDecimal;
+
+/**
+ * Group Breakdown Result for Investment Portfolio Analytics
+ * Spring Boot: Immutable aggregate row returned by analytics group-by queries
+ * Carries totals, the amount-weighted expected return and amount percentiles
+ * for one value of the grouping dimension
+ */
+public class GroupBreakdown {
+
+    private final String group;
+    private final long proposalCount;
+    private final BigDecimal totalInvestmentAmount;
+    private final BigDecimal weightedAverageReturn;
+    private final BigDecimal medianInvestmentAmount;
+    private final BigDecimal p90InvestmentAmount;
+    private final BigDecimal p99InvestmentAmount;
+
+    /**
+     * Constructor for an investment group breakdown row
+     *
+     * @param group Group value, e.g. HIGH, STOCKS or an advisor name
+     * @param proposalCount Number of investment proposals in the group
+     * @param totalInvestmentAmount Sum of investment amounts
+     * @param weightedAverageReturn Expected return weighted by investment amount
+     * @param medianInvestmentAmount 50th percentile investment amount
+     * @param p90InvestmentAmount 90th percentile investment amount
+     * @param p99InvestmentAmount 99th percentile investment amount
+     */
+    public GroupBreakdown(String group, long proposalCount, BigDecimal totalInvestmentAmount,
+                          BigDecimal weightedAverageReturn, BigDecimal medianInvestmentAmount,
+                          BigDecimal p90InvestmentAmount, BigDecimal p99InvestmentAmount) {
+        this.group = group;
+        this.proposalCount = proposalCount;
+        this.totalInvestmentAmount = totalInvestmentAmount;
+        this.weightedAverageReturn = weightedAverageReturn;
+        this.medianInvestmentAmount = medianInvestmentAmount;
+        this.p90InvestmentAmount = p90InvestmentAmount;
+        this.p99InvestmentAmount = p99InvestmentAmount;
+    }
+
+    // Getters for investment group breakdown data access
+    public String getGroup() { return group; }
+    public long getProposalCount() { return proposalCount; }
+    public BigDecimal getTotalInvestmentAmount() { return totalInvestmentAmount; }
+    public BigDecimal getWeightedAverageReturn() { return weightedAverageReturn; }
+    public BigDecimal getMedianInvestmentAmount() { return medianInvestmentAmount; }
+    public BigDecimal getP90InvestmentAmount() { return p90InvestmentAmount; }
+    public BigDecimal getP99InvestmentAmount() { return p99InvestmentAmount; }
+}
\ No newline at end of file
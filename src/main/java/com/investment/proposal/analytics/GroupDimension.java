@@ -0,0 +1,12 @@
+package com.investment.proposal.analytics;
+
+/**
+ * Group Dimension Enum for Investment Portfolio Breakdowns
+ * Spring Boot: Enum for the categorical columns analytics queries can group by
+ * Supports investment portfolio analysis by risk, asset class and advisor
+ */
+public enum GroupDimension {
+    RISK_LEVEL,        // Group investment proposals by RiskLevel
+    INVESTMENT_TYPE,   // Group investment proposals by investment type
+    ASSIGNED_ADVISOR   // Group investment proposals by assigned advisor
+}
\ No newline at end of file
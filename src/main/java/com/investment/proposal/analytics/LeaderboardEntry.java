@@ -0,0 +1,69 @@
+package com.investment.proposal.analytics;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+
+/**
+ * Leaderboard Entry for Investment Top-K Rankings
+ * Spring Boot: Immutable copy of the proposal fields a leaderboard row shows
+ * Entries are copied from event payloads so a board never holds managed entities
+ */
+public class LeaderboardEntry {
+
+    private final Long id;
+    private final String proposalReference;
+    private final String clientName;
+    private final String assignedAdvisor;
+    private final RiskLevel riskLevel;
+    private final Money investmentAmount;
+    private final Rate expectedReturn;
+    private final boolean approved;
+
+    /**
+     * Constructor copying an investment proposal into a leaderboard entry
+     *
+     * @param proposal Investment proposal
+     */
+    public LeaderboardEntry(InvestmentProposal proposal) {
+        this.id = proposal.getId();
+        this.proposalReference = proposal.getProposalReference();
+        this.clientName = proposal.getClientName();
+        this.assignedAdvisor = proposal.getAssignedAdvisor();
+        this.riskLevel = proposal.getRiskLevel();
+        this.investmentAmount = proposal.getInvestmentAmount();
+        this.expectedReturn = proposal.getExpectedReturn();
+        this.approved = Boolean.TRUE.equals(proposal.getApproved());
+    }
+
+    /**
+     * Whether the entry has a value for a metric and can be ranked by it
+     *
+     * @param metric Leaderboard metric
+     * @return True if the ranked value is present
+     */
+    public boolean hasValue(LeaderboardMetric metric) {
+        return (metric == LeaderboardMetric.INVESTMENT_AMOUNT ? investmentAmount : expectedReturn) != null;
+    }
+
+    /**
+     * Fixed-point value ranked by a metric, compared without allocating
+     *
+     * @param metric Leaderboard metric
+     * @return Investment amount in cents or expected return in basis points
+     */
+    public long rankOf(LeaderboardMetric metric) {
+        return metric == LeaderboardMetric.INVESTMENT_AMOUNT ? investmentAmount.getCents() : expectedReturn.getBasisPoints();
+    }
+
+    // Getters for investment leaderboard entry access
+    public Long getId() { return id; }
+    public String getProposalReference() { return proposalReference; }
+    public String getClientName() { return clientName; }
+    public String getAssignedAdvisor() { return assignedAdvisor; }
+    public RiskLevel getRiskLevel() { return riskLevel; }
+    public Money getInvestmentAmount() { return investmentAmount; }
+    public Rate getExpectedReturn() { return expectedReturn; }
+    public boolean isApproved() { return approved; }
+}
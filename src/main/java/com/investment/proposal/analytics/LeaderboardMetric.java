@@ -0,0 +1,10 @@
+package com.investment.proposal.analytics;
+
+/**
+ * Leaderboard Metric Enum for Investment Top-K Rankings
+ * Spring Boot: Enum for the proposal values leaderboards rank by, highest first
+ */
+public enum LeaderboardMetric {
+    INVESTMENT_AMOUNT,  // Rank investment proposals by investment amount
+    EXPECTED_RETURN     // Rank investment proposals by expected return
+}
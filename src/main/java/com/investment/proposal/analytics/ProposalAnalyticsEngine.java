@@ -0,0 +1,298 @@
+package com.investment.proposal.analytics;
+
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.event.InvestmentProposalsImportedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Investment Portfolio Analytics Engine
+ * Spring Boot: Service answering portfolio breakdowns from a columnar snapshot
+ * Keeps every investment proposal in primitive columns, refreshed incrementally from
+ * lifecycle events, and aggregates them with tight loops split across a fork-join pool
+ * instead of iterating entity lists of BigDecimal fields
+ */
+@Service  // Spring Boot: Service component annotation for investment analytics
+// Registers this class as a managed Spring analytics service component
+public class ProposalAnalyticsEngine {
+
+    /**
+     * Rows per fork-join leaf; smaller slices cost more in task overhead than they save
+     */
+    private static final int LEAF_ROWS = 16_384;
+
+    /**
+     * Investment event log used for full snapshot rebuilds
+     * Spring Boot: Serves the replayed proposals, or the proposal service when the log is off
+     */
+    @Autowired  // Spring Boot: Event log dependency injection for investment analytics
+    private ProposalEventLog proposalEventLog;
+
+    /**
+     * Columnar snapshot of all investment proposals
+     */
+    private final ProposalColumnStore store = new ProposalColumnStore();
+
+    /**
+     * Fork-join pool for parallel investment aggregation
+     */
+    private final ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * Time of the last full investment snapshot rebuild
+     */
+    private volatile LocalDateTime lastRebuild;
+
+    /**
+     * Build the investment snapshot once the application is ready
+     * Spring Boot: Startup hook running after seed data has been loaded
+     */
+    @EventListener(ApplicationReadyEvent.class)  // Spring Boot: Startup listener for investment snapshot loading
+    public void rebuildSnapshot() {
+        // Spring Boot: Replace the columnar snapshot with the current investment proposal table
+        store.replaceAll(proposalEventLog.currentProposals());
+        lastRebuild = LocalDateTime.now();
+    }
+
+    /**
+     * Append a created investment proposal to the snapshot
+     * Spring Boot: Applied after the creating transaction commits
+     *
+     * @param event Investment proposal creation event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment creation
+    public void onProposalCreated(InvestmentProposalCreatedEvent event) {
+        store.upsert(event.getProposal());
+    }
+
+    /**
+     * Refresh the approval column of a changed investment proposal
+     * Spring Boot: Applied after the updating transaction commits
+     *
+     * @param event Investment proposal status change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment status changes
+    public void onProposalStatusChanged(InvestmentProposalStatusChangedEvent event) {
+        store.upsert(event.getProposal());
+    }
+
+    /**
+     * Tombstone a deleted investment proposal in the snapshot
+     * Spring Boot: Applied after the deleting transaction commits
+     *
+     * @param event Investment proposal deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment deletion
+    public void onProposalDeleted(InvestmentProposalDeletedEvent event) {
+        store.remove(event.getProposal().getId());
+    }
+
+    /**
+     * Tombstone investment proposals moved to the archive
+     *
+     * @param event Investment proposals archived event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment archiving
+    public void onProposalsArchived(InvestmentProposalsArchivedEvent event) {
+        event.getProposalIds().forEach(store::remove);
+    }
+
+    /**
+     * Reload the snapshot after a bulk import
+     * Spring Boot: Imports publish no per-row events, so the snapshot is rebuilt once
+     *
+     * @param event Investment bulk import completion event
+     */
+    @EventListener  // Spring Boot: Listener for investment bulk import completion
+    public void onProposalsImported(InvestmentProposalsImportedEvent event) {
+        rebuildSnapshot();
+    }
+
+    /**
+     * Portfolio breakdown grouped by one categorical dimension
+     * Spring Boot: Parallel group-by over the columnar investment snapshot
+     * Computes count, total amount, amount-weighted expected return and amount percentiles
+     *
+     * @param dimension Grouping dimension
+     * @param approvedOnly Restrict to approved investment proposals
+     * @return One breakdown row per group value that has at least one proposal
+     */
+    public List<GroupBreakdown> breakdown(GroupDimension dimension, boolean approvedOnly) {
+        return store.read(() -> {
+            int groups = store.cardinality(dimension);
+            int[] codes = store.codesFor(dimension);
+
+            // Spring Boot: Sum counts, cents and weighted returns per group in parallel slices
+            GroupAccumulator totals = pool.invoke(
+                    new GroupAggregationTask(store, codes, groups, approvedOnly, 0, store.size));
+
+            // Spring Boot: Gather amounts per group for exact percentiles, then sort each group
+            long[][] amountsByGroup = new long[groups][];
+            int[] fill = new int[groups];
+            for (int g = 0; g < groups; g++) {
+                amountsByGroup[g] = new long[(int) totals.count[g]];
+            }
+            long[] amountCents = store.amountCents;
+            boolean[] live = store.live;
+            boolean[] approved = store.approved;
+            for (int row = 0; row < store.size; row++) {
+                if (live[row] && (!approvedOnly || approved[row])) {
+                    int g = codes[row];
+                    amountsByGroup[g][fill[g]++] = amountCents[row];
+                }
+            }
+
+            List<GroupBreakdown> result = new ArrayList<>();
+            for (int g = 0; g < groups; g++) {
+                long count = totals.count[g];
+                if (count == 0) {
+                    continue;
+                }
+                long[] amounts = amountsByGroup[g];
+                if (amounts.length > LEAF_ROWS) {
+                    Arrays.parallelSort(amounts);
+                } else {
+                    Arrays.sort(amounts);
+                }
+                BigDecimal weightedReturn = totals.sumCents[g] == 0 ? BigDecimal.ZERO
+                        : BigDecimal.valueOf(totals.weightedReturn[g] / totals.sumCents[g] / ProposalColumnStore.RETURN_SCALE)
+                                .setScale(4, RoundingMode.HALF_UP);
+                result.add(new GroupBreakdown(
+                        store.decode(dimension, g),
+                        count,
+                        centsToAmount(totals.sumCents[g]),
+                        weightedReturn,
+                        centsToAmount(percentile(amounts, 0.50)),
+                        centsToAmount(percentile(amounts, 0.90)),
+                        centsToAmount(percentile(amounts, 0.99))));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Snapshot statistics for investment analytics monitoring
+     *
+     * @return Row counts, dictionary sizes and last rebuild time
+     */
+    public Map<String, Object> getSnapshotInfo() {
+        return store.read(() -> {
+            Map<String, Object> info = new LinkedHashMap<>();
+            info.put("rows", store.size);
+            info.put("liveRows", store.liveCount);
+            info.put("investmentTypes", store.investmentTypes.size());
+            info.put("advisors", store.advisors.size());
+            info.put("lastRebuild", lastRebuild);
+            return info;
+        });
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted investment amount column
+     *
+     * @param sorted Sorted amounts in cents
+     * @param fraction Percentile as a fraction, e.g. 0.9
+     * @return Amount at the percentile in cents
+     */
+    private static long percentile(long[] sorted, double fraction) {
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static BigDecimal centsToAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Per-group running totals for one slice of investment rows
+     */
+    static final class GroupAccumulator {
+        final long[] count;
+        final long[] sumCents;
+        final double[] weightedReturn;
+
+        GroupAccumulator(int groups) {
+            count = new long[groups];
+            sumCents = new long[groups];
+            weightedReturn = new double[groups];
+        }
+
+        GroupAccumulator merge(GroupAccumulator other) {
+            for (int g = 0; g < count.length; g++) {
+                count[g] += other.count[g];
+                sumCents[g] += other.sumCents[g];
+                weightedReturn[g] += other.weightedReturn[g];
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Fork-join task aggregating a range of investment rows per group
+     * Spring Boot: Splits row ranges in half until they fit a single leaf loop
+     */
+    static final class GroupAggregationTask extends RecursiveTask<GroupAccumulator> {
+        private final ProposalColumnStore store;
+        private final int[] codes;
+        private final int groups;
+        private final boolean approvedOnly;
+        private final int from;
+        private final int to;
+
+        GroupAggregationTask(ProposalColumnStore store, int[] codes, int groups, boolean approvedOnly, int from, int to) {
+            this.store = store;
+            this.codes = codes;
+            this.groups = groups;
+            this.approvedOnly = approvedOnly;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected GroupAccumulator compute() {
+            if (to - from > LEAF_ROWS) {
+                int mid = (from + to) >>> 1;
+                GroupAggregationTask left = new GroupAggregationTask(store, codes, groups, approvedOnly, from, mid);
+                left.fork();
+                GroupAccumulator right = new GroupAggregationTask(store, codes, groups, approvedOnly, mid, to).compute();
+                return left.join().merge(right);
+            }
+
+            // Spring Boot: Leaf loop over primitive investment columns
+            GroupAccumulator acc = new GroupAccumulator(groups);
+            long[] amountCents = store.amountCents;
+            int[] returnScaled = store.returnScaled;
+            boolean[] live = store.live;
+            boolean[] approved = store.approved;
+            for (int row = from; row < to; row++) {
+                if (!live[row] || (approvedOnly && !approved[row])) {
+                    continue;
+                }
+                int g = codes[row];
+                long cents = amountCents[row];
+                acc.count[g]++;
+                acc.sumCents[g] += cents;
+                acc.weightedReturn[g] += (double) cents * returnScaled[row];
+            }
+            return acc;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,257 @@
+package com.investment.proposal.analytics;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Columnar In-Memory Snapshot of Investment Proposals
+ * Spring Boot: Primitive-array column store backing investment portfolio analytics
+ * Amounts are kept as long cents, expected returns as ints scaled by RETURN_SCALE and
+ * categorical attributes as dictionary codes, so aggregation loops never touch BigDecimal
+ *
+ * Writers (incremental lifecycle updates and full rebuilds) take the write lock;
+ * queries run under the read lock and may fan work out to fork-join workers,
+ * which only read the arrays while the calling thread holds that lock.
+ */
+class ProposalColumnStore {
+
+    /**
+     * Expected return scale: 7.5 (%) is stored as 750
+     */
+    static final int RETURN_SCALE = 100;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Spring Boot: Investment proposal columns, one array element per row
+    long[] ids = new long[INITIAL_CAPACITY];
+    long[] amountCents = new long[INITIAL_CAPACITY];
+    int[] returnScaled = new int[INITIAL_CAPACITY];
+    int[] riskLevelCodes = new int[INITIAL_CAPACITY];
+    int[] investmentTypeCodes = new int[INITIAL_CAPACITY];
+    int[] advisorCodes = new int[INITIAL_CAPACITY];
+    boolean[] approved = new boolean[INITIAL_CAPACITY];
+    boolean[] live = new boolean[INITIAL_CAPACITY];
+
+    /**
+     * Number of occupied rows, including tombstoned ones
+     */
+    int size;
+
+    /**
+     * Number of rows that have not been deleted
+     */
+    int liveCount;
+
+    /**
+     * Dictionaries for the categorical investment columns
+     */
+    final DictionaryEncoder investmentTypes = new DictionaryEncoder();
+    final DictionaryEncoder advisors = new DictionaryEncoder();
+
+    /**
+     * Row position of every investment proposal ID in the snapshot
+     */
+    private final Map<Long, Integer> rowById = new HashMap<>();
+
+    /**
+     * Replace the snapshot contents with a full investment proposal listing
+     * Spring Boot: Full rebuild, also compacting away tombstoned rows
+     *
+     * @param proposals Every current investment proposal
+     */
+    void replaceAll(List<InvestmentProposal> proposals) {
+        lock.writeLock().lock();
+        try {
+            size = 0;
+            liveCount = 0;
+            rowById.clear();
+            ensureCapacity(proposals.size());
+            for (InvestmentProposal proposal : proposals) {
+                appendRow(proposal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Insert a new investment proposal row or overwrite the existing one
+     * Spring Boot: Incremental update applied from lifecycle events
+     *
+     * @param proposal Created or changed investment proposal
+     */
+    void upsert(InvestmentProposal proposal) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.get(proposal.getId());
+            if (row == null) {
+                ensureCapacity(size + 1);
+                appendRow(proposal);
+            } else {
+                writeRow(row, proposal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tombstone a deleted investment proposal row
+     * Spring Boot: Rows are reclaimed by compaction once tombstones dominate
+     *
+     * @param id Deleted investment proposal ID
+     */
+    void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowById.remove(id);
+            if (row != null && live[row]) {
+                live[row] = false;
+                liveCount--;
+                if (size > INITIAL_CAPACITY && liveCount < size / 2) {
+                    compact();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Run an analytics query against a consistent view of the columns
+     *
+     * @param query Query reading the column arrays
+     * @param <R> Query result type
+     * @return Query result
+     */
+    <R> R read(Supplier<R> query) {
+        lock.readLock().lock();
+        try {
+            return query.get();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Per-row group codes for the requested investment dimension
+     *
+     * @param dimension Grouping dimension
+     * @return Column of dense group codes
+     */
+    int[] codesFor(GroupDimension dimension) {
+        switch (dimension) {
+            case RISK_LEVEL:
+                return riskLevelCodes;
+            case INVESTMENT_TYPE:
+                return investmentTypeCodes;
+            default:
+                return advisorCodes;
+        }
+    }
+
+    /**
+     * Number of distinct group codes for the requested investment dimension
+     *
+     * @param dimension Grouping dimension
+     * @return Group cardinality
+     */
+    int cardinality(GroupDimension dimension) {
+        switch (dimension) {
+            case RISK_LEVEL:
+                return RiskLevel.values().length;
+            case INVESTMENT_TYPE:
+                return investmentTypes.size();
+            default:
+                return advisors.size();
+        }
+    }
+
+    /**
+     * Decode a group code of the requested investment dimension
+     *
+     * @param dimension Grouping dimension
+     * @param code Dense group code
+     * @return Group value as shown to analysts
+     */
+    String decode(GroupDimension dimension, int code) {
+        switch (dimension) {
+            case RISK_LEVEL:
+                return RiskLevel.values()[code].name();
+            case INVESTMENT_TYPE:
+                return investmentTypes.decode(code);
+            default:
+                return advisors.decode(code);
+        }
+    }
+
+    private void appendRow(InvestmentProposal proposal) {
+        int row = size++;
+        rowById.put(proposal.getId(), row);
+        liveCount++;
+        writeRow(row, proposal);
+    }
+
+    private void writeRow(int row, InvestmentProposal proposal) {
+        ids[row] = proposal.getId();
+        amountCents[row] = proposal.getInvestmentAmount().getCents();
+        // Spring Boot: RETURN_SCALE hundredths of a percent are exactly the rate's basis points
+        returnScaled[row] = Math.toIntExact(proposal.getExpectedReturn().getBasisPoints());
+        riskLevelCodes[row] = proposal.getRiskLevel().ordinal();
+        investmentTypeCodes[row] = investmentTypes.encode(proposal.getInvestmentType());
+        advisorCodes[row] = advisors.encode(proposal.getAssignedAdvisor());
+        approved[row] = Boolean.TRUE.equals(proposal.getApproved());
+        live[row] = true;
+    }
+
+    /**
+     * Slide live investment rows down over tombstones and rebuild the row index
+     */
+    private void compact() {
+        int target = 0;
+        rowById.clear();
+        for (int row = 0; row < size; row++) {
+            if (!live[row]) {
+                continue;
+            }
+            if (target != row) {
+                ids[target] = ids[row];
+                amountCents[target] = amountCents[row];
+                returnScaled[target] = returnScaled[row];
+                riskLevelCodes[target] = riskLevelCodes[row];
+                investmentTypeCodes[target] = investmentTypeCodes[row];
+                advisorCodes[target] = advisorCodes[row];
+                approved[target] = approved[row];
+                live[target] = true;
+            }
+            rowById.put(ids[target], target);
+            target++;
+        }
+        Arrays.fill(live, target, size, false);
+        size = target;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= ids.length) {
+            return;
+        }
+        int capacity = Math.max(required, ids.length * 2);
+        ids = Arrays.copyOf(ids, capacity);
+        amountCents = Arrays.copyOf(amountCents, capacity);
+        returnScaled = Arrays.copyOf(returnScaled, capacity);
+        riskLevelCodes = Arrays.copyOf(riskLevelCodes, capacity);
+        investmentTypeCodes = Arrays.copyOf(investmentTypeCodes, capacity);
+        advisorCodes = Arrays.copyOf(advisorCodes, capacity);
+        approved = Arrays.copyOf(approved, capacity);
+        live = Arrays.copyOf(live, capacity);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,176 @@
+package com.investment.proposal.analytics;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalsImportedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Investment Proposal Flow Aggregator for Live Dashboards
+ * Spring Boot: Rolling per-minute, per-hour and per-day counts of proposal flow
+ * Keeps created and approved counts and amounts in lock-free rings of time buckets,
+ * fed by lifecycle events and backfilled from createdAt at startup, so dashboards read
+ * a bounded number of counters instead of running a date-range GROUP BY per refresh
+ */
+@Component  // Spring Boot: Component registration for investment flow aggregation
+// Registers this class as a managed Spring component
+public class ProposalFlowAggregator {
+
+    /**
+     * Investment event log used for the startup backfill
+     */
+    @Autowired  // Spring Boot: Event log dependency injection for investment flow backfill
+    private ProposalEventLog proposalEventLog;
+
+    /**
+     * One bucket ring per flow granularity
+     */
+    private final Map<FlowGranularity, TimeBucketRing> rings = new EnumMap<>(FlowGranularity.class);
+
+    /**
+     * Clock for bucket placement; createdAt values are local times in this clock's zone
+     */
+    private final Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * Constructor allocating the investment flow rings
+     */
+    public ProposalFlowAggregator() {
+        for (FlowGranularity granularity : FlowGranularity.values()) {
+            rings.put(granularity, new TimeBucketRing(granularity.getBucketMillis(), granularity.getSlots()));
+        }
+    }
+
+    /**
+     * Backfill the flow rings from stored investment proposals
+     * Spring Boot: Startup hook; approval time is not stored, so approved proposals are
+     * counted as approved in their creation bucket
+     */
+    @EventListener(ApplicationReadyEvent.class)  // Spring Boot: Startup listener for investment flow backfill
+    public void backfill() {
+        long now = clock.millis();
+        for (InvestmentProposal proposal : proposalEventLog.currentProposals()) {
+            long createdAt = toEpochMillis(proposal);
+            record(createdAt, TimeBucketRing.CREATED, TimeBucketRing.CREATED_CENTS, proposal, now);
+            if (Boolean.TRUE.equals(proposal.getApproved())) {
+                record(createdAt, TimeBucketRing.APPROVED, TimeBucketRing.APPROVED_CENTS, proposal, now);
+            }
+        }
+    }
+
+    /**
+     * Count a created investment proposal in its creation bucket
+     *
+     * @param event Investment proposal creation event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment creation
+    public void onProposalCreated(InvestmentProposalCreatedEvent event) {
+        InvestmentProposal proposal = event.getProposal();
+        record(toEpochMillis(proposal), TimeBucketRing.CREATED, TimeBucketRing.CREATED_CENTS, proposal, clock.millis());
+    }
+
+    /**
+     * Count an approval in the current bucket
+     *
+     * @param event Investment proposal status change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment approvals
+    public void onProposalStatusChanged(InvestmentProposalStatusChangedEvent event) {
+        InvestmentProposal proposal = event.getProposal();
+        if (Boolean.TRUE.equals(proposal.getApproved())) {
+            long now = clock.millis();
+            record(now, TimeBucketRing.APPROVED, TimeBucketRing.APPROVED_CENTS, proposal, now);
+        }
+    }
+
+    /**
+     * Count a bulk import in the current bucket
+     * Spring Boot: Imported rows are stamped with their load time, so one add per ring suffices
+     *
+     * @param event Investment bulk import completion event
+     */
+    @EventListener  // Spring Boot: Listener for investment bulk import completion
+    public void onProposalsImported(InvestmentProposalsImportedEvent event) {
+        long now = clock.millis();
+        long cents = event.getImportedAmount().getCents();
+        for (TimeBucketRing ring : rings.values()) {
+            ring.add(now, TimeBucketRing.CREATED, event.getImportedCount(), now);
+            ring.add(now, TimeBucketRing.CREATED_CENTS, cents, now);
+        }
+    }
+
+    /**
+     * Per-bucket investment proposal flow for the most recent buckets
+     * Spring Boot: Reads at most the ring size worth of counters, independent of table size
+     *
+     * @param granularity Bucket width
+     * @param buckets Number of most recent buckets, capped at the ring size
+     * @return Buckets in chronological order, ending with the current bucket
+     */
+    public List<FlowBucket> series(FlowGranularity granularity, int buckets) {
+        TimeBucketRing ring = rings.get(granularity);
+        int count = Math.max(1, Math.min(buckets, ring.getSlots()));
+        long current = ring.bucketOf(clock.millis());
+        List<FlowBucket> series = new ArrayList<>(count);
+        for (long bucket = current - count + 1; bucket <= current; bucket++) {
+            series.add(new FlowBucket(
+                    Instant.ofEpochMilli(bucket * ring.getBucketMillis()),
+                    ring.get(bucket, TimeBucketRing.CREATED),
+                    ring.get(bucket, TimeBucketRing.APPROVED),
+                    BigDecimal.valueOf(ring.get(bucket, TimeBucketRing.CREATED_CENTS), 2),
+                    BigDecimal.valueOf(ring.get(bucket, TimeBucketRing.APPROVED_CENTS), 2)));
+        }
+        return series;
+    }
+
+    /**
+     * Totals over a rolling window of the most recent buckets
+     *
+     * @param granularity Bucket width
+     * @param buckets Window length in buckets, capped at the ring size
+     * @return Single bucket holding window totals, starting at the window start
+     */
+    public FlowBucket window(FlowGranularity granularity, int buckets) {
+        TimeBucketRing ring = rings.get(granularity);
+        int count = Math.max(1, Math.min(buckets, ring.getSlots()));
+        long current = ring.bucketOf(clock.millis());
+        long created = 0, approved = 0, createdCents = 0, approvedCents = 0;
+        for (long bucket = current - count + 1; bucket <= current; bucket++) {
+            created += ring.get(bucket, TimeBucketRing.CREATED);
+            approved += ring.get(bucket, TimeBucketRing.APPROVED);
+            createdCents += ring.get(bucket, TimeBucketRing.CREATED_CENTS);
+            approvedCents += ring.get(bucket, TimeBucketRing.APPROVED_CENTS);
+        }
+        return new FlowBucket(Instant.ofEpochMilli((current - count + 1) * ring.getBucketMillis()),
+                created, approved, BigDecimal.valueOf(createdCents, 2), BigDecimal.valueOf(approvedCents, 2));
+    }
+
+    private void record(long epochMillis, int countField, int centsField, InvestmentProposal proposal, long now) {
+        long cents = proposal.getInvestmentAmount().getCents();
+        for (TimeBucketRing ring : rings.values()) {
+            ring.add(epochMillis, countField, 1L, now);
+            ring.add(epochMillis, centsField, cents, now);
+        }
+    }
+
+    private long toEpochMillis(InvestmentProposal proposal) {
+        if (proposal.getCreatedAt() == null) {
+            return clock.millis();
+        }
+        return proposal.getCreatedAt().atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,245 @@
+package com.investment.proposal.analytics;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.event.InvestmentProposalsImportedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import com.investment.proposal.reference.ReferenceDataDictionary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Investment Proposal Leaderboards
+ * Spring Boot: Service keeping per-advisor and global top-K proposals in memory
+ * Each advisor has one bounded board per metric, and so does the whole portfolio. Boards
+ * are updated from lifecycle events after commit, so leaderboard reads never query the
+ * proposal table and never sort an advisor's full proposal list.
+ *
+ * Boards keep a few entries more than they serve. When deletions eat through that headroom
+ * on a board that has dropped lower-ranked proposals, that board alone is reloaded on its
+ * next read from ProposalEventLog.currentProposals(), which needs no query while the log is
+ * in use. Until then a delete costs a few sorted-set removals.
+ */
+@Service  // Spring Boot: Service component annotation for investment leaderboards
+public class ProposalLeaderboards {
+
+    /**
+     * Investment event log used for full and lazy leaderboard rebuilds
+     * Spring Boot: Serves the replayed proposals, or the proposal service when the log is off
+     */
+    @Autowired  // Spring Boot: Event log dependency injection for investment leaderboard rebuilds
+    private ProposalEventLog proposalEventLog;
+
+    @Autowired  // Spring Boot: Dictionary injection validating advisor names without a query
+    private ReferenceDataDictionary dictionary;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment leaderboard sizes
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    private final Map<String, Map<LeaderboardMetric, TopKBoard>> advisorBoards = new HashMap<>();
+    private Map<LeaderboardMetric, TopKBoard> globalBoards;
+
+    /**
+     * Build every leaderboard once the application is ready
+     * Spring Boot: Startup hook running after seed data has been loaded
+     */
+    @EventListener(ApplicationReadyEvent.class)  // Spring Boot: Startup listener for investment leaderboard loading
+    public synchronized void rebuild() {
+        advisorBoards.clear();
+        globalBoards = newBoards();
+        for (InvestmentProposal proposal : proposalEventLog.currentProposals()) {
+            offer(new LeaderboardEntry(proposal));
+        }
+    }
+
+    /**
+     * Rank a created investment proposal
+     * Spring Boot: Applied after the creating transaction commits
+     *
+     * @param event Investment proposal creation event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment creation
+    public synchronized void onProposalCreated(InvestmentProposalCreatedEvent event) {
+        offer(new LeaderboardEntry(event.getProposal()));
+    }
+
+    /**
+     * Refresh the approval state shown for a ranked investment proposal
+     * Spring Boot: Applied after the updating transaction commits
+     *
+     * @param event Investment proposal status change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment status changes
+    public synchronized void onProposalStatusChanged(InvestmentProposalStatusChangedEvent event) {
+        LeaderboardEntry entry = new LeaderboardEntry(event.getProposal());
+        boards().values().forEach(board -> board.replace(entry));
+        for (Map<LeaderboardMetric, TopKBoard> boards : advisorBoards.values()) {
+            boards.values().forEach(board -> board.replace(entry));
+        }
+    }
+
+    /**
+     * Remove a deleted investment proposal from its boards
+     * Spring Boot: Applied after the deleting transaction commits
+     *
+     * @param event Investment proposal deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment deletion
+    public synchronized void onProposalDeleted(InvestmentProposalDeletedEvent event) {
+        remove(event.getProposal().getId());
+    }
+
+    /**
+     * Remove investment proposals moved to the archive from their boards
+     *
+     * @param event Investment proposals archived event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment archiving
+    public synchronized void onProposalsArchived(InvestmentProposalsArchivedEvent event) {
+        event.getProposalIds().forEach(this::remove);
+    }
+
+    /**
+     * Rebuild every leaderboard after a bulk import
+     * Spring Boot: Imports publish no per-row events, so the boards are rebuilt once
+     *
+     * @param event Investment bulk import completion event
+     */
+    @EventListener  // Spring Boot: Listener for investment bulk import completion
+    public void onProposalsImported(InvestmentProposalsImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Top proposals of the whole portfolio
+     *
+     * @param metric Ranking metric
+     * @param limit Entries wanted, capped at investment.management.leaderboard.size
+     * @return Highest-ranked proposals, best first
+     */
+    public synchronized List<LeaderboardEntry> global(LeaderboardMetric metric, int limit) {
+        TopKBoard board = boards().get(metric);
+        if (board.needsRebuild(size())) {
+            rebuild();
+            board = boards().get(metric);
+        }
+        return board.top(cap(limit));
+    }
+
+    /**
+     * Top proposals of one advisor
+     *
+     * @param advisor Advisor name
+     * @param metric Ranking metric
+     * @param limit Entries wanted, capped at investment.management.leaderboard.size
+     * @return Highest-ranked proposals of the advisor, best first
+     * @throws com.investment.proposal.exception.UnknownReferenceDataException if the advisor is unknown
+     */
+    public synchronized List<LeaderboardEntry> advisor(String advisor, LeaderboardMetric metric, int limit) {
+        dictionary.advisorByName(advisor);
+        boards();
+        Map<LeaderboardMetric, TopKBoard> boards = advisorBoards.get(advisor);
+        if (boards == null) {
+            return List.of();
+        }
+        if (boards.get(metric).needsRebuild(size())) {
+            rebuildAdvisor(advisor);
+            boards = advisorBoards.get(advisor);
+        }
+        return boards.get(metric).top(cap(limit));
+    }
+
+    /**
+     * Top proposals of every advisor that has any
+     *
+     * @param metric Ranking metric
+     * @param limit Entries wanted per advisor, capped at investment.management.leaderboard.size
+     * @return Highest-ranked proposals by advisor name
+     */
+    public synchronized Map<String, List<LeaderboardEntry>> advisors(LeaderboardMetric metric, int limit) {
+        boards();
+        Map<String, List<LeaderboardEntry>> result = new TreeMap<>();
+        for (String advisor : List.copyOf(advisorBoards.keySet())) {
+            List<LeaderboardEntry> top = advisor(advisor, metric, limit);
+            if (!top.isEmpty()) {
+                result.put(advisor, top);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drop one proposal from every board
+     * Spring Boot: Scans the advisors' boards, since there are only a few advisors
+     */
+    private void remove(Long id) {
+        boards().values().forEach(board -> board.remove(id));
+        for (Map<LeaderboardMetric, TopKBoard> boards : advisorBoards.values()) {
+            boards.values().forEach(board -> board.remove(id));
+        }
+    }
+
+    /**
+     * Reload one advisor's boards after deletions exhausted their headroom
+     */
+    private void rebuildAdvisor(String advisor) {
+        Map<LeaderboardMetric, TopKBoard> boards = newBoards();
+        for (InvestmentProposal proposal : proposalEventLog.currentProposals()) {
+            if (advisor.equals(proposal.getAssignedAdvisor())) {
+                LeaderboardEntry entry = new LeaderboardEntry(proposal);
+                boards.values().forEach(board -> board.offer(entry));
+            }
+        }
+        advisorBoards.put(advisor, boards);
+        System.out.println("Rebuilt investment leaderboards of advisor " + advisor);
+    }
+
+    private void offer(LeaderboardEntry entry) {
+        if (entry.getId() == null || entry.getAssignedAdvisor() == null) {
+            return;
+        }
+        boards().values().forEach(board -> board.offer(entry));
+        advisorBoards.computeIfAbsent(entry.getAssignedAdvisor(), advisor -> newBoards())
+                .values().forEach(board -> board.offer(entry));
+    }
+
+    /**
+     * Global boards, built on first use if no startup rebuild has run
+     */
+    private Map<LeaderboardMetric, TopKBoard> boards() {
+        if (globalBoards == null) {
+            rebuild();
+        }
+        return globalBoards;
+    }
+
+    private Map<LeaderboardMetric, TopKBoard> newBoards() {
+        InvestmentConfig.InvestmentManagementProperties.Leaderboard settings = investmentProperties.getLeaderboard();
+        Map<LeaderboardMetric, TopKBoard> boards = new EnumMap<>(LeaderboardMetric.class);
+        for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+            boards.put(metric, new TopKBoard(metric, settings.getSize() + settings.getHeadroom()));
+        }
+        return boards;
+    }
+
+    private int size() {
+        return investmentProperties.getLeaderboard().getSize();
+    }
+
+    private int cap(int limit) {
+        return Math.max(0, Math.min(limit, size()));
+    }
+}
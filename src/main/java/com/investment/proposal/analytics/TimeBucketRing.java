@@ -0,0 +1,131 @@
+package com.investment.proposal.analytics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-Free Ring of Time Buckets for Investment Proposal Flow
+ * Spring Boot: Fixed-size circular buffer of per-bucket counters
+ * Each slot is tagged with the absolute bucket number it currently holds; a writer that
+ * lands on a slot still holding an older bucket claims it with a CAS, zeroes it and
+ * republishes the tag, so stale data is recycled without any lock or sweeper thread
+ *
+ * Readers treat a slot whose tag does not match the requested bucket as empty.
+ */
+class TimeBucketRing {
+
+    static final int CREATED = 0;
+    static final int APPROVED = 1;
+    static final int CREATED_CENTS = 2;
+    static final int APPROVED_CENTS = 3;
+    private static final int FIELDS = 4;
+
+    /**
+     * Tag value marking a slot that is being zeroed by a claiming writer
+     */
+    private static final long RESETTING = -1L;
+
+    private final long bucketMillis;
+    private final int slots;
+
+    /**
+     * Absolute bucket number held by each slot
+     */
+    private final AtomicLongArray tags;
+
+    /**
+     * Counters laid out as slots x FIELDS
+     */
+    private final AtomicLongArray values;
+
+    TimeBucketRing(long bucketMillis, int slots) {
+        this.bucketMillis = bucketMillis;
+        this.slots = slots;
+        this.tags = new AtomicLongArray(slots);
+        this.values = new AtomicLongArray(slots * FIELDS);
+    }
+
+    /**
+     * Absolute bucket number containing a timestamp
+     *
+     * @param epochMillis Timestamp in epoch milliseconds
+     * @return Bucket number
+     */
+    long bucketOf(long epochMillis) {
+        return epochMillis / bucketMillis;
+    }
+
+    long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    int getSlots() {
+        return slots;
+    }
+
+    /**
+     * Add to a counter of the bucket containing a timestamp
+     * Spring Boot: Ignores timestamps outside the retained window or in the future
+     *
+     * @param epochMillis Event timestamp in epoch milliseconds
+     * @param field Counter field
+     * @param delta Amount to add
+     * @param nowMillis Current time in epoch milliseconds
+     */
+    void add(long epochMillis, int field, long delta, long nowMillis) {
+        long bucket = bucketOf(epochMillis);
+        long current = bucketOf(nowMillis);
+        if (bucket > current || bucket <= current - slots) {
+            return;
+        }
+        int slot = (int) (bucket % slots);
+        if (claim(slot, bucket)) {
+            values.addAndGet(slot * FIELDS + field, delta);
+        }
+    }
+
+    /**
+     * Read a counter of one bucket
+     *
+     * @param bucket Absolute bucket number
+     * @param field Counter field
+     * @return Counter value, or zero if the slot holds another bucket
+     */
+    long get(long bucket, int field) {
+        int slot = (int) (bucket % slots);
+        if (tags.get(slot) != bucket) {
+            return 0L;
+        }
+        return values.get(slot * FIELDS + field);
+    }
+
+    /**
+     * Make a slot hold the given bucket, recycling it if it holds an older one
+     *
+     * @param slot Ring slot
+     * @param bucket Absolute bucket number
+     * @return False if the slot already moved on to a newer bucket
+     */
+    private boolean claim(int slot, long bucket) {
+        while (true) {
+            long tag = tags.get(slot);
+            if (tag == bucket) {
+                return true;
+            }
+            if (tag == RESETTING) {
+                Thread.onSpinWait();
+                continue;
+            }
+            if (tag > bucket) {
+                return false;
+            }
+            if (tags.compareAndSet(slot, tag, RESETTING)) {
+                int base = slot * FIELDS;
+                for (int field = 0; field < FIELDS; field++) {
+                    values.set(base + field, 0L);
+                }
+                tags.set(slot, bucket);
+                return true;
+            }
+        }
+    }
+}
\ No newline at end of file
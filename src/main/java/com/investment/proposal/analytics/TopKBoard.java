@@ -0,0 +1,99 @@
+package com.investment.proposal.analytics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Bounded Top-K Board for Investment Leaderboards
+ * Spring Boot: Sorted set holding the highest-ranked entries of one metric
+ * The board keeps size + headroom entries. Offers below the lowest kept entry of a full
+ * board are dropped, which marks the board truncated: something ranked lower exists but is
+ * not held. A truncated board stays exact while deletions leave at least size entries;
+ * below that it needs a rebuild from the full proposal set.
+ *
+ * Not thread-safe; ProposalLeaderboards serializes access.
+ */
+final class TopKBoard {
+
+    private final LeaderboardMetric metric;
+    private final int capacity;
+    private final TreeSet<LeaderboardEntry> entries;
+    private final Map<Long, LeaderboardEntry> byId = new HashMap<>();
+    private boolean truncated;
+
+    TopKBoard(LeaderboardMetric metric, int capacity) {
+        this.metric = metric;
+        this.capacity = capacity;
+        // Spring Boot: Highest value first, lower id first among equal values
+        this.entries = new TreeSet<>(Comparator.comparingLong((LeaderboardEntry entry) -> entry.rankOf(metric))
+                .reversed()
+                .thenComparing(LeaderboardEntry::getId));
+    }
+
+    /**
+     * Insert or replace an entry, keeping at most capacity entries
+     */
+    void offer(LeaderboardEntry entry) {
+        remove(entry.getId());
+        if (!entry.hasValue(metric)) {
+            return;
+        }
+        if (entries.size() >= capacity) {
+            LeaderboardEntry lowest = entries.last();
+            if (entries.comparator().compare(entry, lowest) > 0) {
+                truncated = true;
+                return;
+            }
+            entries.pollLast();
+            byId.remove(lowest.getId());
+            truncated = true;
+        }
+        entries.add(entry);
+        byId.put(entry.getId(), entry);
+    }
+
+    /**
+     * Refresh an entry the board already holds; entries not held are left out, since a
+     * truncated board cannot tell whether they would rank above the ones it dropped
+     */
+    void replace(LeaderboardEntry entry) {
+        if (byId.containsKey(entry.getId())) {
+            offer(entry);
+        }
+    }
+
+    /**
+     * Drop an entry if the board holds it
+     */
+    void remove(Long id) {
+        LeaderboardEntry existing = byId.remove(id);
+        if (existing != null) {
+            entries.remove(existing);
+        }
+    }
+
+    /**
+     * Whether deletions have left a truncated board unable to answer a top-N query exactly
+     */
+    boolean needsRebuild(int size) {
+        return truncated && entries.size() < size;
+    }
+
+    /**
+     * Highest-ranked entries
+     */
+    List<LeaderboardEntry> top(int limit) {
+        List<LeaderboardEntry> top = new ArrayList<>(Math.min(limit, entries.size()));
+        for (LeaderboardEntry entry : entries) {
+            if (top.size() == limit) {
+                break;
+            }
+            top.add(entry);
+        }
+        return top;
+    }
+}
@@ -0,0 +1,116 @@
+package com.investment.proposal.assignment;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.reference.ReferenceDataDictionary;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Advisor Assignment Engine for Investment Proposals
+ * Spring Boot: Assigns an advisor to proposals created without one
+ * Uses the strategy named by investment.management.default-advisor-strategy. The create path
+ * only reads the immutable advisor dictionary and atomic counters, so assignment takes no locks.
+ */
+@Service  // Spring Boot: Service component annotation for investment advisor assignment
+// Registers this class as a managed Spring service component
+public class AdvisorAssignmentEngine {
+
+    /**
+     * Investment management properties holding the default advisor strategy
+     */
+    @Autowired  // Spring Boot: Configuration properties injection for investment assignment settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    /**
+     * Investment reference data dictionary providing the advisor list
+     */
+    @Autowired  // Spring Boot: Dictionary dependency injection for investment advisor lookups
+    private ReferenceDataDictionary dictionary;
+
+    /**
+     * Live per-advisor investment proposal loads
+     */
+    @Autowired  // Spring Boot: Load tracker injection for investment advisor balancing
+    private AdvisorLoadTracker loadTracker;
+
+    /**
+     * All registered investment advisor assignment strategies
+     */
+    @Autowired  // Spring Boot: Collection injection of pluggable investment assignment strategies
+    private List<AdvisorAssignmentStrategy> strategies;
+
+    /**
+     * Micrometer registry for assignment distribution metrics
+     */
+    @Autowired  // Spring Boot: Metrics registry injection for investment assignment counters
+    private MeterRegistry meterRegistry;
+
+    private AdvisorAssignmentStrategy strategy;
+
+    /**
+     * Assignment counters keyed by advisor name
+     */
+    private final ConcurrentMap<String, Counter> assignmentCounters = new ConcurrentHashMap<>();
+
+    /**
+     * Resolve the configured investment advisor strategy
+     * Spring Boot: Fails startup on an unknown strategy name rather than on the first create
+     */
+    @PostConstruct
+    public void selectStrategy() {
+        Map<String, AdvisorAssignmentStrategy> byName = new HashMap<>();
+        for (AdvisorAssignmentStrategy candidate : strategies) {
+            byName.put(candidate.getName(), candidate);
+        }
+        strategy = byName.get(investmentProperties.getDefaultAdvisorStrategy());
+        if (strategy == null) {
+            throw new IllegalStateException("Unknown investment advisor strategy '"
+                    + investmentProperties.getDefaultAdvisorStrategy() + "'; available: " + byName.keySet());
+        }
+        System.out.println("Investment advisor assignment strategy: " + strategy.getName());
+    }
+
+    /**
+     * Assign an advisor if the investment proposal does not name one
+     * Spring Boot: Called on the create path before the proposal is persisted
+     *
+     * @param proposal Investment proposal being created
+     */
+    public void assignIfUnassigned(InvestmentProposal proposal) {
+        if (proposal.getAssignedAdvisor() != null && !proposal.getAssignedAdvisor().isBlank()) {
+            return;
+        }
+        List<Advisor> advisors = dictionary.advisors();
+        if (advisors.isEmpty()) {
+            throw new IllegalStateException("No investment advisors are available for assignment");
+        }
+        Advisor advisor = strategy.choose(proposal, advisors, loadTracker);
+        proposal.setAssignedAdvisor(advisor.getName());
+        proposal.setAdvisorId(advisor.getId());
+        assignmentCounters.computeIfAbsent(advisor.getName(), name -> Counter.builder("investment.advisor.assignments")
+                .description("Investment proposals auto-assigned to the advisor")
+                .tag("advisor", name)
+                .tag("strategy", strategy.getName())
+                .register(meterRegistry)).increment();
+    }
+
+    /**
+     * Name of the active investment advisor strategy
+     *
+     * @return Strategy name
+     */
+    public String getStrategyName() {
+        return strategy.getName();
+    }
+}
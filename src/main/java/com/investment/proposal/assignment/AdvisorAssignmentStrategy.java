@@ -0,0 +1,32 @@
+package com.investment.proposal.assignment;
+
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentProposal;
+
+import java.util.List;
+
+/**
+ * Advisor Assignment Strategy for Investment Proposals
+ * Spring Boot: Pluggable strategy interface selected by investment.management.default-advisor-strategy
+ * Implementations are Spring beans; a new strategy only needs a unique name and a bean definition.
+ * Implementations must not block or lock, since they run on the proposal create path.
+ */
+public interface AdvisorAssignmentStrategy {
+
+    /**
+     * Strategy name matched against the configured default advisor strategy
+     *
+     * @return Strategy name, e.g. ROUND_ROBIN
+     */
+    String getName();
+
+    /**
+     * Choose an advisor for a new investment proposal
+     *
+     * @param proposal Investment proposal being created
+     * @param advisors All advisors, never empty
+     * @param loads Live open-proposal counts per advisor
+     * @return Chosen advisor
+     */
+    Advisor choose(InvestmentProposal proposal, List<Advisor> advisors, AdvisorLoadTracker loads);
+}
@@ -0,0 +1,179 @@
+package com.investment.proposal.assignment;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.event.InvestmentProposalsImportedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import com.investment.proposal.reference.ReferenceDataDictionary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Advisor Load Tracker for Investment Advisor Assignment
+ * Spring Boot: Live per-advisor counts of open (not yet approved) investment proposals
+ * Counters are atomics updated from after-commit lifecycle events. Each open proposal is
+ * remembered with its advisor, so repeated or out-of-order status events cannot double
+ * count. Rebuilt from the proposal list once at startup.
+ */
+@Component  // Spring Boot: Component registration for investment advisor load tracking
+// Registers this class as a managed Spring component
+public class AdvisorLoadTracker {
+
+    /**
+     * Investment event log for the startup rebuild
+     * Spring Boot: Lazy so the service -> assignment engine -> tracker chain stays acyclic
+     */
+    @Lazy
+    @Autowired  // Spring Boot: Event log dependency injection for investment load rebuild
+    private ProposalEventLog proposalEventLog;
+
+    /**
+     * Investment reference data dictionary for advisor name resolution
+     */
+    @Autowired  // Spring Boot: Dictionary dependency injection for investment advisor lookups
+    private ReferenceDataDictionary dictionary;
+
+    /**
+     * Micrometer registry for per-advisor load gauges
+     */
+    @Autowired  // Spring Boot: Metrics registry injection for investment advisor load gauges
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Open-proposal count per advisor id
+     */
+    private final ConcurrentMap<Long, AtomicLong> openByAdvisor = new ConcurrentHashMap<>();
+
+    /**
+     * Advisor id of every open proposal, keyed by proposal id
+     */
+    private final ConcurrentMap<Long, Long> openProposals = new ConcurrentHashMap<>();
+
+    /**
+     * Current open-proposal count of an advisor
+     *
+     * @param advisorId Investment advisor identifier
+     * @return Open investment proposals assigned to the advisor
+     */
+    public long openProposals(Long advisorId) {
+        AtomicLong counter = openByAdvisor.get(advisorId);
+        return counter != null ? counter.get() : 0L;
+    }
+
+    /**
+     * Rebuild advisor loads from all stored investment proposals
+     */
+    @EventListener(ApplicationReadyEvent.class)  // Spring Boot: Startup listener for investment advisor load rebuild
+    public void rebuild() {
+        openProposals.clear();
+        openByAdvisor.values().forEach(counter -> counter.set(0L));
+        for (InvestmentProposal proposal : proposalEventLog.currentProposals()) {
+            track(proposal);
+        }
+        System.out.println("Rebuilt investment advisor loads: " + openProposals.size() + " open proposals");
+    }
+
+    /**
+     * Count a created investment proposal against its advisor
+     *
+     * @param event Investment proposal creation event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment creation
+    public void onProposalCreated(InvestmentProposalCreatedEvent event) {
+        track(event.getProposal());
+    }
+
+    /**
+     * Release or re-open an investment proposal on approval changes
+     *
+     * @param event Investment proposal status change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment approvals
+    public void onProposalStatusChanged(InvestmentProposalStatusChangedEvent event) {
+        track(event.getProposal());
+    }
+
+    /**
+     * Release a deleted investment proposal
+     *
+     * @param event Investment proposal deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment deletion
+    public void onProposalDeleted(InvestmentProposalDeletedEvent event) {
+        release(event.getProposal().getId());
+    }
+
+    /**
+     * Release investment proposals moved to the archive
+     *
+     * @param event Investment proposals archived event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment archiving
+    public void onProposalsArchived(InvestmentProposalsArchivedEvent event) {
+        event.getProposalIds().forEach(this::release);
+    }
+
+    /**
+     * Recount advisor load after a bulk import
+     * Spring Boot: Imports publish no per-row events, so the load table is rebuilt once
+     *
+     * @param event Investment bulk import completion event
+     */
+    @EventListener  // Spring Boot: Listener for investment bulk import completion
+    public void onProposalsImported(InvestmentProposalsImportedEvent event) {
+        rebuild();
+    }
+
+    private void track(InvestmentProposal proposal) {
+        if (proposal.getId() == null) {
+            return;
+        }
+        if (Boolean.TRUE.equals(proposal.getApproved())) {
+            release(proposal.getId());
+            return;
+        }
+        Long advisorId = advisorIdOf(proposal);
+        if (advisorId != null && openProposals.putIfAbsent(proposal.getId(), advisorId) == null) {
+            counterFor(advisorId).incrementAndGet();
+        }
+    }
+
+    private void release(Long proposalId) {
+        Long advisorId = proposalId != null ? openProposals.remove(proposalId) : null;
+        if (advisorId != null) {
+            counterFor(advisorId).decrementAndGet();
+        }
+    }
+
+    private Long advisorIdOf(InvestmentProposal proposal) {
+        if (proposal.getAdvisorId() != null) {
+            return proposal.getAdvisorId();
+        }
+        // Spring Boot: Sharded proposals carry only the advisor name
+        return proposal.getAssignedAdvisor() != null ? dictionary.advisorByName(proposal.getAssignedAdvisor()).getId() : null;
+    }
+
+    private AtomicLong counterFor(Long advisorId) {
+        return openByAdvisor.computeIfAbsent(advisorId, id -> {
+            AtomicLong counter = new AtomicLong();
+            Gauge.builder("investment.advisor.open.proposals", counter, AtomicLong::get)
+                    .description("Open investment proposals assigned to the advisor")
+                    .tag("advisor", dictionary.advisor(id).getName())
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+}
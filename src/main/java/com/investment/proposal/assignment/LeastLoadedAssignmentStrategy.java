@@ -0,0 +1,48 @@
+package com.investment.proposal.assignment;
+
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentProposal;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Least-Loaded Advisor Assignment Strategy
+ * Spring Boot: Picks the advisor with the fewest open investment proposals
+ * Reads one atomic counter per advisor; cost depends on the advisor count, not on the
+ * number of proposals, and ties go to the advisor listed first
+ */
+@Component  // Spring Boot: Component registration for least-loaded investment advisor assignment
+public class LeastLoadedAssignmentStrategy implements AdvisorAssignmentStrategy {
+
+    @Override
+    public String getName() {
+        return "LEAST_LOADED";
+    }
+
+    @Override
+    public Advisor choose(InvestmentProposal proposal, List<Advisor> advisors, AdvisorLoadTracker loads) {
+        return leastLoaded(advisors, loads);
+    }
+
+    /**
+     * Advisor with the lowest open-proposal count
+     *
+     * @param advisors Candidate advisors, never empty
+     * @param loads Live open-proposal counts per advisor
+     * @return Least-loaded candidate
+     */
+    static Advisor leastLoaded(List<Advisor> advisors, AdvisorLoadTracker loads) {
+        Advisor best = advisors.get(0);
+        long bestLoad = loads.openProposals(best.getId());
+        for (int i = 1; i < advisors.size(); i++) {
+            Advisor candidate = advisors.get(i);
+            long load = loads.openProposals(candidate.getId());
+            if (load < bestLoad) {
+                best = candidate;
+                bestLoad = load;
+            }
+        }
+        return best;
+    }
+}
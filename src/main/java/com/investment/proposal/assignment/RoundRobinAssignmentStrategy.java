@@ -0,0 +1,28 @@
+package com.investment.proposal.assignment;
+
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentProposal;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Round-Robin Advisor Assignment Strategy
+ * Spring Boot: Cycles through advisors with a single atomic counter
+ */
+@Component  // Spring Boot: Component registration for round-robin investment advisor assignment
+public class RoundRobinAssignmentStrategy implements AdvisorAssignmentStrategy {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Override
+    public String getName() {
+        return "ROUND_ROBIN";
+    }
+
+    @Override
+    public Advisor choose(InvestmentProposal proposal, List<Advisor> advisors, AdvisorLoadTracker loads) {
+        return advisors.get((int) Math.floorMod(sequence.getAndIncrement(), (long) advisors.size()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.investment.proposal.assignment;
+
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentProposal;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Specialization-Aware Advisor Assignment Strategy
+ * Spring Boot: Prefers advisors specialized in the proposal's investment type
+ * Among matching specialists the least-loaded one wins; when no advisor specializes in
+ * the investment type, every advisor is considered
+ */
+@Component  // Spring Boot: Component registration for specialization-aware investment advisor assignment
+public class SpecializationAssignmentStrategy implements AdvisorAssignmentStrategy {
+
+    @Override
+    public String getName() {
+        return "SPECIALIZATION";
+    }
+
+    @Override
+    public Advisor choose(InvestmentProposal proposal, List<Advisor> advisors, AdvisorLoadTracker loads) {
+        List<Advisor> specialists = new ArrayList<>(advisors.size());
+        for (Advisor advisor : advisors) {
+            if (advisor.getSpecialization().equals(proposal.getInvestmentType())) {
+                specialists.add(advisor);
+            }
+        }
+        return LeastLoadedAssignmentStrategy.leastLoaded(specialists.isEmpty() ? advisors : specialists, loads);
+    }
+}
@@ -0,0 +1,34 @@
+package com.investment.proposal.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Investment Authentication Metrics
+ * Spring Boot: Shared timer for credential verification on every authentication path
+ * investment.auth.verification tagged by path shows how much CPU each path costs per request:
+ * bearer (HMAC check), basic_cached (digest lookup) and basic_password (password hashing).
+ */
+final class AuthMetrics {
+
+    static final String PATH_BEARER = "bearer";
+    static final String PATH_BASIC_CACHED = "basic_cached";
+    static final String PATH_BASIC_PASSWORD = "basic_password";
+
+    private AuthMetrics() {
+    }
+
+    /**
+     * Verification timer for one authentication path
+     *
+     * @param meterRegistry Micrometer registry
+     * @param path Authentication path tag
+     * @return Registered timer
+     */
+    static Timer verificationTimer(MeterRegistry meterRegistry, String path) {
+        return Timer.builder("investment.auth.verification")
+                .description("Time spent verifying investment API credentials")
+                .tag("path", path)
+                .register(meterRegistry);
+    }
+}
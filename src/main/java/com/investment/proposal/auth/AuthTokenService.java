@@ -0,0 +1,177 @@
+package com.investment.proposal.auth;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Investment API Access Token Service
+ * Spring Boot: Issues and verifies short-lived HMAC-signed bearer tokens
+ * A token carries the user name, roles and expiry and is signed with HMAC-SHA256, so checking
+ * it costs one HMAC over a few dozen bytes: no user lookup and no password hashing. Tokens
+ * cannot be revoked; a short lifetime bounds how long a removed user or role stays usable.
+ *
+ * Format: base64url(expiresEpochSecond|authority,authority|username).base64url(hmac)
+ */
+@Component  // Spring Boot: Component annotation for investment access token handling
+public class AuthTokenService {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @Autowired  // Spring Boot: Configuration properties injection for token lifetime and signing key
+    private InvestmentManagementProperties investmentProperties;
+
+    @Autowired  // Spring Boot: Micrometer registry injection for investment authentication metrics
+    private MeterRegistry meterRegistry;
+
+    private ThreadLocal<Mac> macs;
+    private Counter issuedCounter;
+    private Timer verificationTimer;
+    private final Map<String, Counter> rejectedCounters = new HashMap<>();
+
+    /**
+     * Load or generate the signing key and register token metrics
+     */
+    @PostConstruct  // Spring Boot: Initialize the investment token signing key after injection
+    void initialize() {
+        String configuredKey = investmentProperties.getAuth().getTokenSigningKey();
+        byte[] keyBytes;
+        if (configuredKey == null || configuredKey.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = Base64.getDecoder().decode(configuredKey.trim());
+        }
+        SecretKeySpec signingKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        // Spring Boot: Mac instances are not thread-safe, so each request thread keeps its own
+        macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(signingKey);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA256 is not available for investment access tokens", e);
+            }
+        });
+
+        issuedCounter = Counter.builder("investment.auth.tokens.issued")
+                .description("Investment API access tokens issued")
+                .register(meterRegistry);
+        verificationTimer = AuthMetrics.verificationTimer(meterRegistry, AuthMetrics.PATH_BEARER);
+        for (String reason : new String[] {"malformed", "signature", "expired"}) {
+            rejectedCounters.put(reason, Counter.builder("investment.auth.tokens.rejected")
+                    .description("Investment API access tokens rejected")
+                    .tag("reason", reason)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Issue a token for an authenticated user
+     *
+     * @param authentication Authenticated user whose name and roles the token carries
+     * @return Signed token and its expiry
+     */
+    public IssuedToken issue(Authentication authentication) {
+        Instant expiresAt = Instant.now().plus(investmentProperties.getAuth().getTokenTtl());
+        String authorities = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.joining(","));
+        String payload = ENCODER.encodeToString((expiresAt.getEpochSecond() + "|" + authorities + "|"
+                + authentication.getName()).getBytes(StandardCharsets.UTF_8));
+        String token = payload + "." + ENCODER.encodeToString(sign(payload));
+        issuedCounter.increment();
+        return new IssuedToken(token, expiresAt);
+    }
+
+    /**
+     * Verify a token locally
+     *
+     * @param token Bearer token
+     * @return Authenticated user carried by the token
+     * @throws BadCredentialsException if the token is malformed, forged or expired
+     */
+    public Authentication verify(String token) {
+        long started = System.nanoTime();
+        try {
+            int separator = token.lastIndexOf('.');
+            if (separator <= 0) {
+                throw rejected("malformed", "Malformed investment access token");
+            }
+            String payload = token.substring(0, separator);
+            byte[] signature;
+            String[] fields;
+            try {
+                signature = DECODER.decode(token.substring(separator + 1));
+                fields = new String(DECODER.decode(payload), StandardCharsets.UTF_8).split("\\|", 3);
+            } catch (IllegalArgumentException e) {
+                throw rejected("malformed", "Malformed investment access token");
+            }
+            // Spring Boot: Constant-time comparison so response timing does not leak the signature
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                throw rejected("signature", "Investment access token signature is invalid");
+            }
+            if (fields.length != 3) {
+                throw rejected("malformed", "Malformed investment access token");
+            }
+            if (Instant.now().getEpochSecond() >= Long.parseLong(fields[0])) {
+                throw rejected("expired", "Investment access token has expired");
+            }
+            return new PreAuthenticatedAuthenticationToken(fields[2], null,
+                    AuthorityUtils.commaSeparatedStringToAuthorityList(fields[1]));
+        } finally {
+            verificationTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private byte[] sign(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private BadCredentialsException rejected(String reason, String message) {
+        rejectedCounters.get(reason).increment();
+        return new BadCredentialsException(message);
+    }
+
+    /**
+     * Investment Access Token
+     * Spring Boot: Token value and expiry returned by the token endpoint
+     */
+    public static final class IssuedToken {
+        private final String token;
+        private final Instant expiresAt;
+
+        private IssuedToken(String token, Instant expiresAt) {
+            this.token = token;
+            this.expiresAt = expiresAt;
+        }
+
+        // Getters for investment access token data access
+        public String getToken() { return token; }
+        public Instant getExpiresAt() { return expiresAt; }
+    }
+}
@@ -0,0 +1,63 @@
+package com.investment.proposal.auth;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Investment API Bearer Token Filter
+ * Spring Boot: Authenticates requests carrying an access token from /api/auth/token
+ * Placed before HTTP Basic in the security chain. Requests without a Bearer header pass
+ * through untouched; an invalid token is rejected with HTTP 401 rather than falling back
+ * to anonymous access.
+ */
+public class BearerTokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenService tokenService;
+
+    /**
+     * Constructor for the investment bearer token filter
+     *
+     * @param tokenService Service verifying investment access tokens
+     */
+    public BearerTokenAuthenticationFilter(AuthTokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization == null
+                || !authorization.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            context.setAuthentication(tokenService.verify(authorization.substring(BEARER_PREFIX.length()).trim()));
+            SecurityContextHolder.setContext(context);
+        } catch (BadCredentialsException e) {
+            SecurityContextHolder.clearContext();
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"" + e.getMessage() + "\",\"status\":401}");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+}
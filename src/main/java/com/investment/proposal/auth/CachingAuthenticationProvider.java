@@ -0,0 +1,155 @@
+package com.investment.proposal.auth;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Investment Verified Credential Cache
+ * Spring Boot: Authentication provider remembering successful HTTP Basic logins
+ * Password encoders are deliberately slow, so hashing on every request is the largest fixed
+ * cost of a Basic-authenticated call. After one successful check the result is kept under a
+ * salted SHA-256 digest of the user name and password (never the password itself) and reused
+ * until the entry expires. Failed logins are never cached, so wrong passwords always pay the
+ * full hashing cost.
+ */
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final InvestmentManagementProperties.Auth settings;
+
+    /**
+     * Verified credentials keyed by salted digest
+     */
+    private final Map<String, CachedAuthentication> verified = new ConcurrentHashMap<>();
+
+    /**
+     * Per-process salt, so digests are useless outside this JVM
+     */
+    private final byte[] salt = new byte[16];
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Timer cachedTimer;
+    private final Timer passwordTimer;
+
+    /**
+     * Constructor for the investment verified credential cache
+     *
+     * @param delegate Provider checking the password against the user store
+     * @param properties Investment management properties holding the cache settings
+     * @param meterRegistry Micrometer registry for cache and verification metrics
+     */
+    public CachingAuthenticationProvider(AuthenticationProvider delegate, InvestmentManagementProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.settings = properties.getAuth();
+        new SecureRandom().nextBytes(salt);
+        hitCounter = Counter.builder("investment.auth.credential.cache")
+                .description("Investment Basic logins answered from the verified credential cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        missCounter = Counter.builder("investment.auth.credential.cache")
+                .description("Investment Basic logins answered from the verified credential cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("investment.auth.credential.cache.size", verified, Map::size)
+                .description("Verified investment credentials currently cached")
+                .register(meterRegistry);
+        cachedTimer = AuthMetrics.verificationTimer(meterRegistry, AuthMetrics.PATH_BASIC_CACHED);
+        passwordTimer = AuthMetrics.verificationTimer(meterRegistry, AuthMetrics.PATH_BASIC_PASSWORD);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        long started = System.nanoTime();
+        if (!settings.isCredentialCacheEnabled() || !(authentication.getCredentials() instanceof String password)) {
+            return verifyPassword(authentication, started);
+        }
+
+        String key = digest(authentication.getName(), password);
+        CachedAuthentication cached = verified.get(key);
+        if (cached != null && cached.expiresAtNanos - started > 0) {
+            hitCounter.increment();
+            cachedTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return cached.authentication;
+        }
+
+        missCounter.increment();
+        Authentication result = verifyPassword(authentication, started);
+        if (result != null && result.isAuthenticated()) {
+            remember(key, result, System.nanoTime());
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    private Authentication verifyPassword(Authentication authentication, long started) {
+        try {
+            return delegate.authenticate(authentication);
+        } finally {
+            passwordTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Cache a verified login
+     * Spring Boot: Drops expired entries once the cache reaches its bound; if every entry is
+     * still live the login is simply not cached
+     */
+    private void remember(String key, Authentication authentication, long now) {
+        if (verified.size() >= settings.getCredentialCacheMaxEntries()) {
+            verified.values().removeIf(entry -> entry.expiresAtNanos - now <= 0);
+            if (verified.size() >= settings.getCredentialCacheMaxEntries()) {
+                return;
+            }
+        }
+        verified.put(key, new CachedAuthentication(authentication,
+                now + settings.getCredentialCacheTtl().toNanos()));
+    }
+
+    private String digest(String username, String password) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(salt);
+            sha256.update(username.getBytes(StandardCharsets.UTF_8));
+            sha256.update((byte) 0);
+            sha256.update(password.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(sha256.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available for the investment credential cache", e);
+        }
+    }
+
+    /**
+     * Verified login and the time it stops being trusted
+     */
+    private static final class CachedAuthentication {
+        private final Authentication authentication;
+        private final long expiresAtNanos;
+
+        private CachedAuthentication(Authentication authentication, long expiresAtNanos) {
+            this.authentication = authentication;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.investment.proposal.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Refresh-Ahead Investment Cache (Stale-While-Revalidate)
+ * Spring Boot: Cache that keeps serving slightly stale investment data while one background reload runs
+ * Entries younger than the soft TTL are fresh. Entries between the soft and hard TTL are
+ * returned immediately and trigger a single background refresh on a bounded executor.
+ * Entries older than the hard TTL are never served; the reader loads synchronously
+ * through the single-flight loader, coalescing with any refresh already in progress.
+ *
+ * Evicting or clearing does not drop entries, it marks them stale, so the reader right
+ * after an approval still gets an immediate answer and kicks off the reload.
+ */
+public class RefreshAheadCache implements Cache {
+
+    private final String name;
+    private final ConcurrentMap<Object, Stamped> entries = new ConcurrentHashMap<>();
+    private final SingleFlightLoader loader;
+    private final long softTtlNanos;
+    private final long hardTtlNanos;
+    private final Executor refreshExecutor;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Keys with a background refresh queued or running
+     */
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Bumped on every evict and clear so loads that straddle one are stored as stale
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter staleServed;
+    private final Counter refreshRejected;
+
+    /**
+     * Constructor for a refresh-ahead investment cache
+     *
+     * @param name Cache name
+     * @param loader Single-flight loader shared by synchronous loads and background refreshes
+     * @param softTtl Age after which entries are refreshed in the background
+     * @param hardTtl Age after which entries are no longer served
+     * @param refreshExecutor Bounded executor running background refreshes
+     * @param meterRegistry Micrometer registry for staleness metrics
+     */
+    public RefreshAheadCache(String name, SingleFlightLoader loader, Duration softTtl, Duration hardTtl,
+                             Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this(name, loader, softTtl, hardTtl, refreshExecutor, meterRegistry, System::nanoTime);
+    }
+
+    RefreshAheadCache(String name, SingleFlightLoader loader, Duration softTtl, Duration hardTtl,
+                      Executor refreshExecutor, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        if (hardTtl.compareTo(softTtl) < 0) {
+            throw new IllegalArgumentException("Hard TTL of investment cache " + name + " must not be shorter than its soft TTL");
+        }
+        this.name = name;
+        this.loader = loader;
+        this.softTtlNanos = softTtl.toNanos();
+        this.hardTtlNanos = hardTtl.toNanos();
+        this.refreshExecutor = refreshExecutor;
+        this.nanoClock = nanoClock;
+        this.staleServed = Counter.builder("investment.cache.refreshahead")
+                .description("Stale investment cache entries served while a refresh runs")
+                .tag("cache", name).tag("outcome", "stale_served").register(meterRegistry);
+        this.refreshRejected = Counter.builder("investment.cache.refreshahead")
+                .description("Investment cache refreshes dropped because the refresh executor was full")
+                .tag("cache", name).tag("outcome", "rejected").register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return entries;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Stamped entry = servable(key);
+        return entry != null ? new SimpleValueWrapper(entry.value) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        Stamped entry = servable(key);
+        if (entry == null || entry.value == null) {
+            return null;
+        }
+        if (type != null && !type.isInstance(entry.value)) {
+            throw new IllegalStateException("Cached investment value is not of required type [" + type.getName() + "]: " + entry.value);
+        }
+        return (T) entry.value;
+    }
+
+    /**
+     * Return a fresh or tolerably stale value, refreshing or loading as needed
+     * Spring Boot: Entry point for @Cacheable(sync = true) investment methods
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Stamped entry = servable(key);
+        if (entry != null) {
+            if (entry.stale || nanoClock.getAsLong() - entry.loadedAt >= softTtlNanos) {
+                staleServed.increment();
+                scheduleRefresh(key, valueLoader);
+            }
+            return (T) entry.value;
+        }
+        try {
+            return (T) loader.load(key, () -> loadAndStore(key, valueLoader));
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        entries.put(key, new Stamped(value, nanoClock.getAsLong(), false));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Stamped existing = entries.putIfAbsent(key, new Stamped(value, nanoClock.getAsLong(), false));
+        return existing != null ? new SimpleValueWrapper(existing.value) : null;
+    }
+
+    /**
+     * Mark one entry stale instead of removing it
+     */
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        entries.computeIfPresent(key, (k, entry) -> entry.markedStale());
+    }
+
+    /**
+     * Mark every entry stale instead of removing them
+     */
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        entries.replaceAll((k, entry) -> entry.markedStale());
+    }
+
+    /**
+     * Drop every entry outright
+     * Spring Boot: Used when stale data must not be served, e.g. after a bulk import
+     */
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = !entries.isEmpty();
+        generation.incrementAndGet();
+        entries.clear();
+        return notEmpty;
+    }
+
+    private Stamped servable(Object key) {
+        Stamped entry = entries.get(key);
+        if (entry == null || nanoClock.getAsLong() - entry.loadedAt >= hardTtlNanos) {
+            return null;
+        }
+        return entry;
+    }
+
+    private void scheduleRefresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    loader.load(key, () -> loadAndStore(key, valueLoader));
+                } catch (Exception ex) {
+                    // Spring Boot: Keep serving the stale value; the hard TTL bounds how long
+                    System.err.println("Background refresh of investment cache " + name + " failed: " + ex.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            refreshing.remove(key);
+            refreshRejected.increment();
+        }
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader) throws Exception {
+        long startGeneration = generation.get();
+        Object value = valueLoader.call();
+        entries.put(key, new Stamped(value, nanoClock.getAsLong(), generation.get() != startGeneration));
+        return value;
+    }
+
+    /**
+     * Cached investment value with its load time
+     */
+    private static final class Stamped {
+        final Object value;
+        final long loadedAt;
+        final boolean stale;
+
+        Stamped(Object value, long loadedAt, boolean stale) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+            this.stale = stale;
+        }
+
+        Stamped markedStale() {
+            return stale ? this : new Stamped(value, loadedAt, true);
+        }
+    }
+}
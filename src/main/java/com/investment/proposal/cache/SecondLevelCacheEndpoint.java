@@ -0,0 +1,63 @@
+package com.investment.proposal.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Investment Second-Level Cache Actuator Endpoint
+ * Spring Boot: /actuator/secondlevelcache reporting Hibernate cache effectiveness per region
+ * The same counters are published as hibernate.second.level.cache.* and hibernate.cache.query.*
+ * metrics; this endpoint puts them side by side with hit ratios for a quick health check.
+ */
+@Component  // Spring Boot: Component annotation for the investment second-level cache endpoint
+@Endpoint(id = "secondlevelcache")  // Spring Boot: Actuator endpoint for investment cache statistics
+public class SecondLevelCacheEndpoint {
+
+    @Autowired  // Spring Boot: Entity manager factory injection for Hibernate cache statistics
+    private EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Hit, miss and put counts of every second-level cache region and of the query cache
+     *
+     * @return Cache statistics since startup
+     */
+    @ReadOperation  // Spring Boot: GET operation for investment cache statistics
+    public Map<String, Object> statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            regions.put(regionName, counts(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        body.put("regions", regions);
+        body.put("queries", counts(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getQueryCachePutCount()));
+        body.put("updateTimestamps", counts(statistics.getUpdateTimestampsCacheHitCount(),
+                statistics.getUpdateTimestampsCacheMissCount(), statistics.getUpdateTimestampsCachePutCount()));
+        return body;
+    }
+
+    private static Map<String, Object> counts(long hits, long misses, long puts) {
+        Map<String, Object> counts = new LinkedHashMap<>();
+        counts.put("hits", hits);
+        counts.put("misses", misses);
+        counts.put("puts", puts);
+        counts.put("hitRatio", hits + misses == 0 ? 0.0 : (double) hits / (hits + misses));
+        return counts;
+    }
+}
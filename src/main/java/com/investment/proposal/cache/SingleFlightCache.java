@@ -0,0 +1,100 @@
+package com.investment.proposal.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Single-Flight Cache Decorator for Investment Caches
+ * Spring Boot: Cache wrapper routing misses from @Cacheable(sync = true) through a SingleFlightLoader
+ * Spring calls get(key, valueLoader) for synchronized cacheable methods; this decorator
+ * makes that call coalesce across threads instead of locking the whole cache.
+ *
+ * A generation counter bumped on every evict and clear stops a load that started before
+ * an eviction from writing its now-stale result back into the cache.
+ */
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final SingleFlightLoader loader;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructor for an investment single-flight cache
+     *
+     * @param delegate Underlying investment cache holding the values
+     * @param loader Single-flight loader shared by all misses of this cache
+     */
+    public SingleFlightCache(Cache delegate, SingleFlightLoader loader) {
+        this.delegate = delegate;
+        this.loader = loader;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    /**
+     * Return the cached value or load it once for all concurrent callers
+     * Spring Boot: Entry point for @Cacheable(sync = true) investment methods
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        try {
+            return (T) loader.load(key, () -> {
+                long startGeneration = generation.get();
+                T value = valueLoader.call();
+                if (generation.get() == startGeneration) {
+                    delegate.put(key, value);
+                }
+                return value;
+            });
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        delegate.clear();
+    }
+}
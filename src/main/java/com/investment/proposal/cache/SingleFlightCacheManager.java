@@ -0,0 +1,69 @@
+package com.investment.proposal.cache;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Single-Flight Cache Manager for Investment Caches
+ * Spring Boot: ConcurrentMapCacheManager whose caches coalesce concurrent misses
+ * Keeps the in-memory map storage of the original cache manager and only changes
+ * what happens when many readers miss the same key at once. Caches listed under
+ * investment.management.cache.refresh-ahead additionally serve stale entries while
+ * a background reload runs on a small bounded executor.
+ */
+public class SingleFlightCacheManager extends ConcurrentMapCacheManager implements DisposableBean {
+
+    private final InvestmentManagementProperties.CacheSettings settings;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    /**
+     * Constructor for the investment single-flight cache manager
+     *
+     * @param settings Investment cache settings: load timeout and per-cache staleness
+     * @param meterRegistry Micrometer registry for coalescing and staleness metrics
+     */
+    public SingleFlightCacheManager(InvestmentManagementProperties.CacheSettings settings, MeterRegistry meterRegistry) {
+        this.settings = settings;
+        this.meterRegistry = meterRegistry;
+        // Spring Boot: Bounded pool and queue; refreshes beyond capacity are dropped, not queued forever
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(settings.getRefreshThreads(), settings.getRefreshThreads(),
+                60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(settings.getRefreshQueueCapacity()), runnable -> {
+                    Thread thread = new Thread(runnable, "investment-cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Wrap each investment cache in a single-flight or refresh-ahead decorator
+     */
+    @Override
+    protected Cache createConcurrentMapCache(String name) {
+        SingleFlightLoader loader = new SingleFlightLoader(name, settings.getSingleFlightTimeoutMillis(), meterRegistry);
+        InvestmentManagementProperties.CacheSettings.Staleness staleness = settings.getRefreshAhead().get(name);
+        if (staleness != null) {
+            return new RefreshAheadCache(name, loader, staleness.getSoftTtl(), staleness.getHardTtl(),
+                    refreshExecutor, meterRegistry);
+        }
+        return new SingleFlightCache(super.createConcurrentMapCache(name), loader);
+    }
+
+    /**
+     * Stop the investment cache refresh threads on context shutdown
+     */
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,108 @@
+package com.investment.proposal.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-Flight Loader for Investment Cache Misses
+ * Spring Boot: Coalesces concurrent loads of the same key into one computation
+ * The first caller for a key becomes the leader and runs the loader on its own thread;
+ * every concurrent caller for that key waits on the leader's future instead of issuing
+ * its own identical database query. The in-flight entry is removed as soon as the load
+ * completes, so the next miss after that triggers a fresh load.
+ */
+public class SingleFlightLoader {
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+    private final Counter leaders;
+    private final Counter coalesced;
+    private final Counter timeouts;
+    private final Counter failures;
+
+    /**
+     * Constructor for an investment single-flight loader
+     *
+     * @param name Cache name used as the metrics tag
+     * @param timeoutMillis Maximum time a follower waits for the leader's result
+     * @param meterRegistry Micrometer registry for coalescing metrics
+     */
+    public SingleFlightLoader(String name, long timeoutMillis, MeterRegistry meterRegistry) {
+        this.timeoutMillis = timeoutMillis;
+        this.leaders = counter(meterRegistry, name, "leader", "Investment cache loads executed");
+        this.coalesced = counter(meterRegistry, name, "coalesced", "Investment cache misses served by another caller's load");
+        this.timeouts = counter(meterRegistry, name, "timeout", "Investment cache followers that gave up waiting");
+        this.failures = counter(meterRegistry, name, "failure", "Investment cache loads that threw");
+    }
+
+    /**
+     * Load a value, sharing the computation with concurrent callers for the same key
+     * Spring Boot: Loader failures are rethrown to the leader and every follower
+     *
+     * @param key Cache key
+     * @param loader Computation producing the value
+     * @return Loaded value
+     * @throws Exception Loader failure, or TimeoutException if a follower waited too long
+     */
+    public Object load(Object key, Callable<?> loader) throws Exception {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        leaders.increment();
+        try {
+            Object value = loader.call();
+            mine.complete(value);
+            return value;
+        } catch (Exception | Error ex) {
+            failures.increment();
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Number of keys currently being loaded
+     *
+     * @return In-flight load count
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private Object await(CompletableFuture<Object> future) throws Exception {
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            timeouts.increment();
+            throw ex;
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) cause;
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String cache, String outcome, String description) {
+        return Counter.builder("investment.cache.singleflight")
+                .description(description)
+                .tag("cache", cache)
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+}
@@ -1,8 +1,10 @@
 package com.investment.proposal.config;
 
+import com.investment.proposal.cache.SingleFlightCacheManager;
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -23,23 +25,28 @@ public class CacheConfig {
      * Spring Boot: Cache manager configuration for investment performance optimization
      * Provides caching capabilities for investment portfolio analysis and data retrieval
      * Implements investment system caching strategy for improved response times
+     * Concurrent misses of the same key are coalesced into one load, so an allEntries
+     * eviction is followed by a single findAll() rather than one per waiting reader;
+     * caches configured for refresh-ahead serve stale entries while reloading in the background
      *
+     * @param properties Investment management properties holding cache settings
+     * @param meterRegistry Micrometer registry for cache coalescing metrics
      * @return CacheManager instance for investment system caching
      *         Provides caching infrastructure for investment data access optimization
      */
     @Bean  // Spring Boot: Bean definition for investment cache manager
     // Registers CacheManager as a managed Spring caching component
-    public CacheManager cacheManager() {
-        // Spring Boot: Create concurrent map cache manager for investment system
-        // Initializes simple in-memory caching for investment portfolio data
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+    public CacheManager cacheManager(InvestmentManagementProperties properties, MeterRegistry meterRegistry) {
+        // Spring Boot: Create single-flight concurrent map cache manager for investment system
+        // Initializes in-memory caching whose misses are loaded once per key for investment data
+        SingleFlightCacheManager cacheManager = new SingleFlightCacheManager(properties.getCache(), meterRegistry);
 
         // Spring Boot: Configure cache names for investment system components
         // Defines specific caches for different investment data types and operations
         cacheManager.setCacheNames(java.util.Arrays.asList(
                 "investmentProposals",  // Spring Boot: Cache for investment proposal data
-                "investmentPortfolio",  // Spring Boot: Cache for investment portfolio analysis
-                "investmentAdvisors"    // Spring Boot: Cache for investment advisor information
+                "investmentPortfolio"   // Spring Boot: Cache for investment portfolio analysis
+                // Advisor and investment type lookups use the preloaded ReferenceDataDictionary
         ));
 
         // Spring Boot: Return configured cache manager for investment system
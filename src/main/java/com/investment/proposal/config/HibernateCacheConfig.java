@@ -0,0 +1,98 @@
+package com.investment.proposal.config;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+/**
+ * Investment Second-Level Cache Configuration Class
+ * Spring Boot: Hibernate entity and query cache backed by Ehcache through JCache
+ * Regions are created here from investment.management.second-level-cache.* rather than from
+ * an ehcache.xml, so their sizes and lifetimes are set like every other investment setting.
+ * Hibernate is told to fail on a missing region, so a renamed region cannot silently fall
+ * back to an unbounded default.
+ */
+@Configuration  // Spring Boot: Configuration class annotation for the investment second-level cache
+// Registers this class as a source of Hibernate cache configuration beans
+public class HibernateCacheConfig {
+
+    /**
+     * Cache region of InvestmentProposal entities, named on the entity's @Cache annotation
+     */
+    public static final String PROPOSAL_REGION = "investmentProposal";
+
+    /**
+     * JCache Manager Bean holding the Investment Cache Regions
+     * Spring Boot: Dedicated to Hibernate; Spring's @Cacheable caches stay in CacheConfig
+     *
+     * @param properties Investment management properties holding the region limits
+     * @return JCache manager closed with the application context
+     */
+    @Bean(destroyMethod = "close")  // Spring Boot: Bean definition for investment Hibernate cache regions
+    public CacheManager hibernateCacheManager(InvestmentManagementProperties properties) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        // Spring Boot: Programmatic configuration under a private URI, so each application
+        // context gets its own regions and no ehcache.xml is looked up
+        CacheManager cacheManager = provider.getCacheManager(
+                URI.create("investment-hibernate-" + System.identityHashCode(properties)),
+                new DefaultConfiguration(getClass().getClassLoader()));
+
+        InvestmentManagementProperties.SecondLevelCache settings = properties.getSecondLevelCache();
+        if (settings.isEnabled()) {
+            createRegion(cacheManager, PROPOSAL_REGION, settings.getProposals());
+            createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, settings.getQueries());
+            // Spring Boot: Table modification times must outlive every cached query result
+            cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                    Eh107Configuration.fromEhcacheCacheConfiguration(CacheConfigurationBuilder
+                            .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(1_000))
+                            .withExpiry(ExpiryPolicyBuilder.noExpiration())));
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate Properties Customizer for the Investment Second-Level Cache
+     * Spring Boot: Points Hibernate's JCache region factory at the regions created above
+     *
+     * @param hibernateCacheManager JCache manager holding the investment cache regions
+     * @param properties Investment management properties holding the cache switch
+     * @return Customizer applied when the investment EntityManagerFactory is built
+     */
+    @Bean  // Spring Boot: Bean definition for investment Hibernate cache settings
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager,
+                                                                    InvestmentManagementProperties properties) {
+        boolean enabled = properties.getSecondLevelCache().isEnabled();
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, enabled);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, enabled);
+            if (enabled) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, MissingCacheStrategy.FAIL.getExternalRepresentation());
+            }
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name,
+                                     InvestmentManagementProperties.SecondLevelCache.Region region) {
+        cacheManager.createCache(name, Eh107Configuration.fromEhcacheCacheConfiguration(CacheConfigurationBuilder
+                .newCacheConfigurationBuilder(Object.class, Object.class, ResourcePoolsBuilder.heap(region.getMaxEntries()))
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(region.getTimeToLive()))));
+    }
+}
@@ -1,15 +1,26 @@
 package com.investment.proposal.config;
 
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.MoneyRange;
+import com.investment.proposal.money.NumberToMoneyConverter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBinding;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.client.RestTemplate;
 
-import javax.validation.constraints.DecimalMin;
-import javax.validation.constraints.NotBlank;
-import javax.validation.constraints.NotNull;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Investment Management Configuration Class
@@ -21,6 +32,18 @@ import java.math.BigDecimal;
 // Registers this class as a source of bean definitions for investment system
 public class InvestmentConfig {
 
+    /**
+     * Converter binding numeric YAML amounts to Money properties
+     * Spring Boot: Static so it is registered before the properties bean is bound
+     *
+     * @return Number to Money converter for investment configuration properties
+     */
+    @Bean  // Spring Boot: Bean definition for investment amount property binding
+    @ConfigurationPropertiesBinding  // Spring Boot: Restricts the converter to configuration properties binding
+    public static NumberToMoneyConverter numberToMoneyConverter() {
+        return new NumberToMoneyConverter();
+    }
+
     /**
      * Investment Management Properties Configuration
      * Spring Boot: Type-safe configuration properties for investment system
@@ -41,9 +64,9 @@ public class InvestmentConfig {
          */
         @NotNull  // Spring Boot: Validation constraint requiring non-null value
         // Ensures investment system has maximum amount configuration
-        @DecimalMin(value = "10000.00")  // Spring Boot: Minimum value validation for investment limits
+        @MoneyRange(min = "10000.00")  // Spring Boot: Minimum value validation for investment limits
         // Prevents unrealistically low maximum investment amounts
-        private BigDecimal maxInvestmentAmount;
+        private Money maxInvestmentAmount;
 
         /**
          * Default investment advisor assignment strategy
@@ -63,13 +86,992 @@ public class InvestmentConfig {
          */
         private String riskAssessmentServiceUrl;
 
+        /**
+         * Investment proposal sharding settings
+         * Spring Boot: Nested configuration for horizontal partitioning of proposal data
+         * Spreads investment proposals across several databases when one is not enough
+         * Disabled by default so the single JPA datasource remains the source of truth
+         */
+        private Sharding sharding = new Sharding();
+
+        /**
+         * Investment API rate limiting settings
+         * Spring Boot: Nested configuration for per-principal admission control
+         * Protects investment proposal API latency from a single noisy client
+         */
+        private RateLimit rateLimit = new RateLimit();
+
+        /**
+         * Investment cache loading settings
+         * Spring Boot: Nested configuration for the proposal cache manager
+         */
+        private CacheSettings cache = new CacheSettings();
+
+        /**
+         * Investment proposal reference settings
+         * Spring Boot: Nested configuration for reference generation and duplicate pre-checks
+         */
+        private ProposalReference proposalReference = new ProposalReference();
+
+        /**
+         * Investment proposal retention settings
+         * Spring Boot: Nested configuration for the hourly archiving job
+         */
+        private Retention retention = new Retention();
+
+        /**
+         * Investment scheduler lock settings
+         * Spring Boot: Nested configuration for cluster-wide scheduled task leases
+         */
+        private SchedulerLockSettings schedulerLock = new SchedulerLockSettings();
+
+        /**
+         * Investment report settings
+         * Spring Boot: Nested configuration for the weekly portfolio report files
+         */
+        private Report report = new Report();
+
+        /**
+         * Investment bulk import settings
+         * Spring Boot: Nested configuration for the parallel CSV import pipeline
+         */
+        private ImportSettings importer = new ImportSettings();
+
+        /**
+         * Investment change stream settings
+         * Spring Boot: Nested configuration for the Server-Sent Events proposal change stream
+         */
+        private ChangeStream changeStream = new ChangeStream();
+
+        /**
+         * Reactive investment API settings
+         * Spring Boot: Nested configuration for the WebFlux and R2DBC variant of the proposal API
+         */
+        private ReactiveApi reactive = new ReactiveApi();
+
+        /**
+         * Investment API authentication settings
+         * Spring Boot: Nested configuration for signed access tokens and the verified credential cache
+         */
+        private Auth auth = new Auth();
+
+        /**
+         * Hibernate second-level cache settings
+         * Spring Boot: Nested configuration for the JCache regions behind proposal lookups
+         */
+        private SecondLevelCache secondLevelCache = new SecondLevelCache();
+
+        /**
+         * Investment SQL instrumentation settings
+         * Spring Boot: Nested configuration for statement metrics and the slow query log
+         */
+        private SqlMetrics sqlMetrics = new SqlMetrics();
+
+        /**
+         * Investment search settings
+         * Spring Boot: Nested configuration for the multi-criteria search endpoint
+         */
+        private Search search = new Search();
+
+        /**
+         * Investment leaderboard settings
+         * Spring Boot: Nested configuration for in-memory top-K proposal rankings
+         */
+        private Leaderboard leaderboard = new Leaderboard();
+
+        /**
+         * Investment risk simulation settings
+         * Spring Boot: Nested configuration for Monte Carlo Value-at-Risk jobs
+         */
+        private RiskSimulation riskSimulation = new RiskSimulation();
+
+        /**
+         * Investment event log settings
+         * Spring Boot: Nested configuration for the append-only proposal lifecycle log
+         */
+        private EventLog eventLog = new EventLog();
+
+        /**
+         * Investment reference data settings
+         * Spring Boot: Nested configuration for the advisor and investment type dictionary
+         */
+        private ReferenceData referenceData = new ReferenceData();
+
         // Getters and setters for investment configuration properties access
-        public BigDecimal getMaxInvestmentAmount() { return maxInvestmentAmount; }
-        public void setMaxInvestmentAmount(BigDecimal maxInvestmentAmount) { this.maxInvestmentAmount = maxInvestmentAmount; }
+        public Money getMaxInvestmentAmount() { return maxInvestmentAmount; }
+        public void setMaxInvestmentAmount(Money maxInvestmentAmount) { this.maxInvestmentAmount = maxInvestmentAmount; }
         public String getDefaultAdvisorStrategy() { return defaultAdvisorStrategy; }
         public void setDefaultAdvisorStrategy(String defaultAdvisorStrategy) { this.defaultAdvisorStrategy = defaultAdvisorStrategy; }
         public String getRiskAssessmentServiceUrl() { return riskAssessmentServiceUrl; }
         public void setRiskAssessmentServiceUrl(String riskAssessmentServiceUrl) { this.riskAssessmentServiceUrl = riskAssessmentServiceUrl; }
+        public Sharding getSharding() { return sharding; }
+        public void setSharding(Sharding sharding) { this.sharding = sharding; }
+        public RateLimit getRateLimit() { return rateLimit; }
+        public void setRateLimit(RateLimit rateLimit) { this.rateLimit = rateLimit; }
+        public CacheSettings getCache() { return cache; }
+        public void setCache(CacheSettings cache) { this.cache = cache; }
+        public ProposalReference getProposalReference() { return proposalReference; }
+        public void setProposalReference(ProposalReference proposalReference) { this.proposalReference = proposalReference; }
+        public Retention getRetention() { return retention; }
+        public void setRetention(Retention retention) { this.retention = retention; }
+        public SchedulerLockSettings getSchedulerLock() { return schedulerLock; }
+        public void setSchedulerLock(SchedulerLockSettings schedulerLock) { this.schedulerLock = schedulerLock; }
+        public Report getReport() { return report; }
+        public void setReport(Report report) { this.report = report; }
+        public ImportSettings getImporter() { return importer; }
+        public void setImporter(ImportSettings importer) { this.importer = importer; }
+        public ChangeStream getChangeStream() { return changeStream; }
+        public void setChangeStream(ChangeStream changeStream) { this.changeStream = changeStream; }
+        public ReactiveApi getReactive() { return reactive; }
+        public void setReactive(ReactiveApi reactive) { this.reactive = reactive; }
+        public Auth getAuth() { return auth; }
+        public void setAuth(Auth auth) { this.auth = auth; }
+        public SecondLevelCache getSecondLevelCache() { return secondLevelCache; }
+        public void setSecondLevelCache(SecondLevelCache secondLevelCache) { this.secondLevelCache = secondLevelCache; }
+        public SqlMetrics getSqlMetrics() { return sqlMetrics; }
+        public void setSqlMetrics(SqlMetrics sqlMetrics) { this.sqlMetrics = sqlMetrics; }
+        public Search getSearch() { return search; }
+        public void setSearch(Search search) { this.search = search; }
+        public Leaderboard getLeaderboard() { return leaderboard; }
+        public void setLeaderboard(Leaderboard leaderboard) { this.leaderboard = leaderboard; }
+        public RiskSimulation getRiskSimulation() { return riskSimulation; }
+        public void setRiskSimulation(RiskSimulation riskSimulation) { this.riskSimulation = riskSimulation; }
+        public EventLog getEventLog() { return eventLog; }
+        public void setEventLog(EventLog eventLog) { this.eventLog = eventLog; }
+        public ReferenceData getReferenceData() { return referenceData; }
+        public void setReferenceData(ReferenceData referenceData) { this.referenceData = referenceData; }
+
+        /**
+         * Investment Sharding Properties
+         * Spring Boot: Nested properties bound from investment.management.sharding.*
+         * Defines the shard datasources and the key used to route proposals to them
+         */
+        public static class Sharding {
+
+            /**
+             * Enable sharded investment proposal storage
+             * Spring Boot: Feature flag for the sharded repository layer
+             */
+            private boolean enabled = false;
+
+            /**
+             * Proposal attribute hashed to select the owning shard
+             * Spring Boot: ASSIGNED_ADVISOR keeps an advisor's book on one shard,
+             * PROPOSAL_REFERENCE spreads load evenly and keeps references globally unique
+             */
+            private String routingKey = "PROPOSAL_REFERENCE";
+
+            /**
+             * Maximum time a scatter-gather query waits for all shards, in milliseconds
+             * Spring Boot: Upper bound on fan-out latency for investment list queries
+             */
+            private long queryTimeoutMillis = 5000;
+
+            /**
+             * Shard datasource definitions, in shard index order
+             * Spring Boot: The shard count is fixed by this list and encoded into proposal IDs
+             */
+            private List<ShardDataSource> shards = new ArrayList<>();
+
+            // Getters and setters for investment sharding properties access
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public String getRoutingKey() { return routingKey; }
+            public void setRoutingKey(String routingKey) { this.routingKey = routingKey; }
+            public long getQueryTimeoutMillis() { return queryTimeoutMillis; }
+            public void setQueryTimeoutMillis(long queryTimeoutMillis) { this.queryTimeoutMillis = queryTimeoutMillis; }
+            public List<ShardDataSource> getShards() { return shards; }
+            public void setShards(List<ShardDataSource> shards) { this.shards = shards; }
+        }
+
+        /**
+         * Investment Rate Limit Properties
+         * Spring Boot: Nested properties bound from investment.management.rate-limit.*
+         * Each authenticated principal gets one token bucket per endpoint class
+         */
+        public static class RateLimit {
+
+            /**
+             * Enable investment API rate limiting
+             * Spring Boot: Feature flag for the admission control filter
+             */
+            private boolean enabled = true;
+
+            /**
+             * Upper bound on tracked principal buckets before idle ones are dropped
+             * Spring Boot: Bounds filter memory when many distinct users call the API
+             */
+            private int maxTrackedPrincipals = 10_000;
+
+            /**
+             * Interval of the background sweep that drops idle buckets
+             * Spring Boot: Keeps eviction off the request path
+             */
+            private Duration evictionInterval = Duration.ofSeconds(30);
+
+            /**
+             * Token bucket for GET investment proposal requests
+             */
+            private Limit read = new Limit(100, 50.0);
+
+            /**
+             * Token bucket for state-changing investment proposal requests
+             */
+            private Limit write = new Limit(20, 5.0);
+
+            // Getters and setters for investment rate limit properties access
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public int getMaxTrackedPrincipals() { return maxTrackedPrincipals; }
+            public void setMaxTrackedPrincipals(int maxTrackedPrincipals) { this.maxTrackedPrincipals = maxTrackedPrincipals; }
+            public Duration getEvictionInterval() { return evictionInterval; }
+            public void setEvictionInterval(Duration evictionInterval) { this.evictionInterval = evictionInterval; }
+            public Limit getRead() { return read; }
+            public void setRead(Limit read) { this.read = read; }
+            public Limit getWrite() { return write; }
+            public void setWrite(Limit write) { this.write = write; }
+
+            /**
+             * Investment Token Bucket Limit
+             * Spring Boot: Burst capacity and sustained refill rate for one endpoint class
+             */
+            public static class Limit {
+                private int capacity;
+                private double refillPerSecond;
+
+                public Limit() {
+                }
+
+                public Limit(int capacity, double refillPerSecond) {
+                    this.capacity = capacity;
+                    this.refillPerSecond = refillPerSecond;
+                }
+
+                // Getters and setters for investment token bucket limit access
+                public int getCapacity() { return capacity; }
+                public void setCapacity(int capacity) { this.capacity = capacity; }
+                public double getRefillPerSecond() { return refillPerSecond; }
+                public void setRefillPerSecond(double refillPerSecond) { this.refillPerSecond = refillPerSecond; }
+            }
+        }
+
+        /**
+         * Investment Cache Properties
+         * Spring Boot: Nested properties bound from investment.management.cache.*
+         */
+        public static class CacheSettings {
+
+            /**
+             * Maximum time a reader waits for another thread's load of the same key, in milliseconds
+             * Spring Boot: Bounds how long coalesced cache misses can block on a slow query
+             */
+            private long singleFlightTimeoutMillis = 10_000;
+
+            /**
+             * Threads reloading stale refresh-ahead entries in the background
+             */
+            private int refreshThreads = 2;
+
+            /**
+             * Pending background refreshes before further ones are dropped
+             */
+            private int refreshQueueCapacity = 64;
+
+            /**
+             * Refresh-ahead staleness per cache name; caches not listed are plain single-flight caches
+             * Spring Boot: Map keyed by cache name, e.g. investmentProposals
+             */
+            private Map<String, Staleness> refreshAhead = new HashMap<>();
+
+            // Getters and setters for investment cache properties access
+            public long getSingleFlightTimeoutMillis() { return singleFlightTimeoutMillis; }
+            public void setSingleFlightTimeoutMillis(long singleFlightTimeoutMillis) { this.singleFlightTimeoutMillis = singleFlightTimeoutMillis; }
+            public int getRefreshThreads() { return refreshThreads; }
+            public void setRefreshThreads(int refreshThreads) { this.refreshThreads = refreshThreads; }
+            public int getRefreshQueueCapacity() { return refreshQueueCapacity; }
+            public void setRefreshQueueCapacity(int refreshQueueCapacity) { this.refreshQueueCapacity = refreshQueueCapacity; }
+            public Map<String, Staleness> getRefreshAhead() { return refreshAhead; }
+            public void setRefreshAhead(Map<String, Staleness> refreshAhead) { this.refreshAhead = refreshAhead; }
+
+            /**
+             * Investment Cache Staleness Window
+             * Spring Boot: Soft TTL starts background refreshes, hard TTL stops stale serving
+             */
+            public static class Staleness {
+                private Duration softTtl = Duration.ofSeconds(30);
+                private Duration hardTtl = Duration.ofMinutes(5);
+
+                // Getters and setters for investment cache staleness access
+                public Duration getSoftTtl() { return softTtl; }
+                public void setSoftTtl(Duration softTtl) { this.softTtl = softTtl; }
+                public Duration getHardTtl() { return hardTtl; }
+                public void setHardTtl(Duration hardTtl) { this.hardTtl = hardTtl; }
+            }
+        }
+
+        /**
+         * Investment Proposal Reference Properties
+         * Spring Boot: Nested properties bound from investment.management.proposal-reference.*
+         */
+        public static class ProposalReference {
+
+            /**
+             * Node id embedded in generated references, 0-1023
+             * Spring Boot: Unset claims a free id through the scheduler lock table; set it only
+             * when every running instance gets its own value
+             */
+            private Integer nodeId;
+
+            /**
+             * Lease length of a claimed node id; renewed every third of it while running
+             */
+            private Duration nodeLease = Duration.ofMinutes(5);
+
+            /**
+             * Expected number of references the Bloom filter is sized for
+             */
+            private int bloomExpectedInsertions = 100_000;
+
+            /**
+             * Target Bloom filter false-positive rate at the expected size
+             */
+            private double bloomFalsePositiveRate = 0.01;
+
+            // Getters and setters for investment proposal reference properties access
+            public Integer getNodeId() { return nodeId; }
+            public void setNodeId(Integer nodeId) { this.nodeId = nodeId; }
+            public Duration getNodeLease() { return nodeLease; }
+            public void setNodeLease(Duration nodeLease) { this.nodeLease = nodeLease; }
+            public int getBloomExpectedInsertions() { return bloomExpectedInsertions; }
+            public void setBloomExpectedInsertions(int bloomExpectedInsertions) { this.bloomExpectedInsertions = bloomExpectedInsertions; }
+            public double getBloomFalsePositiveRate() { return bloomFalsePositiveRate; }
+            public void setBloomFalsePositiveRate(double bloomFalsePositiveRate) { this.bloomFalsePositiveRate = bloomFalsePositiveRate; }
+        }
+
+        /**
+         * Investment Retention Properties
+         * Spring Boot: Nested properties bound from investment.management.retention.*
+         * Age rules decide which proposals move to investment_proposals_archive; throttling
+         * settings keep the archiving job from competing with interactive traffic
+         */
+        public static class Retention {
+
+            /**
+             * Whether the hourly cleanup archives proposals
+             */
+            private boolean enabled = true;
+
+            /**
+             * Approved proposals older than this are archived
+             */
+            private Duration approvedRetention = Duration.ofDays(365);
+
+            /**
+             * Proposals still not approved after this long are treated as rejected and archived
+             */
+            private Duration pendingRetention = Duration.ofDays(90);
+
+            /**
+             * Rows moved per transaction
+             */
+            private int chunkSize = 500;
+
+            /**
+             * Upper bound on archived rows per second
+             */
+            private int maxRowsPerSecond = 1000;
+
+            /**
+             * Chunk transaction time above which the job backs off
+             * Spring Boot: A slow chunk means the database is busy serving OLTP traffic
+             */
+            private Duration latencyThreshold = Duration.ofMillis(250);
+
+            /**
+             * Back-off pause after a slow chunk
+             */
+            private Duration latencyPause = Duration.ofSeconds(2);
+
+            /**
+             * Longest a single run may take; the checkpoint lets the next run continue
+             */
+            private Duration maxRunDuration = Duration.ofMinutes(10);
+
+            // Getters and setters for investment retention properties access
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public Duration getApprovedRetention() { return approvedRetention; }
+            public void setApprovedRetention(Duration approvedRetention) { this.approvedRetention = approvedRetention; }
+            public Duration getPendingRetention() { return pendingRetention; }
+            public void setPendingRetention(Duration pendingRetention) { this.pendingRetention = pendingRetention; }
+            public int getChunkSize() { return chunkSize; }
+            public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+            public int getMaxRowsPerSecond() { return maxRowsPerSecond; }
+            public void setMaxRowsPerSecond(int maxRowsPerSecond) { this.maxRowsPerSecond = maxRowsPerSecond; }
+            public Duration getLatencyThreshold() { return latencyThreshold; }
+            public void setLatencyThreshold(Duration latencyThreshold) { this.latencyThreshold = latencyThreshold; }
+            public Duration getLatencyPause() { return latencyPause; }
+            public void setLatencyPause(Duration latencyPause) { this.latencyPause = latencyPause; }
+            public Duration getMaxRunDuration() { return maxRunDuration; }
+            public void setMaxRunDuration(Duration maxRunDuration) { this.maxRunDuration = maxRunDuration; }
+        }
+
+        /**
+         * Investment Scheduler Lock Properties
+         * Spring Boot: Nested properties bound from investment.management.scheduler-lock.*
+         */
+        public static class SchedulerLockSettings {
+
+            /**
+             * Whether @SchedulerLock methods acquire a database lease before running
+             */
+            private boolean enabled = true;
+
+            /**
+             * Holder name recorded in the lock table; defaults to pid@hostname
+             */
+            private String nodeName;
+
+            // Getters and setters for investment scheduler lock properties access
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public String getNodeName() { return nodeName; }
+            public void setNodeName(String nodeName) { this.nodeName = nodeName; }
+        }
+
+        /**
+         * Investment Report Properties
+         * Spring Boot: Nested properties bound from investment.management.report.*
+         */
+        public static class Report {
+
+            /**
+             * Directory holding generated report files
+             */
+            private String directory = System.getProperty("java.io.tmpdir") + "/investment-reports";
+
+            /**
+             * Direct write buffer size per report file, in bytes
+             */
+            private int bufferSize = 64 * 1024;
+
+            /**
+             * Rows per row group in the columnar report file
+             */
+            private int rowGroupSize = 4096;
+
+            // Getters and setters for investment report properties access
+            public String getDirectory() { return directory; }
+            public void setDirectory(String directory) { this.directory = directory; }
+            public int getBufferSize() { return bufferSize; }
+            public void setBufferSize(int bufferSize) { this.bufferSize = bufferSize; }
+            public int getRowGroupSize() { return rowGroupSize; }
+            public void setRowGroupSize(int rowGroupSize) { this.rowGroupSize = rowGroupSize; }
+        }
+
+        /**
+         * Investment Bulk Import Properties
+         * Spring Boot: Nested properties bound from investment.management.importer.*
+         */
+        public static class ImportSettings {
+
+            /**
+             * Directory receiving uploaded import files and rejected-row reports
+             */
+            private String directory = System.getProperty("java.io.tmpdir") + "/investment-imports";
+
+            /**
+             * Target size of each memory-mapped parse chunk, in bytes; chunks end on line breaks
+             */
+            private long chunkBytes = 8L * 1024 * 1024;
+
+            /**
+             * Parser threads; 0 uses one per available processor
+             */
+            private int parserThreads = 0;
+
+            /**
+             * Writer threads inserting batches, each holding one connection while it writes
+             */
+            private int writerThreads = 2;
+
+            /**
+             * Rows per JDBC batch and per insert transaction
+             */
+            private int batchSize = 1000;
+
+            /**
+             * Parsed batches allowed to wait for a writer before parsers block
+             */
+            private int maxInFlightBatches = 8;
+
+            /**
+             * Finished import jobs kept for the progress endpoint
+             */
+            private int retainedJobs = 20;
+
+            // Getters and setters for investment import properties access
+            public String getDirectory() { return directory; }
+            public void setDirectory(String directory) { this.directory = directory; }
+            public long getChunkBytes() { return chunkBytes; }
+            public void setChunkBytes(long chunkBytes) { this.chunkBytes = chunkBytes; }
+            public int getParserThreads() { return parserThreads; }
+            public void setParserThreads(int parserThreads) { this.parserThreads = parserThreads; }
+            public int getWriterThreads() { return writerThreads; }
+            public void setWriterThreads(int writerThreads) { this.writerThreads = writerThreads; }
+            public int getBatchSize() { return batchSize; }
+            public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+            public int getMaxInFlightBatches() { return maxInFlightBatches; }
+            public void setMaxInFlightBatches(int maxInFlightBatches) { this.maxInFlightBatches = maxInFlightBatches; }
+            public int getRetainedJobs() { return retainedJobs; }
+            public void setRetainedJobs(int retainedJobs) { this.retainedJobs = retainedJobs; }
+        }
+
+        /**
+         * Investment Change Stream Properties
+         * Spring Boot: Nested properties bound from investment.management.change-stream.*
+         */
+        public static class ChangeStream {
+
+            /**
+             * How long lifecycle events are collected before being coalesced into one batch
+             */
+            private Duration coalesceWindow = Duration.ofMillis(250);
+
+            /**
+             * Upper bound on changes per batch; larger bursts are split into several batches
+             */
+            private int maxBatchChanges = 500;
+
+            /**
+             * Batches kept for Last-Event-ID replay; older positions receive a reset event
+             */
+            private int replayBatches = 1024;
+
+            /**
+             * Concurrent subscribers accepted before new connections are refused
+             */
+            private int maxSubscribers = 10000;
+
+            /**
+             * Threads writing batches to subscribers
+             */
+            private int fanoutThreads = 4;
+
+            /**
+             * Interval of keep-alive comments on idle connections
+             */
+            private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+            /**
+             * Connection lifetime; clients reconnect and resume from their last event id
+             */
+            private Duration emitterTimeout = Duration.ofMinutes(30);
+
+            // Getters and setters for investment change stream properties access
+            public Duration getCoalesceWindow() { return coalesceWindow; }
+            public void setCoalesceWindow(Duration coalesceWindow) { this.coalesceWindow = coalesceWindow; }
+            public int getMaxBatchChanges() { return maxBatchChanges; }
+            public void setMaxBatchChanges(int maxBatchChanges) { this.maxBatchChanges = maxBatchChanges; }
+            public int getReplayBatches() { return replayBatches; }
+            public void setReplayBatches(int replayBatches) { this.replayBatches = replayBatches; }
+            public int getMaxSubscribers() { return maxSubscribers; }
+            public void setMaxSubscribers(int maxSubscribers) { this.maxSubscribers = maxSubscribers; }
+            public int getFanoutThreads() { return fanoutThreads; }
+            public void setFanoutThreads(int fanoutThreads) { this.fanoutThreads = fanoutThreads; }
+            public Duration getHeartbeatInterval() { return heartbeatInterval; }
+            public void setHeartbeatInterval(Duration heartbeatInterval) { this.heartbeatInterval = heartbeatInterval; }
+            public Duration getEmitterTimeout() { return emitterTimeout; }
+            public void setEmitterTimeout(Duration emitterTimeout) { this.emitterTimeout = emitterTimeout; }
+        }
+
+        /**
+         * Reactive Investment API Properties
+         * Spring Boot: Nested properties bound from investment.management.reactive.*
+         */
+        public static class ReactiveApi {
+
+            /**
+             * Whether the reactive proposal API is served alongside the servlet API
+             */
+            private boolean enabled = false;
+
+            /**
+             * Netty port of the reactive proposal API; 0 picks a free port
+             */
+            private int port = 8081;
+
+            /**
+             * R2DBC URL of the investment database; must name the same database as the JDBC URL
+             */
+            private String r2dbcUrl = "r2dbc:h2:mem:///investmentdb";
+
+            /**
+             * Maximum pooled R2DBC connections
+             */
+            private int maxPoolSize = 20;
+
+            /**
+             * Rows requested from the database at a time while streaming list responses
+             */
+            private int streamBatchSize = 256;
+
+            // Getters and setters for reactive investment API properties access
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public int getPort() { return port; }
+            public void setPort(int port) { this.port = port; }
+            public String getR2dbcUrl() { return r2dbcUrl; }
+            public void setR2dbcUrl(String r2dbcUrl) { this.r2dbcUrl = r2dbcUrl; }
+            public int getMaxPoolSize() { return maxPoolSize; }
+            public void setMaxPoolSize(int maxPoolSize) { this.maxPoolSize = maxPoolSize; }
+            public int getStreamBatchSize() { return streamBatchSize; }
+            public void setStreamBatchSize(int streamBatchSize) { this.streamBatchSize = streamBatchSize; }
+        }
+
+        /**
+         * Investment API Authentication Properties
+         * Spring Boot: Nested properties bound from investment.management.auth.*
+         * Both settings groups exist to keep password hashing off the per-request path
+         */
+        public static class Auth {
+
+            /**
+             * Lifetime of access tokens issued by /api/auth/token
+             */
+            private Duration tokenTtl = Duration.ofMinutes(15);
+
+            /**
+             * Base64 HMAC key signing access tokens; a random per-process key is used when empty,
+             * so set it when tokens must survive restarts or be accepted by every instance
+             */
+            private String tokenSigningKey = "";
+
+            /**
+             * Whether successful HTTP Basic credentials are remembered by digest
+             */
+            private boolean credentialCacheEnabled = true;
+
+            /**
+             * How long a verified credential is trusted before the password is hashed again;
+             * also bounds how long a changed or removed password keeps working
+             */
+            private Duration credentialCacheTtl = Duration.ofMinutes(5);
+
+            /**
+             * Upper bound on remembered credentials
+             */
+            private int credentialCacheMaxEntries = 10_000;
+
+            // Getters and setters for investment authentication properties access
+            public Duration getTokenTtl() { return tokenTtl; }
+            public void setTokenTtl(Duration tokenTtl) { this.tokenTtl = tokenTtl; }
+            public String getTokenSigningKey() { return tokenSigningKey; }
+            public void setTokenSigningKey(String tokenSigningKey) { this.tokenSigningKey = tokenSigningKey; }
+            public boolean isCredentialCacheEnabled() { return credentialCacheEnabled; }
+            public void setCredentialCacheEnabled(boolean credentialCacheEnabled) { this.credentialCacheEnabled = credentialCacheEnabled; }
+            public Duration getCredentialCacheTtl() { return credentialCacheTtl; }
+            public void setCredentialCacheTtl(Duration credentialCacheTtl) { this.credentialCacheTtl = credentialCacheTtl; }
+            public int getCredentialCacheMaxEntries() { return credentialCacheMaxEntries; }
+            public void setCredentialCacheMaxEntries(int credentialCacheMaxEntries) { this.credentialCacheMaxEntries = credentialCacheMaxEntries; }
+        }
+
+        /**
+         * Investment Second-Level Cache Properties
+         * Spring Boot: Nested properties bound from investment.management.second-level-cache.*
+         * Sizes and lifetimes of the Hibernate cache regions; the update timestamps region is
+         * never bounded or expired, as Hibernate requires for correct query cache invalidation
+         */
+        public static class SecondLevelCache {
+
+            /**
+             * Enable the Hibernate entity and query caches
+             */
+            private boolean enabled = true;
+
+            /**
+             * Region holding InvestmentProposal entities by id
+             */
+            private Region proposals = new Region(10_000, Duration.ofMinutes(10));
+
+            /**
+             * Region holding the id lists returned by cacheable repository queries
+             */
+            private Region queries = new Region(1_000, Duration.ofMinutes(5));
+
+            // Getters and setters for investment second-level cache properties access
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public Region getProposals() { return proposals; }
+            public void setProposals(Region proposals) { this.proposals = proposals; }
+            public Region getQueries() { return queries; }
+            public void setQueries(Region queries) { this.queries = queries; }
+
+            /**
+             * Investment Cache Region Limits
+             * Spring Boot: Entry bound and time-to-live of one second-level cache region
+             */
+            public static class Region {
+                private long maxEntries;
+                private Duration timeToLive;
+
+                public Region() {
+                }
+
+                public Region(long maxEntries, Duration timeToLive) {
+                    this.maxEntries = maxEntries;
+                    this.timeToLive = timeToLive;
+                }
+
+                // Getters and setters for investment cache region limits access
+                public long getMaxEntries() { return maxEntries; }
+                public void setMaxEntries(long maxEntries) { this.maxEntries = maxEntries; }
+                public Duration getTimeToLive() { return timeToLive; }
+                public void setTimeToLive(Duration timeToLive) { this.timeToLive = timeToLive; }
+            }
+        }
+
+        /**
+         * Investment SQL Metrics Properties
+         * Spring Boot: Nested properties bound from investment.management.sql-metrics.*
+         */
+        public static class SqlMetrics {
+
+            /**
+             * Wrap the DataSource to time statements, count fetched rows and connection waits
+             */
+            private boolean enabled = true;
+
+            /**
+             * Executions at or above this duration are kept in the slow query log
+             */
+            private Duration slowQueryThreshold = Duration.ofMillis(200);
+
+            /**
+             * Most recent slow executions kept for the slowqueries endpoint
+             */
+            private int slowQueryLogSize = 100;
+
+            /**
+             * Distinct normalized statements tracked before new ones are folded into "other"
+             */
+            private int maxStatements = 500;
+
+            // Getters and setters for investment SQL metrics properties access
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public Duration getSlowQueryThreshold() { return slowQueryThreshold; }
+            public void setSlowQueryThreshold(Duration slowQueryThreshold) { this.slowQueryThreshold = slowQueryThreshold; }
+            public int getSlowQueryLogSize() { return slowQueryLogSize; }
+            public void setSlowQueryLogSize(int slowQueryLogSize) { this.slowQueryLogSize = slowQueryLogSize; }
+            public int getMaxStatements() { return maxStatements; }
+            public void setMaxStatements(int maxStatements) { this.maxStatements = maxStatements; }
+        }
+
+        /**
+         * Investment Search Properties
+         * Spring Boot: Nested properties bound from investment.management.search.*
+         */
+        public static class Search {
+
+            /**
+             * Page size when the request does not give one
+             */
+            private int defaultPageSize = 20;
+
+            /**
+             * Largest page a single search request may ask for
+             */
+            private int maxPageSize = 200;
+
+            // Getters and setters for investment search properties access
+            public int getDefaultPageSize() { return defaultPageSize; }
+            public void setDefaultPageSize(int defaultPageSize) { this.defaultPageSize = defaultPageSize; }
+            public int getMaxPageSize() { return maxPageSize; }
+            public void setMaxPageSize(int maxPageSize) { this.maxPageSize = maxPageSize; }
+        }
+
+        /**
+         * Investment Leaderboard Properties
+         * Spring Boot: Nested properties bound from investment.management.leaderboard.*
+         */
+        public static class Leaderboard {
+
+            /**
+             * Entries served per leaderboard
+             */
+            private int size = 10;
+
+            /**
+             * Extra entries kept per board so deletions rarely force a rebuild
+             */
+            private int headroom = 10;
+
+            // Getters and setters for investment leaderboard properties access
+            public int getSize() { return size; }
+            public void setSize(int size) { this.size = size; }
+            public int getHeadroom() { return headroom; }
+            public void setHeadroom(int headroom) { this.headroom = headroom; }
+        }
+
+        /**
+         * Investment Risk Simulation Properties
+         * Spring Boot: Nested properties bound from investment.management.risk-simulation.*
+         */
+        public static class RiskSimulation {
+
+            /**
+             * Annualized return volatility per risk level, as a fraction
+             */
+            private Map<RiskLevel, Double> volatility = new EnumMap<>(Map.of(
+                    RiskLevel.LOW, 0.05, RiskLevel.MEDIUM, 0.15, RiskLevel.HIGH, 0.30));
+
+            /**
+             * Correlation of every proposal with the common market factor
+             */
+            private double marketCorrelation = 0.3;
+
+            /**
+             * Simulated return paths when a request does not name a count
+             */
+            private int defaultPaths = 1_000_000;
+
+            /**
+             * Upper bound on simulated return paths per job
+             */
+            private int maxPaths = 10_000_000;
+
+            /**
+             * Confidence level when a request does not name one
+             */
+            private double defaultConfidence = 0.99;
+
+            /**
+             * Loss horizon in trading days when a request does not name one
+             */
+            private int defaultHorizonDays = 10;
+
+            /**
+             * Trading days per year used to scale annual drift and volatility to the horizon
+             */
+            private int tradingDaysPerYear = 252;
+
+            /**
+             * Fork-join worker threads, 0 = one per available processor
+             */
+            private int parallelism = 0;
+
+            /**
+             * Finished simulation jobs kept for result queries
+             */
+            private int retainedJobs = 20;
+
+            // Getters and setters for investment risk simulation properties access
+            public Map<RiskLevel, Double> getVolatility() { return volatility; }
+            public void setVolatility(Map<RiskLevel, Double> volatility) { this.volatility = volatility; }
+            public double getMarketCorrelation() { return marketCorrelation; }
+            public void setMarketCorrelation(double marketCorrelation) { this.marketCorrelation = marketCorrelation; }
+            public int getDefaultPaths() { return defaultPaths; }
+            public void setDefaultPaths(int defaultPaths) { this.defaultPaths = defaultPaths; }
+            public int getMaxPaths() { return maxPaths; }
+            public void setMaxPaths(int maxPaths) { this.maxPaths = maxPaths; }
+            public double getDefaultConfidence() { return defaultConfidence; }
+            public void setDefaultConfidence(double defaultConfidence) { this.defaultConfidence = defaultConfidence; }
+            public int getDefaultHorizonDays() { return defaultHorizonDays; }
+            public void setDefaultHorizonDays(int defaultHorizonDays) { this.defaultHorizonDays = defaultHorizonDays; }
+            public int getTradingDaysPerYear() { return tradingDaysPerYear; }
+            public void setTradingDaysPerYear(int tradingDaysPerYear) { this.tradingDaysPerYear = tradingDaysPerYear; }
+            public int getParallelism() { return parallelism; }
+            public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+            public int getRetainedJobs() { return retainedJobs; }
+            public void setRetainedJobs(int retainedJobs) { this.retainedJobs = retainedJobs; }
+        }
+
+        /**
+         * Investment Event Log Properties
+         * Spring Boot: Nested properties bound from investment.management.event-log.*
+         */
+        public static class EventLog {
+
+            /**
+             * Append lifecycle events to the log and rebuild in-memory state from it
+             */
+            private boolean enabled = true;
+
+            /**
+             * Directory holding segment and snapshot files; one application instance per directory
+             * Spring Boot: The temp directory default is not durable; set it for a lasting audit trail
+             */
+            private String directory = System.getProperty("java.io.tmpdir") + "/investment-event-log";
+
+            /**
+             * Size of each memory-mapped segment file, in bytes
+             */
+            private int segmentSize = 64 * 1024 * 1024;
+
+            /**
+             * Events appended between two snapshots
+             */
+            private long snapshotInterval = 100_000;
+
+            /**
+             * Snapshots kept; segments are deleted once the oldest kept snapshot covers them
+             */
+            private int retainedSnapshots = 2;
+
+            /**
+             * Flush every record to the storage device before the append returns
+             */
+            private boolean forceOnAppend = false;
+
+            // Getters and setters for investment event log properties access
+            public boolean isEnabled() { return enabled; }
+            public void setEnabled(boolean enabled) { this.enabled = enabled; }
+            public String getDirectory() { return directory; }
+            public void setDirectory(String directory) { this.directory = directory; }
+            public int getSegmentSize() { return segmentSize; }
+            public void setSegmentSize(int segmentSize) { this.segmentSize = segmentSize; }
+            public long getSnapshotInterval() { return snapshotInterval; }
+            public void setSnapshotInterval(long snapshotInterval) { this.snapshotInterval = snapshotInterval; }
+            public int getRetainedSnapshots() { return retainedSnapshots; }
+            public void setRetainedSnapshots(int retainedSnapshots) { this.retainedSnapshots = retainedSnapshots; }
+            public boolean isForceOnAppend() { return forceOnAppend; }
+            public void setForceOnAppend(boolean forceOnAppend) { this.forceOnAppend = forceOnAppend; }
+        }
+
+        /**
+         * Investment Reference Data Properties
+         * Spring Boot: Nested properties bound from investment.management.reference-data.*
+         */
+        public static class ReferenceData {
+
+            /**
+             * Minimum time between two reloads triggered by an unknown advisor or type id
+             */
+            private Duration minReloadInterval = Duration.ofSeconds(30);
+
+            // Getters and setters for investment reference data properties access
+            public Duration getMinReloadInterval() { return minReloadInterval; }
+            public void setMinReloadInterval(Duration minReloadInterval) { this.minReloadInterval = minReloadInterval; }
+        }
+
+        /**
+         * Investment Shard DataSource Properties
+         * Spring Boot: JDBC connection settings for a single investment shard
+         */
+        public static class ShardDataSource {
+            private String url;
+            private String username;
+            private String password;
+
+            // Getters and setters for investment shard datasource access
+            public String getUrl() { return url; }
+            public void setUrl(String url) { this.url = url; }
+            public String getUsername() { return username; }
+            public void setUsername(String username) { this.username = username; }
+            public String getPassword() { return password; }
+            public void setPassword(String password) { this.password = password; }
+        }
     }
 
     /**
@@ -0,0 +1,93 @@
+package com.investment.proposal.config;
+
+import com.investment.proposal.dto.InvestmentProposalDTO;
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.InvestmentType;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.reference.ReferenceDataEntityListener;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * Investment Native Image Configuration Class
+ * Spring Boot: GraalVM native-image support for investment system deployment
+ * This class registers the reflection and resource hints that the AOT engine
+ * cannot infer on its own, so the investment system starts as a native binary
+ */
+@Configuration  // Spring Boot: Configuration class annotation for investment native image support
+// Registers this class as a source of native image hint registrations
+@ImportRuntimeHints(NativeImageConfig.InvestmentRuntimeHints.class)  // Spring Boot: Runtime hints import for AOT processing
+// Contributes investment reflection and resource hints during the native build
+public class NativeImageConfig {
+
+    /**
+     * Investment Runtime Hints Registrar
+     * Spring Boot: RuntimeHints registration for investment domain types
+     * Covers types that are bound, serialized or instantiated reflectively at runtime
+     * (Jackson, Bean Validation, configuration binding and Hibernate)
+     */
+    static class InvestmentRuntimeHints implements RuntimeHintsRegistrar {
+
+        /**
+         * Member categories needed by Jackson, Hibernate and configuration binding
+         * Spring Boot: Reflection access for constructors, fields and accessors
+         * Keeps investment types fully introspectable inside the native image
+         */
+        private static final MemberCategory[] DATA_TYPE_ACCESS = {
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS,
+                MemberCategory.DECLARED_FIELDS
+        };
+
+        /**
+         * Register investment reflection and resource hints
+         * Spring Boot: Called by the AOT engine while building the native image
+         * Registers domain types, H2 and Hibernate classes and application resources
+         *
+         * @param hints RuntimeHints collector for investment native image metadata
+         * @param classLoader ClassLoader used for investment type resolution
+         */
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            // Spring Boot: Register investment entity, DTO and enum for reflective access
+            // Enables Hibernate hydration, Jackson serialization and validation in native mode
+            hints.reflection().registerType(InvestmentProposal.class, DATA_TYPE_ACCESS);
+            hints.reflection().registerType(InvestmentProposalDTO.class, DATA_TYPE_ACCESS);
+            hints.reflection().registerType(RiskLevel.class, DATA_TYPE_ACCESS);
+            hints.reflection().registerType(Advisor.class, DATA_TYPE_ACCESS);
+            hints.reflection().registerType(InvestmentType.class, DATA_TYPE_ACCESS);
+            hints.reflection().registerType(ReferenceDataEntityListener.class, DATA_TYPE_ACCESS);
+
+            // Spring Boot: Register investment lifecycle events for listener resolution
+            // Ensures event payload accessors stay reachable for investment event listeners
+            hints.reflection().registerType(InvestmentProposalCreatedEvent.class, DATA_TYPE_ACCESS);
+            hints.reflection().registerType(InvestmentProposalStatusChangedEvent.class, DATA_TYPE_ACCESS);
+            hints.reflection().registerType(InvestmentProposalDeletedEvent.class, DATA_TYPE_ACCESS);
+            hints.reflection().registerType(InvestmentProposalsArchivedEvent.class, DATA_TYPE_ACCESS);
+
+            // Spring Boot: Register investment configuration properties for binding
+            // Allows investment.management.* settings to bind through setters at runtime
+            hints.reflection().registerType(InvestmentConfig.InvestmentManagementProperties.class, DATA_TYPE_ACCESS);
+
+            // Spring Boot: Register H2 driver and Hibernate dialect loaded by class name
+            // Covers classes referenced only from application.yml strings
+            hints.reflection().registerType(TypeReference.of("org.h2.Driver"), DATA_TYPE_ACCESS);
+            hints.reflection().registerType(TypeReference.of("org.hibernate.dialect.H2Dialect"), DATA_TYPE_ACCESS);
+
+            // Spring Boot: Register investment resources read from the classpath at runtime
+            // Keeps seed data, templates and static assets inside the native image
+            hints.resources().registerPattern("data.sql");
+            hints.resources().registerPattern("templates/*.html");
+            hints.resources().registerPattern("static/**");
+        }
+    }
+}
\ No newline at end of file
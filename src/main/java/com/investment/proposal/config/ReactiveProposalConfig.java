@@ -0,0 +1,159 @@
+package com.investment.proposal.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import com.investment.proposal.reactive.ReactiveBasicAuthFilter;
+import com.investment.proposal.reactive.ReactiveConnectionPool;
+import com.investment.proposal.reactive.ReactiveProposalHandler;
+import com.investment.proposal.reactive.ReactiveProposalRepository;
+import com.investment.proposal.reactive.ReactiveProposalServer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RequestPredicates.accept;
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Investment Reactive API Configuration Class
+ * Spring Boot: Wires the WebFlux and R2DBC variant of the investment proposal API
+ * The reactive API is served by its own Reactor Netty server so it can be compared against
+ * the servlet API under the same data and users. It is off unless
+ * investment.management.reactive.enabled is set.
+ */
+@Configuration  // Spring Boot: Configuration class annotation for the reactive investment API
+// Registers this class as a source of reactive investment API beans
+@ConditionalOnProperty(prefix = "investment.management.reactive", name = "enabled", havingValue = "true")
+@EnableR2dbcRepositories(basePackageClasses = ReactiveProposalRepository.class,
+        entityOperationsRef = "reactiveEntityTemplate")  // Spring Boot: R2DBC repositories on the reactive pool only
+public class ReactiveProposalConfig {
+
+    /**
+     * R2DBC Connection Pool Bean for Reactive Investment Reads
+     * Spring Boot: Wrapped rather than exposed as a ConnectionFactory, which would make the
+     * JDBC DataSource auto-configuration back off
+     *
+     * @param properties Investment management properties holding the R2DBC URL and pool size
+     * @param dataSourceProperties JDBC DataSource properties supplying the database credentials
+     * @return Pool closed with the application context
+     */
+    @Bean(destroyMethod = "dispose")  // Spring Boot: Bean definition for the reactive investment connection pool
+    public ReactiveConnectionPool reactiveConnectionPool(InvestmentManagementProperties properties,
+                                                         DataSourceProperties dataSourceProperties) {
+        return new ReactiveConnectionPool(properties.getReactive().getR2dbcUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword(),
+                properties.getReactive().getMaxPoolSize());
+    }
+
+    /**
+     * R2DBC Entity Template Bean for Reactive Investment Repositories
+     *
+     * @param connectionPool Reactive investment connection pool
+     * @return Template used by ReactiveProposalRepository and aggregate queries
+     */
+    @Bean  // Spring Boot: Bean definition for reactive investment entity operations
+    public R2dbcEntityTemplate reactiveEntityTemplate(ReactiveConnectionPool connectionPool) {
+        return new R2dbcEntityTemplate(connectionPool.getConnectionFactory());
+    }
+
+    /**
+     * Reactive Investment Proposal Handler Bean
+     *
+     * @return Handler functions for the reactive investment routes
+     */
+    @Bean  // Spring Boot: Bean definition for reactive investment handler functions
+    public ReactiveProposalHandler reactiveProposalHandler() {
+        return new ReactiveProposalHandler();
+    }
+
+    /**
+     * Reactive Basic Authorization Filter Bean
+     *
+     * @param passwordEncoder Application password encoder, if one is defined
+     * @return Role filter factory sharing the servlet API's users
+     */
+    @Bean  // Spring Boot: Bean definition for reactive investment access control
+    public ReactiveBasicAuthFilter reactiveBasicAuthFilter(ObjectProvider<PasswordEncoder> passwordEncoder) {
+        return new ReactiveBasicAuthFilter(passwordEncoder);
+    }
+
+    /**
+     * Reactive Investment Proposal Routes
+     * Spring Boot: Same paths and role rules as InvestmentProposalController under the servlet context path
+     *
+     * @param contextPath Servlet context path, kept so clients only change the port
+     * @param handler Reactive investment handler functions
+     * @param auth Reactive investment access control
+     * @return Router function for the reactive investment API
+     */
+    @Bean  // Spring Boot: Bean definition for reactive investment routes
+    public RouterFunction<ServerResponse> reactiveProposalRoutes(
+            @Value("${server.servlet.context-path:}") String contextPath,
+            ReactiveProposalHandler handler, ReactiveBasicAuthFilter auth) {
+        String base = contextPath + "/api/investment-proposals";
+        return route()
+                .path(base, builder -> builder
+                        // Spring Boot: Literal paths are registered before /{id} so they are not taken as ids
+                        .add(route()
+                                .GET("", handler::getAllInvestmentProposals)
+                                .GET("/paginated", handler::getInvestmentProposalsPaginated)
+                                .GET("/client/{clientName}", handler::getInvestmentProposalsByClient)
+                                .filter(auth.requireAnyRole("INVESTMENT_VIEWER", "ADMIN"))
+                                .build())
+                        .add(route()
+                                .GET("/portfolio/summary", handler::getPortfolioSummary)
+                                .GET("/high-value", handler::getHighValueInvestments)
+                                .filter(auth.requireAnyRole("INVESTMENT_ANALYST", "ADMIN"))
+                                .build())
+                        .add(route()
+                                .GET("/{id}", handler::getInvestmentProposal)
+                                .filter(auth.requireAnyRole("INVESTMENT_VIEWER", "ADMIN"))
+                                .build())
+                        .add(route()
+                                .POST("", accept(MediaType.ALL), handler::createInvestmentProposal)
+                                .filter(auth.requireAnyRole("INVESTMENT_CREATOR", "ADMIN"))
+                                .build())
+                        .add(route()
+                                .PUT("/{id}/approve", handler::updateApprovalStatus)
+                                .filter(auth.requireAnyRole("INVESTMENT_APPROVER", "ADMIN"))
+                                .build())
+                        .add(route()
+                                .DELETE("/{id}", handler::deleteInvestmentProposal)
+                                .filter(auth.requireAnyRole("INVESTMENT_ADMIN", "ADMIN"))
+                                .build()))
+                .onError(Throwable.class, handler::handleError)
+                .build();
+    }
+
+    /**
+     * Reactive Investment Proposal Server Bean
+     * Spring Boot: JSON codecs use the application ObjectMapper so both APIs serialize alike
+     *
+     * @param routes Reactive investment routes
+     * @param objectMapper Application Jackson mapper
+     * @return Reactor Netty server started and stopped with the application context
+     */
+    @Bean  // Spring Boot: Bean definition for the reactive investment server
+    public ReactiveProposalServer reactiveProposalServer(RouterFunction<ServerResponse> reactiveProposalRoutes,
+                                                         ObjectMapper objectMapper) {
+        HandlerStrategies strategies = HandlerStrategies.builder()
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        return new ReactiveProposalServer(reactiveProposalRoutes, strategies);
+    }
+}
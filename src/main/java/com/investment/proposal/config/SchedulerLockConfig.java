@@ -0,0 +1,39 @@
+package com.investment.proposal.config;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import com.investment.proposal.lock.JdbcLeaseLockProvider;
+import com.investment.proposal.lock.SchedulerLockBeanPostProcessor;
+import com.investment.proposal.lock.SchedulerLockInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Investment Scheduler Lock Configuration Class
+ * Spring Boot: Registers the post-processor applying @SchedulerLock to scheduled tasks
+ * This class makes scheduled investment maintenance run on one node per tick across
+ * the cluster instead of on every deployed instance
+ */
+@Configuration  // Spring Boot: Configuration class annotation for investment scheduler locking
+// Registers this class as a source of scheduler lock beans
+public class SchedulerLockConfig {
+
+    /**
+     * Scheduler Lock Post-Processor Bean for Investment Scheduled Tasks
+     * Spring Boot: Static so it is registered before the beans it proxies are created
+     *
+     * @param lockProvider Lease lock provider, resolved on first locked execution
+     * @param investmentProperties Investment management properties, resolved lazily
+     * @param meterRegistry Micrometer registry, resolved lazily
+     * @return Post-processor wrapping @SchedulerLock methods
+     */
+    @Bean  // Spring Boot: Bean definition for investment scheduler lock proxying
+    public static SchedulerLockBeanPostProcessor schedulerLockBeanPostProcessor(
+            ObjectProvider<JdbcLeaseLockProvider> lockProvider,
+            ObjectProvider<InvestmentManagementProperties> investmentProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SchedulerLockBeanPostProcessor(
+                new SchedulerLockInterceptor(lockProvider, investmentProperties, meterRegistry));
+    }
+}
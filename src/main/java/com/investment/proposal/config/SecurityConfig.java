@@ -1,11 +1,26 @@
 package com.investment.proposal.config;
 
+import com.investment.proposal.auth.AuthTokenService;
+import com.investment.proposal.auth.BearerTokenAuthenticationFilter;
+import com.investment.proposal.auth.CachingAuthenticationProvider;
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import com.investment.proposal.ratelimit.ProposalRateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpMethod;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
 
 /**
  * Investment Security Configuration Class
@@ -29,6 +44,12 @@ public class SecurityConfig {
      *
      * @param http HttpSecurity instance for investment security configuration
      *             Provides builder for configuring investment security rules
+     * @param properties Investment management properties holding rate limit settings
+     * @param meterRegistry Micrometer registry for investment throttle and authentication metrics
+     * @param tokenService Service verifying investment access tokens
+     * @param userDetailsService Investment user store checked by HTTP Basic
+     * @param passwordEncoder Application password encoder, if one is defined
+     * @param taskScheduler Scheduler running the rate limiter's idle bucket sweep
      * @return SecurityFilterChain instance for investment system security
      *         Defines security processing chain for investment HTTP requests
      * @throws Exception if security configuration fails for investment system
@@ -36,7 +57,11 @@ public class SecurityConfig {
      */
     @Bean  // Spring Boot: Bean definition for investment security filter chain
     // Registers SecurityFilterChain as a managed Spring security component
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, InvestmentManagementProperties properties,
+                                           MeterRegistry meterRegistry, AuthTokenService tokenService,
+                                           UserDetailsService userDetailsService,
+                                           ObjectProvider<PasswordEncoder> passwordEncoder,
+                                           TaskScheduler taskScheduler) throws Exception {
         // Spring Boot: Configure HTTP security for investment system protection
         // Defines authentication and authorization rules for investment services
         http
@@ -52,6 +77,8 @@ public class SecurityConfig {
                         // Spring Boot: Allow access to H2 console for investment development
                         // Provides database access for investment system development and testing
                         .requestMatchers("/h2-console/**").permitAll()
+                        // Spring Boot: Reference data reloads scan both reference tables, so only admins may trigger them
+                        .requestMatchers(HttpMethod.POST, "/actuator/referencedata").hasRole("ADMIN")
                         // Spring Boot: Allow access to actuator endpoints for investment monitoring
                         // Enables investment system health checks and operational metrics
                         .requestMatchers("/actuator/**").permitAll()
@@ -70,6 +97,29 @@ public class SecurityConfig {
                 // Enables investment system to display H2 database console in frames
                 .headers().frameOptions().disable();
 
+        // Spring Boot: HTTP Basic checks passwords through the verified credential cache,
+        // so a repeated login skips the password encoder until its cache entry expires
+        DaoAuthenticationProvider passwordProvider = new DaoAuthenticationProvider();
+        passwordProvider.setUserDetailsService(userDetailsService);
+        passwordEncoder.ifAvailable(passwordProvider::setPasswordEncoder);
+        if (userDetailsService instanceof UserDetailsPasswordService passwordService) {
+            passwordProvider.setUserDetailsPasswordService(passwordService);
+        }
+        http.authenticationManager(new ProviderManager(
+                new CachingAuthenticationProvider(passwordProvider, properties, meterRegistry)));
+
+        // Spring Boot: Signed access tokens from /api/auth/token are verified before HTTP Basic
+        http.addFilterBefore(new BearerTokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class);
+
+        // Spring Boot: Per-principal admission control for the investment proposal API
+        // Runs after HTTP Basic so buckets are keyed by the authenticated principal;
+        // not a bean, so it is not also registered as a plain servlet filter
+        ProposalRateLimitFilter rateLimitFilter = new ProposalRateLimitFilter(properties, meterRegistry);
+        http.addFilterAfter(rateLimitFilter, BasicAuthenticationFilter.class);
+        // Spring Boot: Idle buckets are swept in the background; the schedule ends with the context
+        taskScheduler.scheduleWithFixedDelay(rateLimitFilter::evictIdleBuckets,
+                properties.getRateLimit().getEvictionInterval());
+
         // Spring Boot: Return configured security filter chain for investment system
         // Completes investment security configuration with defined rules and policies
         return http.build();
@@ -0,0 +1,81 @@
+package com.investment.proposal.config;
+
+import com.investment.proposal.sharding.HashShardRoutingStrategy;
+import com.investment.proposal.sharding.ShardRoutingStrategy;
+import com.investment.proposal.sharding.ShardedInvestmentProposalStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Investment Sharding Configuration Class
+ * Spring Boot: Configuration for the sharded investment proposal repository layer
+ * This class builds one datasource per configured shard and the scatter-gather store
+ * when investment.management.sharding.enabled is true
+ */
+@Configuration  // Spring Boot: Configuration class annotation for investment sharding
+// Registers this class as a source of sharding bean definitions
+@ConditionalOnProperty(prefix = "investment.management.sharding", name = "enabled", havingValue = "true")  // Spring Boot: Opt-in sharding
+// Keeps the single JPA datasource in charge unless sharding is explicitly enabled
+public class ShardingConfig {
+
+    /**
+     * Investment Shard Routing Strategy Bean
+     * Spring Boot: Default hash routing, replaceable by declaring another ShardRoutingStrategy bean
+     *
+     * @param investmentProperties Investment configuration with the sharding routing key
+     * @return Hash routing strategy for the configured investment proposal attribute
+     */
+    @Bean  // Spring Boot: Bean definition for investment shard routing
+    @ConditionalOnMissingBean  // Spring Boot: Pluggable routing strategy for investment sharding
+    public ShardRoutingStrategy shardRoutingStrategy(InvestmentConfig.InvestmentManagementProperties investmentProperties) {
+        return HashShardRoutingStrategy.forRoutingKey(investmentProperties.getSharding().getRoutingKey());
+    }
+
+    /**
+     * Sharded Investment Proposal Store Bean
+     * Spring Boot: Scatter-gather store over one datasource per configured shard
+     * Uses a fixed thread pool with one thread per shard for parallel fan-out
+     *
+     * @param investmentProperties Investment configuration with shard definitions
+     * @param routingStrategy Routing strategy for new investment proposals
+     * @return Sharded investment proposal store with initialized shard schemas
+     */
+    @Bean(destroyMethod = "shutdown")  // Spring Boot: Bean definition for sharded investment storage
+    // Releases the scatter executor and shard connection pools on context shutdown
+    public ShardedInvestmentProposalStore shardedInvestmentProposalStore(
+            InvestmentConfig.InvestmentManagementProperties investmentProperties,
+            ShardRoutingStrategy routingStrategy) {
+        InvestmentConfig.InvestmentManagementProperties.Sharding sharding = investmentProperties.getSharding();
+
+        // Spring Boot: Create one pooled investment datasource per configured shard, in index order
+        List<DataSource> dataSources = new ArrayList<>();
+        for (InvestmentConfig.InvestmentManagementProperties.ShardDataSource shard : sharding.getShards()) {
+            dataSources.add(DataSourceBuilder.create()
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .build());
+        }
+
+        // Spring Boot: Size the scatter executor so every shard query can run concurrently
+        ExecutorService scatterExecutor = Executors.newFixedThreadPool(Math.max(1, dataSources.size()), runnable -> {
+            Thread thread = new Thread(runnable, "investment-shard-scatter");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        ShardedInvestmentProposalStore store = new ShardedInvestmentProposalStore(
+                dataSources, routingStrategy, scatterExecutor, sharding.getQueryTimeoutMillis());
+        store.initializeSchema();
+        return store;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.investment.proposal.config;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import com.investment.proposal.jdbc.InstrumentedDataSource;
+import com.investment.proposal.jdbc.SqlStatisticsRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Investment SQL Metrics Configuration Class
+ * Spring Boot: Wraps the investment DataSource so every statement is timed and counted
+ * This class replaces show-sql outside development: statement latency, rows fetched and
+ * connection acquire time are published as investment.sql.* metrics and the slowest recent
+ * executions are served at /actuator/slowqueries
+ */
+@Configuration  // Spring Boot: Configuration class annotation for investment SQL instrumentation
+@ConditionalOnProperty(prefix = "investment.management.sql-metrics", name = "enabled",
+        havingValue = "true", matchIfMissing = true)  // Spring Boot: Instrumentation can be switched off
+// Registers this class as a source of SQL metrics beans
+public class SqlMetricsConfig {
+
+    /**
+     * SQL Statistics Recorder Bean for Investment Statement Metrics
+     * Spring Boot: Shared by every instrumented DataSource and the slowqueries endpoint
+     *
+     * @param investmentProperties Investment management properties
+     * @param meterRegistry Micrometer registry
+     * @return Statistics recorder
+     */
+    @Bean  // Spring Boot: Bean definition for investment SQL statistics
+    public SqlStatisticsRecorder sqlStatisticsRecorder(InvestmentManagementProperties investmentProperties,
+                                                       MeterRegistry meterRegistry) {
+        return new SqlStatisticsRecorder(investmentProperties, meterRegistry);
+    }
+
+    /**
+     * DataSource Post-Processor Bean for Investment SQL Instrumentation
+     * Spring Boot: Static so it is registered before the DataSource is created
+     *
+     * @param recorder Statistics recorder, resolved on first connection
+     * @return Post-processor wrapping DataSource beans in InstrumentedDataSource
+     */
+    @Bean  // Spring Boot: Bean definition for investment DataSource instrumentation
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<SqlStatisticsRecorder> recorder) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    System.out.println("Investment SQL metrics enabled for DataSource '" + beanName + "'");
+                    return new InstrumentedDataSource(dataSource, beanName, recorder);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,226 @@
+package com.investment.proposal.controller;
+
+import com.investment.proposal.analytics.FlowGranularity;
+import com.investment.proposal.analytics.GroupBreakdown;
+import com.investment.proposal.analytics.GroupDimension;
+import com.investment.proposal.analytics.LeaderboardEntry;
+import com.investment.proposal.analytics.LeaderboardMetric;
+import com.investment.proposal.analytics.ProposalAnalyticsEngine;
+import com.investment.proposal.analytics.ProposalFlowAggregator;
+import com.investment.proposal.analytics.ProposalLeaderboards;
+import com.investment.proposal.risk.MonteCarloRiskEngine;
+import com.investment.proposal.risk.RiskSimulationJob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Investment Analytics Controller for Portfolio Breakdowns
+ * Spring Boot: REST Controller exposing the /analytics endpoint family
+ * This class serves investment portfolio aggregates from the in-memory columnar snapshot
+ * so analyst dashboards never run group-by queries against the proposal table
+ */
+@RestController  // Spring Boot: REST controller annotation for investment analytics endpoints
+// Registers this class as a managed Spring REST controller component
+@RequestMapping("/api/analytics")  // Spring Boot: Base URL mapping for investment analytics endpoints
+// Defines base path for all investment analytics API endpoints
+public class AnalyticsController {
+
+    /**
+     * Investment analytics engine for snapshot-based aggregation
+     * Spring Boot: Service injection for investment portfolio analytics
+     */
+    @Autowired  // Spring Boot: Service dependency injection for investment analytics
+    private ProposalAnalyticsEngine analyticsEngine;
+
+    /**
+     * Investment flow aggregator for rolling time-bucketed counts
+     * Spring Boot: Component injection for investment dashboard flow metrics
+     */
+    @Autowired  // Spring Boot: Component dependency injection for investment flow metrics
+    private ProposalFlowAggregator flowAggregator;
+
+    /**
+     * Investment leaderboards for in-memory top-K rankings
+     * Spring Boot: Service injection for investment leaderboards
+     */
+    @Autowired  // Spring Boot: Service dependency injection for investment leaderboards
+    private ProposalLeaderboards leaderboards;
+
+    /**
+     * Monte Carlo risk engine for Value-at-Risk simulations
+     * Spring Boot: Service injection for investment risk simulations
+     */
+    @Autowired  // Spring Boot: Service dependency injection for investment risk simulations
+    private MonteCarloRiskEngine riskEngine;
+
+    /**
+     * Get portfolio breakdown grouped by one dimension
+     * Spring Boot: GET endpoint for grouped investment sums, weighted returns and percentiles
+     *
+     * @param dimension Grouping dimension: RISK_LEVEL, INVESTMENT_TYPE or ASSIGNED_ADVISOR
+     * @param approvedOnly Restrict the breakdown to approved investment proposals
+     * @return One breakdown row per group value
+     */
+    @GetMapping("/breakdown")  // Spring Boot: HTTP GET mapping for investment portfolio breakdowns
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    // Ensures only authorized analysts can access portfolio analytics
+    public List<GroupBreakdown> getBreakdown(
+            @RequestParam(defaultValue = "RISK_LEVEL") GroupDimension dimension,  // Spring Boot: Grouping dimension parameter
+            @RequestParam(defaultValue = "false") boolean approvedOnly) {  // Spring Boot: Approval filter parameter
+        return analyticsEngine.breakdown(dimension, approvedOnly);
+    }
+
+    /**
+     * Get rolling investment proposal flow
+     * Spring Boot: GET endpoint for created and approved counts and amounts per time bucket
+     * Served from in-memory bucket rings, so cost depends only on the number of buckets
+     *
+     * @param granularity Bucket width: MINUTE, HOUR or DAY
+     * @param buckets Number of most recent buckets, capped at the retention of the granularity
+     * @return Window totals and the per-bucket series
+     */
+    @GetMapping("/flow")  // Spring Boot: HTTP GET mapping for investment flow metrics
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    public Map<String, Object> getFlow(
+            @RequestParam(defaultValue = "HOUR") FlowGranularity granularity,  // Spring Boot: Bucket width parameter
+            @RequestParam(defaultValue = "24") int buckets) {  // Spring Boot: Window length parameter
+        Map<String, Object> flow = new LinkedHashMap<>();
+        flow.put("granularity", granularity);
+        flow.put("window", flowAggregator.window(granularity, buckets));
+        flow.put("buckets", flowAggregator.series(granularity, buckets));
+        return flow;
+    }
+
+    /**
+     * Get columnar snapshot statistics
+     * Spring Boot: GET endpoint for investment analytics snapshot monitoring
+     *
+     * @return Snapshot row counts, dictionary sizes and last rebuild time
+     */
+    @GetMapping("/snapshot")  // Spring Boot: HTTP GET mapping for investment snapshot statistics
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    public Map<String, Object> getSnapshotInfo() {
+        return analyticsEngine.getSnapshotInfo();
+    }
+
+    /**
+     * Force a full rebuild of the columnar snapshot
+     * Spring Boot: POST endpoint for investment snapshot resynchronization
+     * Useful after bulk changes made outside the service layer
+     *
+     * @return Snapshot statistics after the rebuild
+     */
+    @PostMapping("/snapshot/refresh")  // Spring Boot: HTTP POST mapping for investment snapshot rebuild
+    @PreAuthorize("hasRole('ADMIN')")  // Spring Boot: Security authorization for investment administration
+    public Map<String, Object> refreshSnapshot() {
+        analyticsEngine.rebuildSnapshot();
+        return analyticsEngine.getSnapshotInfo();
+    }
+
+    /**
+     * Get the global investment leaderboard
+     * Spring Boot: GET endpoint served from in-memory top-K boards without a database query
+     *
+     * @param metric Ranking metric: INVESTMENT_AMOUNT or EXPECTED_RETURN
+     * @param limit Entries wanted, capped at investment.management.leaderboard.size
+     * @return Highest-ranked investment proposals, best first
+     */
+    @GetMapping("/leaderboards/global")  // Spring Boot: HTTP GET mapping for the global investment leaderboard
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    public List<LeaderboardEntry> getGlobalLeaderboard(
+            @RequestParam(defaultValue = "INVESTMENT_AMOUNT") LeaderboardMetric metric,  // Spring Boot: Ranking metric parameter
+            @RequestParam(defaultValue = "10") int limit) {  // Spring Boot: Leaderboard length parameter
+        return leaderboards.global(metric, limit);
+    }
+
+    /**
+     * Get the leaderboards of every advisor
+     * Spring Boot: GET endpoint returning each advisor's top proposals by name
+     *
+     * @param metric Ranking metric: INVESTMENT_AMOUNT or EXPECTED_RETURN
+     * @param limit Entries wanted per advisor, capped at investment.management.leaderboard.size
+     * @return Highest-ranked investment proposals by advisor name
+     */
+    @GetMapping("/leaderboards/advisors")  // Spring Boot: HTTP GET mapping for investment advisor leaderboards
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    public Map<String, List<LeaderboardEntry>> getAdvisorLeaderboards(
+            @RequestParam(defaultValue = "INVESTMENT_AMOUNT") LeaderboardMetric metric,  // Spring Boot: Ranking metric parameter
+            @RequestParam(defaultValue = "10") int limit) {  // Spring Boot: Leaderboard length parameter
+        return leaderboards.advisors(metric, limit);
+    }
+
+    /**
+     * Get one advisor's leaderboard
+     * Spring Boot: GET endpoint for a single advisor's top proposals
+     *
+     * @param advisor Advisor name
+     * @param metric Ranking metric: INVESTMENT_AMOUNT or EXPECTED_RETURN
+     * @param limit Entries wanted, capped at investment.management.leaderboard.size
+     * @return Highest-ranked investment proposals of the advisor, best first
+     */
+    @GetMapping("/leaderboards/advisors/{advisor}")  // Spring Boot: HTTP GET mapping for one investment advisor leaderboard
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    public List<LeaderboardEntry> getAdvisorLeaderboard(
+            @PathVariable String advisor,  // Spring Boot: Advisor name path variable
+            @RequestParam(defaultValue = "INVESTMENT_AMOUNT") LeaderboardMetric metric,  // Spring Boot: Ranking metric parameter
+            @RequestParam(defaultValue = "10") int limit) {  // Spring Boot: Leaderboard length parameter
+        return leaderboards.advisor(advisor, metric, limit);
+    }
+
+    /**
+     * Start a Monte Carlo Value-at-Risk simulation of the approved book
+     * Spring Boot: POST endpoint returning immediately with the queued simulation job
+     *
+     * @param paths Return paths to simulate, capped at investment.management.risk-simulation.max-paths
+     * @param confidence Confidence level, e.g. 0.99
+     * @param horizonDays Loss horizon in trading days
+     * @param seed Root seed for a reproducible run
+     * @return Simulation job with HTTP 202 status; poll its progress and result by id
+     */
+    @PostMapping("/risk/simulations")  // Spring Boot: HTTP POST mapping for investment risk simulations
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    public ResponseEntity<RiskSimulationJob> startRiskSimulation(
+            @RequestParam(required = false) Integer paths,  // Spring Boot: Path count parameter
+            @RequestParam(required = false) Double confidence,  // Spring Boot: Confidence level parameter
+            @RequestParam(required = false) Integer horizonDays,  // Spring Boot: Loss horizon parameter
+            @RequestParam(required = false) Long seed) {  // Spring Boot: Reproducibility seed parameter
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(riskEngine.submit(paths, confidence, horizonDays, seed));
+    }
+
+    /**
+     * List recent Monte Carlo risk simulations
+     * Spring Boot: GET endpoint for retained simulation jobs
+     *
+     * @return Simulation jobs, oldest first
+     */
+    @GetMapping("/risk/simulations")  // Spring Boot: HTTP GET mapping for investment risk simulation listing
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    public List<RiskSimulationJob> listRiskSimulations() {
+        return riskEngine.getJobs();
+    }
+
+    /**
+     * Progress and result of one Monte Carlo risk simulation
+     * Spring Boot: GET endpoint for paths simulated and, once complete, VaR and ES by advisor and type
+     *
+     * @param id Simulation job identifier
+     * @return Simulation job progress and result
+     */
+    @GetMapping("/risk/simulations/{id}")  // Spring Boot: HTTP GET mapping for investment risk simulation progress
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment analysis
+    public RiskSimulationJob getRiskSimulation(@PathVariable String id) {
+        return riskEngine.getJob(id);
+    }
+}
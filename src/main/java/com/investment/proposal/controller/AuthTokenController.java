@@ -0,0 +1,62 @@
+package com.investment.proposal.controller;
+
+import com.investment.proposal.auth.AuthTokenService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.preauth.PreAuthenticatedAuthenticationToken;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Investment Access Token Controller
+ * Spring Boot: REST Controller exchanging HTTP Basic credentials for a signed access token
+ * Clients making many calls authenticate once here and send the token as a Bearer header,
+ * which is verified without a user lookup or password hashing
+ */
+@RestController  // Spring Boot: REST controller annotation for investment token endpoints
+// Registers this class as a managed Spring REST controller component
+@RequestMapping("/api/auth")  // Spring Boot: Base URL mapping for investment authentication endpoints
+public class AuthTokenController {
+
+    /**
+     * Investment access token service
+     * Spring Boot: Component injection for issuing signed tokens
+     */
+    @Autowired  // Spring Boot: Component dependency injection for investment access tokens
+    private AuthTokenService tokenService;
+
+    /**
+     * Issue an access token for the authenticated caller
+     * Spring Boot: POST endpoint returning an OAuth-style token response
+     *
+     * @param authentication Caller authenticated with HTTP Basic credentials
+     * @return Access token and lifetime, or HTTP 403 when the caller used a token, so a token
+     *         cannot be renewed indefinitely without the password
+     */
+    @PostMapping("/token")  // Spring Boot: HTTP POST mapping for investment token issuance
+    public ResponseEntity<Map<String, Object>> issueToken(Authentication authentication) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        if (authentication instanceof PreAuthenticatedAuthenticationToken) {
+            body.put("error", "Investment access tokens are issued for password credentials only");
+            body.put("status", HttpStatus.FORBIDDEN.value());
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
+        }
+
+        AuthTokenService.IssuedToken issued = tokenService.issue(authentication);
+        body.put("access_token", issued.getToken());
+        body.put("token_type", "Bearer");
+        body.put("expires_in", Duration.between(Instant.now(), issued.getExpiresAt()).toSeconds());
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(body);
+    }
+}
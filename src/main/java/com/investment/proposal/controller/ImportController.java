@@ -0,0 +1,97 @@
+package com.investment.proposal.controller;
+
+import com.investment.proposal.importer.ImportJob;
+import com.investment.proposal.importer.ProposalImportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+
+/**
+ * Investment Import Controller for Bulk Proposal Loads
+ * Spring Boot: REST Controller exposing the /imports endpoint family
+ * This class accepts partner CSV uploads, reports import progress while the parallel
+ * pipeline runs, and serves the rejected-row report once rows have been rejected
+ */
+@RestController  // Spring Boot: REST controller annotation for investment import endpoints
+// Registers this class as a managed Spring REST controller component
+@RequestMapping("/api/imports")  // Spring Boot: Base URL mapping for investment import endpoints
+// Defines base path for all investment import API endpoints
+public class ImportController {
+
+    /**
+     * Parallel investment import pipeline
+     * Spring Boot: Component injection for investment bulk imports
+     */
+    @Autowired  // Spring Boot: Component dependency injection for investment imports
+    private ProposalImportService importService;
+
+    /**
+     * Upload a CSV file and start importing it
+     * Spring Boot: POST endpoint returning immediately with the queued import job
+     *
+     * @param file CSV file with a header line naming the proposal columns
+     * @return Import job with HTTP 202 status; poll its progress by id
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)  // Spring Boot: HTTP POST mapping for investment imports
+    @PreAuthorize("hasRole('ADMIN')")  // Spring Boot: Security authorization for investment administration
+    public ResponseEntity<ImportJob> startImport(@RequestParam("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.submit(file));
+    }
+
+    /**
+     * List recent investment imports
+     * Spring Boot: GET endpoint for retained import jobs
+     *
+     * @return Import jobs, oldest first
+     */
+    @GetMapping  // Spring Boot: HTTP GET mapping for investment import listing
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment imports
+    public List<ImportJob> listImports() {
+        return importService.getJobs();
+    }
+
+    /**
+     * Progress of one investment import
+     * Spring Boot: GET endpoint for bytes parsed, rows inserted and rows rejected
+     *
+     * @param id Import job identifier
+     * @return Import job progress
+     */
+    @GetMapping("/{id}")  // Spring Boot: HTTP GET mapping for investment import progress
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment imports
+    public ImportJob getImport(@PathVariable String id) {
+        return importService.getJob(id);
+    }
+
+    /**
+     * Download the rejected-row report of an investment import
+     * Spring Boot: GET endpoint for rows that failed validation or insertion
+     *
+     * @param id Import job identifier
+     * @return CSV of byte offset, rejection reason and original line
+     */
+    @GetMapping("/{id}/rejected")  // Spring Boot: HTTP GET mapping for investment import rejects
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment imports
+    public ResponseEntity<Resource> downloadRejected(@PathVariable String id) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(id + "-rejected.csv").build().toString())
+                .body(new FileSystemResource(importService.getRejectedFile(id)));
+    }
+}
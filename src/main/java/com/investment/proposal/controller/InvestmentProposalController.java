@@ -3,6 +3,12 @@ package com.investment.proposal.controller;
 import com.investment.proposal.entity.InvestmentProposal;
 import com.investment.proposal.entity.RiskLevel;
 import com.investment.proposal.exception.InvestmentProposalNotFoundException;
+import com.investment.proposal.facet.FacetQuery;
+import com.investment.proposal.facet.FacetResult;
+import com.investment.proposal.facet.ProposalFacetIndex;
+import com.investment.proposal.search.ProposalSearchCriteria;
+import com.investment.proposal.search.ProposalSearchResult;
+import com.investment.proposal.search.ProposalSearchService;
 import com.investment.proposal.service.InvestmentProposalService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -12,7 +18,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -39,6 +45,20 @@ public class InvestmentProposalController {
     // Injects InvestmentProposalService for investment business logic access
     private InvestmentProposalService investmentProposalService;
 
+    /**
+     * Investment search service for multi-criteria queries
+     * Spring Boot: Service injection for Specification-based investment search
+     */
+    @Autowired  // Spring Boot: Service dependency injection for investment search
+    private ProposalSearchService proposalSearchService;
+
+    /**
+     * Investment facet index for bitmap-based facet counts
+     * Spring Boot: Component injection for in-memory investment facets
+     */
+    @Autowired  // Spring Boot: Component dependency injection for investment facets
+    private ProposalFacetIndex proposalFacetIndex;
+
     /**
      * Get all investment proposals endpoint with security authorization
      * Spring Boot: GET endpoint for investment portfolio retrieval and management
@@ -238,4 +258,33 @@ public class InvestmentProposalController {
         // Provides efficient high-value investment data for premium client management
         return investmentProposalService.getHighValueInvestments(threshold);
     }
-}
\ No newline at end of file
+
+    /**
+     * Search investment proposals by any mix of filters endpoint
+     * Spring Boot: GET endpoint binding optional query parameters to ProposalSearchCriteria
+     * Example: /search?riskLevel=HIGH&approved=false&minAmount=50000&sort=NEWEST&size=50
+     * The response carries nextCursor; pass it back as cursor for the following page
+     *
+     * @param criteria Filters, sort, page size and cursor from request parameters
+     * @return Page of matching investment proposals with the next page cursor
+     */
+    @GetMapping("/search")  // Spring Boot: Search endpoint mapping for investment retrieval
+    @PreAuthorize("hasRole('INVESTMENT_VIEWER') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment access
+    public ProposalSearchResult searchInvestmentProposals(@ModelAttribute ProposalSearchCriteria criteria) {
+        return proposalSearchService.search(criteria);
+    }
+
+    /**
+     * Facet counts for a selection of categorical values endpoint
+     * Spring Boot: GET endpoint served from the in-memory bitmap index, without SQL
+     * Example: /facets?riskLevel=HIGH&riskLevel=MEDIUM&approved=false&limit=50
+     *
+     * @param query Selected risk levels, investment types, advisors and approval states
+     * @return Matching count and ids with the count of every facet value
+     */
+    @GetMapping("/facets")  // Spring Boot: Facet endpoint mapping for investment search counts
+    @PreAuthorize("hasRole('INVESTMENT_VIEWER') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment access
+    public FacetResult getInvestmentProposalFacets(@ModelAttribute FacetQuery query) {
+        return proposalFacetIndex.query(query);
+    }
+}
@@ -0,0 +1,57 @@
+package com.investment.proposal.controller;
+
+import com.investment.proposal.stream.ProposalChangeStream;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Investment Proposal Stream Controller for Live Proposal Updates
+ * Spring Boot: REST Controller exposing the proposal change stream as Server-Sent Events
+ * Clients load the list once and then apply the pushed deltas; a reset event asks them to
+ * load the list again. Connections are held by the servlet container's async support, so an
+ * idle subscriber occupies no request thread.
+ */
+@RestController  // Spring Boot: REST controller annotation for investment change stream endpoint
+// Registers this class as a managed Spring REST controller component
+@RequestMapping("/api/investment-proposals")  // Spring Boot: Base URL mapping shared with the investment proposal API
+public class ProposalStreamController {
+
+    /**
+     * Investment change stream
+     * Spring Boot: Component injection for investment change subscriptions
+     */
+    @Autowired  // Spring Boot: Component dependency injection for the investment change stream
+    private ProposalChangeStream changeStream;
+
+    /**
+     * Subscribe to investment proposal changes
+     * Spring Boot: GET endpoint producing text/event-stream with ready, changes and reset events
+     *
+     * @param lastEventId Id of the last event a reconnecting client received
+     * @return Open event stream, or HTTP 503 when the subscriber limit is reached
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)  // Spring Boot: SSE mapping for investment changes
+    @PreAuthorize("hasRole('INVESTMENT_VIEWER') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment access
+    public ResponseEntity<SseEmitter> streamChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return changeStream.subscribe(lastEventId)
+                .map(emitter -> ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        // Spring Boot: Ask reverse proxies not to buffer the event stream
+                        .header("X-Accel-Buffering", "no")
+                        .body(emitter))
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, "5")
+                        .build());
+    }
+}
@@ -0,0 +1,115 @@
+package com.investment.proposal.controller;
+
+import com.investment.proposal.report.ReportFile;
+import com.investment.proposal.report.ReportFormat;
+import com.investment.proposal.report.WeeklyReportGenerator;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Investment Report Controller for Compliance Report Downloads
+ * Spring Boot: REST Controller exposing the /reports endpoint family
+ * This class lists and serves the weekly portfolio report files; downloads are handed to
+ * the servlet container's sendfile support when available, so file bytes go from the page
+ * cache to the socket without being copied through the Java heap
+ */
+@RestController  // Spring Boot: REST controller annotation for investment report endpoints
+// Registers this class as a managed Spring REST controller component
+@RequestMapping("/api/reports")  // Spring Boot: Base URL mapping for investment report endpoints
+// Defines base path for all investment report API endpoints
+public class ReportController {
+
+    /**
+     * Tomcat request attributes for zero-copy file responses
+     */
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    /**
+     * Weekly investment report generator and file resolver
+     * Spring Boot: Component injection for investment report files
+     */
+    @Autowired  // Spring Boot: Component dependency injection for investment reports
+    private WeeklyReportGenerator reportGenerator;
+
+    /**
+     * List generated investment reports
+     * Spring Boot: GET endpoint for available compliance report files
+     *
+     * @return Report files, newest first
+     */
+    @GetMapping  // Spring Boot: HTTP GET mapping for investment report listing
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment reports
+    public List<ReportFile> listReports() {
+        return reportGenerator.listReports();
+    }
+
+    /**
+     * Generate this week's investment report now
+     * Spring Boot: POST endpoint for on-demand compliance report generation
+     *
+     * @return Generated report files
+     */
+    @PostMapping("/generate")  // Spring Boot: HTTP POST mapping for investment report generation
+    @PreAuthorize("hasRole('ADMIN')")  // Spring Boot: Security authorization for investment administration
+    public List<ReportFile> generateReport() {
+        return reportGenerator.generateWeeklyReport();
+    }
+
+    /**
+     * Download one investment report file
+     * Spring Boot: GET endpoint streaming the report with sendfile or FileChannel.transferTo
+     *
+     * @param fileName Report file name as returned by the listing
+     * @param request HTTP request, used to detect container sendfile support
+     * @param response HTTP response receiving the report bytes
+     */
+    @GetMapping("/{fileName}")  // Spring Boot: HTTP GET mapping for investment report download
+    @PreAuthorize("hasRole('INVESTMENT_ANALYST') or hasRole('ADMIN')")  // Spring Boot: Security authorization for investment reports
+    public void downloadReport(@PathVariable String fileName, HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
+        Path file = reportGenerator.resolve(fileName);
+        long size = Files.size(file);
+        response.setContentType(ReportFormat.of(fileName).getMediaType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+        response.setContentLengthLong(size);
+
+        // Spring Boot: Let Tomcat send the file from the kernel once this handler returns
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toRealPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, size);
+            return;
+        }
+
+        // Spring Boot: Without sendfile, transfer channel to channel instead of via a byte[] loop
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, out);
+            }
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.investment.proposal.dto;
 
-import javax.validation.constraints.*;
-import java.math.BigDecimal;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.MoneyRange;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.money.RateRange;
+import jakarta.validation.constraints.*;
 
 /**
  * Investment Proposal Data Transfer Object for API Communication
@@ -16,8 +19,7 @@ public class InvestmentProposalDTO {
      * Spring Boot: DTO field for investment reference with validation constraints
      * Supports investment proposal identification and status monitoring
      */
-    @NotBlank  // Spring Boot: Validation constraint for required investment reference
-    // Prevents investment proposals without reference numbers in API communication
+    // Spring Boot: Optional on create; the server generates a reference when left blank
     @Size(min = 3, max = 20)  // Spring Boot: String length validation for investment reference
     // Ensures investment reference numbers have appropriate length
     private String proposalReference;
@@ -38,22 +40,18 @@ public class InvestmentProposalDTO {
      * Spring Boot: DTO field for investment amount with validation constraints
      * Ensures accurate investment calculations and reporting requirements
      */
-    @DecimalMin(value = "1000.00")  // Spring Boot: Minimum investment validation for risk management
-    // Prevents unrealistically small investment proposals in API communication
-    @DecimalMax(value = "10000000.00")  // Spring Boot: Maximum investment validation for risk control
-    // Prevents excessively large investment proposals in API communication
-    private BigDecimal investmentAmount;
+    @MoneyRange(min = "1000.00", max = "10000000.00")  // Spring Boot: Investment amount bounds for risk management
+    // Prevents unrealistically small or excessively large investment proposals in API communication
+    private Money investmentAmount;
 
     /**
      * Expected return rate for investment performance tracking and analysis
      * Spring Boot: DTO field for expected return with validation constraints
      * Supports investment performance analysis and client reporting requirements
      */
-    @DecimalMin(value = "0.0")  // Spring Boot: Non-negative return validation for investment metrics
-    // Prevents negative expected return values in investment proposals
-    @DecimalMax(value = "100.0")  // Spring Boot: Realistic return validation for investment proposals
-    // Prevents unrealistically high expected return values in API communication
-    private BigDecimal expectedReturn;
+    @RateRange(min = "0.0", max = "100.0")  // Spring Boot: Realistic, non-negative return validation for investment metrics
+    // Prevents negative or unrealistically high expected return values in API communication
+    private Rate expectedReturn;
 
     /**
      * Investment risk level for portfolio management and risk assessment
@@ -78,8 +76,8 @@ public class InvestmentProposalDTO {
      * Spring Boot: DTO field for advisor assignment with validation constraints
      * Ensures proper investment service delivery and professional accountability
      */
-    @NotBlank  // Spring Boot: Validation constraint for required advisor information
-    // Prevents investment proposals without advisor assignments in API communication
+    // Spring Boot: Optional; left blank, the advisor assignment engine picks one
+    // using investment.management.default-advisor-strategy
     private String assignedAdvisor;
 
     // Getters and setters for investment proposal DTO data access
@@ -87,10 +85,10 @@ public class InvestmentProposalDTO {
     public void setProposalReference(String proposalReference) { this.proposalReference = proposalReference; }
     public String getClientName() { return clientName; }
     public void setClientName(String clientName) { this.clientName = clientName; }
-    public BigDecimal getInvestmentAmount() { return investmentAmount; }
-    public void setInvestmentAmount(BigDecimal investmentAmount) { this.investmentAmount = investmentAmount; }
-    public BigDecimal getExpectedReturn() { return expectedReturn; }
-    public void setExpectedReturn(BigDecimal expectedReturn) { this.expectedReturn = expectedReturn; }
+    public Money getInvestmentAmount() { return investmentAmount; }
+    public void setInvestmentAmount(Money investmentAmount) { this.investmentAmount = investmentAmount; }
+    public Rate getExpectedReturn() { return expectedReturn; }
+    public void setExpectedReturn(Rate expectedReturn) { this.expectedReturn = expectedReturn; }
     public String getRiskLevel() { return riskLevel; }
     public void setRiskLevel(String riskLevel) { this.riskLevel = riskLevel; }
     public String getInvestmentType() { return investmentType; }
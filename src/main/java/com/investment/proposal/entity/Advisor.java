@@ -0,0 +1,86 @@
+package com.investment.proposal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Investment Advisor Reference Entity
+ * Spring Boot: Read-only JPA entity for the investment_advisors reference table
+ * Investment proposals reference advisors by id; the entity exists so Hibernate creates
+ * the table and the foreign key, while lookups go through the preloaded ReferenceDataDictionary
+ */
+@Entity  // Spring Boot: JPA Entity annotation for investment advisor mapping
+@Table(name = "investment_advisors")  // Spring Boot: Database table mapping for investment advisors
+@Immutable  // Spring Boot: Hibernate read-only entity; advisors are seeded reference data
+public class Advisor {
+
+    /**
+     * Investment advisor identifier referenced by investment_proposals.advisor_id
+     */
+    @Id  // Spring Boot: Primary key annotation for investment advisor ID
+    private Long id;
+
+    /**
+     * Investment advisor display name, unique across advisors
+     */
+    @Column(nullable = false, unique = true, length = 100)  // Spring Boot: Unique advisor name column
+    private String name;
+
+    /**
+     * Investment advisor contact email
+     */
+    @Column(nullable = false)  // Spring Boot: Required advisor email column
+    private String email;
+
+    /**
+     * Investment type code the advisor specializes in
+     */
+    @Column(nullable = false, length = 50)  // Spring Boot: Required advisor specialization column
+    private String specialization;
+
+    /**
+     * Investment advisor onboarding timestamp
+     */
+    @Column(nullable = false)  // Spring Boot: Required advisor creation timestamp column
+    private LocalDateTime createdAt;
+
+    /**
+     * Default constructor for JPA entity instantiation
+     */
+    protected Advisor() {
+    }
+
+    /**
+     * Constructor for investment advisor reference data
+     *
+     * @param id Investment advisor identifier
+     * @param name Investment advisor display name
+     * @param email Investment advisor contact email
+     * @param specialization Investment type code the advisor specializes in
+     * @param createdAt Investment advisor onboarding timestamp
+     */
+    public Advisor(Long id, String name, String email, String specialization, LocalDateTime createdAt) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.specialization = specialization;
+        this.createdAt = createdAt;
+    }
+
+    // Getters for investment advisor reference data access
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getEmail() { return email; }
+    public String getSpecialization() { return specialization; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    @Override
+    public String toString() {
+        return String.format("Advisor{id=%d, name='%s', specialization=%s}", id, name, specialization);
+    }
+}
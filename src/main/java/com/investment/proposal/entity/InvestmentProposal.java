@@ -1,8 +1,16 @@
 package com.investment.proposal.entity;
 
-import javax.persistence.*;
-import javax.validation.constraints.*;
-import java.math.BigDecimal;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.MoneyRange;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.money.RateRange;
+import com.investment.proposal.reference.ReferenceDataEntityListener;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
@@ -13,8 +21,19 @@ import java.time.LocalDateTime;
  */
 @Entity  // Spring Boot: JPA Entity annotation for database mapping
 // Maps this class to investment_proposals table in database
-@Table(name = "investment_proposals")  // Spring Boot: Database table mapping for investment proposals
+@Table(name = "investment_proposals", indexes = {  // Spring Boot: Database table mapping for investment proposals
+        // Spring Boot: Composite indexes for the common search filter combinations; the leading
+        // advisor_id and investment_type_id columns also serve the foreign key joins
+        @Index(name = "idx_investment_proposals_advisor_status", columnList = "advisor_id, approved, created_at"),
+        @Index(name = "idx_investment_proposals_type_amount", columnList = "investment_type_id, investment_amount"),
+        @Index(name = "idx_investment_proposals_risk_status", columnList = "risk_level, approved, created_at"),
+        @Index(name = "idx_investment_proposals_created", columnList = "created_at, id")  // Spring Boot: Date range and NEWEST order
+})
 // Specifies table name for investment proposal storage
+@EntityListeners(ReferenceDataEntityListener.class)  // Spring Boot: Resolves advisor and type names to foreign keys
+// Translates between API-facing names and reference data ids on persist and load
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "investmentProposal")  // Spring Boot: Second-level cache region
+// Soft-locks entries while a transaction updates them, so readers never see uncommitted state
 public class InvestmentProposal {
 
     /**
@@ -37,8 +56,7 @@ public class InvestmentProposal {
      */
     @Column(unique = true, nullable = false)  // Spring Boot: Database column constraints for investment reference
     // Ensures unique and required investment proposal references
-    @NotBlank  // Spring Boot: Validation constraint for required investment reference
-    // Prevents investment proposals without reference numbers
+    // Spring Boot: Optional on create; ProposalReferenceGenerator assigns one when left blank
     @Size(min = 3, max = 20)  // Spring Boot: String length validation for investment reference
     // Ensures investment reference numbers have appropriate length
     private String proposalReference;
@@ -59,17 +77,15 @@ public class InvestmentProposal {
 
     /**
      * Investment amount for portfolio allocation
-     * Spring Boot: Decimal precision for financial data storage and calculations
+     * Spring Boot: Fixed-point cents, stored in a DECIMAL column through MoneyConverter
      * Ensures accurate investment calculations and reporting requirements
      * Supports investment portfolio analysis and financial compliance
      */
     @Column(nullable = false, precision = 15, scale = 2)  // Spring Boot: Financial data precision for investment amounts
     // Ensures accurate storage of investment financial data
-    @DecimalMin(value = "1000.00")  // Spring Boot: Minimum investment validation for risk management
-    // Prevents unrealistically small investment proposals
-    @DecimalMax(value = "10000000.00")  // Spring Boot: Maximum investment validation for risk control
-    // Prevents excessively large investment proposals
-    private BigDecimal investmentAmount;
+    @MoneyRange(min = "1000.00", max = "10000000.00")  // Spring Boot: Investment amount bounds for risk management
+    // Prevents unrealistically small or excessively large investment proposals
+    private Money investmentAmount;
 
     /**
      * Expected return rate for investment performance tracking
@@ -79,11 +95,9 @@ public class InvestmentProposal {
      */
     @Column(nullable = false)  // Spring Boot: Required expected return data for investment analysis
     // Ensures all investment proposals have expected return information
-    @DecimalMin(value = "0.0")  // Spring Boot: Non-negative return validation for investment metrics
-    // Prevents negative expected return values in investment proposals
-    @DecimalMax(value = "100.0")  // Spring Boot: Realistic return validation for investment proposals
-    // Prevents unrealistically high expected return values
-    private BigDecimal expectedReturn;
+    @RateRange(min = "0.0", max = "100.0")  // Spring Boot: Realistic, non-negative return validation for investment metrics
+    // Prevents negative or unrealistically high expected return values
+    private Rate expectedReturn;
 
     /**
      * Investment risk level for portfolio management and risk assessment
@@ -103,24 +117,59 @@ public class InvestmentProposal {
      * Supports investment diversification and asset allocation strategies
      * Enables investment portfolio analysis and reporting workflows
      */
-    @Column(nullable = false)  // Spring Boot: Required investment type data for investment proposals
-    // Ensures all investment proposals have investment type classification
+    @Transient  // Spring Boot: Resolved from investmentTypeId through the reference data dictionary
+    // Not stored on the proposal row; the row holds only the investment type foreign key
     @NotBlank  // Spring Boot: Validation constraint for required investment category
     // Prevents investment proposals without investment type information
     private String investmentType;
 
+    /**
+     * Investment type foreign key stored on the proposal row
+     * Spring Boot: Integer join column replacing the repeated free-text investment type
+     * Set from investmentType by ReferenceDataEntityListener before insert and update
+     */
+    @Column(name = "investment_type_id", nullable = false)  // Spring Boot: Required investment type foreign key
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)  // Spring Boot: Derived from investmentType on write
+    private Long investmentTypeId;
+
+    /**
+     * Investment type association used for the foreign key constraint and JPQL joins
+     * Spring Boot: Read-only mapping of investment_type_id; never fetched for API responses
+     */
+    @ManyToOne(fetch = FetchType.LAZY)  // Spring Boot: Lazy reference to investment type reference data
+    @JoinColumn(name = "investment_type_id", insertable = false, updatable = false)  // Spring Boot: Shares the FK column
+    @JsonIgnore  // Spring Boot: Keeps lazy proxies out of investment JSON responses
+    private InvestmentType investmentTypeReference;
+
     /**
      * Assigned investment advisor for client service and accountability
      * Spring Boot: Investment advisor relationship tracking for service delivery
      * Ensures proper investment service delivery and professional accountability
      * Supports investment advisor performance tracking and client relationship management
      */
-    @Column(nullable = false)  // Spring Boot: Required advisor assignment for investment proposals
-    // Ensures all investment proposals have assigned advisors
-    @NotBlank  // Spring Boot: Validation constraint for required advisor information
-    // Prevents investment proposals without advisor assignments
+    @Transient  // Spring Boot: Resolved from advisorId through the reference data dictionary
+    // Not stored on the proposal row; the row holds only the advisor foreign key
+    // Optional on create: AdvisorAssignmentEngine assigns one when it is left blank
     private String assignedAdvisor;
 
+    /**
+     * Assigned advisor foreign key stored on the proposal row
+     * Spring Boot: Integer join column replacing the repeated free-text advisor name
+     * Set from assignedAdvisor by ReferenceDataEntityListener before insert and update
+     */
+    @Column(name = "advisor_id", nullable = false)  // Spring Boot: Required advisor foreign key
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)  // Spring Boot: Derived from assignedAdvisor on write
+    private Long advisorId;
+
+    /**
+     * Advisor association used for the foreign key constraint and JPQL joins
+     * Spring Boot: Read-only mapping of advisor_id; never fetched for API responses
+     */
+    @ManyToOne(fetch = FetchType.LAZY)  // Spring Boot: Lazy reference to investment advisor reference data
+    @JoinColumn(name = "advisor_id", insertable = false, updatable = false)  // Spring Boot: Shares the FK column
+    @JsonIgnore  // Spring Boot: Keeps lazy proxies out of investment JSON responses
+    private Advisor advisor;
+
     /**
      * Investment proposal creation timestamp for audit trails and compliance
      * Spring Boot: Automatic timestamp for investment audit trails and historical analysis
@@ -167,8 +216,8 @@ public class InvestmentProposal {
      * @param investmentType Investment type for asset allocation analysis
      * @param assignedAdvisor Assigned advisor for client service and accountability
      */
-    public InvestmentProposal(String proposalReference, String clientName, BigDecimal investmentAmount,
-                              BigDecimal expectedReturn, RiskLevel riskLevel, String investmentType, String assignedAdvisor) {
+    public InvestmentProposal(String proposalReference, String clientName, Money investmentAmount,
+                              Rate expectedReturn, RiskLevel riskLevel, String investmentType, String assignedAdvisor) {
         // Spring Boot: Call default constructor for timestamp initialization
         // Ensures investment proposal has automatic creation timestamp
         this();
@@ -190,16 +239,20 @@ public class InvestmentProposal {
     public void setProposalReference(String proposalReference) { this.proposalReference = proposalReference; }
     public String getClientName() { return clientName; }
     public void setClientName(String clientName) { this.clientName = clientName; }
-    public BigDecimal getInvestmentAmount() { return investmentAmount; }
-    public void setInvestmentAmount(BigDecimal investmentAmount) { this.investmentAmount = investmentAmount; }
-    public BigDecimal getExpectedReturn() { return expectedReturn; }
-    public void setExpectedReturn(BigDecimal expectedReturn) { this.expectedReturn = expectedReturn; }
+    public Money getInvestmentAmount() { return investmentAmount; }
+    public void setInvestmentAmount(Money investmentAmount) { this.investmentAmount = investmentAmount; }
+    public Rate getExpectedReturn() { return expectedReturn; }
+    public void setExpectedReturn(Rate expectedReturn) { this.expectedReturn = expectedReturn; }
     public RiskLevel getRiskLevel() { return riskLevel; }
     public void setRiskLevel(RiskLevel riskLevel) { this.riskLevel = riskLevel; }
     public String getInvestmentType() { return investmentType; }
     public void setInvestmentType(String investmentType) { this.investmentType = investmentType; }
     public String getAssignedAdvisor() { return assignedAdvisor; }
     public void setAssignedAdvisor(String assignedAdvisor) { this.assignedAdvisor = assignedAdvisor; }
+    public Long getInvestmentTypeId() { return investmentTypeId; }
+    public void setInvestmentTypeId(Long investmentTypeId) { this.investmentTypeId = investmentTypeId; }
+    public Long getAdvisorId() { return advisorId; }
+    public void setAdvisorId(Long advisorId) { this.advisorId = advisorId; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public Boolean getApproved() { return approved; }
@@ -218,16 +271,4 @@ public class InvestmentProposal {
         return String.format("InvestmentProposal{id=%d, reference='%s', client='%s', amount=%s, return=%s%%, risk=%s, approved=%s}",
                 id, proposalReference, clientName, investmentAmount, expectedReturn, riskLevel, approved);
     }
-}
-
-/**
- * Risk Level Enum for Investment Categorization
- * Spring Boot: Enum for investment risk classification and portfolio management
- * Supports investment portfolio management and risk assessment workflows
- * Enables investment risk-based analysis and regulatory compliance
- */
-enum RiskLevel {
-    LOW,      // Conservative investment strategies with minimal risk
-    MEDIUM,   // Balanced investment approaches with moderate risk
-    HIGH      // Aggressive investment opportunities with elevated risk
 }
\ No newline at end of file
@@ -0,0 +1,66 @@
+package com.investment.proposal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Investment Type Reference Entity
+ * Spring Boot: Read-only JPA entity for the investment_types reference table
+ * Replaces the free-text investment type stored on every proposal row with a small
+ * integer foreign key; lookups go through the preloaded ReferenceDataDictionary
+ */
+@Entity  // Spring Boot: JPA Entity annotation for investment type mapping
+@Table(name = "investment_types")  // Spring Boot: Database table mapping for investment types
+@Immutable  // Spring Boot: Hibernate read-only entity; investment types are seeded reference data
+public class InvestmentType {
+
+    /**
+     * Investment type identifier referenced by investment_proposals.investment_type_id
+     */
+    @Id  // Spring Boot: Primary key annotation for investment type ID
+    private Long id;
+
+    /**
+     * Investment type code exposed through the API, e.g. STOCKS
+     */
+    @Column(nullable = false, unique = true, length = 50)  // Spring Boot: Unique investment type code column
+    private String code;
+
+    /**
+     * Human readable investment type description
+     */
+    @Column  // Spring Boot: Optional investment type description column
+    private String description;
+
+    /**
+     * Default constructor for JPA entity instantiation
+     */
+    protected InvestmentType() {
+    }
+
+    /**
+     * Constructor for investment type reference data
+     *
+     * @param id Investment type identifier
+     * @param code Investment type code
+     * @param description Investment type description
+     */
+    public InvestmentType(Long id, String code, String description) {
+        this.id = id;
+        this.code = code;
+        this.description = description;
+    }
+
+    // Getters for investment type reference data access
+    public Long getId() { return id; }
+    public String getCode() { return code; }
+    public String getDescription() { return description; }
+
+    @Override
+    public String toString() {
+        return String.format("InvestmentType{id=%d, code='%s'}", id, code);
+    }
+}
@@ -0,0 +1,13 @@
+package com.investment.proposal.entity;
+
+/**
+ * Risk Level Enum for Investment Categorization
+ * Spring Boot: Enum for investment risk classification and portfolio management
+ * Supports investment portfolio management and risk assessment workflows
+ * Enables investment risk-based analysis and regulatory compliance
+ */
+public enum RiskLevel {
+    LOW,      // Conservative investment strategies with minimal risk
+    MEDIUM,   // Balanced investment approaches with moderate risk
+    HIGH      // Aggressive investment opportunities with elevated risk
+}
\ No newline at end of file
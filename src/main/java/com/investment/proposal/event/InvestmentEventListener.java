@@ -79,4 +79,15 @@ public class InvestmentEventListener {
         // Enables investment system integration with data governance and compliance workflows
         // Additional integration logic can be implemented here for investment data removal
     }
+
+    /**
+     * Handle investment proposals archived by the retention job
+     * Spring Boot: Event listener for investment retention moves, which are not deletions
+     *
+     * @param event InvestmentProposalsArchivedEvent with the ids of one archived chunk
+     */
+    @EventListener  // Spring Boot: Event listener for investment archive events
+    public void handleInvestmentProposalsArchived(InvestmentProposalsArchivedEvent event) {
+        System.out.println("Investment proposals archived: " + event.getProposalIds().size());
+    }
 }
\ No newline at end of file
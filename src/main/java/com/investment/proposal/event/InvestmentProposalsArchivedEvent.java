@@ -0,0 +1,30 @@
+package com.investment.proposal.event;
+
+import java.util.List;
+
+/**
+ * Investment Proposals Archived Event for Retention Moves
+ * Spring Boot: Application event published once per chunk moved by the retention archive job
+ * Archived proposals are not deleted by a user: their rows live on in the archive table, so
+ * in-memory investment views only drop the ids, and audit consumers can tell the two apart
+ */
+public class InvestmentProposalsArchivedEvent {
+
+    private final List<Long> proposalIds;
+    private final List<String> proposalReferences;
+
+    /**
+     * Constructor for investment proposals archived event
+     *
+     * @param proposalIds Ids of the archived investment proposals, in id order
+     * @param proposalReferences References of the same proposals, in the same order
+     */
+    public InvestmentProposalsArchivedEvent(List<Long> proposalIds, List<String> proposalReferences) {
+        this.proposalIds = List.copyOf(proposalIds);
+        this.proposalReferences = List.copyOf(proposalReferences);
+    }
+
+    // Getters for investment archive event data access
+    public List<Long> getProposalIds() { return proposalIds; }
+    public List<String> getProposalReferences() { return proposalReferences; }
+}
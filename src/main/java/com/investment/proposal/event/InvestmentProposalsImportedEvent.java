@@ -0,0 +1,34 @@
+package com.investment.proposal.event;
+
+import com.investment.proposal.money.Money;
+
+/**
+ * Investment Proposals Imported Event for Bulk Loads
+ * Spring Boot: Application event published once when a bulk import finishes
+ * Bulk imports insert through batched JDBC and publish no per-row creation events, so
+ * in-memory investment views listen for this event and resynchronize in one step
+ */
+public class InvestmentProposalsImportedEvent {
+
+    private final String importId;
+    private final long importedCount;
+    private final Money importedAmount;
+
+    /**
+     * Constructor for investment proposals imported event
+     *
+     * @param importId Import job identifier
+     * @param importedCount Investment proposals inserted by the job
+     * @param importedAmount Total investment amount of the inserted proposals
+     */
+    public InvestmentProposalsImportedEvent(String importId, long importedCount, Money importedAmount) {
+        this.importId = importId;
+        this.importedCount = importedCount;
+        this.importedAmount = importedAmount;
+    }
+
+    // Getters for investment import event data access
+    public String getImportId() { return importId; }
+    public long getImportedCount() { return importedCount; }
+    public Money getImportedAmount() { return importedAmount; }
+}
@@ -0,0 +1,50 @@
+package com.investment.proposal.eventlog;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Investment Event Log Actuator Endpoint
+ * Spring Boot: /actuator/eventlog for log statistics and /actuator/eventlog/{sequence} for audit reads
+ * Audit reads return the events still on disk from the given sequence onwards; events in
+ * segments already removed by compaction are only reflected in the snapshots.
+ */
+@Component  // Spring Boot: Component annotation for the investment event log endpoint
+@ConditionalOnProperty(prefix = "investment.management.event-log", name = "enabled",
+        havingValue = "true", matchIfMissing = true)  // Spring Boot: Only when the event log is enabled
+@Endpoint(id = "eventlog")  // Spring Boot: Actuator endpoint for the investment event log
+public class EventLogEndpoint {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired  // Spring Boot: Event log injection for investment audit reads
+    private ProposalEventLog proposalEventLog;
+
+    /**
+     * Log position, replay cost and the source of the live state
+     *
+     * @return Investment event log statistics
+     */
+    @ReadOperation  // Spring Boot: GET operation for investment event log statistics
+    public Map<String, Object> statistics() {
+        return proposalEventLog.statistics();
+    }
+
+    /**
+     * Logged events starting at a sequence
+     *
+     * @param sequence First sequence wanted
+     * @return Up to 100 events in sequence order
+     */
+    @ReadOperation  // Spring Boot: GET operation for investment audit trail pages
+    public List<Map<String, Object>> events(@Selector long sequence) {
+        return proposalEventLog.read(sequence, PAGE_SIZE);
+    }
+}
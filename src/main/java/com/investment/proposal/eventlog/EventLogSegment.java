@@ -0,0 +1,232 @@
+package com.investment.proposal.eventlog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * Memory-Mapped Investment Event Log Segment
+ * Spring Boot: One fixed-size segment file of CRC-framed event records
+ * Each record is framed as [int body length][int CRC32C of body][body], and the body is
+ * [long sequence][byte event type][long recorded-at millis][proposal image]. The file is
+ * zero-filled when created, so a zero length marks the end of the written records.
+ *
+ * Appends are plain stores into the mapping; the operating system writes them back, so a
+ * record survives a process crash as soon as append returns and a power loss after
+ * {@link #force()}. A record torn by a crash fails its CRC and is cut off on recovery.
+ */
+public final class EventLogSegment implements Closeable {
+
+    /**
+     * Length and CRC words in front of every record body
+     */
+    public static final int FRAME_HEADER = 2 * Integer.BYTES;
+
+    /**
+     * Sequence, type and timestamp at the start of every record body
+     */
+    public static final int BODY_HEADER = Long.BYTES + Byte.BYTES + Long.BYTES;
+
+    private final Path file;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+    private int position;
+    private long lastSequence = -1;
+
+    private EventLogSegment(Path file, long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.file = file;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Map a segment file for reading and appending, creating it if needed
+     *
+     * @param file Segment file
+     * @param firstSequence Sequence of the first record the segment was created for
+     * @param size Mapped size in bytes; existing larger files keep their size
+     * @return Open segment positioned at its start; call {@link #recover} before appending
+     */
+    public static EventLogSegment open(Path file, long firstSequence, int size) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            long mapped = Math.max(size, channel.size());
+            if (mapped > Integer.MAX_VALUE) {
+                throw new IOException("Investment event log segment larger than 2 GB: " + file);
+            }
+            return new EventLogSegment(file, firstSequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mapped));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Visit every valid record of a segment file without modifying it
+     *
+     * @param file Segment file
+     * @param visitor Record callback; returning false stops the scan
+     */
+    public static void read(Path file, RecordVisitor visitor) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            scan(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), channel.size(), new CRC32C(), visitor);
+        }
+    }
+
+    /**
+     * Visit the valid records and move the append position behind the last one
+     * Spring Boot: A torn or corrupt record and everything after it are zeroed
+     *
+     * @param visitor Record callback; must not stop the scan early
+     * @return True if the segment ended cleanly, false if a bad record was cut off
+     */
+    public boolean recover(RecordVisitor visitor) {
+        long[] last = {-1};
+        int end = scan(buffer, buffer.capacity(), crc, (sequence, type, recordedAt, payload) -> {
+            last[0] = sequence;
+            return visitor.visit(sequence, type, recordedAt, payload);
+        });
+        position = end;
+        lastSequence = last[0];
+        boolean clean = end + FRAME_HEADER > buffer.capacity() || buffer.getInt(end) == 0;
+        if (!clean) {
+            byte[] zeros = new byte[64 * 1024];
+            for (int offset = end; offset < buffer.capacity(); offset += zeros.length) {
+                buffer.put(offset, zeros, 0, Math.min(zeros.length, buffer.capacity() - offset));
+            }
+        }
+        return clean;
+    }
+
+    /**
+     * Visit the records appended so far
+     *
+     * @param visitor Record callback; returning false stops the scan
+     */
+    public void read(RecordVisitor visitor) {
+        scan(buffer, position, new CRC32C(), visitor);
+    }
+
+    /**
+     * Append one record
+     *
+     * @param sequence Record sequence, greater than every earlier one
+     * @param type Event type
+     * @param recordedAt Epoch millis the event was logged at
+     * @param payload Proposal image between position and limit; not consumed
+     * @return False if the record does not fit in the remaining space
+     */
+    public boolean append(long sequence, ProposalEventType type, long recordedAt, ByteBuffer payload) {
+        int bodyLength = BODY_HEADER + payload.remaining();
+        if ((long) position + FRAME_HEADER + bodyLength > buffer.capacity()) {
+            return false;
+        }
+        int body = position + FRAME_HEADER;
+        buffer.putLong(body, sequence);
+        buffer.put(body + Long.BYTES, type.getCode());
+        buffer.putLong(body + Long.BYTES + Byte.BYTES, recordedAt);
+        buffer.put(body + BODY_HEADER, payload, payload.position(), payload.remaining());
+
+        crc.reset();
+        crc.update(buffer.slice(body, bodyLength));
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        // Spring Boot: The length goes in last so a reader never sees a framed record without its body
+        buffer.putInt(position, bodyLength);
+        position = body + bodyLength;
+        lastSequence = sequence;
+        return true;
+    }
+
+    /**
+     * Flush appended records to the storage device
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public long getFirstSequence() {
+        return firstSequence;
+    }
+
+    /**
+     * Sequence of the last valid record, or -1 if the segment is empty
+     */
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Walk framed records until the end marker or the first invalid frame
+     *
+     * @return Offset just past the last valid record
+     */
+    private static int scan(ByteBuffer buffer, long limit, CRC32C crc, RecordVisitor visitor) {
+        int end = (int) Math.min(limit, buffer.capacity());
+        // Spring Boot: One reusable view serves every record, so the scan allocates nothing per record
+        ByteBuffer view = buffer.duplicate();
+        int offset = 0;
+        while (offset + FRAME_HEADER + BODY_HEADER <= end) {
+            int bodyLength = buffer.getInt(offset);
+            if (bodyLength < BODY_HEADER || bodyLength > end - offset - FRAME_HEADER) {
+                break;
+            }
+            int body = offset + FRAME_HEADER;
+            view.limit(body + bodyLength).position(body);
+            crc.reset();
+            crc.update(view);
+            ProposalEventType type = ProposalEventType.fromCode(buffer.get(body + Long.BYTES));
+            if ((int) crc.getValue() != buffer.getInt(offset + Integer.BYTES) || type == null) {
+                break;
+            }
+            view.position(body + BODY_HEADER);
+            boolean proceed = visitor.visit(buffer.getLong(body), type, buffer.getLong(body + Long.BYTES + Byte.BYTES), view);
+            offset = body + bodyLength;
+            if (!proceed) {
+                break;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Callback receiving the records of a segment in append order
+     */
+    @FunctionalInterface
+    public interface RecordVisitor {
+
+        /**
+         * @param sequence Record sequence
+         * @param type Event type
+         * @param recordedAt Epoch millis the event was logged at
+         * @param payload Proposal image between position and limit; only valid during the call
+         * @return True to continue with the next record
+         */
+        boolean visit(long sequence, ProposalEventType type, long recordedAt, ByteBuffer payload);
+    }
+}
@@ -0,0 +1,151 @@
+package com.investment.proposal.eventlog;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Binary Codec for Investment Proposal Images
+ * Spring Boot: Fixed field order encoding shared by event log records and snapshots
+ * Amounts and returns are written as their fixed-point longs, timestamps as epoch seconds
+ * and nanos, and strings as length-prefixed UTF-8, so decoding never parses text numbers.
+ * Reference data names are stored next to their ids so the log reads as an audit trail
+ * without the reference tables.
+ */
+public final class ProposalEventCodec {
+
+    /**
+     * Upper bound of one encoded proposal: four strings of at most 65534 bytes plus fixed fields
+     */
+    public static final int MAX_ENCODED_SIZE = 4 * (Short.BYTES + 65534) + 64;
+
+    private static final long ABSENT = Long.MIN_VALUE;
+    private static final int NULL_STRING = 0xFFFF;
+    private static final RiskLevel[] RISK_LEVELS = RiskLevel.values();
+
+    private ProposalEventCodec() {
+    }
+
+    /**
+     * Write the full state of a proposal
+     *
+     * @param proposal Investment proposal to encode
+     * @param target Buffer receiving the image at its position
+     */
+    public static void encode(InvestmentProposal proposal, ByteBuffer target) {
+        target.putLong(orAbsent(proposal.getId()));
+        putString(target, proposal.getProposalReference());
+        putString(target, proposal.getClientName());
+        target.putLong(proposal.getInvestmentAmount() == null ? ABSENT : proposal.getInvestmentAmount().getCents());
+        target.putLong(proposal.getExpectedReturn() == null ? ABSENT : proposal.getExpectedReturn().getBasisPoints());
+        target.put(proposal.getRiskLevel() == null ? -1 : (byte) proposal.getRiskLevel().ordinal());
+        target.putLong(orAbsent(proposal.getInvestmentTypeId()));
+        putString(target, proposal.getInvestmentType());
+        target.putLong(orAbsent(proposal.getAdvisorId()));
+        putString(target, proposal.getAssignedAdvisor());
+        LocalDateTime createdAt = proposal.getCreatedAt();
+        target.putLong(createdAt == null ? ABSENT : createdAt.toEpochSecond(ZoneOffset.UTC));
+        target.putInt(createdAt == null ? 0 : createdAt.getNano());
+        target.put(proposal.getApproved() == null ? -1 : (byte) (proposal.getApproved() ? 1 : 0));
+    }
+
+    /**
+     * Read a proposal image written by {@link #encode}
+     *
+     * @param source Buffer positioned at the image; advanced past it
+     * @return Detached investment proposal
+     */
+    public static InvestmentProposal decode(ByteBuffer source) {
+        InvestmentProposal proposal = new InvestmentProposal();
+        proposal.setId(orNull(source.getLong()));
+        proposal.setProposalReference(getString(source));
+        proposal.setClientName(getString(source));
+        long cents = source.getLong();
+        proposal.setInvestmentAmount(cents == ABSENT ? null : Money.ofCents(cents));
+        long basisPoints = source.getLong();
+        proposal.setExpectedReturn(basisPoints == ABSENT ? null : Rate.ofBasisPoints(basisPoints));
+        byte riskLevel = source.get();
+        proposal.setRiskLevel(riskLevel < 0 ? null : RISK_LEVELS[riskLevel]);
+        proposal.setInvestmentTypeId(orNull(source.getLong()));
+        proposal.setInvestmentType(getString(source));
+        proposal.setAdvisorId(orNull(source.getLong()));
+        proposal.setAssignedAdvisor(getString(source));
+        long epochSecond = source.getLong();
+        int nano = source.getInt();
+        proposal.setCreatedAt(epochSecond == ABSENT ? null : LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+        byte approved = source.get();
+        proposal.setApproved(approved < 0 ? null : approved == 1);
+        return proposal;
+    }
+
+    /**
+     * Proposal id of an image, read without decoding the rest
+     */
+    public static long idOf(ByteBuffer image) {
+        return image.getLong(image.position());
+    }
+
+    /**
+     * Investment amount in cents of an image, or 0 if absent
+     */
+    public static long centsOf(ByteBuffer image) {
+        int offset = image.position() + Long.BYTES;
+        offset += stringBytes(image, offset);
+        offset += stringBytes(image, offset);
+        long cents = image.getLong(offset);
+        return cents == ABSENT ? 0 : cents;
+    }
+
+    /**
+     * Whether an image is of an approved proposal
+     */
+    public static boolean isApproved(ByteBuffer image) {
+        // Spring Boot: The approval flag is the last field of every image
+        return image.get(image.limit() - 1) == 1;
+    }
+
+    private static void putString(ByteBuffer target, String value) {
+        if (value == null) {
+            target.putShort((short) NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= NULL_STRING) {
+            throw new IllegalArgumentException("Investment event log string longer than 65534 bytes");
+        }
+        target.putShort((short) bytes.length);
+        target.put(bytes);
+    }
+
+    private static String getString(ByteBuffer source) {
+        int length = Short.toUnsignedInt(source.getShort());
+        if (length == NULL_STRING) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Encoded size of the string starting at an offset, including its length prefix
+     */
+    private static int stringBytes(ByteBuffer source, int offset) {
+        int length = Short.toUnsignedInt(source.getShort(offset));
+        return Short.BYTES + (length == NULL_STRING ? 0 : length);
+    }
+
+    private static long orAbsent(Long value) {
+        return value == null ? ABSENT : value;
+    }
+
+    private static Long orNull(long value) {
+        return value == ABSENT ? null : value;
+    }
+}
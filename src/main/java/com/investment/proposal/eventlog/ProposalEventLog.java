@@ -0,0 +1,595 @@
+package com.investment.proposal.eventlog;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.event.InvestmentProposalsImportedEvent;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.service.InvestmentProposalService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Investment Proposal Event Log
+ * Spring Boot: Append-only log of proposal lifecycle events with snapshot-based replay
+ * Every created, status changed and deleted event is appended after commit to the active
+ * memory-mapped segment (see EventLogSegment), and the live proposal state the log implies
+ * is kept alongside as one encoded image per proposal. Replay therefore only checks CRCs and
+ * copies bytes; images are decoded into proposals once, when {@link #currentProposals()} is
+ * read. Every snapshot-interval events the images are written to a snapshot file, and
+ * segments covered by the oldest retained snapshot are deleted.
+ *
+ * On startup the newest valid snapshot is loaded and the segments after it are replayed.
+ * The result is checked against a one-row aggregate of the proposal table; when it matches,
+ * the startup rebuilds of analytics, facets, leaderboards, flows and advisor loads read
+ * {@link #currentProposals()} instead of each loading the table. When it does not (a fresh
+ * in-memory database, a gap left by a damaged segment, sharded storage) the state is
+ * re-based on the table and a new snapshot is written. A log that describes another table
+ * is first moved to a superseded-* subdirectory, so its records stay on disk but never mix
+ * with proposals that reuse their ids. Bulk imports publish no per-row events, so they
+ * re-base the log the same way.
+ */
+@Component  // Spring Boot: Component annotation for the investment event log
+public class ProposalEventLog {
+
+    private static final String SEGMENT_PREFIX = "events-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String SUPERSEDED_PREFIX = "superseded-";
+    private static final DateTimeFormatter SUPERSEDED_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final String FINGERPRINT_SQL = "SELECT COUNT(*), COALESCE(SUM(id), 0),"
+            + " COALESCE(SUM(CASE WHEN approved THEN id ELSE 0 END), 0), COALESCE(SUM(investment_amount), 0)"
+            + " FROM investment_proposals";
+
+    /**
+     * Investment proposal service used to re-base the log on the proposal table
+     * Spring Boot: Lazy to break the service -> assignment engine -> tracker -> log cycle
+     */
+    @Lazy
+    @Autowired  // Spring Boot: Service dependency injection for investment event log re-basing
+    private InvestmentProposalService investmentProposalService;
+
+    @Autowired  // Spring Boot: JDBC template injection for the investment table fingerprint query
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment event log settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    private final ByteBuffer scratch = ByteBuffer.allocate(ProposalEventCodec.MAX_ENCODED_SIZE);
+    private final ProposalImageStore images = new ProposalImageStore();
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private List<InvestmentProposal> sortedView;
+
+    private boolean initialized;
+    private boolean usable;
+    private Path directory;
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private EventLogSegment active;
+    private long nextSequence = 1;
+    private long snapshotSequence;
+    private long eventsSinceSnapshot;
+    private long appendedEvents;
+    private String stateSource = "none";
+    private long replayedEvents;
+    private long replayNanos;
+
+    /**
+     * Open and replay the log once the application is ready
+     * Spring Boot: Runs first so the other startup rebuilds can read the replayed state
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)  // Spring Boot: Startup listener for investment event log replay
+    public synchronized void open() {
+        ensureOpen();
+    }
+
+    /**
+     * Live proposals, from the replayed log when it matches the proposal table
+     * Spring Boot: Falls back to the proposal service when the log is disabled or unusable
+     *
+     * @return Investment proposals ordered by id; log-backed lists are read-only
+     */
+    public synchronized List<InvestmentProposal> currentProposals() {
+        if (!ensureOpen()) {
+            return investmentProposalService.loadAllInvestmentProposals();
+        }
+        if (sortedView == null) {
+            long[] ids = images.sortedIds();
+            List<InvestmentProposal> sorted = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                sorted.add(ProposalEventCodec.decode(images.get(id)));
+            }
+            sortedView = Collections.unmodifiableList(sorted);
+        }
+        return sortedView;
+    }
+
+    /**
+     * Log a created investment proposal
+     * Spring Boot: Applied after the creating transaction commits
+     *
+     * @param event Investment proposal creation event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment creation
+    public synchronized void onProposalCreated(InvestmentProposalCreatedEvent event) {
+        append(ProposalEventType.CREATED, event.getProposal());
+    }
+
+    /**
+     * Log an approval status change
+     * Spring Boot: Applied after the updating transaction commits
+     *
+     * @param event Investment proposal status change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment status changes
+    public synchronized void onProposalStatusChanged(InvestmentProposalStatusChangedEvent event) {
+        append(ProposalEventType.STATUS_CHANGED, event.getProposal());
+    }
+
+    /**
+     * Log a deleted investment proposal
+     * Spring Boot: Applied after the deleting transaction commits
+     *
+     * @param event Investment proposal deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment deletion
+    public synchronized void onProposalDeleted(InvestmentProposalDeletedEvent event) {
+        append(ProposalEventType.DELETED, event.getProposal());
+    }
+
+    /**
+     * Log investment proposals moved to the retention archive
+     * Spring Boot: One ARCHIVED record per proposal, carrying only its id and reference
+     *
+     * @param event Investment proposals archived event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment archiving
+    public synchronized void onProposalsArchived(InvestmentProposalsArchivedEvent event) {
+        List<Long> ids = event.getProposalIds();
+        List<String> references = event.getProposalReferences();
+        for (int i = 0; i < ids.size(); i++) {
+            InvestmentProposal archived = new InvestmentProposal();
+            archived.setId(ids.get(i));
+            archived.setProposalReference(references.get(i));
+            append(ProposalEventType.ARCHIVED, archived);
+        }
+    }
+
+    /**
+     * Re-base the log on the proposal table after a bulk import
+     * Spring Boot: Runs before the other import listeners so their rebuilds see the imported rows
+     *
+     * @param event Investment bulk import completion event
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener  // Spring Boot: Listener for investment bulk import completion
+    public synchronized void onProposalsImported(InvestmentProposalsImportedEvent event) {
+        if (ensureOpen()) {
+            rebase("bulk import");
+        }
+    }
+
+    /**
+     * Logged events in sequence order, for audit queries
+     *
+     * @param fromSequence First sequence wanted
+     * @param limit Maximum number of events
+     * @return Sequence, type, log time and proposal image of each event still on disk
+     */
+    public synchronized List<Map<String, Object>> read(long fromSequence, int limit) {
+        List<Map<String, Object>> events = new ArrayList<>();
+        if (!ensureOpen() || limit <= 0) {
+            return events;
+        }
+        Long start = segments.floorKey(fromSequence);
+        EventLogSegment.RecordVisitor collector = (sequence, type, recordedAt, payload) -> {
+            if (sequence >= fromSequence) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("sequence", sequence);
+                entry.put("type", type);
+                entry.put("recordedAt", Instant.ofEpochMilli(recordedAt).toString());
+                if (type == ProposalEventType.ARCHIVED) {
+                    // Spring Boot: Archive records hold no proposal state, only which row was moved
+                    InvestmentProposal archived = ProposalEventCodec.decode(payload);
+                    entry.put("proposalId", archived.getId());
+                    entry.put("proposalReference", archived.getProposalReference());
+                } else {
+                    entry.put("proposal", ProposalEventCodec.decode(payload));
+                }
+                events.add(entry);
+            }
+            return events.size() < limit;
+        };
+        for (Map.Entry<Long, Path> segment : segments.tailMap(start == null ? Long.MIN_VALUE : start, true).entrySet()) {
+            if (events.size() >= limit) {
+                break;
+            }
+            try {
+                if (segment.getKey() == active.getFirstSequence()) {
+                    active.read(collector);
+                } else {
+                    EventLogSegment.read(segment.getValue(), collector);
+                }
+            } catch (IOException e) {
+                System.err.println("Investment event log could not read " + segment.getValue() + ": " + e.getMessage());
+            }
+        }
+        return events;
+    }
+
+    /**
+     * Log position, replay cost and where the live state came from
+     */
+    public synchronized Map<String, Object> statistics() {
+        Map<String, Object> statistics = new LinkedHashMap<>();
+        statistics.put("enabled", investmentProperties.getEventLog().isEnabled());
+        statistics.put("usable", initialized && usable);
+        statistics.put("directory", directory == null ? null : directory.toString());
+        statistics.put("stateSource", stateSource);
+        statistics.put("nextSequence", nextSequence);
+        statistics.put("snapshotSequence", snapshotSequence);
+        statistics.put("eventsSinceSnapshot", eventsSinceSnapshot);
+        statistics.put("appendedEvents", appendedEvents);
+        statistics.put("liveProposals", images.size());
+        statistics.put("segments", segments.size());
+        statistics.put("activeSegmentBytes", active == null ? 0 : active.getPosition());
+        statistics.put("replayedEvents", replayedEvents);
+        statistics.put("replayMillis", replayNanos / 1_000_000.0);
+        statistics.put("replayEventsPerSecond", replayNanos == 0 ? 0.0 : replayedEvents * 1e9 / replayNanos);
+        return statistics;
+    }
+
+    /**
+     * Flush and release the log files
+     */
+    @PreDestroy  // Spring Boot: Shutdown hook flushing the investment event log
+    public synchronized void close() {
+        try {
+            if (active != null) {
+                active.force();
+                active.close();
+            }
+            if (lock != null) {
+                lock.release();
+            }
+            if (lockChannel != null) {
+                lockChannel.close();
+            }
+        } catch (IOException e) {
+            System.err.println("Investment event log did not close cleanly: " + e.getMessage());
+        } finally {
+            active = null;
+            lock = null;
+            lockChannel = null;
+            usable = false;
+        }
+    }
+
+    private void append(ProposalEventType type, InvestmentProposal proposal) {
+        if (!ensureOpen() || proposal.getId() == null) {
+            return;
+        }
+        scratch.clear();
+        ProposalEventCodec.encode(proposal, scratch);
+        scratch.flip();
+        long sequence = nextSequence;
+        try {
+            if (!active.append(sequence, type, System.currentTimeMillis(), scratch)) {
+                roll(sequence);
+                if (!active.append(sequence, type, System.currentTimeMillis(), scratch)) {
+                    throw new IOException("Investment event record larger than a segment: " + scratch.remaining() + " bytes");
+                }
+            }
+            if (investmentProperties.getEventLog().isForceOnAppend()) {
+                active.force();
+            }
+            nextSequence++;
+            appendedEvents++;
+            apply(type, scratch);
+            if (++eventsSinceSnapshot >= investmentProperties.getEventLog().getSnapshotInterval()) {
+                snapshot();
+            }
+        } catch (IOException e) {
+            fail("append of event " + sequence, e);
+        }
+    }
+
+    private void apply(ProposalEventType type, ByteBuffer payload) {
+        if (type == ProposalEventType.DELETED || type == ProposalEventType.ARCHIVED) {
+            images.remove(ProposalEventCodec.idOf(payload));
+        } else {
+            images.put(ProposalEventCodec.idOf(payload), payload);
+        }
+        sortedView = null;
+    }
+
+    /**
+     * Open the directory, load the newest snapshot and replay the segments after it
+     *
+     * @return True if the log is usable
+     */
+    private boolean ensureOpen() {
+        if (initialized) {
+            return usable;
+        }
+        initialized = true;
+        InvestmentConfig.InvestmentManagementProperties.EventLog settings = investmentProperties.getEventLog();
+        if (!settings.isEnabled()) {
+            return false;
+        }
+        try {
+            directory = Paths.get(settings.getDirectory());
+            Files.createDirectories(directory);
+            if (!lockDirectory()) {
+                System.err.println("Investment event log directory is used by another instance: " + directory);
+                return false;
+            }
+            boolean complete = replay(settings.getSegmentSize());
+            usable = true;
+            if (!complete) {
+                rebase("gap in the replayed events");
+            } else if (investmentProperties.getSharding().isEnabled()) {
+                rebase("sharded storage");
+            } else if (!matchesTable()) {
+                // Spring Boot: Only a log describing another table is set aside; the two re-bases
+                // above keep their history, which still belongs to the proposals in storage
+                moveChainAside();
+                rebase("proposal table differs from the log");
+            } else {
+                stateSource = "log";
+            }
+            System.out.println("Opened investment event log: " + replayedEvents + " events replayed in "
+                    + replayNanos / 1_000_000 + " ms, " + images.size() + " live proposals from " + stateSource);
+        } catch (IOException | RuntimeException e) {
+            fail("open", e);
+        }
+        return usable;
+    }
+
+    private boolean lockDirectory() throws IOException {
+        lockChannel = FileChannel.open(directory.resolve("LOCK"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        }
+        if (lock == null) {
+            lockChannel.close();
+            lockChannel = null;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Load the newest valid snapshot and apply the records after it
+     *
+     * @return False if records between the snapshot and the log end are missing
+     */
+    private boolean replay(int segmentSize) throws IOException {
+        long started = System.nanoTime();
+        images.clear();
+        snapshotSequence = 0;
+        for (Path snapshot : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).descendingMap().values()) {
+            try {
+                snapshotSequence = ProposalSnapshotFile.read(snapshot,
+                        image -> images.put(ProposalEventCodec.idOf(image), image));
+                break;
+            } catch (IOException e) {
+                images.clear();
+                System.err.println("Investment event log skipped snapshot " + snapshot + ": " + e.getMessage());
+            }
+        }
+
+        segments.putAll(list(SEGMENT_PREFIX, SEGMENT_SUFFIX));
+        long[] expected = {snapshotSequence + 1};
+        long[] highest = {snapshotSequence};
+        boolean[] complete = {true};
+        long[] applied = {0};
+        EventLogSegment.RecordVisitor replayer = (sequence, type, recordedAt, payload) -> {
+            highest[0] = Math.max(highest[0], sequence);
+            if (sequence == expected[0] && complete[0]) {
+                apply(type, payload);
+                expected[0]++;
+                applied[0]++;
+            } else if (sequence > snapshotSequence) {
+                complete[0] = false;
+            }
+            return true;
+        };
+        for (Map.Entry<Long, Path> segment : segments.entrySet()) {
+            Long following = segments.higherKey(segment.getKey());
+            if (following == null) {
+                active = EventLogSegment.open(segment.getValue(), segment.getKey(), segmentSize);
+                if (!active.recover(replayer)) {
+                    System.err.println("Investment event log cut off a torn record in " + segment.getValue());
+                }
+            } else if (following > snapshotSequence + 1) {
+                // Spring Boot: Segments entirely before the snapshot are not even read
+                EventLogSegment.read(segment.getValue(), replayer);
+            }
+        }
+        nextSequence = highest[0] + 1;
+        if (active == null) {
+            roll(nextSequence);
+        }
+        eventsSinceSnapshot = nextSequence - 1 - snapshotSequence;
+        replayedEvents = applied[0];
+        replayNanos = System.nanoTime() - started;
+        return complete[0];
+    }
+
+    /**
+     * Whether the replayed state has the proposal table's count, id sums and amount total
+     */
+    private boolean matchesTable() {
+        long[] state = new long[3];
+        images.forEach((id, image) -> {
+            state[0] += id;
+            state[1] += ProposalEventCodec.isApproved(image) ? id : 0;
+            state[2] += ProposalEventCodec.centsOf(image);
+        });
+        long[] table = jdbcTemplate.queryForObject(FINGERPRINT_SQL, (rs, row) -> {
+            BigDecimal amount = rs.getBigDecimal(4);
+            return new long[] {rs.getLong(1), rs.getLong(2), rs.getLong(3), Money.of(amount).getCents()};
+        });
+        return table != null && table[0] == images.size() && table[1] == state[0] && table[2] == state[1]
+                && table[3] == state[2];
+    }
+
+    /**
+     * Move the segments and snapshots of a log that does not describe the proposal table into
+     * a timestamped superseded-* subdirectory, then start a fresh chain
+     * Spring Boot: Such a log is usually left by an earlier database lifetime (in-memory H2
+     * restarts ids at 1). Its records are kept as audit history but no longer read, so they
+     * never mix with new proposals that reuse the same ids. Sequences keep counting up.
+     */
+    private void moveChainAside() throws IOException {
+        if (active != null) {
+            active.close();
+            active = null;
+        }
+        Path aside = directory.resolve(SUPERSEDED_PREFIX + SUPERSEDED_FORMAT.format(LocalDateTime.now()));
+        Files.createDirectories(aside);
+        for (Path segment : segments.values()) {
+            Files.move(segment, aside.resolve(segment.getFileName()));
+        }
+        segments.clear();
+        for (Path snapshot : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).values()) {
+            Files.move(snapshot, aside.resolve(snapshot.getFileName()));
+        }
+        System.out.println("Investment event log moved the superseded chain to " + aside
+                + "; new chain starts at sequence " + nextSequence);
+        roll(nextSequence);
+    }
+
+    /**
+     * Replace the log state with the proposal table and snapshot it at the current sequence
+     * Spring Boot: After a bulk import the earlier records stay, as they describe the same table
+     */
+    private void rebase(String reason) {
+        images.clear();
+        for (InvestmentProposal proposal : investmentProposalService.loadAllInvestmentProposals()) {
+            if (proposal.getId() != null) {
+                scratch.clear();
+                ProposalEventCodec.encode(proposal, scratch);
+                images.put(proposal.getId(), scratch.flip());
+            }
+        }
+        sortedView = null;
+        stateSource = "table (" + reason + ")";
+        try {
+            snapshot();
+        } catch (IOException e) {
+            fail("snapshot", e);
+        }
+    }
+
+    /**
+     * Write the live state as of the last sequence, then drop what older snapshots covered
+     */
+    private void snapshot() throws IOException {
+        long sequence = nextSequence - 1;
+        active.force();
+        ProposalSnapshotFile.write(directory.resolve(name(SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX)), sequence,
+                images);
+        snapshotSequence = sequence;
+        eventsSinceSnapshot = 0;
+        compact();
+    }
+
+    private void compact() throws IOException {
+        TreeMap<Long, Path> snapshots = list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        int retained = Math.max(1, investmentProperties.getEventLog().getRetainedSnapshots());
+        while (snapshots.size() > retained) {
+            Files.deleteIfExists(snapshots.pollFirstEntry().getValue());
+        }
+        long covered = snapshots.isEmpty() ? 0 : snapshots.firstKey();
+        // Spring Boot: A segment can go once the segment after it starts within the covered range
+        while (segments.size() > 1) {
+            Long second = segments.higherKey(segments.firstKey());
+            if (second > covered + 1) {
+                break;
+            }
+            Files.deleteIfExists(segments.pollFirstEntry().getValue());
+        }
+    }
+
+    /**
+     * Start a new segment whose first record will have the given sequence
+     */
+    private void roll(long firstSequence) throws IOException {
+        if (active != null) {
+            active.force();
+            active.close();
+        }
+        Path file = directory.resolve(name(SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+        active = EventLogSegment.open(file, firstSequence, investmentProperties.getEventLog().getSegmentSize());
+        active.recover((sequence, type, recordedAt, payload) -> true);
+        segments.put(firstSequence, file);
+    }
+
+    private void fail(String operation, Exception e) {
+        System.err.println("Investment event log disabled after failed " + operation + ": " + e.getMessage());
+        stateSource = "none";
+        close();
+    }
+
+    /**
+     * Files of one kind in the log directory by the sequence in their name
+     */
+    private TreeMap<Long, Path> list(String prefix, String suffix) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.list(directory)) {
+            paths.forEach(path -> {
+                String fileName = path.getFileName().toString();
+                if (fileName.startsWith(prefix) && fileName.endsWith(suffix)) {
+                    try {
+                        files.put(Long.parseLong(fileName.substring(prefix.length(), fileName.length() - suffix.length())), path);
+                    } catch (NumberFormatException e) {
+                        System.err.println("Investment event log ignored unexpected file " + path);
+                    }
+                }
+            });
+        }
+        return files;
+    }
+
+    private static String name(String prefix, long sequence, String suffix) {
+        return prefix + String.format("%020d", sequence) + suffix;
+    }
+}
@@ -0,0 +1,41 @@
+package com.investment.proposal.eventlog;
+
+/**
+ * Proposal Event Type Enum for the Investment Event Log
+ * Spring Boot: Lifecycle event kinds stored in event log records
+ * The codes are written to disk, so existing values must never be renumbered.
+ */
+public enum ProposalEventType {
+    CREATED((byte) 1),         // New proposal; the record carries its full state
+    STATUS_CHANGED((byte) 2),  // Approval status changed; the record carries its full state
+    DELETED((byte) 3),         // Proposal deleted; the record carries its last known state
+    ARCHIVED((byte) 4);        // Proposal moved to the retention archive; the record carries id and reference
+
+    private static final ProposalEventType[] BY_CODE = new ProposalEventType[5];
+
+    static {
+        for (ProposalEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    ProposalEventType(byte code) {
+        this.code = code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Event type stored under a record code
+     *
+     * @param code Code read from an event log record
+     * @return Event type, or null for an unknown code
+     */
+    public static ProposalEventType fromCode(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
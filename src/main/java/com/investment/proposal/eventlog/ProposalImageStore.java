@@ -0,0 +1,250 @@
+package com.investment.proposal.eventlog;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Encoded Investment Proposal Images by Id
+ * Spring Boot: Primitive hash index over one growable byte arena
+ * Keeps the latest encoded image of every live proposal without a per-proposal object: an
+ * open-addressing table of long ids maps to offsets in a single byte array. Replacing or
+ * removing an image leaves its old bytes behind as garbage, and the arena is compacted
+ * when garbage outgrows the live bytes, so replaying millions of events allocates only
+ * when the arena or table doubles.
+ *
+ * Not thread-safe; ProposalEventLog guards it with its own lock.
+ */
+public final class ProposalImageStore {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MAX_ARENA = Integer.MAX_VALUE - 8;
+
+    private long[] ids;
+    private int[] offsets;
+    private int[] lengths;
+    private int mask;
+    private int size;
+
+    private byte[] arena;
+    private int arenaSize;
+    private long garbage;
+    private ByteBuffer view;
+
+    public ProposalImageStore() {
+        this(1024);
+    }
+
+    /**
+     * @param expectedProposals Proposals the table holds before its first resize
+     */
+    public ProposalImageStore(int expectedProposals) {
+        int capacity = Integer.highestOneBit(Math.max(16, expectedProposals * 2 - 1)) << 1;
+        allocateTable(capacity);
+        arena = new byte[Math.max(4096, expectedProposals * 128)];
+        view = ByteBuffer.wrap(arena);
+    }
+
+    /**
+     * Store or replace the image of a proposal
+     *
+     * @param id Proposal id
+     * @param image Encoded image between position and limit; not consumed
+     */
+    public void put(long id, ByteBuffer image) {
+        if (id == EMPTY) {
+            throw new IllegalArgumentException("Investment proposal image without an id");
+        }
+        int length = image.remaining();
+        int offset = reserve(length);
+        image.get(image.position(), arena, offset, length);
+
+        int slot = slotOf(id);
+        if (ids[slot] == id) {
+            garbage += lengths[slot];
+        } else {
+            ids[slot] = id;
+            if (++size * 4 > ids.length * 3) {
+                resize(ids.length * 2);
+                slot = slotOf(id);
+            }
+        }
+        offsets[slot] = offset;
+        lengths[slot] = length;
+    }
+
+    /**
+     * Drop the image of a proposal
+     *
+     * @param id Proposal id
+     * @return True if an image was stored
+     */
+    public boolean remove(long id) {
+        int slot = slotOf(id);
+        if (ids[slot] != id) {
+            return false;
+        }
+        garbage += lengths[slot];
+        size--;
+        // Spring Boot: Backward-shift deletion keeps every probe chain unbroken without tombstones
+        int gap = slot;
+        int next = (gap + 1) & mask;
+        while (ids[next] != EMPTY) {
+            int home = home(ids[next]);
+            if (((next - home) & mask) >= ((next - gap) & mask)) {
+                ids[gap] = ids[next];
+                offsets[gap] = offsets[next];
+                lengths[gap] = lengths[next];
+                gap = next;
+            }
+            next = (next + 1) & mask;
+        }
+        ids[gap] = EMPTY;
+        return true;
+    }
+
+    /**
+     * Image of a proposal
+     *
+     * @param id Proposal id
+     * @return Read-only view of the image, or null if none is stored; invalid after the next put
+     */
+    public ByteBuffer get(long id) {
+        int slot = slotOf(id);
+        if (ids[slot] != id) {
+            return null;
+        }
+        return ByteBuffer.wrap(arena, offsets[slot], lengths[slot]).asReadOnlyBuffer();
+    }
+
+    /**
+     * Visit every stored image in table order
+     *
+     * @param visitor Receives the id and a view of the image, valid only during the call
+     */
+    public void forEach(ImageVisitor visitor) {
+        for (int slot = 0; slot < ids.length; slot++) {
+            if (ids[slot] != EMPTY) {
+                view.limit(offsets[slot] + lengths[slot]).position(offsets[slot]);
+                visitor.visit(ids[slot], view);
+            }
+        }
+    }
+
+    /**
+     * Stored ids in ascending order
+     */
+    public long[] sortedIds() {
+        long[] sorted = new long[size];
+        int index = 0;
+        for (long id : ids) {
+            if (id != EMPTY) {
+                sorted[index++] = id;
+            }
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Bytes of live images, excluding replaced and removed ones
+     */
+    public long liveBytes() {
+        return arenaSize - garbage;
+    }
+
+    public void clear() {
+        Arrays.fill(ids, EMPTY);
+        size = 0;
+        arenaSize = 0;
+        garbage = 0;
+    }
+
+    /**
+     * Arena offset with room for an image, compacting or growing the arena first if needed
+     */
+    private int reserve(int length) {
+        if ((long) arenaSize + length > arena.length) {
+            if (garbage > liveBytes()) {
+                compact();
+            }
+            if ((long) arenaSize + length > arena.length) {
+                long grown = Math.max((long) arenaSize + length, 2L * arena.length);
+                if ((long) arenaSize + length > MAX_ARENA) {
+                    throw new IllegalStateException("Investment proposal images exceed 2 GB");
+                }
+                arena = Arrays.copyOf(arena, (int) Math.min(grown, MAX_ARENA));
+                view = ByteBuffer.wrap(arena);
+            }
+        }
+        int offset = arenaSize;
+        arenaSize += length;
+        return offset;
+    }
+
+    private void compact() {
+        byte[] compacted = new byte[arena.length];
+        int position = 0;
+        for (int slot = 0; slot < ids.length; slot++) {
+            if (ids[slot] != EMPTY) {
+                System.arraycopy(arena, offsets[slot], compacted, position, lengths[slot]);
+                offsets[slot] = position;
+                position += lengths[slot];
+            }
+        }
+        arena = compacted;
+        view = ByteBuffer.wrap(arena);
+        arenaSize = position;
+        garbage = 0;
+    }
+
+    private void resize(int capacity) {
+        long[] oldIds = ids;
+        int[] oldOffsets = offsets;
+        int[] oldLengths = lengths;
+        allocateTable(capacity);
+        for (int slot = 0; slot < oldIds.length; slot++) {
+            if (oldIds[slot] != EMPTY) {
+                int target = slotOf(oldIds[slot]);
+                ids[target] = oldIds[slot];
+                offsets[target] = oldOffsets[slot];
+                lengths[target] = oldLengths[slot];
+            }
+        }
+    }
+
+    private void allocateTable(int capacity) {
+        ids = new long[capacity];
+        Arrays.fill(ids, EMPTY);
+        offsets = new int[capacity];
+        lengths = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * Slot holding the id, or the empty slot where it would be inserted
+     */
+    private int slotOf(long id) {
+        int slot = home(id);
+        while (ids[slot] != EMPTY && ids[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int home(long id) {
+        // Spring Boot: Fibonacci hashing spreads sequential ids across the table
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+
+    /**
+     * Callback receiving stored images
+     */
+    @FunctionalInterface
+    public interface ImageVisitor {
+        void visit(long id, ByteBuffer image);
+    }
+}
@@ -0,0 +1,117 @@
+package com.investment.proposal.eventlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Investment Event Log Snapshot File
+ * Spring Boot: Full proposal state as of one event log sequence
+ * Layout is [int magic][int version][long sequence][int proposals], then one
+ * [int length][proposal image] per proposal (see ProposalEventCodec), then an int CRC32C of
+ * every preceding byte.
+ * Files are written under a temporary name and renamed, so a snapshot is either complete
+ * or absent; a damaged one fails its CRC and the next older snapshot is used instead.
+ */
+public final class ProposalSnapshotFile {
+
+    private static final int MAGIC = 0x49505331;  // "IPS1"
+    private static final int VERSION = 1;
+    private static final int HEADER = Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private ProposalSnapshotFile() {
+    }
+
+    /**
+     * Write a snapshot file
+     *
+     * @param file Target file; replaced atomically
+     * @param sequence Last event log sequence reflected in the proposals
+     * @param images Encoded images of the live proposals
+     */
+    public static void write(Path file, long sequence, ProposalImageStore images) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        CRC32C crc = new CRC32C();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(sequence).putInt(images.size());
+            IOException[] failure = {null};
+            images.forEach((id, image) -> {
+                try {
+                    if (buffer.remaining() < Integer.BYTES + image.remaining()) {
+                        drain(channel, buffer, crc);
+                    }
+                    buffer.putInt(image.remaining()).put(image);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            drain(channel, buffer, crc);
+            buffer.putInt((int) crc.getValue());
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read a snapshot file after checking its CRC
+     *
+     * @param file Snapshot file
+     * @param consumer Receives the encoded image of every proposal in the snapshot
+     * @return Event log sequence the snapshot was taken at
+     * @throws IOException if the file is unreadable, truncated or fails its CRC
+     */
+    public static long read(Path file, Consumer<ByteBuffer> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER + Integer.BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Investment snapshot has an invalid size: " + file);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int body = (int) size - Integer.BYTES;
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice(0, body));
+            if ((int) crc.getValue() != buffer.getInt(body) || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IOException("Investment snapshot failed its checksum: " + file);
+            }
+            long sequence = buffer.getLong(8);
+            int count = buffer.getInt(16);
+            buffer.position(HEADER);
+            try {
+                for (int i = 0; i < count; i++) {
+                    int length = buffer.getInt();
+                    consumer.accept(buffer.slice(buffer.position(), length));
+                    buffer.position(buffer.position() + length);
+                }
+            } catch (RuntimeException e) {
+                throw new IOException("Investment snapshot is malformed: " + file, e);
+            }
+            return sequence;
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer, CRC32C crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,23 @@
+package com.investment.proposal.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Duplicate Proposal Reference Exception for Investment Proposals
+ * Spring Boot: Custom exception for client-supplied references that already exist
+ * Raised by the create path before any insert is attempted
+ */
+@ResponseStatus(HttpStatus.CONFLICT)  // Spring Boot: HTTP status mapping for investment reference conflicts
+// Maps this exception to HTTP 409 status for REST API responses
+public class DuplicateProposalReferenceException extends RuntimeException {
+
+    /**
+     * Constructor for duplicate proposal reference exception with message
+     *
+     * @param message Error message naming the duplicate investment proposal reference
+     */
+    public DuplicateProposalReferenceException(String message) {
+        super(message);
+    }
+}
@@ -4,9 +4,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 import org.springframework.web.context.request.WebRequest;
 
-import javax.validation.ConstraintViolationException;
+import jakarta.validation.ConstraintViolationException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -80,6 +82,171 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handle unknown advisor or investment type references with a client error response
+     * Spring Boot: Exception handler for investment reference data lookup failures
+     *
+     * @param ex UnknownReferenceDataException naming the missing reference value
+     * @param request WebRequest for error context and request information
+     * @return ResponseEntity with error details and HTTP 400 status
+     */
+    @ExceptionHandler(UnknownReferenceDataException.class)  // Spring Boot: Reference data exception handling for investment errors
+    public ResponseEntity<Map<String, Object>> handleUnknownReferenceData(
+            UnknownReferenceDataException ex, WebRequest request) {
+        // Spring Boot: Create error response map for unknown investment reference data
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("path", request.getDescription(false).replace("uri=", ""));
+
+        // Spring Boot: Return HTTP 400 response for unknown investment reference data
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle duplicate investment proposal references with a conflict response
+     * Spring Boot: Exception handler for references rejected by the pre-insert check
+     *
+     * @param ex DuplicateProposalReferenceException naming the duplicate reference
+     * @param request WebRequest for error context and request information
+     * @return ResponseEntity with error details and HTTP 409 status
+     */
+    @ExceptionHandler(DuplicateProposalReferenceException.class)  // Spring Boot: Conflict exception handling for investment errors
+    public ResponseEntity<Map<String, Object>> handleDuplicateProposalReference(
+            DuplicateProposalReferenceException ex, WebRequest request) {
+        // Spring Boot: Create error response map for duplicate investment references
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.CONFLICT.value());
+        errorResponse.put("path", request.getDescription(false).replace("uri=", ""));
+
+        // Spring Boot: Return HTTP 409 response for duplicate investment references
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    /**
+     * Handle unknown investment report downloads with a not found response
+     * Spring Boot: Exception handler for report names that do not resolve to a report file
+     *
+     * @param ex ReportNotFoundException naming the requested report
+     * @param request WebRequest for error context and request information
+     * @return ResponseEntity with error details and HTTP 404 status
+     */
+    @ExceptionHandler(ReportNotFoundException.class)  // Spring Boot: Not found exception handling for investment reports
+    public ResponseEntity<Map<String, Object>> handleReportNotFound(ReportNotFoundException ex, WebRequest request) {
+        // Spring Boot: Create error response map for missing investment reports
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
+        errorResponse.put("path", request.getDescription(false).replace("uri=", ""));
+
+        // Spring Boot: Return HTTP 404 response for missing investment reports
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handle import job not found exceptions for investment bulk imports
+     * Spring Boot: Exception handler for unknown or evicted import jobs
+     *
+     * @param ex ImportJobNotFoundException with the requested import id
+     * @param request WebRequest for error context and request information
+     * @return ResponseEntity with error details and HTTP 404 status
+     */
+    @ExceptionHandler(ImportJobNotFoundException.class)  // Spring Boot: Not found exception handling for investment imports
+    public ResponseEntity<Map<String, Object>> handleImportJobNotFound(ImportJobNotFoundException ex, WebRequest request) {
+        // Spring Boot: Create error response map for missing investment imports
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
+        errorResponse.put("path", request.getDescription(false).replace("uri=", ""));
+
+        // Spring Boot: Return HTTP 404 response for missing investment imports
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handle invalid investment search parameters with a bad request response
+     * Spring Boot: Exception handler for malformed cursors and inverted search ranges
+     *
+     * @param ex InvalidSearchRequestException describing the rejected parameter
+     * @param request WebRequest for error context and request information
+     * @return ResponseEntity with error details and HTTP 400 status
+     */
+    @ExceptionHandler(InvalidSearchRequestException.class)  // Spring Boot: Search exception handling for investment errors
+    public ResponseEntity<Map<String, Object>> handleInvalidSearchRequest(
+            InvalidSearchRequestException ex, WebRequest request) {
+        // Spring Boot: Create error response map for invalid investment searches
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("path", request.getDescription(false).replace("uri=", ""));
+
+        // Spring Boot: Return HTTP 400 response for invalid investment searches
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle risk simulation not found exceptions for investment risk jobs
+     * Spring Boot: Exception handler for unknown or evicted Monte Carlo simulations
+     *
+     * @param ex RiskSimulationNotFoundException with the requested simulation id
+     * @param request WebRequest for error context and request information
+     * @return ResponseEntity with error details and HTTP 404 status
+     */
+    @ExceptionHandler(RiskSimulationNotFoundException.class)  // Spring Boot: Not found exception handling for investment risk simulations
+    public ResponseEntity<Map<String, Object>> handleRiskSimulationNotFound(
+            RiskSimulationNotFoundException ex, WebRequest request) {
+        // Spring Boot: Create error response map for missing investment risk simulations
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
+        errorResponse.put("path", request.getDescription(false).replace("uri=", ""));
+
+        // Spring Boot: Return HTTP 404 response for missing investment risk simulations
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    /**
+     * Handle invalid investment risk simulation parameters with a bad request response
+     * Spring Boot: Exception handler for out-of-range paths, confidence levels and horizons
+     *
+     * @param ex InvalidRiskSimulationException describing the rejected parameter
+     * @param request WebRequest for error context and request information
+     * @return ResponseEntity with error details and HTTP 400 status
+     */
+    @ExceptionHandler(InvalidRiskSimulationException.class)  // Spring Boot: Risk simulation exception handling for investment errors
+    public ResponseEntity<Map<String, Object>> handleInvalidRiskSimulation(
+            InvalidRiskSimulationException ex, WebRequest request) {
+        // Spring Boot: Create error response map for invalid investment risk simulations
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("error", ex.getMessage());
+        errorResponse.put("timestamp", LocalDateTime.now());
+        errorResponse.put("status", HttpStatus.BAD_REQUEST.value());
+        errorResponse.put("path", request.getDescription(false).replace("uri=", ""));
+
+        // Spring Boot: Return HTTP 400 response for invalid investment risk simulations
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Handle timed-out asynchronous requests such as investment change stream connections
+     * Spring Boot: Must precede the generic handler, whose JSON body cannot be written into a
+     * committed text/event-stream response; the status only applies while nothing was sent
+     *
+     * @param ex Async request timeout raised when an emitter or deferred result outlives its timeout
+     */
+    @ExceptionHandler(AsyncRequestTimeoutException.class)  // Spring Boot: Async timeout handling for investment streams
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)  // Spring Boot: Same status Spring MVC uses for async timeouts
+    public void handleAsyncRequestTimeout(AsyncRequestTimeoutException ex) {
+        // Spring Boot: Nothing to render; the client reconnects with its Last-Event-ID
+    }
+
     /**
      * Handle generic exceptions with proper error response for investment system
      * Spring Boot: Exception handler for generic investment system errors
@@ -0,0 +1,23 @@
+package com.investment.proposal.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Import Job Not Found Exception for Investment Bulk Imports
+ * Spring Boot: Custom exception for unknown, evicted or report-less import jobs
+ * Only the most recent import jobs are retained for progress queries
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)  // Spring Boot: HTTP status mapping for missing investment imports
+// Maps this exception to HTTP 404 status for REST API responses
+public class ImportJobNotFoundException extends RuntimeException {
+
+    /**
+     * Constructor for import job not found exception with message
+     *
+     * @param message Error message naming the requested investment import
+     */
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
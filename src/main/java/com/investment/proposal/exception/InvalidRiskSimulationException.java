@@ -0,0 +1,23 @@
+package com.investment.proposal.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Invalid Risk Simulation Exception for Investment Risk Jobs
+ * Spring Boot: Custom exception for simulation parameters outside their valid range
+ * Raised for non-positive path counts or horizons and confidence levels outside (0, 1)
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)  // Spring Boot: HTTP status mapping for investment risk simulation errors
+// Maps this exception to HTTP 400 status for REST API responses
+public class InvalidRiskSimulationException extends RuntimeException {
+
+    /**
+     * Constructor for invalid risk simulation exception with message
+     *
+     * @param message Error message describing the rejected simulation parameter
+     */
+    public InvalidRiskSimulationException(String message) {
+        super(message);
+    }
+}
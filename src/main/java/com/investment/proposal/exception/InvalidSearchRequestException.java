@@ -0,0 +1,24 @@
+package com.investment.proposal.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Invalid Search Request Exception for Investment Proposals
+ * Spring Boot: Custom exception for search parameters that cannot be turned into a query
+ * Raised for malformed or tampered keyset cursors, cursors issued for another sort order,
+ * and inverted ranges
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)  // Spring Boot: HTTP status mapping for investment search errors
+// Maps this exception to HTTP 400 status for REST API responses
+public class InvalidSearchRequestException extends RuntimeException {
+
+    /**
+     * Constructor for invalid search request exception with message
+     *
+     * @param message Error message describing the rejected search parameter
+     */
+    public InvalidSearchRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.investment.proposal.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Report Not Found Exception for Investment Report Downloads
+ * Spring Boot: Custom exception for unknown or invalid report file names
+ * Raised for names outside the report directory as well, so probing reveals nothing
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)  // Spring Boot: HTTP status mapping for missing investment reports
+// Maps this exception to HTTP 404 status for REST API responses
+public class ReportNotFoundException extends RuntimeException {
+
+    /**
+     * Constructor for report not found exception with message
+     *
+     * @param message Error message naming the requested investment report
+     */
+    public ReportNotFoundException(String message) {
+        super(message);
+    }
+}
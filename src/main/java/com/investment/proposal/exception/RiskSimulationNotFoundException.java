@@ -0,0 +1,23 @@
+package com.investment.proposal.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Risk Simulation Not Found Exception for Investment Risk Jobs
+ * Spring Boot: Custom exception for unknown or evicted Monte Carlo simulation jobs
+ * Only the most recent simulation jobs are retained for result queries
+ */
+@ResponseStatus(HttpStatus.NOT_FOUND)  // Spring Boot: HTTP status mapping for missing investment risk simulations
+// Maps this exception to HTTP 404 status for REST API responses
+public class RiskSimulationNotFoundException extends RuntimeException {
+
+    /**
+     * Constructor for risk simulation not found exception with message
+     *
+     * @param message Error message naming the requested investment risk simulation
+     */
+    public RiskSimulationNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.investment.proposal.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Unknown Reference Data Exception for Investment Proposals
+ * Spring Boot: Custom exception for advisor names or investment types missing from reference data
+ * Raised when a proposal names an advisor or investment type that has no reference row,
+ * since the proposal row can only store a foreign key to an existing one
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)  // Spring Boot: HTTP status mapping for investment reference errors
+// Maps this exception to HTTP 400 status for REST API responses
+public class UnknownReferenceDataException extends RuntimeException {
+
+    /**
+     * Constructor for unknown reference data exception with message
+     *
+     * @param message Error message naming the unknown advisor or investment type
+     */
+    public UnknownReferenceDataException(String message) {
+        super(message);
+    }
+}
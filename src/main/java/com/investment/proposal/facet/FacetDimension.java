@@ -0,0 +1,14 @@
+package com.investment.proposal.facet;
+
+/**
+ * Facet Dimension Enum for Investment Search Facets
+ * Spring Boot: Enum for the categorical proposal attributes kept in the bitmap index
+ * Values are indexed by their API form: risk level name, investment type code,
+ * advisor name and "true"/"false" for approval state
+ */
+public enum FacetDimension {
+    RISK_LEVEL,        // Facet investment proposals by RiskLevel
+    INVESTMENT_TYPE,   // Facet investment proposals by investment type
+    ASSIGNED_ADVISOR,  // Facet investment proposals by assigned advisor
+    APPROVED           // Facet investment proposals by approval state
+}
@@ -0,0 +1,60 @@
+package com.investment.proposal.facet;
+
+import com.investment.proposal.entity.RiskLevel;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet Query for Investment Search Facets
+ * Spring Boot: Request parameters bound by the facets endpoint; every selection is optional
+ * Values selected within one dimension are combined with OR, dimensions with AND, e.g.
+ * riskLevel=HIGH&amp;riskLevel=MEDIUM&amp;approved=false is (HIGH or MEDIUM) and not approved
+ */
+public class FacetQuery {
+
+    private List<RiskLevel> riskLevel;
+    private List<String> investmentType;
+    private List<String> assignedAdvisor;
+    private List<Boolean> approved;
+
+    /**
+     * Matching proposal ids returned, capped by investment.management.search.max-page-size
+     */
+    private int limit = 100;
+
+    /**
+     * Selected values per dimension, leaving out dimensions with no selection
+     *
+     * @return Selections in index value form
+     */
+    public Map<FacetDimension, List<String>> selections() {
+        Map<FacetDimension, List<String>> selections = new EnumMap<>(FacetDimension.class);
+        if (riskLevel != null && !riskLevel.isEmpty()) {
+            selections.put(FacetDimension.RISK_LEVEL, riskLevel.stream().map(RiskLevel::name).toList());
+        }
+        if (investmentType != null && !investmentType.isEmpty()) {
+            selections.put(FacetDimension.INVESTMENT_TYPE, investmentType);
+        }
+        if (assignedAdvisor != null && !assignedAdvisor.isEmpty()) {
+            selections.put(FacetDimension.ASSIGNED_ADVISOR, assignedAdvisor);
+        }
+        if (approved != null && !approved.isEmpty()) {
+            selections.put(FacetDimension.APPROVED, approved.stream().map(String::valueOf).toList());
+        }
+        return selections;
+    }
+
+    // Getters and setters for investment facet query access
+    public List<RiskLevel> getRiskLevel() { return riskLevel; }
+    public void setRiskLevel(List<RiskLevel> riskLevel) { this.riskLevel = riskLevel; }
+    public List<String> getInvestmentType() { return investmentType; }
+    public void setInvestmentType(List<String> investmentType) { this.investmentType = investmentType; }
+    public List<String> getAssignedAdvisor() { return assignedAdvisor; }
+    public void setAssignedAdvisor(List<String> assignedAdvisor) { this.assignedAdvisor = assignedAdvisor; }
+    public List<Boolean> getApproved() { return approved; }
+    public void setApproved(List<Boolean> approved) { this.approved = approved; }
+    public int getLimit() { return limit; }
+    public void setLimit(int limit) { this.limit = limit; }
+}
@@ -0,0 +1,28 @@
+package com.investment.proposal.facet;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet Result for Investment Search Facets
+ * Spring Boot: Matching proposal count and ids with the count of every facet value
+ * Facet counts of a dimension ignore that dimension's own selection, so the UI can show
+ * how many proposals each alternative value would give
+ */
+public class FacetResult {
+
+    private final long total;
+    private final List<Long> ids;
+    private final Map<FacetDimension, Map<String, Long>> facets;
+
+    public FacetResult(long total, List<Long> ids, Map<FacetDimension, Map<String, Long>> facets) {
+        this.total = total;
+        this.ids = ids;
+        this.facets = facets;
+    }
+
+    // Getters for investment facet result access
+    public long getTotal() { return total; }
+    public List<Long> getIds() { return ids; }
+    public Map<FacetDimension, Map<String, Long>> getFacets() { return facets; }
+}
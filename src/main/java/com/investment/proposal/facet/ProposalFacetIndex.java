@@ -0,0 +1,346 @@
+package com.investment.proposal.facet;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.event.InvestmentProposalsImportedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Investment Proposal Facet Index
+ * Spring Boot: In-memory compressed bitmap index answering facet counts without GROUP BY queries
+ * Holds one Roaring bitmap of proposal ids per categorical value (risk level, investment type,
+ * advisor, approval state). A facet query ORs the bitmaps selected within a dimension, ANDs
+ * the dimensions, and counts each value with an intersection cardinality that never
+ * materializes the intersection. Dense id ranges compress to run containers, so the index
+ * stays a few bytes per proposal.
+ *
+ * Maintained incrementally from lifecycle events after commit and rebuilt at startup and
+ * after bulk imports, like ProposalAnalyticsEngine. Events arriving while a rebuild reads its
+ * snapshot are recorded and replayed onto the new bitmaps before the swap, so none are lost.
+ * Ids are stored as unsigned 32-bit values.
+ */
+@Component  // Spring Boot: Component annotation for the investment facet index
+public class ProposalFacetIndex {
+
+    private static final long MAX_ID = 0xFFFF_FFFFL;
+
+    /**
+     * Investment event log used for full index rebuilds
+     * Spring Boot: Serves the replayed proposals, or the proposal service when the log is off
+     */
+    @Autowired  // Spring Boot: Event log dependency injection for investment facet rebuilds
+    private ProposalEventLog proposalEventLog;
+
+    @Autowired  // Spring Boot: Configuration properties injection capping returned investment ids
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    /**
+     * Incremental updates take the write lock; queries share the read lock
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<FacetDimension, Map<String, RoaringBitmap>> bitmaps = emptyBitmaps();
+    private RoaringBitmap all = new RoaringBitmap();
+
+    /**
+     * Changes applied while a rebuild is in progress, replayed onto its result; null otherwise
+     * Spring Boot: Guarded by the write lock
+     */
+    private List<PendingChange> pendingChanges;
+
+    /**
+     * Build the investment facet index once the application is ready
+     * Spring Boot: Startup hook running after seed data has been loaded
+     */
+    @EventListener(ApplicationReadyEvent.class)  // Spring Boot: Startup listener for investment facet loading
+    public synchronized void rebuild() {
+        // Spring Boot: Start recording before the snapshot read, so a change committed during
+        // the read is either in the snapshot or replayed below; replaying one twice is harmless
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // Spring Boot: Build the replacement outside the lock so queries keep running meanwhile
+        Map<FacetDimension, Map<String, RoaringBitmap>> rebuilt = emptyBitmaps();
+        RoaringBitmap rebuiltAll = new RoaringBitmap();
+        try {
+            for (InvestmentProposal proposal : proposalEventLog.currentProposals()) {
+                if (indexable(proposal.getId())) {
+                    upsert(rebuilt, rebuiltAll, (int) (long) proposal.getId(), proposal);
+                }
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        rebuiltAll.runOptimize();
+        rebuilt.values().forEach(values -> values.values().forEach(RoaringBitmap::runOptimize));
+
+        lock.writeLock().lock();
+        try {
+            for (PendingChange change : pendingChanges) {
+                if (change.proposal() == null) {
+                    remove(rebuilt, rebuiltAll, change.key());
+                } else {
+                    upsert(rebuilt, rebuiltAll, change.key(), change.proposal());
+                }
+            }
+            pendingChanges = null;
+            bitmaps = rebuilt;
+            all = rebuiltAll;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Index a created investment proposal
+     * Spring Boot: Applied after the creating transaction commits
+     *
+     * @param event Investment proposal creation event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment creation
+    public void onProposalCreated(InvestmentProposalCreatedEvent event) {
+        upsert(event.getProposal());
+    }
+
+    /**
+     * Move a changed investment proposal to its new approval value
+     * Spring Boot: Applied after the updating transaction commits
+     *
+     * @param event Investment proposal status change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment status changes
+    public void onProposalStatusChanged(InvestmentProposalStatusChangedEvent event) {
+        upsert(event.getProposal());
+    }
+
+    /**
+     * Drop a deleted investment proposal from every bitmap
+     * Spring Boot: Applied after the deleting transaction commits
+     *
+     * @param event Investment proposal deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment deletion
+    public void onProposalDeleted(InvestmentProposalDeletedEvent event) {
+        remove(List.of(event.getProposal().getId()));
+    }
+
+    /**
+     * Drop investment proposals moved to the archive from every bitmap
+     * Spring Boot: One write lock for the whole archived chunk
+     *
+     * @param event Investment proposals archived event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment archiving
+    public void onProposalsArchived(InvestmentProposalsArchivedEvent event) {
+        remove(event.getProposalIds());
+    }
+
+    /**
+     * Rebuild the index after a bulk import
+     * Spring Boot: Imports publish no per-row events, so the index is rebuilt once
+     *
+     * @param event Investment bulk import completion event
+     */
+    @EventListener  // Spring Boot: Listener for investment bulk import completion
+    public void onProposalsImported(InvestmentProposalsImportedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Count and list the proposals matching a facet selection
+     *
+     * @param query Selected values per dimension and id limit
+     * @return Matching count, first matching ids in id order and per-value facet counts
+     */
+    public FacetResult query(FacetQuery query) {
+        Map<FacetDimension, List<String>> selections = query.selections();
+        int limit = Math.max(0, Math.min(query.getLimit(), investmentProperties.getSearch().getMaxPageSize()));
+
+        lock.readLock().lock();
+        try {
+            Map<FacetDimension, RoaringBitmap> selected = new EnumMap<>(FacetDimension.class);
+            for (Map.Entry<FacetDimension, List<String>> selection : selections.entrySet()) {
+                Map<String, RoaringBitmap> values = bitmaps.get(selection.getKey());
+                List<RoaringBitmap> chosen = new ArrayList<>();
+                for (String value : selection.getValue()) {
+                    RoaringBitmap bitmap = values.get(value);
+                    if (bitmap != null) {
+                        chosen.add(bitmap);
+                    }
+                }
+                selected.put(selection.getKey(), FastAggregation.or(chosen.iterator()));
+            }
+
+            RoaringBitmap matches = intersect(selected, null);
+            List<Long> ids = new ArrayList<>(Math.min(limit, matches.getCardinality()));
+            IntIterator iterator = matches.getIntIterator();
+            while (iterator.hasNext() && ids.size() < limit) {
+                ids.add(Integer.toUnsignedLong(iterator.next()));
+            }
+
+            Map<FacetDimension, Map<String, Long>> facets = new EnumMap<>(FacetDimension.class);
+            for (FacetDimension dimension : FacetDimension.values()) {
+                // Spring Boot: A dimension's counts apply every selection except its own
+                RoaringBitmap base = selected.containsKey(dimension) ? intersect(selected, dimension) : matches;
+                Map<String, Long> counts = new TreeMap<>();
+                for (Map.Entry<String, RoaringBitmap> value : bitmaps.get(dimension).entrySet()) {
+                    long count = RoaringBitmap.andCardinality(base, value.getValue());
+                    if (count > 0) {
+                        counts.put(value.getKey(), count);
+                    }
+                }
+                facets.put(dimension, counts);
+            }
+            return new FacetResult(matches.getLongCardinality(), ids, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Put a proposal under its current value of every dimension
+     */
+    private void upsert(InvestmentProposal proposal) {
+        if (!indexable(proposal.getId())) {
+            return;
+        }
+        int key = (int) (long) proposal.getId();
+        lock.writeLock().lock();
+        try {
+            upsert(bitmaps, all, key, proposal);
+            if (pendingChanges != null) {
+                pendingChanges.add(new PendingChange(key, proposal));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop proposals from every bitmap
+     */
+    private void remove(List<Long> ids) {
+        lock.writeLock().lock();
+        try {
+            for (Long id : ids) {
+                if (!indexable(id)) {
+                    continue;
+                }
+                int key = (int) (long) id;
+                remove(bitmaps, all, key);
+                if (pendingChanges != null) {
+                    pendingChanges.add(new PendingChange(key, null));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void upsert(Map<FacetDimension, Map<String, RoaringBitmap>> target, RoaringBitmap targetAll,
+                               int key, InvestmentProposal proposal) {
+        targetAll.add(key);
+        for (FacetDimension dimension : FacetDimension.values()) {
+            String current = valueOf(dimension, proposal);
+            Map<String, RoaringBitmap> values = target.get(dimension);
+            // Spring Boot: Dimensions have a handful of values, so clearing the others is cheap
+            for (Map.Entry<String, RoaringBitmap> value : values.entrySet()) {
+                if (!value.getKey().equals(current)) {
+                    value.getValue().remove(key);
+                }
+            }
+            if (current != null) {
+                values.computeIfAbsent(current, v -> new RoaringBitmap()).add(key);
+            }
+        }
+    }
+
+    private static void remove(Map<FacetDimension, Map<String, RoaringBitmap>> target, RoaringBitmap targetAll,
+                               int key) {
+        targetAll.remove(key);
+        for (Map<String, RoaringBitmap> values : target.values()) {
+            values.values().forEach(bitmap -> bitmap.remove(key));
+        }
+    }
+
+    /**
+     * AND of the selected bitmaps, optionally leaving one dimension out
+     */
+    private RoaringBitmap intersect(Map<FacetDimension, RoaringBitmap> selected, FacetDimension excluded) {
+        List<RoaringBitmap> operands = new ArrayList<>();
+        for (Map.Entry<FacetDimension, RoaringBitmap> selection : selected.entrySet()) {
+            if (selection.getKey() != excluded) {
+                operands.add(selection.getValue());
+            }
+        }
+        if (operands.isEmpty()) {
+            return all;
+        }
+        return operands.size() == 1 ? operands.get(0) : FastAggregation.and(operands.iterator());
+    }
+
+    private static String valueOf(FacetDimension dimension, InvestmentProposal proposal) {
+        return switch (dimension) {
+            case RISK_LEVEL -> proposal.getRiskLevel() == null ? null : proposal.getRiskLevel().name();
+            case INVESTMENT_TYPE -> proposal.getInvestmentType();
+            case ASSIGNED_ADVISOR -> proposal.getAssignedAdvisor();
+            case APPROVED -> proposal.getApproved() == null ? null : proposal.getApproved().toString();
+        };
+    }
+
+    /**
+     * Whether a proposal id fits the unsigned 32-bit bitmap key space
+     */
+    private static boolean indexable(Long id) {
+        if (id != null && id >= 0 && id <= MAX_ID) {
+            return true;
+        }
+        System.err.println("Investment facet index skipped proposal id outside 32-bit range: " + id);
+        return false;
+    }
+
+    /**
+     * Change recorded during a rebuild; a null proposal marks a deletion
+     */
+    private record PendingChange(int key, InvestmentProposal proposal) {
+    }
+
+    private static Map<FacetDimension, Map<String, RoaringBitmap>> emptyBitmaps() {
+        Map<FacetDimension, Map<String, RoaringBitmap>> empty = new EnumMap<>(FacetDimension.class);
+        for (FacetDimension dimension : FacetDimension.values()) {
+            empty.put(dimension, new HashMap<>());
+        }
+        return empty;
+    }
+}
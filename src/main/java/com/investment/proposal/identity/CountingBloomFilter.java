@@ -0,0 +1,136 @@
+package com.investment.proposal.identity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-Free Counting Bloom Filter for Investment Proposal References
+ * Spring Boot: Compact set-membership filter that also supports removal
+ * Each slot is a 4-bit counter, sixteen to a long, updated with CAS. A negative answer
+ * is certain; a positive answer may be a false positive at roughly the configured rate.
+ * Counters saturate at 15 and are then never decremented, which keeps removals safe.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private final AtomicLongArray words;
+    private final int counterCount;
+    private final int hashCount;
+
+    /**
+     * Constructor sizing the filter for an expected population and false-positive rate
+     *
+     * @param expectedInsertions Expected number of investment proposal references
+     * @param falsePositiveRate Target probability of a false positive, e.g. 0.01
+     */
+    public CountingBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.counterCount = (int) Math.min(Integer.MAX_VALUE - COUNTERS_PER_WORD, Math.max(COUNTERS_PER_WORD, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) counterCount / n * ln2));
+        this.words = new AtomicLongArray((counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+    }
+
+    /**
+     * Add a value to the filter
+     *
+     * @param value Investment proposal reference
+     */
+    public void add(String value) {
+        long hash = hash64(value);
+        for (int i = 0; i < hashCount; i++) {
+            adjust(slot(hash, i), 1);
+        }
+    }
+
+    /**
+     * Remove a value previously added to the filter
+     *
+     * @param value Investment proposal reference
+     */
+    public void remove(String value) {
+        long hash = hash64(value);
+        for (int i = 0; i < hashCount; i++) {
+            adjust(slot(hash, i), -1);
+        }
+    }
+
+    /**
+     * Check whether a value may be in the filter
+     *
+     * @param value Investment proposal reference
+     * @return False if the value is certainly absent
+     */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        for (int i = 0; i < hashCount; i++) {
+            if (counter(slot(hash, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reset every counter to zero
+     */
+    public void clear() {
+        for (int i = 0; i < words.length(); i++) {
+            words.set(i, 0L);
+        }
+    }
+
+    public int getCounterCount() {
+        return counterCount;
+    }
+
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private int slot(long hash, int i) {
+        // Spring Boot: Kirsch-Mitzenmacher double hashing from the two 32-bit halves
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % counterCount;
+    }
+
+    private long counter(int slot) {
+        int shift = (slot % COUNTERS_PER_WORD) * COUNTER_BITS;
+        return (words.get(slot / COUNTERS_PER_WORD) >>> shift) & COUNTER_MASK;
+    }
+
+    private void adjust(int slot, int delta) {
+        int index = slot / COUNTERS_PER_WORD;
+        int shift = (slot % COUNTERS_PER_WORD) * COUNTER_BITS;
+        while (true) {
+            long word = words.get(index);
+            long count = (word >>> shift) & COUNTER_MASK;
+            if (count == COUNTER_MASK || (delta < 0 && count == 0)) {
+                return;
+            }
+            long updated = (word & ~(COUNTER_MASK << shift)) | ((count + delta) << shift);
+            if (words.compareAndSet(index, word, updated)) {
+                return;
+            }
+        }
+    }
+
+    private static long hash64(String value) {
+        // Spring Boot: FNV-1a over UTF-8 bytes followed by a murmur3 finalizer
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,204 @@
+package com.investment.proposal.identity;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.lock.JdbcLeaseLockProvider;
+import com.investment.proposal.lock.LeaseLock;
+import com.investment.proposal.lock.LockLostException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collision-Free Investment Proposal Reference Generator
+ * Spring Boot: Time + node + sequence identifiers for server-assigned proposal references
+ * Each reference packs milliseconds since 2024-01-01 (41 bits), the configured node id
+ * (10 bits) and a per-millisecond sequence (12 bits). Distinct nodes can never produce the
+ * same value, and one node never repeats because the time+sequence part is a strictly
+ * increasing counter: it jumps to the wall clock when the clock is ahead and simply keeps
+ * counting when the clock stalls or moves backwards. No lock and no database lookup.
+ *
+ * Without a configured node id, the generator claims the first free one as a lease in the
+ * scheduler lock table and renews it in the background. Ids are only issued while the lease
+ * is locally known to be live; a lapsed or lost lease is replaced by a fresh claim first.
+ */
+@Component  // Spring Boot: Component registration for investment proposal reference generation
+// Registers this class as a managed Spring component
+public class ProposalReferenceGenerator {
+
+    /**
+     * Custom epoch, 2024-01-01T00:00:00Z, giving about 69 years of 41-bit millisecond range
+     */
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    /**
+     * Prefix of generated investment proposal references
+     */
+    static final String PREFIX = "INV-";
+
+    /**
+     * Scheduler lock name prefix of claimed node ids
+     */
+    static final String NODE_LOCK_PREFIX = "proposal-reference-node-";
+
+    /**
+     * Investment management properties holding the node id
+     */
+    @Autowired  // Spring Boot: Configuration properties injection for investment reference settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    /**
+     * Last issued (milliseconds << SEQUENCE_BITS | sequence) value
+     */
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
+
+    /**
+     * Lease lock provider for claiming a node id when none is configured
+     */
+    @Autowired  // Spring Boot: Lease lock injection for investment node id claims
+    private JdbcLeaseLockProvider leaseLockProvider;
+
+    private volatile long nodeId;
+
+    /**
+     * Lease on the claimed node id, or null when the node id is configured
+     */
+    private volatile LeaseLock nodeLease;
+
+    /**
+     * System.nanoTime() until which the claimed node id may be used without renewal
+     */
+    private volatile long nodeValidUntilNanos;
+
+    private ScheduledExecutorService renewer;
+
+    /**
+     * Validate the configured investment node id, or claim a free one
+     */
+    @PostConstruct
+    public void init() {
+        InvestmentConfig.InvestmentManagementProperties.ProposalReference settings = investmentProperties.getProposalReference();
+        Integer configured = settings.getNodeId();
+        if (configured != null) {
+            if (configured < 0 || configured > MAX_NODE_ID) {
+                throw new IllegalStateException("investment.management.proposal-reference.node-id must be between 0 and " + MAX_NODE_ID);
+            }
+            nodeId = configured;
+            return;
+        }
+        claimNodeId();
+        long renewMillis = Math.max(1, settings.getNodeLease().toMillis() / 3);
+        renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "investment-reference-node-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewer.scheduleWithFixedDelay(this::renewNodeLease, renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop renewing and give the claimed node id back
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (renewer != null) {
+            renewer.shutdownNow();
+        }
+        LeaseLock lease = nodeLease;
+        if (lease != null) {
+            try {
+                leaseLockProvider.release(lease);
+            } catch (RuntimeException e) {
+                // Spring Boot: The lease expires on its own when the database is already gone
+                System.err.println("Investment reference node id lease not released: " + e.getMessage());
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Next numeric investment proposal identifier
+     *
+     * @return Unique positive 63-bit identifier
+     */
+    public long nextId() {
+        if (nodeLease != null && System.nanoTime() - nodeValidUntilNanos >= 0) {
+            claimNodeId();
+        }
+        long now = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long next;
+        while (true) {
+            long last = lastTimeAndSequence.get();
+            next = Math.max(last + 1, now);
+            if (lastTimeAndSequence.compareAndSet(last, next)) {
+                break;
+            }
+        }
+        long millis = next >>> SEQUENCE_BITS;
+        long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * Next investment proposal reference, e.g. INV-1A2B3C4D5E
+     * Spring Boot: Base-36 keeps the reference within the 20-character column limit
+     *
+     * @return Unique investment proposal reference
+     */
+    public String nextReference() {
+        return PREFIX + Long.toString(nextId(), 36).toUpperCase();
+    }
+
+    /**
+     * Claim the first node id whose lease is free, unless the current claim is still live
+     * Spring Boot: Leases are only counted as live for two thirds of their length, leaving the
+     * last third as margin for clock skew between this node and the database
+     */
+    private synchronized void claimNodeId() {
+        if (nodeLease != null && System.nanoTime() - nodeValidUntilNanos < 0) {
+            return;
+        }
+        Duration lease = investmentProperties.getProposalReference().getNodeLease();
+        for (int candidate = 0; candidate <= MAX_NODE_ID; candidate++) {
+            long start = System.nanoTime();
+            Optional<LeaseLock> claimed = leaseLockProvider.tryAcquire(NODE_LOCK_PREFIX + candidate, lease, Duration.ZERO);
+            if (claimed.isPresent()) {
+                nodeId = candidate;
+                nodeValidUntilNanos = start + lease.toNanos() * 2 / 3;
+                nodeLease = claimed.get();
+                System.out.println("Claimed investment reference node id " + candidate);
+                return;
+            }
+        }
+        throw new IllegalStateException("No free investment reference node id; all " + (MAX_NODE_ID + 1) + " are leased");
+    }
+
+    private void renewNodeLease() {
+        LeaseLock lease = nodeLease;
+        long start = System.nanoTime();
+        try {
+            leaseLockProvider.extend(lease, investmentProperties.getProposalReference().getNodeLease());
+            nodeValidUntilNanos = start + investmentProperties.getProposalReference().getNodeLease().toNanos() * 2 / 3;
+        } catch (LockLostException e) {
+            // Spring Boot: The next id request claims a new node id before issuing anything
+            System.err.println("Investment reference node id " + nodeId + " lease lost; claiming a new one");
+            nodeValidUntilNanos = start;
+        } catch (RuntimeException e) {
+            // Spring Boot: Retried on the next tick; ids stop once the lease lapses locally
+            System.err.println("Investment reference node id lease renewal failed: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.investment.proposal.identity;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.service.InvestmentProposalService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Investment Proposal Reference Index
+ * Spring Boot: In-memory Bloom filter of existing proposal references
+ * Lets the create path prove a client-supplied reference is new without touching the
+ * database. Only a filter hit needs an indexed existence query, so duplicates are rejected
+ * before the insert instead of via a constraint violation and rollback. The unique
+ * constraint on proposal_reference remains the final safeguard.
+ */
+@Component  // Spring Boot: Component registration for investment reference pre-checks
+// Registers this class as a managed Spring component
+public class ProposalReferenceIndex {
+
+    /**
+     * Investment proposal service for the startup rebuild
+     * Spring Boot: Lazy to break the service -> index cycle
+     */
+    @Lazy
+    @Autowired  // Spring Boot: Service dependency injection for investment reference rebuild
+    private InvestmentProposalService investmentProposalService;
+
+    /**
+     * Investment management properties holding the filter sizing
+     */
+    @Autowired  // Spring Boot: Configuration properties injection for investment reference settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    /**
+     * Micrometer registry for pre-check outcome counters
+     */
+    @Autowired  // Spring Boot: Metrics registry injection for investment reference counters
+    private MeterRegistry meterRegistry;
+
+    private CountingBloomFilter filter;
+    private Counter definitelyNew;
+    private Counter falsePositives;
+    private Counter duplicates;
+
+    /**
+     * Size the filter and register outcome counters
+     */
+    @PostConstruct
+    public void init() {
+        InvestmentConfig.InvestmentManagementProperties.ProposalReference settings = investmentProperties.getProposalReference();
+        filter = new CountingBloomFilter(settings.getBloomExpectedInsertions(), settings.getBloomFalsePositiveRate());
+        definitelyNew = outcome("definitely_new", "References proven new by the Bloom filter alone");
+        falsePositives = outcome("false_positive", "Bloom filter hits that the database showed to be new");
+        duplicates = outcome("duplicate", "Duplicate references rejected before insert");
+    }
+
+    /**
+     * Rebuild the filter from all stored investment proposal references
+     */
+    @EventListener(ApplicationReadyEvent.class)  // Spring Boot: Startup listener for investment reference rebuild
+    public void rebuild() {
+        List<String> references = investmentProposalService.getAllProposalReferences();
+        filter.clear();
+        references.forEach(filter::add);
+        System.out.println("Rebuilt investment reference filter: " + references.size() + " references, "
+                + filter.getCounterCount() + " counters, " + filter.getHashCount() + " hashes");
+    }
+
+    /**
+     * Decide whether a reference is already taken
+     * Spring Boot: Consults the database only when the filter reports a possible match
+     *
+     * @param reference Investment proposal reference
+     * @param existsInDatabase Authoritative existence check, run only on a filter hit
+     * @return True if the reference already exists
+     */
+    public boolean isDuplicate(String reference, Predicate<String> existsInDatabase) {
+        if (!filter.mightContain(reference)) {
+            definitelyNew.increment();
+            return false;
+        }
+        if (existsInDatabase.test(reference)) {
+            duplicates.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Record a newly stored investment proposal reference
+     * Spring Boot: Added before commit; a rolled-back insert only leaves a harmless false positive
+     *
+     * @param reference Investment proposal reference
+     */
+    public void add(String reference) {
+        filter.add(reference);
+    }
+
+    /**
+     * Forget the reference of a deleted investment proposal
+     *
+     * @param event Investment proposal deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment deletion
+    public void onProposalDeleted(InvestmentProposalDeletedEvent event) {
+        filter.remove(event.getProposal().getProposalReference());
+    }
+
+    /**
+     * Forget the references of investment proposals moved to the archive
+     *
+     * @param event Investment proposals archived event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment archiving
+    public void onProposalsArchived(InvestmentProposalsArchivedEvent event) {
+        event.getProposalReferences().forEach(filter::remove);
+    }
+
+    private Counter outcome(String outcome, String description) {
+        return Counter.builder("investment.reference.precheck")
+                .description(description)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.investment.proposal.importer;
+
+/**
+ * Investment Import Job States
+ * Spring Boot: Lifecycle of one bulk proposal import
+ */
+public enum ImportState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
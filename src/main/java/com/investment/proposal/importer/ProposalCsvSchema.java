@@ -0,0 +1,132 @@
+package com.investment.proposal.importer;
+
+import com.investment.proposal.dto.InvestmentProposalDTO;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Column Layout of an Investment Proposal Import File
+ * Spring Boot: Maps header names to field positions and parses lines into DTOs
+ * Columns may appear in any order; proposal_reference and assigned_advisor are optional
+ * because blank values are generated or auto-assigned like on the REST create path.
+ * Fields follow RFC 4180 quoting, except that quoted line breaks are not supported since
+ * the file is split at line boundaries for parallel parsing.
+ */
+final class ProposalCsvSchema {
+
+    static final String[] COLUMNS = {
+            "proposal_reference", "client_name", "investment_amount", "expected_return",
+            "risk_level", "investment_type", "assigned_advisor"};
+    private static final int OPTIONAL_REFERENCE = 0;
+    private static final int OPTIONAL_ADVISOR = 6;
+
+    /**
+     * Position of each COLUMNS entry in a line, -1 when absent
+     */
+    private final int[] positions = new int[COLUMNS.length];
+    private final int width;
+
+    private ProposalCsvSchema(List<String> header) {
+        this.width = header.size();
+        for (int column = 0; column < COLUMNS.length; column++) {
+            positions[column] = header.indexOf(COLUMNS[column]);
+            if (positions[column] < 0 && column != OPTIONAL_REFERENCE && column != OPTIONAL_ADVISOR) {
+                throw new IllegalArgumentException("Investment import header is missing column " + COLUMNS[column]);
+            }
+        }
+    }
+
+    /**
+     * Parse the header line of an investment import file
+     *
+     * @param headerLine First line of the file
+     * @return Column layout
+     * @throws IllegalArgumentException if a required column is missing
+     */
+    static ProposalCsvSchema parse(String headerLine) {
+        List<String> header = new ArrayList<>();
+        for (String name : split(headerLine.replace("\uFEFF", ""))) {
+            header.add(name.trim().toLowerCase(Locale.ROOT));
+        }
+        return new ProposalCsvSchema(header);
+    }
+
+    /**
+     * Parse one data line into an investment proposal DTO
+     *
+     * @param line Data line without line terminator
+     * @return DTO ready for bean validation
+     * @throws IllegalArgumentException if the line has the wrong field count or a malformed number
+     */
+    InvestmentProposalDTO toDto(String line) {
+        List<String> fields = split(line);
+        if (fields.size() != width) {
+            throw new IllegalArgumentException("Expected " + width + " fields but found " + fields.size());
+        }
+        InvestmentProposalDTO dto = new InvestmentProposalDTO();
+        dto.setProposalReference(field(fields, 0));
+        dto.setClientName(field(fields, 1));
+        dto.setInvestmentAmount(Money.of(decimal(fields, 2)));
+        dto.setExpectedReturn(Rate.of(decimal(fields, 3)));
+        dto.setRiskLevel(field(fields, 4));
+        dto.setInvestmentType(field(fields, 5));
+        dto.setAssignedAdvisor(field(fields, 6));
+        return dto;
+    }
+
+    private String field(List<String> fields, int column) {
+        if (positions[column] < 0) {
+            return null;
+        }
+        String value = fields.get(positions[column]).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private BigDecimal decimal(List<String> fields, int column) {
+        String value = field(fields, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(COLUMNS[column] + ": not a number '" + value + "'");
+        }
+    }
+
+    /**
+     * Split one CSV line into fields, honouring double-quoted fields
+     */
+    static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
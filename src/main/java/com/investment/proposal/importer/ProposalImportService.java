@@ -0,0 +1,603 @@
+package com.investment.proposal.importer;
+
+import com.investment.proposal.assignment.AdvisorAssignmentEngine;
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.dto.InvestmentProposalDTO;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalsImportedEvent;
+import com.investment.proposal.exception.ImportJobNotFoundException;
+import com.investment.proposal.identity.ProposalReferenceGenerator;
+import com.investment.proposal.identity.ProposalReferenceIndex;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.reference.ReferenceDataDictionary;
+import com.investment.proposal.repository.InvestmentProposalRepository;
+import com.investment.proposal.sharding.ShardedInvestmentProposalStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Parallel Memory-Mapped Investment Proposal Import Service
+ * Spring Boot: Bulk loads partner CSV files without going through the REST create path
+ * The input file is split into byte ranges that end on line boundaries. Each range is
+ * memory-mapped and parsed on the parser pool into InvestmentProposalDTO objects, which are
+ * validated with the DTO's own bean validation rules plus the same checks the service
+ * applies on create (amount limit, reference data, duplicate references). Valid rows are
+ * grouped into batches and inserted with JDBC batch statements on the writer pool.
+ *
+ * A semaphore bounds the number of batches parsed but not yet inserted, so a fast parser
+ * blocks instead of filling the heap when the database is the bottleneck. Rows that fail
+ * validation or insertion are written, with their byte offset and reason, to a rejected-row
+ * report next to the input file.
+ */
+@Component  // Spring Boot: Component registration for investment bulk imports
+// Registers this class as a managed Spring component
+public class ProposalImportService {
+
+    private static final String INSERT_SQL = "INSERT INTO investment_proposals (proposal_reference, client_name,"
+            + " investment_amount, expected_return, risk_level, investment_type_id, advisor_id, created_at, approved)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, FALSE)";
+
+    @Autowired  // Spring Boot: JDBC dependency injection for batched investment inserts
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired  // Spring Boot: Transaction manager injection for one transaction per investment batch
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired  // Spring Boot: Bean validation injection applying InvestmentProposalDTO constraints
+    private Validator validator;
+
+    @Autowired  // Spring Boot: Dictionary injection for investment reference data resolution
+    private ReferenceDataDictionary dictionary;
+
+    @Autowired  // Spring Boot: Assignment engine injection for rows without an advisor
+    private AdvisorAssignmentEngine advisorAssignmentEngine;
+
+    @Autowired  // Spring Boot: Reference generator injection for rows without a reference
+    private ProposalReferenceGenerator proposalReferenceGenerator;
+
+    @Autowired  // Spring Boot: Reference index injection for duplicate pre-checks
+    private ProposalReferenceIndex proposalReferenceIndex;
+
+    @Autowired  // Spring Boot: Repository injection for duplicate reference lookups
+    private InvestmentProposalRepository investmentProposalRepository;
+
+    @Autowired(required = false)  // Spring Boot: Present only when investment sharding is enabled
+    private ShardedInvestmentProposalStore shardedStore;
+
+    @Autowired  // Spring Boot: Cache manager injection for investment cache eviction after imports
+    private CacheManager cacheManager;
+
+    @Autowired  // Spring Boot: Entity manager factory injection for query cache eviction after imports
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired  // Spring Boot: Event publisher injection so in-memory investment views resynchronize
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment import settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService coordinator;
+    private ExecutorService parserPool;
+    private ExecutorService writerPool;
+
+    /**
+     * Recent import jobs by id, oldest evicted first
+     */
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    /**
+     * Create the investment import thread pools
+     */
+    @PostConstruct
+    public void init() {
+        InvestmentConfig.InvestmentManagementProperties.ImportSettings settings = investmentProperties.getImporter();
+        int parserThreads = settings.getParserThreads() > 0
+                ? settings.getParserThreads() : Runtime.getRuntime().availableProcessors();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        coordinator = Executors.newSingleThreadExecutor(daemonThreads("investment-import"));
+        parserPool = Executors.newFixedThreadPool(parserThreads, daemonThreads("investment-import-parser"));
+        writerPool = Executors.newFixedThreadPool(settings.getWriterThreads(), daemonThreads("investment-import-writer"));
+    }
+
+    /**
+     * Stop the investment import thread pools
+     */
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        parserPool.shutdownNow();
+        writerPool.shutdownNow();
+    }
+
+    /**
+     * Store an uploaded investment file and queue its import
+     * Spring Boot: Multipart content is transferred straight to disk, never held in memory,
+     * and the stored copy is deleted once the import finishes
+     *
+     * @param upload Uploaded CSV file
+     * @return Queued import job
+     */
+    public ImportJob submit(MultipartFile upload) {
+        String id = UUID.randomUUID().toString();
+        try {
+            Path directory = directory();
+            Files.createDirectories(directory);
+            Path file = directory.resolve(id + ".csv");
+            upload.transferTo(file);
+            return submit(id, upload.getOriginalFilename(), file, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Investment import upload could not be stored", e);
+        }
+    }
+
+    /**
+     * Queue the import of an investment file already on local disk
+     *
+     * @param file CSV file with a header line; left in place after the import
+     * @return Queued import job
+     */
+    public ImportJob submit(Path file) {
+        return submit(UUID.randomUUID().toString(), file.getFileName().toString(), file, false);
+    }
+
+    /**
+     * Find an investment import job
+     *
+     * @param id Import job identifier
+     * @return Import job
+     * @throws ImportJobNotFoundException if the job is unknown or was evicted
+     */
+    public ImportJob getJob(String id) {
+        synchronized (jobs) {
+            ImportJob job = jobs.get(id);
+            if (job == null) {
+                throw new ImportJobNotFoundException("Investment import not found: " + id);
+            }
+            return job;
+        }
+    }
+
+    /**
+     * Recent investment import jobs, oldest first
+     *
+     * @return Import jobs still retained
+     */
+    public List<ImportJob> getJobs() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.values());
+        }
+    }
+
+    /**
+     * Rejected-row report of an investment import job
+     *
+     * @param id Import job identifier
+     * @return Path of the rejected-row CSV
+     */
+    public Path getRejectedFile(String id) {
+        Path file = getJob(id).getRejectedFile();
+        if (!Files.isRegularFile(file)) {
+            throw new ImportJobNotFoundException("Investment import has no rejected-row report yet: " + id);
+        }
+        return file;
+    }
+
+    /**
+     * Register an investment import job and queue it on the coordinator
+     *
+     * @param temporary True if the input file is a stored upload owned by the import
+     */
+    private ImportJob submit(String id, String fileName, Path file, boolean temporary) {
+        if (shardedStore != null) {
+            throw new IllegalStateException("Bulk investment imports write through the primary datasource"
+                    + " and are not available with sharding enabled");
+        }
+        try {
+            Path directory = directory();
+            Files.createDirectories(directory);
+            ImportJob job = new ImportJob(id, fileName, file, directory.resolve(id + "-rejected.csv"), Files.size(file));
+            synchronized (jobs) {
+                jobs.put(id, job);
+                while (jobs.size() > investmentProperties.getImporter().getRetainedJobs()) {
+                    ImportJob evicted = jobs.remove(jobs.keySet().iterator().next());
+                    // Spring Boot: Unfinished jobs drop their report themselves when they end
+                    if (evicted.getFinishedAt() != null) {
+                        delete(evicted.getRejectedFile());
+                    }
+                }
+            }
+            coordinator.submit(() -> {
+                try {
+                    run(job);
+                } finally {
+                    if (temporary) {
+                        delete(job.getFile());
+                    }
+                    synchronized (jobs) {
+                        if (!jobs.containsKey(job.getId())) {
+                            delete(job.getRejectedFile());
+                        }
+                    }
+                }
+            });
+            return job;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Investment import file is not readable", e);
+        }
+    }
+
+    /**
+     * Run one investment import to completion on the coordinator thread
+     */
+    private void run(ImportJob job) {
+        job.start();
+        AtomicLong importedCents = new AtomicLong();
+        try {
+            // Spring Boot: The rejected-row report is closed before the job can be seen as finished
+            importRows(job, importedCents);
+
+            // Spring Boot: Rows bypassed the service layer, so drop cached lists outright and refresh
+            // in-memory views once; a refresh-ahead clear would still serve the pre-import list
+            Cache cache = cacheManager.getCache("investmentProposals");
+            if (cache != null) {
+                cache.invalidate();
+            }
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+            eventPublisher.publishEvent(new InvestmentProposalsImportedEvent(job.getId(),
+                    job.getRowsInserted(), Money.ofCents(importedCents.get())));
+            job.complete();
+        } catch (Exception e) {
+            job.fail(e.getMessage());
+            System.err.println("Investment import " + job.getId() + " failed: " + e.getMessage());
+        }
+        System.out.println("Investment import " + job.getId() + " " + job.getState() + ": "
+                + job.getRowsInserted() + " inserted, " + job.getRowsRejected() + " rejected");
+    }
+
+    /**
+     * Parse the file in parallel chunks and wait for every batch insert
+     * Spring Boot: Returns only after the file and the rejected-row report are closed
+     */
+    private void importRows(ImportJob job, AtomicLong importedCents) throws Exception {
+        InvestmentConfig.InvestmentManagementProperties.ImportSettings settings = investmentProperties.getImporter();
+        try (FileChannel channel = FileChannel.open(job.getFile(), StandardOpenOption.READ);
+             RejectedRowWriter rejected = new RejectedRowWriter(job)) {
+            long size = channel.size();
+            long dataStart = nextLineStart(channel, 0, size);
+            ProposalCsvSchema schema = ProposalCsvSchema.parse(readHeader(channel, dataStart));
+            job.bytesParsedCounter().addAndGet(dataStart);
+
+            Semaphore inFlight = new Semaphore(settings.getMaxInFlightBatches());
+            Collection<Future<?>> writes = new ConcurrentLinkedQueue<>();
+            List<Future<?>> parses = new ArrayList<>();
+            for (long start = dataStart; start < size; ) {
+                long end = Math.min(size, start + settings.getChunkBytes());
+                end = end < size ? nextLineStart(channel, end, size) : size;
+                long chunkStart = start;
+                long chunkEnd = end;
+                parses.add(parserPool.submit(() -> {
+                    parseChunk(job, channel, chunkStart, chunkEnd, schema, inFlight, writes, rejected, importedCents);
+                    return null;
+                }));
+                start = end;
+            }
+            awaitAll(parses);
+            awaitAll(writes);
+        }
+    }
+
+    /**
+     * Parse one line-aligned byte range from a read-only memory mapping
+     */
+    private void parseChunk(ImportJob job, FileChannel channel, long start, long end, ProposalCsvSchema schema,
+                            Semaphore inFlight, Collection<Future<?>> writes, RejectedRowWriter rejected,
+                            AtomicLong importedCents) throws IOException, InterruptedException {
+        int batchSize = investmentProperties.getImporter().getBatchSize();
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        List<ImportRow> batch = new ArrayList<>(batchSize);
+        byte[] line = new byte[256];
+        int lineStart = 0;
+        int limit = mapped.limit();
+        for (int i = 0; i <= limit; i++) {
+            if (i < limit && mapped.get(i) != '\n') {
+                continue;
+            }
+            int length = i - lineStart;
+            if (length > 0 && mapped.get(lineStart + length - 1) == '\r') {
+                length--;
+            }
+            if (length > 0) {
+                if (line.length < length) {
+                    line = new byte[Math.max(length, line.length * 2)];
+                }
+                mapped.get(lineStart, line, 0, length);
+                String text = new String(line, 0, length, StandardCharsets.UTF_8);
+                ImportRow row = toRow(start + lineStart, text, schema, rejected, job);
+                if (row != null) {
+                    batch.add(row);
+                    if (batch.size() == batchSize) {
+                        submitBatch(job, batch, inFlight, writes, rejected, importedCents);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+            }
+            lineStart = i + 1;
+        }
+        if (!batch.isEmpty()) {
+            submitBatch(job, batch, inFlight, writes, rejected, importedCents);
+        }
+        job.bytesParsedCounter().addAndGet(end - start);
+    }
+
+    /**
+     * Validate one line and resolve it to insertable values, or reject it
+     */
+    private ImportRow toRow(long offset, String line, ProposalCsvSchema schema, RejectedRowWriter rejected, ImportJob job) {
+        job.rowsParsedCounter().incrementAndGet();
+        try {
+            InvestmentProposalDTO dto = schema.toDto(line);
+            Set<ConstraintViolation<InvestmentProposalDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                rejected.reject(offset, violations.stream()
+                        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                        .sorted().collect(Collectors.joining("; ")), line);
+                return null;
+            }
+            if (dto.getInvestmentAmount().isGreaterThan(investmentProperties.getMaxInvestmentAmount())) {
+                rejected.reject(offset, "Investment amount exceeds maximum allowed limit of "
+                        + investmentProperties.getMaxInvestmentAmount(), line);
+                return null;
+            }
+
+            InvestmentProposal proposal = new InvestmentProposal(dto.getProposalReference(), dto.getClientName(),
+                    dto.getInvestmentAmount(), dto.getExpectedReturn(),
+                    RiskLevel.valueOf(dto.getRiskLevel().toUpperCase(Locale.ROOT)),
+                    dto.getInvestmentType(), dto.getAssignedAdvisor());
+            proposal.setInvestmentTypeId(dictionary.investmentTypeByCode(dto.getInvestmentType()).getId());
+            if (dto.getAssignedAdvisor() != null) {
+                proposal.setAdvisorId(dictionary.advisorByName(dto.getAssignedAdvisor()).getId());
+            } else {
+                advisorAssignmentEngine.assignIfUnassigned(proposal);
+            }
+            if (proposal.getProposalReference() == null) {
+                proposal.setProposalReference(proposalReferenceGenerator.nextReference());
+            } else if (proposalReferenceIndex.isDuplicate(proposal.getProposalReference(),
+                    investmentProposalRepository::existsByProposalReference)) {
+                rejected.reject(offset, "Investment proposal reference already exists: "
+                        + proposal.getProposalReference(), line);
+                return null;
+            }
+            return new ImportRow(offset, line, proposal);
+        } catch (RuntimeException e) {
+            // Spring Boot: Malformed numbers, unknown risk levels and unknown reference data
+            rejected.reject(offset, e.getMessage(), line);
+            return null;
+        }
+    }
+
+    /**
+     * Hand a batch to the writer pool, blocking while too many batches are in flight
+     */
+    private void submitBatch(ImportJob job, List<ImportRow> batch, Semaphore inFlight, Collection<Future<?>> writes,
+                             RejectedRowWriter rejected, AtomicLong importedCents) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            writes.add(writerPool.submit(() -> {
+                try {
+                    insertBatch(job, batch, rejected, importedCents);
+                } finally {
+                    inFlight.release();
+                }
+            }));
+        } catch (RuntimeException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Insert a batch in one transaction; on failure retry row by row to isolate the bad rows
+     */
+    private void insertBatch(ImportJob job, List<ImportRow> batch, RejectedRowWriter rejected, AtomicLong importedCents) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(),
+                    (statement, row) -> bind(statement, row.proposal)));
+            for (ImportRow row : batch) {
+                inserted(job, row, importedCents);
+            }
+        } catch (DataAccessException batchFailure) {
+            // Spring Boot: Typically a reference duplicated within the file itself
+            for (ImportRow row : batch) {
+                try {
+                    jdbcTemplate.update(INSERT_SQL, statement -> bind(statement, row.proposal));
+                    inserted(job, row, importedCents);
+                } catch (DataAccessException rowFailure) {
+                    rejected.reject(row.offset, "Insert failed: " + rootMessage(rowFailure), row.line);
+                }
+            }
+        }
+        job.batchesInsertedCounter().incrementAndGet();
+    }
+
+    private void inserted(ImportJob job, ImportRow row, AtomicLong importedCents) {
+        proposalReferenceIndex.add(row.proposal.getProposalReference());
+        importedCents.addAndGet(row.proposal.getInvestmentAmount().getCents());
+        job.rowsInsertedCounter().incrementAndGet();
+    }
+
+    private static void bind(PreparedStatement statement, InvestmentProposal proposal) throws SQLException {
+        statement.setString(1, proposal.getProposalReference());
+        statement.setString(2, proposal.getClientName());
+        statement.setBigDecimal(3, proposal.getInvestmentAmount().toBigDecimal());
+        statement.setBigDecimal(4, proposal.getExpectedReturn().toBigDecimal());
+        statement.setString(5, proposal.getRiskLevel().name());
+        statement.setLong(6, proposal.getInvestmentTypeId());
+        statement.setLong(7, proposal.getAdvisorId());
+        statement.setTimestamp(8, Timestamp.valueOf(proposal.getCreatedAt()));
+    }
+
+    private static String readHeader(FileChannel channel, long headerEnd) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate((int) headerEnd);
+        channel.read(header, 0);
+        return new String(header.array(), 0, (int) headerEnd, StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Position just after the next line break at or after a position, or the file size
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer window = ByteBuffer.allocate(8192);
+        while (position < size) {
+            window.clear();
+            int read = channel.read(window, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (window.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static void awaitAll(Collection<Future<?>> futures) throws InterruptedException, ExecutionException {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static String rootMessage(Throwable failure) {
+        Throwable root = failure;
+        while (root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getMessage();
+    }
+
+    /**
+     * Delete an investment import file, logging instead of failing when it cannot be removed
+     */
+    private static void delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            System.err.println("Investment import file could not be deleted: " + file + " (" + e.getMessage() + ")");
+        }
+    }
+
+    private Path directory() {
+        return Paths.get(investmentProperties.getImporter().getDirectory()).toAbsolutePath().normalize();
+    }
+
+    private static java.util.concurrent.ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One validated import line with its source position
+     */
+    private static final class ImportRow {
+        private final long offset;
+        private final String line;
+        private final InvestmentProposal proposal;
+
+        private ImportRow(long offset, String line, InvestmentProposal proposal) {
+            this.offset = offset;
+            this.line = line;
+            this.proposal = proposal;
+        }
+    }
+
+    /**
+     * Thread-safe writer of the rejected-row report
+     * Spring Boot: Created lazily so clean imports leave no report file behind
+     */
+    private static final class RejectedRowWriter implements AutoCloseable {
+        private final ImportJob job;
+        private BufferedWriter writer;
+
+        private RejectedRowWriter(ImportJob job) {
+            this.job = job;
+        }
+
+        private synchronized void reject(long offset, String reason, String line) {
+            job.rowsRejectedCounter().incrementAndGet();
+            try {
+                if (writer == null) {
+                    writer = Files.newBufferedWriter(job.getRejectedFile(), StandardCharsets.UTF_8);
+                    writer.write("byte_offset,reason,line\n");
+                }
+                writer.write(offset + "," + quote(reason) + "," + quote(line) + "\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+
+        private static String quote(String value) {
+            return "\"" + String.valueOf(value).replace("\"", "\"\"") + "\"";
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.investment.proposal.jdbc;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Investment Instrumented DataSource
+ * Spring Boot: DataSource wrapper timing statements, counting fetched rows and connection waits
+ * Connections, statements and result sets are wrapped in JDK proxies that report to
+ * SqlStatisticsRecorder. Statement time is the driver's execute call; rows are counted as
+ * the caller advances the result set. Pool internals remain reachable through unwrap(), so
+ * Hikari metrics and pool metadata keep working.
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of("execute", "executeQuery", "executeUpdate",
+            "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final String dataSourceName;
+    private final ObjectProvider<SqlStatisticsRecorder> recorderProvider;
+    private volatile SqlStatisticsRecorder recorder;
+
+    /**
+     * Constructor for the investment instrumented DataSource
+     *
+     * @param target Pooled DataSource being wrapped
+     * @param dataSourceName Bean name, used as the connection metric tag
+     * @param recorderProvider Statistics recorder, resolved on first use because the DataSource
+     *                         is created before the meter registry
+     */
+    public InstrumentedDataSource(DataSource target, String dataSourceName,
+                                  ObjectProvider<SqlStatisticsRecorder> recorderProvider) {
+        super(target);
+        this.dataSourceName = dataSourceName;
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long started = System.nanoTime();
+        Connection connection = super.getConnection();
+        return instrument(connection, started);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long started = System.nanoTime();
+        Connection connection = super.getConnection(username, password);
+        return instrument(connection, started);
+    }
+
+    private Connection instrument(Connection connection, long started) {
+        SqlStatisticsRecorder statistics = recorder();
+        statistics.recordConnectionAcquire(dataSourceName, System.nanoTime() - started);
+        return proxy(Connection.class, new ConnectionHandler(connection, statistics));
+    }
+
+    private SqlStatisticsRecorder recorder() {
+        SqlStatisticsRecorder resolved = recorder;
+        if (resolved == null) {
+            resolved = recorderProvider.getObject();
+            recorder = resolved;
+        }
+        return resolved;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Wraps statements created by a connection
+     */
+    private static final class ConnectionHandler implements InvocationHandler {
+        private final Connection target;
+        private final SqlStatisticsRecorder statistics;
+
+        private ConnectionHandler(Connection target, SqlStatisticsRecorder statistics) {
+            this.target = target;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> proxy(PreparedStatement.class,
+                        new StatementHandler((Statement) result, statistics, (String) args[0]));
+                case "prepareCall" -> proxy(CallableStatement.class,
+                        new StatementHandler((Statement) result, statistics, (String) args[0]));
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, statistics, null));
+                default -> result;
+            };
+        }
+    }
+
+    /**
+     * Times executions and wraps returned result sets
+     */
+    private static final class StatementHandler implements InvocationHandler {
+        private final Statement target;
+        private final SqlStatisticsRecorder statistics;
+        private final String preparedSql;
+        private String batchSql;
+        private SqlStatisticsRecorder.StatementStatistics lastExecuted;
+
+        private StatementHandler(Statement target, SqlStatisticsRecorder statistics, String preparedSql) {
+            this.target = target;
+            this.statistics = statistics;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text
+                        : preparedSql != null ? preparedSql : batchSql;
+                lastExecuted = statistics.statementFor(sql);
+                long started = System.nanoTime();
+                try {
+                    Object result = InstrumentedDataSource.invoke(target, method, args);
+                    return result instanceof ResultSet resultSet ? wrap(resultSet) : result;
+                } finally {
+                    statistics.recordExecution(lastExecuted, System.nanoTime() - started);
+                }
+            }
+            if ("addBatch".equals(name) && args != null && args.length == 1) {
+                batchSql = (String) args[0];
+            }
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if ("getResultSet".equals(name) && result instanceof ResultSet resultSet && lastExecuted != null) {
+                return wrap(resultSet);
+            }
+            return result;
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            return proxy(ResultSet.class, new ResultSetHandler(resultSet, lastExecuted));
+        }
+    }
+
+    /**
+     * Counts rows as the caller advances a result set
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet target;
+        private final SqlStatisticsRecorder.StatementStatistics statement;
+
+        private ResultSetHandler(ResultSet target, SqlStatisticsRecorder.StatementStatistics statement) {
+            this.target = target;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && "next".equals(method.getName())) {
+                statement.rowFetched();
+            }
+            return result;
+        }
+    }
+}
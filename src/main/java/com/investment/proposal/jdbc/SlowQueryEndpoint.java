@@ -0,0 +1,70 @@
+package com.investment.proposal.jdbc;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Investment Slow Query Actuator Endpoint
+ * Spring Boot: /actuator/slowqueries listing recent slow executions and the costliest statements
+ * The statement ids match the statement tag of the investment.sql.statement and
+ * investment.sql.rows metrics, so a hot series on a dashboard can be looked up here.
+ */
+@Component  // Spring Boot: Component annotation for the investment slow query endpoint
+@ConditionalOnProperty(prefix = "investment.management.sql-metrics", name = "enabled",
+        havingValue = "true", matchIfMissing = true)  // Spring Boot: Only when SQL metrics are enabled
+@Endpoint(id = "slowqueries")  // Spring Boot: Actuator endpoint for investment SQL statistics
+public class SlowQueryEndpoint {
+
+    private static final int TOP_STATEMENTS = 20;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    @Autowired  // Spring Boot: Statistics recorder injection for investment SQL statistics
+    private SqlStatisticsRecorder recorder;
+
+    /**
+     * Slow executions and statements ranked by total time
+     *
+     * @return Investment SQL statistics since startup
+     */
+    @ReadOperation  // Spring Boot: GET operation for investment SQL statistics
+    public Map<String, Object> slowQueries() {
+        List<Map<String, Object>> slowQueries = new ArrayList<>();
+        for (SqlStatisticsRecorder.SlowQuery slowQuery : recorder.getSlowQueries()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("executedAt", slowQuery.getExecutedAt().toString());
+            entry.put("statement", slowQuery.getStatementId());
+            entry.put("sql", slowQuery.getSql());
+            entry.put("elapsedMillis", slowQuery.getElapsedNanos() / NANOS_PER_MILLI);
+            entry.put("thread", slowQuery.getThread());
+            slowQueries.add(entry);
+        }
+
+        List<Map<String, Object>> topStatements = new ArrayList<>();
+        for (SqlStatisticsRecorder.StatementStatistics statement : recorder.getTopStatements(TOP_STATEMENTS)) {
+            long executions = statement.getExecutions();
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("statement", statement.getId());
+            entry.put("sql", statement.getSql());
+            entry.put("operation", statement.getOperation());
+            entry.put("executions", executions);
+            entry.put("meanMillis", executions == 0 ? 0.0 : statement.getTotalNanos() / NANOS_PER_MILLI / executions);
+            entry.put("maxMillis", statement.getMaxNanos() / NANOS_PER_MILLI);
+            entry.put("rowsFetched", statement.getRowsFetched());
+            topStatements.add(entry);
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("thresholdMillis", recorder.getSlowQueryThresholdMillis());
+        body.put("slowQueries", slowQueries);
+        body.put("topStatements", topStatements);
+        return body;
+    }
+}
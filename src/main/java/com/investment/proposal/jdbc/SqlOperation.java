@@ -0,0 +1,14 @@
+package com.investment.proposal.jdbc;
+
+/**
+ * Investment SQL Operation
+ * Spring Boot: Statement kinds counted separately in SQL metrics and statement-count assertions
+ */
+public enum SqlOperation {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    MERGE,
+    OTHER
+}
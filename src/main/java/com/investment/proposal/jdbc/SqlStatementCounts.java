@@ -0,0 +1,63 @@
+package com.investment.proposal.jdbc;
+
+import java.util.Arrays;
+
+/**
+ * Investment SQL Statement Counts
+ * Spring Boot: Snapshot of statements executed by one thread, by operation
+ * Taking a snapshot before and after a service call and subtracting gives the statements
+ * that call issued, which is how N+1 regressions are caught in tests.
+ */
+public final class SqlStatementCounts {
+
+    private final long[] counts;
+
+    SqlStatementCounts(long[] counts) {
+        this.counts = counts;
+    }
+
+    /**
+     * Statements of one operation
+     *
+     * @param operation SQL operation
+     * @return Statements executed
+     */
+    public long get(SqlOperation operation) {
+        return counts[operation.ordinal()];
+    }
+
+    /**
+     * Statements of every operation
+     *
+     * @return Statements executed
+     */
+    public long total() {
+        return Arrays.stream(counts).sum();
+    }
+
+    /**
+     * Statements executed since an earlier snapshot of the same thread
+     *
+     * @param earlier Earlier snapshot
+     * @return Difference per operation
+     */
+    public SqlStatementCounts since(SqlStatementCounts earlier) {
+        long[] difference = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            difference[i] = counts[i] - earlier.counts[i];
+        }
+        return new SqlStatementCounts(difference);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (SqlOperation operation : SqlOperation.values()) {
+            if (text.length() > 0) {
+                text.append(", ");
+            }
+            text.append(operation).append('=').append(get(operation));
+        }
+        return text.toString();
+    }
+}
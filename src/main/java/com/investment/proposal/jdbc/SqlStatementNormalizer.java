@@ -0,0 +1,55 @@
+package com.investment.proposal.jdbc;
+
+import java.util.regex.Pattern;
+
+/**
+ * Investment SQL Statement Normalizer
+ * Spring Boot: Reduces SQL text to its shape so executions of one statement share statistics
+ * Literals become ?, IN lists of any length become (?), and whitespace (including the line
+ * breaks of format_sql output) collapses to single spaces. Statements that differ only in
+ * their values are therefore recorded as one.
+ */
+final class SqlStatementNormalizer {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementNormalizer() {
+    }
+
+    /**
+     * Normalize a SQL statement
+     *
+     * @param sql Statement text as sent to the driver
+     * @return Statement shape without literal values
+     */
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?)");
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    /**
+     * Statement kind from the leading keyword
+     *
+     * @param normalizedSql Normalized statement
+     * @return Operation counted by the per-thread statement counters
+     */
+    static SqlOperation operationOf(String normalizedSql) {
+        int end = 0;
+        while (end < normalizedSql.length() && Character.isLetter(normalizedSql.charAt(end))) {
+            end++;
+        }
+        return switch (normalizedSql.substring(0, end).toLowerCase()) {
+            case "select", "with" -> SqlOperation.SELECT;
+            case "insert" -> SqlOperation.INSERT;
+            case "update" -> SqlOperation.UPDATE;
+            case "delete" -> SqlOperation.DELETE;
+            case "merge" -> SqlOperation.MERGE;
+            default -> SqlOperation.OTHER;
+        };
+    }
+}
@@ -0,0 +1,274 @@
+package com.investment.proposal.jdbc;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+/**
+ * Investment SQL Statistics Recorder
+ * Spring Boot: Aggregates JDBC executions reported by InstrumentedDataSource
+ * Each normalized statement gets a latency timer with a percentile histogram and a rows-fetched
+ * counter, tagged with a short stable statement id; the id-to-SQL mapping is served by the
+ * slowqueries actuator endpoint. Executions above the slow threshold are kept in a ring.
+ *
+ * Distinct statements are bounded: past max-statements, new shapes are folded into one
+ * "other" entry so ad-hoc SQL cannot grow the meter registry without limit.
+ */
+public class SqlStatisticsRecorder {
+
+    private static final String OVERFLOW_ID = "other";
+
+    /**
+     * Statements executed on each thread, by operation, for statement-count assertions
+     */
+    private static final ThreadLocal<long[]> THREAD_COUNTS =
+            ThreadLocal.withInitial(() -> new long[SqlOperation.values().length]);
+
+    private final InvestmentManagementProperties.SqlMetrics settings;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Statistics by SQL text as sent to the driver, skipping normalization for repeats
+     */
+    private final Map<String, StatementStatistics> bySql = new ConcurrentHashMap<>();
+
+    /**
+     * Statistics by normalized statement
+     */
+    private final Map<String, StatementStatistics> byStatement = new ConcurrentHashMap<>();
+
+    private final StatementStatistics overflow;
+    private final AtomicReferenceArray<SlowQuery> slowQueries;
+    private final AtomicLong slowQuerySequence = new AtomicLong();
+    private final Counter slowQueryCounter;
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for the investment SQL statistics recorder
+     *
+     * @param properties Investment management properties holding the SQL metrics settings
+     * @param meterRegistry Micrometer registry for statement and connection metrics
+     */
+    public SqlStatisticsRecorder(InvestmentManagementProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getSqlMetrics();
+        this.meterRegistry = meterRegistry;
+        this.overflow = new StatementStatistics(OVERFLOW_ID, "(statements beyond max-statements)", SqlOperation.OTHER);
+        this.slowQueries = new AtomicReferenceArray<>(Math.max(1, settings.getSlowQueryLogSize()));
+        this.slowQueryCounter = Counter.builder("investment.sql.slow")
+                .description("Investment SQL executions slower than the slow query threshold")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Statistics entry for a statement
+     *
+     * @param sql Statement text as sent to the driver
+     * @return Shared statistics of the statement's normalized form
+     */
+    StatementStatistics statementFor(String sql) {
+        if (sql == null) {
+            return overflow;
+        }
+        StatementStatistics statistics = bySql.get(sql);
+        if (statistics != null) {
+            return statistics;
+        }
+        String normalized = SqlStatementNormalizer.normalize(sql);
+        statistics = byStatement.get(normalized);
+        if (statistics == null) {
+            statistics = byStatement.size() < settings.getMaxStatements()
+                    ? byStatement.computeIfAbsent(normalized, key -> new StatementStatistics(
+                            statementId(key), key, SqlStatementNormalizer.operationOf(key)))
+                    : overflow;
+        }
+        // Spring Boot: Literal-heavy SQL varies per call, so the raw-text shortcut is bounded too
+        if (bySql.size() < settings.getMaxStatements() * 4) {
+            bySql.put(sql, statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Record one statement execution
+     *
+     * @param statistics Statement statistics
+     * @param elapsedNanos Time spent in the driver's execute call
+     */
+    void recordExecution(StatementStatistics statistics, long elapsedNanos) {
+        statistics.record(elapsedNanos);
+        THREAD_COUNTS.get()[statistics.operation.ordinal()]++;
+        if (elapsedNanos >= settings.getSlowQueryThreshold().toNanos()) {
+            slowQueryCounter.increment();
+            long sequence = slowQuerySequence.getAndIncrement();
+            slowQueries.set((int) (sequence % slowQueries.length()), new SlowQuery(Instant.now(),
+                    statistics.id, statistics.sql, elapsedNanos, Thread.currentThread().getName()));
+        }
+    }
+
+    /**
+     * Record the time taken to obtain a connection from a pool
+     *
+     * @param dataSourceName Bean name of the data source
+     * @param elapsedNanos Time spent in getConnection
+     */
+    void recordConnectionAcquire(String dataSourceName, long elapsedNanos) {
+        acquireTimers.computeIfAbsent(dataSourceName, name -> Timer.builder("investment.sql.connection.acquire")
+                        .description("Time spent obtaining an investment database connection")
+                        .tag("datasource", name)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Statements executed so far on the calling thread
+     *
+     * @return Snapshot of the calling thread's statement counters
+     */
+    public static SqlStatementCounts currentThreadCounts() {
+        return new SqlStatementCounts(THREAD_COUNTS.get().clone());
+    }
+
+    /**
+     * Recent slow executions, slowest first
+     *
+     * @return Slow executions still in the ring
+     */
+    public List<SlowQuery> getSlowQueries() {
+        List<SlowQuery> recent = new ArrayList<>();
+        for (int i = 0; i < slowQueries.length(); i++) {
+            SlowQuery slowQuery = slowQueries.get(i);
+            if (slowQuery != null) {
+                recent.add(slowQuery);
+            }
+        }
+        recent.sort(Comparator.comparingLong(SlowQuery::getElapsedNanos).reversed());
+        return recent;
+    }
+
+    /**
+     * Statements by total time spent, highest first
+     *
+     * @param limit Maximum statements returned
+     * @return Statement statistics
+     */
+    public List<StatementStatistics> getTopStatements(int limit) {
+        List<StatementStatistics> statements = new ArrayList<>(byStatement.values());
+        if (overflow.getExecutions() > 0) {
+            statements.add(overflow);
+        }
+        statements.sort(Comparator.comparingLong(StatementStatistics::getTotalNanos).reversed());
+        return statements.subList(0, Math.min(limit, statements.size()));
+    }
+
+    /**
+     * Slow query threshold in milliseconds
+     */
+    public long getSlowQueryThresholdMillis() {
+        return settings.getSlowQueryThreshold().toMillis();
+    }
+
+    /**
+     * Short stable id of a normalized statement, usable as a metric tag
+     */
+    private static String statementId(String normalizedSql) {
+        CRC32 crc = new CRC32();
+        crc.update(normalizedSql.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    /**
+     * Investment SQL Statement Statistics
+     * Spring Boot: Counters and meters shared by every execution of one normalized statement
+     */
+    public final class StatementStatistics {
+        private final String id;
+        private final String sql;
+        private final SqlOperation operation;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder rowsFetched = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final Timer timer;
+        private final Counter rowsCounter;
+
+        private StatementStatistics(String id, String sql, SqlOperation operation) {
+            this.id = id;
+            this.sql = sql;
+            this.operation = operation;
+            this.timer = Timer.builder("investment.sql.statement")
+                    .description("Investment SQL execution time per normalized statement")
+                    .tag("statement", id)
+                    .tag("operation", operation.name())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.rowsCounter = Counter.builder("investment.sql.rows")
+                    .description("Rows fetched per normalized investment SQL statement")
+                    .tag("statement", id)
+                    .tag("operation", operation.name())
+                    .register(meterRegistry);
+        }
+
+        private void record(long elapsedNanos) {
+            executions.increment();
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        void rowFetched() {
+            rowsFetched.increment();
+            rowsCounter.increment();
+        }
+
+        // Getters for investment SQL statement statistics access
+        public String getId() { return id; }
+        public String getSql() { return sql; }
+        public SqlOperation getOperation() { return operation; }
+        public long getExecutions() { return executions.sum(); }
+        public long getTotalNanos() { return totalNanos.sum(); }
+        public long getMaxNanos() { return maxNanos.get(); }
+        public long getRowsFetched() { return rowsFetched.sum(); }
+    }
+
+    /**
+     * Investment Slow Query
+     * Spring Boot: One execution above the slow query threshold
+     */
+    public static final class SlowQuery {
+        private final Instant executedAt;
+        private final String statementId;
+        private final String sql;
+        private final long elapsedNanos;
+        private final String thread;
+
+        private SlowQuery(Instant executedAt, String statementId, String sql, long elapsedNanos, String thread) {
+            this.executedAt = executedAt;
+            this.statementId = statementId;
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+            this.thread = thread;
+        }
+
+        // Getters for investment slow query data access
+        public Instant getExecutedAt() { return executedAt; }
+        public String getStatementId() { return statementId; }
+        public String getSql() { return sql; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public String getThread() { return thread; }
+    }
+}
@@ -0,0 +1,162 @@
+package com.investment.proposal.lock;
+
+import com.investment.proposal.config.InvestmentConfig;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC Lease Lock Provider for Investment Scheduled Tasks
+ * Spring Boot: Cluster-wide locks stored as rows of investment_scheduler_lock
+ * A lock is free when its lock_until time has passed. Acquiring is a single conditional
+ * UPDATE (or the first INSERT of the row), so exactly one node wins even when all nodes
+ * fire at the same instant; the database row lock arbitrates, no extra coordinator needed.
+ *
+ * Times are taken from the node clock, so node clocks should be kept in sync; lockAtLeastFor
+ * absorbs small skew. A node that dies simply stops renewing, and its lease expires at
+ * lock_until.
+ */
+@Component  // Spring Boot: Component registration for investment scheduler locking
+// Registers this class as a managed Spring component
+public class JdbcLeaseLockProvider {
+
+    @Autowired  // Spring Boot: JDBC dependency injection for investment scheduler lock rows
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired  // Spring Boot: Transaction manager injection for atomic investment lock acquisition
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment scheduler lock settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    private TransactionTemplate transactionTemplate;
+    private String nodeName;
+
+    /**
+     * Resolve the node name recorded as lock holder
+     */
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        String configured = investmentProperties.getSchedulerLock().getNodeName();
+        // Spring Boot: RuntimeMXBean name is pid@hostname, unique per running JVM
+        nodeName = configured != null && !configured.isBlank()
+                ? configured : ManagementFactory.getRuntimeMXBean().getName();
+    }
+
+    /**
+     * Try to acquire a named investment scheduler lock
+     *
+     * @param name Lock name
+     * @param lockAtMostFor Lease length before the lock expires on its own
+     * @param lockAtLeastFor Minimum hold time applied on release
+     * @return Lease if this node now holds the lock, empty if another holder's lease is live
+     * @throws IllegalArgumentException if lockAtLeastFor exceeds lockAtMostFor
+     */
+    public Optional<LeaseLock> tryAcquire(String name, Duration lockAtMostFor, Duration lockAtLeastFor) {
+        if (lockAtLeastFor.compareTo(lockAtMostFor) > 0) {
+            throw new IllegalArgumentException("Investment scheduler lock '" + name
+                    + "' has lockAtLeastFor longer than lockAtMostFor");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp lockUntil = Timestamp.valueOf(now.plus(lockAtMostFor));
+        Timestamp lockedAt = Timestamp.valueOf(now);
+
+        Long token = transactionTemplate.execute(status -> {
+            int updated = jdbcTemplate.update("UPDATE investment_scheduler_lock"
+                            + " SET lock_until = ?, locked_at = ?, locked_by = ?, fencing_token = fencing_token + 1"
+                            + " WHERE name = ? AND lock_until <= ?",
+                    lockUntil, lockedAt, nodeName, name, lockedAt);
+            if (updated == 1) {
+                // Spring Boot: Row lock from the UPDATE is held, so this reads our own token
+                return jdbcTemplate.queryForObject(
+                        "SELECT fencing_token FROM investment_scheduler_lock WHERE name = ?", Long.class, name);
+            }
+            return null;
+        });
+        if (token == null) {
+            token = insertFirstLease(name, lockUntil, lockedAt);
+        }
+        return token == null ? Optional.empty() : Optional.of(new LeaseLock(name, token, now, lockAtLeastFor));
+    }
+
+    /**
+     * Release a lease, keeping it held until lockAtLeastFor has elapsed
+     * Spring Boot: Only the holder with the current fencing token can release
+     *
+     * @param lease Lease returned by tryAcquire
+     */
+    public void release(LeaseLock lease) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime minimumUntil = lease.getLockedAt().plus(lease.getLockAtLeastFor());
+        LocalDateTime until = minimumUntil.isAfter(now) ? minimumUntil : now;
+        jdbcTemplate.update("UPDATE investment_scheduler_lock SET lock_until = ? WHERE name = ? AND fencing_token = ?",
+                Timestamp.valueOf(until), lease.getName(), lease.getFencingToken());
+    }
+
+    /**
+     * Extend a held lease, counting its new length from now
+     * Spring Boot: Keeps long-lived claims alive; only the unexpired holder of the current token can extend
+     *
+     * @param lease Lease returned by tryAcquire
+     * @param lockAtMostFor New lease length
+     * @throws LockLostException if the lease expired or another node re-acquired the lock
+     */
+    public void extend(LeaseLock lease, Duration lockAtMostFor) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update("UPDATE investment_scheduler_lock SET lock_until = ?"
+                        + " WHERE name = ? AND fencing_token = ? AND lock_until > ?",
+                Timestamp.valueOf(now.plus(lockAtMostFor)), lease.getName(), lease.getFencingToken(),
+                Timestamp.valueOf(now));
+        if (updated != 1) {
+            throw new LockLostException("Investment scheduler lock '" + lease.getName()
+                    + "' could not be extended with fencing token " + lease.getFencingToken());
+        }
+    }
+
+    /**
+     * Check a lease is still the current, unexpired holder of its lock
+     * Spring Boot: Call inside the guarded transaction before writing
+     *
+     * @param lease Lease to verify
+     * @throws LockLostException if the lease expired or another node re-acquired the lock
+     */
+    public void verify(LeaseLock lease) {
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT fencing_token FROM investment_scheduler_lock WHERE name = ? AND lock_until > ?",
+                Long.class, lease.getName(), Timestamp.valueOf(LocalDateTime.now()));
+        if (current.isEmpty() || current.get(0) != lease.getFencingToken()) {
+            throw new LockLostException("Investment scheduler lock '" + lease.getName()
+                    + "' is no longer held with fencing token " + lease.getFencingToken());
+        }
+    }
+
+    public String getNodeName() {
+        return nodeName;
+    }
+
+    /**
+     * Create the lock row on first use; a concurrent creator wins and this node skips
+     */
+    private Long insertFirstLease(String name, Timestamp lockUntil, Timestamp lockedAt) {
+        try {
+            jdbcTemplate.update("INSERT INTO investment_scheduler_lock"
+                            + " (name, lock_until, locked_at, locked_by, fencing_token) VALUES (?, ?, ?, ?, 1)",
+                    name, lockUntil, lockedAt, nodeName);
+            return 1L;
+        } catch (DuplicateKeyException e) {
+            return null;
+        }
+    }
+}
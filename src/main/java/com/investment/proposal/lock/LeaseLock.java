@@ -0,0 +1,40 @@
+package com.investment.proposal.lock;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Held Investment Scheduler Lease
+ * Spring Boot: Immutable handle for one acquisition of a scheduler lock
+ * The fencing token increases by one on every acquisition of the same lock, so work
+ * guarded by the lease can check it is still current before writing, and a node that
+ * was paused past its lease cannot overwrite the work of the node that took over.
+ */
+public class LeaseLock {
+
+    private final String name;
+    private final long fencingToken;
+    private final LocalDateTime lockedAt;
+    private final Duration lockAtLeastFor;
+
+    /**
+     * Constructor for an investment scheduler lease
+     *
+     * @param name Lock name
+     * @param fencingToken Monotonic token of this acquisition
+     * @param lockedAt Acquisition time
+     * @param lockAtLeastFor Minimum hold time applied on release
+     */
+    public LeaseLock(String name, long fencingToken, LocalDateTime lockedAt, Duration lockAtLeastFor) {
+        this.name = name;
+        this.fencingToken = fencingToken;
+        this.lockedAt = lockedAt;
+        this.lockAtLeastFor = lockAtLeastFor;
+    }
+
+    // Getters for investment scheduler lease data access
+    public String getName() { return name; }
+    public long getFencingToken() { return fencingToken; }
+    public LocalDateTime getLockedAt() { return lockedAt; }
+    public Duration getLockAtLeastFor() { return lockAtLeastFor; }
+}
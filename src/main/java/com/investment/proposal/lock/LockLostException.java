@@ -0,0 +1,19 @@
+package com.investment.proposal.lock;
+
+/**
+ * Investment Scheduler Lock Lost Exception
+ * Spring Boot: Thrown when guarded work finds its lease expired or taken over
+ * Aborts the current unit of work so a stale holder never writes after another node
+ * acquired the same lock with a newer fencing token
+ */
+public class LockLostException extends RuntimeException {
+
+    /**
+     * Constructor for investment scheduler lock lost exception
+     *
+     * @param message Description of the lost lease
+     */
+    public LockLostException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,38 @@
+package com.investment.proposal.lock;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Cluster-Wide Lock for Scheduled Investment Tasks
+ * Spring Boot: Declarative lease lock around an @Scheduled method
+ * The annotated method only runs on the node that wins the named lease in the
+ * investment_scheduler_lock table; every other node skips that execution.
+ *
+ * Durations accept Spring Boot duration syntax, e.g. "30m", "90s" or "PT1H".
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SchedulerLock {
+
+    /**
+     * Lock name; executions sharing a name never run concurrently across the cluster
+     */
+    String name();
+
+    /**
+     * Lease length; if the holder dies the lock expires after this long
+     * Must comfortably exceed the longest expected execution
+     */
+    String lockAtMostFor();
+
+    /**
+     * Minimum time the lock stays held, even if the method finishes sooner
+     * Keeps nodes with slightly different clocks or schedules from re-running the same task
+     */
+    String lockAtLeastFor() default "0s";
+}
@@ -0,0 +1,26 @@
+package com.investment.proposal.lock;
+
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+/**
+ * Investment Scheduler Lock Post-Processor
+ * Spring Boot: Proxies beans with @SchedulerLock methods, in the same way @Async is applied
+ * Uses Spring AOP's own proxying, so no AspectJ dependency is needed; @Scheduled invokes
+ * the proxy and therefore goes through the lock.
+ */
+public class SchedulerLockBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    /**
+     * Constructor for the investment scheduler lock post-processor
+     *
+     * @param interceptor Interceptor acquiring and releasing the lease
+     */
+    public SchedulerLockBeanPostProcessor(SchedulerLockInterceptor interceptor) {
+        this.advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(SchedulerLock.class), interceptor);
+        setBeforeExistingAdvisors(true);
+        setProxyTargetClass(true);
+    }
+}
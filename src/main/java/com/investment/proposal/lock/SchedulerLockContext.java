@@ -0,0 +1,32 @@
+package com.investment.proposal.lock;
+
+/**
+ * Current Investment Scheduler Lease Holder
+ * Spring Boot: Thread-bound access to the lease of the running locked task
+ * Lets code called from a @SchedulerLock method fence its writes without the lease
+ * being threaded through every method signature
+ */
+public final class SchedulerLockContext {
+
+    private static final ThreadLocal<LeaseLock> CURRENT = new ThreadLocal<>();
+
+    private SchedulerLockContext() {
+    }
+
+    /**
+     * Lease held by the current thread
+     *
+     * @return Current lease, or null outside a locked task
+     */
+    public static LeaseLock current() {
+        return CURRENT.get();
+    }
+
+    static void set(LeaseLock lease) {
+        CURRENT.set(lease);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
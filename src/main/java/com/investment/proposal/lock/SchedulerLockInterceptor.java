@@ -0,0 +1,82 @@
+package com.investment.proposal.lock;
+
+import com.investment.proposal.config.InvestmentConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Investment Scheduler Lock Interceptor
+ * Spring Boot: Runs a @SchedulerLock method only while holding its cluster-wide lease
+ * Executions that lose the race are skipped, not queued, which is what a fixed-rate or
+ * cron task wants: the winning node does the work for this tick.
+ *
+ * Collaborators are looked up lazily so the post-processor that installs this
+ * interceptor does not force early creation of the datasource.
+ */
+public class SchedulerLockInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<JdbcLeaseLockProvider> lockProvider;
+    private final ObjectProvider<InvestmentConfig.InvestmentManagementProperties> investmentProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Constructor for the investment scheduler lock interceptor
+     *
+     * @param lockProvider Lease lock provider
+     * @param investmentProperties Investment management properties holding the enabled flag
+     * @param meterRegistry Micrometer registry for lock outcome metrics
+     */
+    public SchedulerLockInterceptor(ObjectProvider<JdbcLeaseLockProvider> lockProvider,
+                                    ObjectProvider<InvestmentConfig.InvestmentManagementProperties> investmentProperties,
+                                    ObjectProvider<MeterRegistry> meterRegistry) {
+        this.lockProvider = lockProvider;
+        this.investmentProperties = investmentProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Method method = invocation.getThis() != null
+                ? AopUtils.getMostSpecificMethod(invocation.getMethod(), invocation.getThis().getClass())
+                : invocation.getMethod();
+        SchedulerLock annotation = AnnotatedElementUtils.findMergedAnnotation(method, SchedulerLock.class);
+        if (annotation == null || !investmentProperties.getObject().getSchedulerLock().isEnabled()) {
+            return invocation.proceed();
+        }
+
+        JdbcLeaseLockProvider provider = lockProvider.getObject();
+        Optional<LeaseLock> lease = provider.tryAcquire(annotation.name(),
+                DurationStyle.detectAndParse(annotation.lockAtMostFor()),
+                DurationStyle.detectAndParse(annotation.lockAtLeastFor()));
+        if (lease.isEmpty()) {
+            // Spring Boot: Another node holds the investment task lease for this tick
+            count(annotation.name(), "skipped");
+            System.out.println("Investment scheduled task '" + annotation.name() + "' skipped; lock held by another node");
+            return null;
+        }
+
+        count(annotation.name(), "acquired");
+        SchedulerLockContext.set(lease.get());
+        try {
+            return invocation.proceed();
+        } finally {
+            SchedulerLockContext.clear();
+            provider.release(lease.get());
+        }
+    }
+
+    private void count(String lockName, String outcome) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.counter("investment.scheduler.lock", "lock", lockName, "outcome", outcome).increment();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.investment.proposal.money;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Investment Money Amount
+ * Spring Boot: Immutable fixed-point amount held as a long number of cents
+ * Comparisons, sums and sorts work on the primitive cent count, so hot paths no longer
+ * allocate BigDecimal intermediates. JSON keeps the existing shape: amounts are written and
+ * read as plain numbers with two decimals. The database column stays DECIMAL(15,2) through
+ * MoneyConverter.
+ */
+public final class Money implements Comparable<Money>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Decimal places of an amount
+     */
+    public static final int SCALE = 2;
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    /**
+     * Amount from a whole number of cents
+     *
+     * @param cents Minor units
+     * @return Money amount
+     */
+    public static Money ofCents(long cents) {
+        return new Money(cents);
+    }
+
+    /**
+     * Amount from a decimal value, rounded half up to cents
+     * Spring Boot: Also the Jackson creator for JSON numbers
+     *
+     * @param amount Decimal amount
+     * @return Money amount, or null for null
+     * @throws ArithmeticException if the amount does not fit a long number of cents
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        return amount == null ? null : new Money(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Amount from its decimal text
+     * Spring Boot: Picked up by the conversion service for request parameters and properties
+     *
+     * @param amount Decimal text such as 50000.00
+     * @return Money amount
+     * @throws NumberFormatException if the text is not a decimal number
+     */
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount.trim()));
+    }
+
+    /**
+     * Minor units of the amount
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Decimal value with two decimals, the JSON and database representation
+     */
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, SCALE);
+    }
+
+    /**
+     * Approximate value for statistics and simulations
+     */
+    public double doubleValue() {
+        return cents / 100.0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    public boolean isLessThan(Money other) {
+        return cents < other.cents;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money money && money.cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    /**
+     * Plain decimal text, e.g. 50000.00
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.investment.proposal.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Investment Money JPA Converter
+ * Spring Boot: Maps Money attributes to their DECIMAL columns, so the schema is unchanged
+ * Applied automatically to every Money attribute and to query parameters compared with one.
+ */
+@Converter(autoApply = true)  // Spring Boot: Applies to every Money attribute without a per-field annotation
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money amount) {
+        return amount == null ? null : amount.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal column) {
+        return Money.of(column);
+    }
+}
@@ -0,0 +1,39 @@
+package com.investment.proposal.money;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Investment Money Range Constraint
+ * Spring Boot: Bean validation bounds for Money, checked on the cent count
+ * Takes the place of @DecimalMin and @DecimalMax, which only apply to numeric types.
+ * Null values are valid; combine with @NotNull where an amount is required.
+ */
+@Documented
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = MoneyRangeValidator.class)  // Spring Boot: Validator registration for investment amounts
+public @interface MoneyRange {
+
+    String message() default "must be between {min} and {max}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * Inclusive lower bound as decimal text
+     */
+    String min() default "-92233720368547758.08";
+
+    /**
+     * Inclusive upper bound as decimal text
+     */
+    String max() default "92233720368547758.07";
+}
@@ -0,0 +1,25 @@
+package com.investment.proposal.money;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Investment Money Range Validator
+ * Spring Boot: Compares cent counts against bounds parsed once per constraint
+ */
+public class MoneyRangeValidator implements ConstraintValidator<MoneyRange, Money> {
+
+    private long minCents;
+    private long maxCents;
+
+    @Override
+    public void initialize(MoneyRange range) {
+        minCents = Money.of(range.min()).getCents();
+        maxCents = Money.of(range.max()).getCents();
+    }
+
+    @Override
+    public boolean isValid(Money amount, ConstraintValidatorContext context) {
+        return amount == null || (amount.getCents() >= minCents && amount.getCents() <= maxCents);
+    }
+}
@@ -0,0 +1,18 @@
+package com.investment.proposal.money;
+
+import org.springframework.core.convert.converter.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Number to Money Converter for Investment Configuration
+ * Spring Boot: Binds unquoted YAML amounts such as 10000000.00, which arrive as numbers
+ * Quoted amounts and request parameters are strings and convert through Money.of(String).
+ */
+public class NumberToMoneyConverter implements Converter<Number, Money> {
+
+    @Override
+    public Money convert(Number amount) {
+        return Money.of(amount instanceof BigDecimal decimal ? decimal : new BigDecimal(amount.toString()));
+    }
+}
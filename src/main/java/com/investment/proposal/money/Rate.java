@@ -0,0 +1,111 @@
+package com.investment.proposal.money;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Investment Return Rate
+ * Spring Boot: Immutable fixed-point percentage held as a long number of basis points
+ * A rate of 7.5 percent is 750 basis points. Like Money, comparisons work on the primitive
+ * value and JSON keeps the existing plain number shape with two decimals, matching the
+ * DECIMAL(38,2) expected_return column written through RateConverter.
+ */
+public final class Rate implements Comparable<Rate>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Decimal places of a percentage
+     */
+    public static final int SCALE = 2;
+
+    private final long basisPoints;
+
+    private Rate(long basisPoints) {
+        this.basisPoints = basisPoints;
+    }
+
+    /**
+     * Rate from a whole number of basis points
+     *
+     * @param basisPoints Hundredths of a percent
+     * @return Rate
+     */
+    public static Rate ofBasisPoints(long basisPoints) {
+        return new Rate(basisPoints);
+    }
+
+    /**
+     * Rate from a decimal percentage, rounded half up to basis points
+     * Spring Boot: Also the Jackson creator for JSON numbers
+     *
+     * @param percent Percentage, e.g. 7.5
+     * @return Rate, or null for null
+     * @throws ArithmeticException if the rate does not fit a long number of basis points
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Rate of(BigDecimal percent) {
+        return percent == null ? null : new Rate(percent.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Rate from its decimal text
+     * Spring Boot: Picked up by the conversion service for request parameters and properties
+     *
+     * @param percent Percentage text such as 7.5
+     * @return Rate
+     * @throws NumberFormatException if the text is not a decimal number
+     */
+    public static Rate of(String percent) {
+        return of(new BigDecimal(percent.trim()));
+    }
+
+    /**
+     * Hundredths of a percent
+     */
+    public long getBasisPoints() {
+        return basisPoints;
+    }
+
+    /**
+     * Decimal percentage with two decimals, the JSON and database representation
+     */
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(basisPoints, SCALE);
+    }
+
+    /**
+     * Rate as a fraction, e.g. 0.075 for 7.5 percent
+     */
+    public double fraction() {
+        return basisPoints / 10_000.0;
+    }
+
+    @Override
+    public int compareTo(Rate other) {
+        return Long.compare(basisPoints, other.basisPoints);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Rate rate && rate.basisPoints == basisPoints;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(basisPoints);
+    }
+
+    /**
+     * Plain percentage text, e.g. 7.50
+     */
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,25 @@
+package com.investment.proposal.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Investment Rate JPA Converter
+ * Spring Boot: Maps Rate attributes to their DECIMAL percentage columns
+ * Applied automatically to every Rate attribute and to query parameters compared with one.
+ */
+@Converter(autoApply = true)  // Spring Boot: Applies to every Rate attribute without a per-field annotation
+public class RateConverter implements AttributeConverter<Rate, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Rate rate) {
+        return rate == null ? null : rate.toBigDecimal();
+    }
+
+    @Override
+    public Rate convertToEntityAttribute(BigDecimal column) {
+        return Rate.of(column);
+    }
+}
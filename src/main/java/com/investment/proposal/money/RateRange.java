@@ -0,0 +1,38 @@
+package com.investment.proposal.money;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Investment Rate Range Constraint
+ * Spring Boot: Bean validation bounds for Rate, checked on the basis point count
+ * Null values are valid; combine with @NotNull where a rate is required.
+ */
+@Documented
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = RateRangeValidator.class)  // Spring Boot: Validator registration for investment return rates
+public @interface RateRange {
+
+    String message() default "must be between {min} and {max}";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+
+    /**
+     * Inclusive lower bound as percentage text
+     */
+    String min() default "-92233720368547758.08";
+
+    /**
+     * Inclusive upper bound as percentage text
+     */
+    String max() default "92233720368547758.07";
+}
@@ -0,0 +1,25 @@
+package com.investment.proposal.money;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Investment Rate Range Validator
+ * Spring Boot: Compares basis point counts against bounds parsed once per constraint
+ */
+public class RateRangeValidator implements ConstraintValidator<RateRange, Rate> {
+
+    private long minBasisPoints;
+    private long maxBasisPoints;
+
+    @Override
+    public void initialize(RateRange range) {
+        minBasisPoints = Rate.of(range.min()).getBasisPoints();
+        maxBasisPoints = Rate.of(range.max()).getBasisPoints();
+    }
+
+    @Override
+    public boolean isValid(Rate rate, ConstraintValidatorContext context) {
+        return rate == null || (rate.getBasisPoints() >= minBasisPoints && rate.getBasisPoints() <= maxBasisPoints);
+    }
+}
@@ -0,0 +1,25 @@
+package com.investment.proposal.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Endpoint Class Enum for Investment API Admission Control
+ * Spring Boot: Enum grouping investment proposal endpoints that share a rate limit
+ * Reads are cheap and cacheable, writes hit the database and publish lifecycle events,
+ * so each principal gets an independent token bucket per class
+ */
+public enum EndpointClass {
+    READ,   // GET and HEAD investment proposal requests
+    WRITE;  // POST, PUT, PATCH and DELETE investment proposal requests
+
+    /**
+     * Classify an investment API request by HTTP method
+     *
+     * @param request Incoming HTTP request
+     * @return Endpoint class the request is charged against
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method) ? READ : WRITE;
+    }
+}
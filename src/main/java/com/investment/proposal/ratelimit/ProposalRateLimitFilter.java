@@ -0,0 +1,141 @@
+package com.investment.proposal.ratelimit;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Investment API Rate Limit Filter
+ * Spring Boot: Admission control filter placed after authentication in the security chain
+ * Keeps one lock-free token bucket per authenticated principal and endpoint class, so a
+ * single noisy client is throttled with HTTP 429 instead of degrading latency for everyone
+ *
+ * Unauthenticated requests pass through untouched; the authorization filter rejects them.
+ * Idle buckets are dropped by {@link #evictIdleBuckets()} on a background schedule, so the
+ * request path never scans the bucket registry.
+ */
+public class ProposalRateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Request path prefix of the investment proposal API, relative to the context path
+     */
+    private static final String PROPOSAL_API_PREFIX = "/api/investment-proposals";
+
+    private final InvestmentManagementProperties.RateLimit settings;
+
+    /**
+     * Token buckets keyed by principal name and endpoint class
+     */
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    private final Map<EndpointClass, Counter> throttledCounters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> admittedCounters = new EnumMap<>(EndpointClass.class);
+
+    /**
+     * Constructor for the investment API rate limit filter
+     *
+     * @param properties Investment management properties holding the rate limit settings
+     * @param meterRegistry Micrometer registry for throttle metrics
+     */
+    public ProposalRateLimitFilter(InvestmentManagementProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.getRateLimit();
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            // Spring Boot: Tagged by endpoint class only; principal tags would be unbounded
+            throttledCounters.put(endpointClass, Counter.builder("investment.ratelimit.throttled")
+                    .description("Investment API requests rejected with HTTP 429")
+                    .tag("endpoint_class", endpointClass.name())
+                    .register(meterRegistry));
+            admittedCounters.put(endpointClass, Counter.builder("investment.ratelimit.admitted")
+                    .description("Investment API requests admitted by the rate limiter")
+                    .tag("endpoint_class", endpointClass.name())
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Skip requests outside the investment proposal API or when rate limiting is disabled
+     *
+     * @param request Incoming HTTP request
+     * @return True if the request is not rate limited
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !settings.isEnabled() || !path.startsWith(PROPOSAL_API_PREFIX);
+    }
+
+    /**
+     * Charge the request against the caller's token bucket
+     * Spring Boot: Rejects with 429 and a Retry-After header when the bucket is empty
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        EndpointClass endpointClass = EndpointClass.of(request);
+        long now = System.nanoTime();
+        long waitNanos = bucketFor(authentication.getName(), endpointClass, now).tryAcquire(now);
+        if (waitNanos == 0L) {
+            admittedCounters.get(endpointClass).increment();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        throttledCounters.get(endpointClass).increment();
+        long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Investment API rate limit exceeded\",\"status\":429,"
+                + "\"endpointClass\":\"" + endpointClass + "\",\"retryAfterSeconds\":" + retryAfterSeconds + "}");
+    }
+
+    /**
+     * Drop fully refilled buckets once the registry has grown to its bound
+     * Spring Boot: Run periodically by the task scheduler, never from the request path;
+     * a full bucket behaves exactly like a new one, so dropping it loses no state
+     */
+    public void evictIdleBuckets() {
+        if (buckets.size() >= settings.getMaxTrackedPrincipals()) {
+            long now = System.nanoTime();
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+
+    /**
+     * Number of token buckets currently tracked
+     */
+    int trackedBuckets() {
+        return buckets.size();
+    }
+
+    /**
+     * Find or create the token bucket for a principal and endpoint class
+     */
+    private TokenBucket bucketFor(String principal, EndpointClass endpointClass, long now) {
+        InvestmentManagementProperties.RateLimit.Limit limit =
+                endpointClass == EndpointClass.READ ? settings.getRead() : settings.getWrite();
+        return buckets.computeIfAbsent(principal + '|' + endpointClass,
+                key -> new TokenBucket(limit.getCapacity(), limit.getRefillPerSecond(), now));
+    }
+}
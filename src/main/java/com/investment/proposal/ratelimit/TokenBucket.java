@@ -0,0 +1,75 @@
+package com.investment.proposal.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-Free Token Bucket for Investment API Rate Limiting
+ * Spring Boot: Token bucket expressed as a single "theoretical arrival time"
+ * Instead of storing a token count and a refill timestamp (two values that would need
+ * a lock to update together), the bucket stores the time at which it would next be
+ * completely full minus its burst allowance. Admitting a request advances that time by
+ * one emission interval with a single CAS, which is equivalent to taking one token.
+ */
+public class TokenBucket {
+
+    /**
+     * Time between token refills, in nanoseconds
+     */
+    private final long emissionIntervalNanos;
+
+    /**
+     * How far the arrival time may run ahead of now, i.e. capacity worth of intervals
+     */
+    private final long burstToleranceNanos;
+
+    /**
+     * Theoretical arrival time of the next request, in System.nanoTime units
+     */
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * Constructor for an investment API token bucket
+     *
+     * @param capacity Maximum burst size in requests
+     * @param refillPerSecond Sustained request rate
+     * @param nowNanos Current time in System.nanoTime units; the bucket starts full
+     */
+    public TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / refillPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * Math.max(1, capacity);
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Try to take one token
+     * Spring Boot: Non-blocking admission check for one investment API request
+     *
+     * @param nowNanos Current time in System.nanoTime units
+     * @return Zero if admitted, otherwise nanoseconds until a token becomes available
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long stored = theoreticalArrival.get();
+            long arrival = stored - nowNanos > 0 ? stored : nowNanos;
+            long next = arrival + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(stored, next)) {
+                return 0L;
+            }
+        }
+    }
+
+    /**
+     * Check whether the bucket has refilled completely
+     * Spring Boot: A full bucket carries no state and can be dropped from the registry
+     *
+     * @param nowNanos Current time in System.nanoTime units
+     * @return True if no tokens have been taken within the refill horizon
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() - nowNanos <= 0;
+    }
+}
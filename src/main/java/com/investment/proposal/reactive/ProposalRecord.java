@@ -0,0 +1,41 @@
+package com.investment.proposal.reactive;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Investment Proposal Row for the Reactive API
+ * Spring Boot: Spring Data R2DBC mapping of the investment_proposals columns
+ * The JPA entity carries lazy associations R2DBC cannot map, so reactive reads use this
+ * flat row and convert it to InvestmentProposal for identical JSON responses
+ */
+@Table("investment_proposals")  // Spring Boot: R2DBC table mapping for investment proposals
+public class ProposalRecord {
+
+    @Id  // Spring Boot: Primary key of the investment proposal row
+    private Long id;
+    private String proposalReference;
+    private String clientName;
+    private BigDecimal investmentAmount;
+    private BigDecimal expectedReturn;
+    private String riskLevel;
+    private Long investmentTypeId;
+    private Long advisorId;
+    private LocalDateTime createdAt;
+    private Boolean approved;
+
+    // Getters for reactive investment row data access; fields are populated by Spring Data R2DBC
+    public Long getId() { return id; }
+    public String getProposalReference() { return proposalReference; }
+    public String getClientName() { return clientName; }
+    public BigDecimal getInvestmentAmount() { return investmentAmount; }
+    public BigDecimal getExpectedReturn() { return expectedReturn; }
+    public String getRiskLevel() { return riskLevel; }
+    public Long getInvestmentTypeId() { return investmentTypeId; }
+    public Long getAdvisorId() { return advisorId; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public Boolean getApproved() { return approved; }
+}
@@ -0,0 +1,102 @@
+package com.investment.proposal.reactive;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.reactive.function.server.HandlerFilterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * HTTP Basic Authorization for the Reactive Investment API
+ * Spring Boot: Applies the servlet API's users and @PreAuthorize role rules to router functions
+ * Users come from the same UserDetailsService as the servlet security chain, so both stacks
+ * accept the same credentials; each route group requires any one of its roles.
+ */
+public class ReactiveBasicAuthFilter {
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    @Autowired  // Spring Boot: User store shared with the servlet investment security chain
+    private UserDetailsService userDetailsService;
+
+    private final PasswordEncoder passwordEncoder;
+
+    /**
+     * Constructor for the reactive investment access filter
+     *
+     * @param passwordEncoder Application password encoder; Spring Security's delegating encoder when absent,
+     *                        matching how the servlet chain checks passwords
+     */
+    public ReactiveBasicAuthFilter(ObjectProvider<PasswordEncoder> passwordEncoder) {
+        this.passwordEncoder = passwordEncoder.getIfAvailable(PasswordEncoderFactories::createDelegatingPasswordEncoder);
+    }
+
+    /**
+     * Filter admitting authenticated users holding any of the given roles
+     *
+     * @param roles Role names without the ROLE_ prefix
+     * @return Filter answering 401 for missing or bad credentials and 403 for missing roles
+     */
+    public HandlerFilterFunction<ServerResponse, ServerResponse> requireAnyRole(String... roles) {
+        List<String> authorities = java.util.Arrays.stream(roles).map(role -> "ROLE_" + role).toList();
+        return (request, next) -> {
+            String authorization = request.headers().firstHeader(HttpHeaders.AUTHORIZATION);
+            // Spring Boot: Password hashing is CPU-heavy, so it runs off the event loop
+            return Mono.fromCallable(() -> authenticate(authorization))
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .flatMap(user -> {
+                        boolean permitted = user.getAuthorities().stream()
+                                .map(GrantedAuthority::getAuthority)
+                                .anyMatch(authorities::contains);
+                        return permitted ? next.handle(request) : ServerResponse.status(HttpStatus.FORBIDDEN).build();
+                    })
+                    .switchIfEmpty(Mono.defer(() -> ServerResponse.status(HttpStatus.UNAUTHORIZED)
+                            .header(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"Realm\"")
+                            .build()));
+        };
+    }
+
+    /**
+     * Decode and check Basic credentials
+     *
+     * @return Authenticated user, or null
+     */
+    private UserDetails authenticate(String authorization) {
+        if (authorization == null || !authorization.regionMatches(true, 0, BASIC_PREFIX, 0, BASIC_PREFIX.length())) {
+            return null;
+        }
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length()).trim()),
+                    StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int separator = credentials.indexOf(':');
+        if (separator < 0) {
+            return null;
+        }
+        try {
+            // Spring Boot: The investment user store is in memory, so this lookup does not block
+            UserDetails user = userDetailsService.loadUserByUsername(credentials.substring(0, separator));
+            boolean valid = user.isEnabled() && user.isAccountNonLocked()
+                    && passwordEncoder.matches(credentials.substring(separator + 1), user.getPassword());
+            return valid ? user : null;
+        } catch (UsernameNotFoundException e) {
+            return null;
+        }
+    }
+}
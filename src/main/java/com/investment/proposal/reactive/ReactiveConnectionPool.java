@@ -0,0 +1,55 @@
+package com.investment.proposal.reactive;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+
+/**
+ * R2DBC Connection Pool for the Reactive Investment API
+ * Spring Boot: Holder keeping the pool out of the bean registry as a ConnectionFactory
+ * Spring Boot's JDBC DataSource auto-configuration backs off when any ConnectionFactory bean
+ * exists, which would leave JPA and the servlet API without a database.
+ */
+public class ReactiveConnectionPool {
+
+    private final ConnectionPool pool;
+
+    /**
+     * Constructor for the reactive investment connection pool
+     *
+     * @param r2dbcUrl R2DBC URL of the investment database
+     * @param username Database user, shared with the JDBC DataSource
+     * @param password Database password, shared with the JDBC DataSource
+     * @param maxSize Maximum pooled connections
+     */
+    public ReactiveConnectionPool(String r2dbcUrl, String username, String password, int maxSize) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate()
+                .option(ConnectionFactoryOptions.USER, username);
+        if (password != null && !password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .initialSize(Math.min(2, maxSize))
+                .maxSize(maxSize)
+                .build());
+    }
+
+    /**
+     * Pooled connection factory
+     *
+     * @return Connection factory handing out pooled connections
+     */
+    public ConnectionFactory getConnectionFactory() {
+        return pool;
+    }
+
+    /**
+     * Close all pooled connections
+     */
+    public void dispose() {
+        pool.dispose();
+    }
+}
@@ -0,0 +1,244 @@
+package com.investment.proposal.reactive;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.exception.DuplicateProposalReferenceException;
+import com.investment.proposal.exception.InvestmentProposalNotFoundException;
+import com.investment.proposal.exception.UnknownReferenceDataException;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.reference.ReferenceDataDictionary;
+import com.investment.proposal.service.InvestmentProposalService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reactive Investment Proposal Handler
+ * Spring Boot: WebFlux handler functions mirroring InvestmentProposalController
+ * Reads go through R2DBC and never block an event loop thread. List endpoints stream rows
+ * with bounded demand: the database is asked for the next batch only after the client
+ * connection has accepted the previous one, so a slow client slows its own query instead of
+ * buffering the table in memory. Clients accepting application/x-ndjson receive one proposal
+ * per line as soon as it is read.
+ *
+ * Writes keep every business rule, event and cache eviction of the servlet API by calling
+ * InvestmentProposalService on the bounded elastic scheduler, off the event loop.
+ */
+public class ReactiveProposalHandler {
+
+    @Autowired  // Spring Boot: R2DBC repository injection for non-blocking investment reads
+    private ReactiveProposalRepository repository;
+
+    @Autowired  // Spring Boot: R2DBC template injection for investment aggregate queries
+    private R2dbcEntityTemplate entityTemplate;
+
+    @Autowired  // Spring Boot: Service injection so reactive writes share the servlet business rules
+    private InvestmentProposalService investmentProposalService;
+
+    @Autowired  // Spring Boot: Dictionary injection resolving advisor and investment type names in memory
+    private ReferenceDataDictionary dictionary;
+
+    @Autowired  // Spring Boot: Bean validation injection for reactive request bodies
+    private Validator validator;
+
+    @Autowired  // Spring Boot: Configuration properties injection for reactive investment API settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    /**
+     * Stream all investment proposals
+     * Spring Boot: JSON array by default, newline-delimited JSON when the client accepts it
+     */
+    public Mono<ServerResponse> getAllInvestmentProposals(ServerRequest request) {
+        Flux<InvestmentProposal> proposals = repository.findAll(Sort.by("id"))
+                .limitRate(investmentProperties.getReactive().getStreamBatchSize())
+                .map(this::toProposal);
+        return stream(request, proposals);
+    }
+
+    /**
+     * Investment proposal by id
+     */
+    public Mono<ServerResponse> getInvestmentProposal(ServerRequest request) {
+        Long id = pathId(request);
+        return repository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new InvestmentProposalNotFoundException(
+                        "Investment proposal not found with ID: " + id)))
+                .flatMap(row -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(toProposal(row)));
+    }
+
+    /**
+     * Create an investment proposal through the shared service
+     */
+    public Mono<ServerResponse> createInvestmentProposal(ServerRequest request) {
+        return request.bodyToMono(InvestmentProposal.class)
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("Investment proposal body is required")))
+                .map(this::validate)
+                .publishOn(Schedulers.boundedElastic())
+                .map(investmentProposalService::createInvestmentProposal)
+                .flatMap(created -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(created));
+    }
+
+    /**
+     * Update the approval status through the shared service
+     */
+    public Mono<ServerResponse> updateApprovalStatus(ServerRequest request) {
+        Long id = pathId(request);
+        Boolean approved = request.queryParam("approved").map(Boolean::valueOf)
+                .orElseThrow(() -> new ServerWebInputException("Required parameter 'approved' is not present"));
+        return Mono.fromCallable(() -> investmentProposalService.updateApprovalStatus(id, approved))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(updated -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(updated));
+    }
+
+    /**
+     * Delete through the shared service
+     */
+    public Mono<ServerResponse> deleteInvestmentProposal(ServerRequest request) {
+        Long id = pathId(request);
+        return Mono.fromRunnable(() -> investmentProposalService.deleteInvestmentProposal(id))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then(ServerResponse.noContent().build());
+    }
+
+    /**
+     * Stream investment proposals of a client
+     */
+    public Mono<ServerResponse> getInvestmentProposalsByClient(ServerRequest request) {
+        return stream(request, repository.findByClientNameContainingIgnoreCase(request.pathVariable("clientName"))
+                .map(this::toProposal));
+    }
+
+    /**
+     * Investment proposal counts per risk level, including levels with no proposals
+     */
+    public Mono<ServerResponse> getPortfolioSummary(ServerRequest request) {
+        Map<RiskLevel, Long> empty = new EnumMap<>(RiskLevel.class);
+        for (RiskLevel riskLevel : RiskLevel.values()) {
+            empty.put(riskLevel, 0L);
+        }
+        return entityTemplate.getDatabaseClient()
+                .sql("SELECT risk_level, COUNT(*) AS proposals FROM investment_proposals GROUP BY risk_level")
+                .map((row, metadata) -> Map.entry(RiskLevel.valueOf(row.get("risk_level", String.class)),
+                        row.get("proposals", Long.class)))
+                .all()
+                .reduce(empty, (counts, count) -> {
+                    counts.put(count.getKey(), count.getValue());
+                    return counts;
+                })
+                .flatMap(summary -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(summary));
+    }
+
+    /**
+     * Page of investment proposals with the same JSON shape as the servlet API
+     */
+    public Mono<ServerResponse> getInvestmentProposalsPaginated(ServerRequest request) {
+        int page = request.queryParam("page").map(Integer::parseInt).orElse(0);
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(10);
+        PageRequest pageable = PageRequest.of(page, size);
+        return Mono.zip(repository.findAllBy(pageable).map(this::toProposal).collectList(), repository.count())
+                .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()))
+                .flatMap(result -> ServerResponse.ok().contentType(MediaType.APPLICATION_JSON).bodyValue(result));
+    }
+
+    /**
+     * Stream high-value investment proposals, largest first
+     */
+    public Mono<ServerResponse> getHighValueInvestments(ServerRequest request) {
+        BigDecimal threshold = request.queryParam("threshold").map(BigDecimal::new).orElse(new BigDecimal("100000.00"));
+        return stream(request, repository.findHighValueInvestments(threshold).map(this::toProposal));
+    }
+
+    /**
+     * Map failures to the error body and status used by GlobalExceptionHandler
+     */
+    public Mono<ServerResponse> handleError(Throwable error, ServerRequest request) {
+        HttpStatus status;
+        Map<String, Object> body = new HashMap<>();
+        if (error instanceof InvestmentProposalNotFoundException) {
+            status = HttpStatus.NOT_FOUND;
+            body.put("error", error.getMessage());
+        } else if (error instanceof ConstraintViolationException) {
+            status = HttpStatus.BAD_REQUEST;
+            body.put("error", "Investment proposal validation failed");
+            body.put("details", error.getMessage());
+        } else if (error instanceof UnknownReferenceDataException || error instanceof ServerWebInputException) {
+            status = HttpStatus.BAD_REQUEST;
+            body.put("error", error.getMessage());
+        } else if (error instanceof DuplicateProposalReferenceException) {
+            status = HttpStatus.CONFLICT;
+            body.put("error", error.getMessage());
+        } else {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+            body.put("error", "An unexpected error occurred in investment system");
+            body.put("details", error.getMessage());
+        }
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", status.value());
+        body.put("path", request.path());
+        return ServerResponse.status(status).contentType(MediaType.APPLICATION_JSON).bodyValue(body);
+    }
+
+    private Mono<ServerResponse> stream(ServerRequest request, Flux<InvestmentProposal> proposals) {
+        MediaType mediaType = request.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+                ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON;
+        return ServerResponse.ok().contentType(mediaType).body(proposals, InvestmentProposal.class);
+    }
+
+    private InvestmentProposal validate(InvestmentProposal proposal) {
+        Set<ConstraintViolation<InvestmentProposal>> violations = validator.validate(proposal);
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return proposal;
+    }
+
+    /**
+     * Convert a row to the entity type so JSON matches the servlet API field for field
+     */
+    private InvestmentProposal toProposal(ProposalRecord row) {
+        InvestmentProposal proposal = new InvestmentProposal();
+        proposal.setId(row.getId());
+        proposal.setProposalReference(row.getProposalReference());
+        proposal.setClientName(row.getClientName());
+        proposal.setInvestmentAmount(Money.of(row.getInvestmentAmount()));
+        proposal.setExpectedReturn(Rate.of(row.getExpectedReturn()));
+        proposal.setRiskLevel(RiskLevel.valueOf(row.getRiskLevel()));
+        proposal.setInvestmentTypeId(row.getInvestmentTypeId());
+        proposal.setInvestmentType(dictionary.investmentType(row.getInvestmentTypeId()).getCode());
+        proposal.setAdvisorId(row.getAdvisorId());
+        proposal.setAssignedAdvisor(dictionary.advisor(row.getAdvisorId()).getName());
+        proposal.setCreatedAt(row.getCreatedAt());
+        proposal.setApproved(row.getApproved());
+        return proposal;
+    }
+
+    private static Long pathId(ServerRequest request) {
+        try {
+            return Long.valueOf(request.pathVariable("id"));
+        } catch (NumberFormatException e) {
+            throw new ServerWebInputException("Investment proposal id must be a number");
+        }
+    }
+}
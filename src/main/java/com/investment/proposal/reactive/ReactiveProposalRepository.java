@@ -0,0 +1,41 @@
+package com.investment.proposal.reactive;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Flux;
+
+import java.math.BigDecimal;
+
+/**
+ * Reactive Investment Proposal Repository
+ * Spring Boot: Spring Data R2DBC repository mirroring the JPA repository's read queries
+ * Results are Flux publishers, so rows are fetched as the HTTP response consumes them
+ */
+public interface ReactiveProposalRepository extends R2dbcRepository<ProposalRecord, Long> {
+
+    /**
+     * Find investment proposals by partial client name, ignoring case
+     *
+     * @param clientName Client name fragment
+     * @return Matching investment proposal rows
+     */
+    Flux<ProposalRecord> findByClientNameContainingIgnoreCase(String clientName);
+
+    /**
+     * Find investment proposals above an amount, largest first
+     *
+     * @param thresholdAmount Exclusive lower bound on the investment amount
+     * @return Matching investment proposal rows
+     */
+    @Query("SELECT * FROM investment_proposals WHERE investment_amount > :thresholdAmount ORDER BY investment_amount DESC")
+    Flux<ProposalRecord> findHighValueInvestments(BigDecimal thresholdAmount);
+
+    /**
+     * Page of investment proposals
+     *
+     * @param pageable Page number, size and sort
+     * @return Rows of the requested page
+     */
+    Flux<ProposalRecord> findAllBy(Pageable pageable);
+}
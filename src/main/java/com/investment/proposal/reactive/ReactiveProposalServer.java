@@ -0,0 +1,75 @@
+package com.investment.proposal.reactive;
+
+import com.investment.proposal.config.InvestmentConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.reactive.function.server.HandlerStrategies;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Reactor Netty Server for the Reactive Investment API
+ * Spring Boot: Serves the WebFlux proposal router on its own port next to Tomcat
+ * Spring Boot runs one web stack per application context, and Spring MVC remains the primary
+ * one, so the router is adapted to a plain Reactor Netty server started with the context.
+ * Its event loop threads serve any number of open connections without a thread each.
+ */
+public class ReactiveProposalServer implements SmartLifecycle {
+
+    @Autowired  // Spring Boot: Configuration properties injection for the reactive investment API port
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    private final RouterFunction<ServerResponse> router;
+    private final HandlerStrategies strategies;
+    private volatile DisposableServer server;
+
+    /**
+     * Constructor for the reactive investment API server
+     *
+     * @param router Investment proposal routes
+     * @param strategies Codecs shared with the servlet API's JSON configuration
+     */
+    public ReactiveProposalServer(RouterFunction<ServerResponse> router, HandlerStrategies strategies) {
+        this.router = router;
+        this.strategies = strategies;
+    }
+
+    @Override
+    public void start() {
+        ReactorHttpHandlerAdapter adapter =
+                new ReactorHttpHandlerAdapter(RouterFunctions.toHttpHandler(router, strategies));
+        server = HttpServer.create()
+                .port(investmentProperties.getReactive().getPort())
+                .handle(adapter)
+                .bindNow();
+        System.out.println("Reactive investment proposal API listening on port " + server.port());
+    }
+
+    @Override
+    public void stop() {
+        DisposableServer running = server;
+        if (running != null) {
+            running.disposeNow();
+            server = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Port the reactive investment API is bound to
+     *
+     * @return Bound port, or -1 if the server is not running
+     */
+    public int getPort() {
+        DisposableServer running = server;
+        return running != null ? running.port() : -1;
+    }
+}
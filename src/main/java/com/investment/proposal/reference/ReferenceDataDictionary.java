@@ -0,0 +1,227 @@
+package com.investment.proposal.reference;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentType;
+import com.investment.proposal.exception.UnknownReferenceDataException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Investment Reference Data Dictionary
+ * Spring Boot: Preloaded, immutable id-to-object dictionary for advisors and investment types
+ * Every proposal resolves its advisor and investment type through this dictionary, so all
+ * cached proposals share the same name String and reference objects instead of carrying
+ * their own copies. The whole dictionary is swapped atomically on reload and never mutated.
+ *
+ * Names arrive from requests and import files, so an unknown name fails at once without
+ * touching the database. Only an unknown id, which can only come from a stored row, reloads
+ * the tables, and at most once per min-reload-interval; rows added by SQL are otherwise
+ * picked up through POST /actuator/referencedata.
+ *
+ * Loaded with JdbcTemplate rather than JPA because it is consulted from entity callbacks,
+ * where using the EntityManager is not allowed.
+ */
+@Component  // Spring Boot: Component registration for investment reference data lookups
+// Registers this class as a managed Spring component
+public class ReferenceDataDictionary {
+
+    /**
+     * JDBC template for loading investment reference tables
+     */
+    @Autowired  // Spring Boot: JDBC dependency injection for investment reference data loading
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment reference data settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    /**
+     * Current immutable dictionary snapshot, loaded on first use
+     */
+    private volatile Snapshot snapshot;
+
+    /**
+     * System.nanoTime() of the last reload, for rate limiting reloads on unknown ids
+     */
+    private volatile long loadedAtNanos;
+
+    /**
+     * Find an investment advisor by id
+     *
+     * @param id Investment advisor identifier
+     * @return Advisor reference
+     * @throws IllegalStateException if the id is unknown even after a reload
+     */
+    public Advisor advisor(Long id) {
+        Advisor advisor = snapshot().advisorsById.get(id);
+        if (advisor == null) {
+            advisor = reloadIfStale().advisorsById.get(id);
+        }
+        if (advisor == null) {
+            throw new IllegalStateException("Investment advisor id " + id + " has no reference row");
+        }
+        return advisor;
+    }
+
+    /**
+     * Find an investment advisor by name
+     *
+     * @param name Investment advisor name
+     * @return Advisor reference
+     * @throws UnknownReferenceDataException if no advisor has that name
+     */
+    public Advisor advisorByName(String name) {
+        Advisor advisor = snapshot().advisorsByName.get(name);
+        if (advisor == null) {
+            throw new UnknownReferenceDataException("Unknown investment advisor: " + name);
+        }
+        return advisor;
+    }
+
+    /**
+     * Find an investment type by id
+     *
+     * @param id Investment type identifier
+     * @return Investment type reference
+     * @throws IllegalStateException if the id is unknown even after a reload
+     */
+    public InvestmentType investmentType(Long id) {
+        InvestmentType type = snapshot().typesById.get(id);
+        if (type == null) {
+            type = reloadIfStale().typesById.get(id);
+        }
+        if (type == null) {
+            throw new IllegalStateException("Investment type id " + id + " has no reference row");
+        }
+        return type;
+    }
+
+    /**
+     * Find an investment type by code
+     *
+     * @param code Investment type code, e.g. STOCKS
+     * @return Investment type reference
+     * @throws UnknownReferenceDataException if no investment type has that code
+     */
+    public InvestmentType investmentTypeByCode(String code) {
+        InvestmentType type = snapshot().typesByCode.get(code);
+        if (type == null) {
+            throw new UnknownReferenceDataException("Unknown investment type: " + code);
+        }
+        return type;
+    }
+
+    /**
+     * All investment advisors, ordered by id
+     *
+     * @return Immutable advisor list
+     */
+    public List<Advisor> advisors() {
+        return snapshot().advisors;
+    }
+
+    /**
+     * All investment types, ordered by id
+     *
+     * @return Immutable investment type list
+     */
+    public List<InvestmentType> investmentTypes() {
+        return snapshot().types;
+    }
+
+    /**
+     * Reload both reference tables and publish a new snapshot
+     * Spring Boot: Called on first use, from the actuator endpoint and on rate-limited id misses
+     *
+     * @return Newly published snapshot
+     */
+    public synchronized Snapshot reload() {
+        List<Advisor> advisors = jdbcTemplate.query(
+                "SELECT id, name, email, specialization, created_at FROM investment_advisors ORDER BY id",
+                (rs, rowNum) -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    return new Advisor(rs.getLong("id"), rs.getString("name"), rs.getString("email"),
+                            rs.getString("specialization"), createdAt != null ? createdAt.toLocalDateTime() : null);
+                });
+        List<InvestmentType> types = jdbcTemplate.query(
+                "SELECT id, code, description FROM investment_types ORDER BY id",
+                (rs, rowNum) -> new InvestmentType(rs.getLong("id"), rs.getString("code"), rs.getString("description")));
+        Snapshot loaded = new Snapshot(advisors, types);
+        snapshot = loaded;
+        loadedAtNanos = System.nanoTime();
+        System.out.println("Loaded investment reference data: " + advisors.size() + " advisors, "
+                + types.size() + " investment types");
+        return loaded;
+    }
+
+    /**
+     * Reload unless the last reload is more recent than the minimum reload interval
+     * Spring Boot: Threads missing together share one reload instead of queueing one each
+     */
+    private Snapshot reloadIfStale() {
+        long interval = investmentProperties.getReferenceData().getMinReloadInterval().toNanos();
+        if (snapshot != null && System.nanoTime() - loadedAtNanos < interval) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (snapshot != null && System.nanoTime() - loadedAtNanos < interval) {
+                return snapshot;
+            }
+            return reload();
+        }
+    }
+
+    /**
+     * Advisors and investment types currently in the dictionary
+     *
+     * @return Immutable advisor and investment type counts
+     */
+    public Map<String, Object> statistics() {
+        Snapshot current = snapshot();
+        return Map.of("advisors", current.advisors.size(), "investmentTypes", current.types.size());
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * Immutable investment reference data snapshot
+     */
+    public static final class Snapshot {
+        private final List<Advisor> advisors;
+        private final List<InvestmentType> types;
+        private final Map<Long, Advisor> advisorsById;
+        private final Map<String, Advisor> advisorsByName;
+        private final Map<Long, InvestmentType> typesById;
+        private final Map<String, InvestmentType> typesByCode;
+
+        Snapshot(List<Advisor> advisors, List<InvestmentType> types) {
+            Map<Long, Advisor> byId = new HashMap<>();
+            Map<String, Advisor> byName = new HashMap<>();
+            for (Advisor advisor : advisors) {
+                byId.put(advisor.getId(), advisor);
+                byName.put(advisor.getName(), advisor);
+            }
+            Map<Long, InvestmentType> typeById = new HashMap<>();
+            Map<String, InvestmentType> typeByCode = new HashMap<>();
+            for (InvestmentType type : types) {
+                typeById.put(type.getId(), type);
+                typeByCode.put(type.getCode(), type);
+            }
+            this.advisors = List.copyOf(advisors);
+            this.types = List.copyOf(types);
+            this.advisorsById = Map.copyOf(byId);
+            this.advisorsByName = Map.copyOf(byName);
+            this.typesById = Map.copyOf(typeById);
+            this.typesByCode = Map.copyOf(typeByCode);
+        }
+    }
+}
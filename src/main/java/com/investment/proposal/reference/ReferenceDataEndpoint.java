@@ -0,0 +1,44 @@
+package com.investment.proposal.reference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Investment Reference Data Actuator Endpoint
+ * Spring Boot: /actuator/referencedata showing the dictionary size; POST reloads it
+ * Lookups by name never reload on their own, so advisors and investment types inserted
+ * by SQL become usable once this endpoint is called.
+ */
+@Component  // Spring Boot: Component annotation for the investment reference data endpoint
+@Endpoint(id = "referencedata")  // Spring Boot: Actuator endpoint for investment reference data
+public class ReferenceDataEndpoint {
+
+    @Autowired  // Spring Boot: Dictionary injection for investment reference data reloads
+    private ReferenceDataDictionary dictionary;
+
+    /**
+     * Advisors and investment types currently loaded
+     *
+     * @return Investment reference data counts
+     */
+    @ReadOperation  // Spring Boot: GET operation for investment reference data counts
+    public Map<String, Object> statistics() {
+        return dictionary.statistics();
+    }
+
+    /**
+     * Reload both reference tables
+     *
+     * @return Investment reference data counts after the reload
+     */
+    @WriteOperation  // Spring Boot: POST operation reloading investment reference data
+    public Map<String, Object> reload() {
+        dictionary.reload();
+        return dictionary.statistics();
+    }
+}
@@ -0,0 +1,67 @@
+package com.investment.proposal.reference;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Investment Reference Data Entity Listener
+ * Spring Boot: JPA entity listener translating between advisor/type names and foreign keys
+ * Hibernate instantiates entity listeners itself, so the Spring-managed instance publishes
+ * the dictionary through a static reference that every listener instance reads. On load, the proposal's names are set to the dictionary's shared instances; before
+ * insert and update, the names supplied through the API are resolved to ids.
+ */
+@Component  // Spring Boot: Component registration so the investment dictionary can be injected
+// Registers this class as a managed Spring component
+public class ReferenceDataEntityListener {
+
+    /**
+     * Investment reference data dictionary for id and name resolution
+     * Spring Boot: Shared by the Spring-managed instance and Hibernate-created instances
+     */
+    private static volatile ReferenceDataDictionary dictionary;
+
+    /**
+     * Publish the investment reference data dictionary to all listener instances
+     *
+     * @param referenceDataDictionary Spring-managed investment reference data dictionary
+     */
+    @Autowired  // Spring Boot: Dictionary dependency injection for investment reference lookups
+    public void setDictionary(ReferenceDataDictionary referenceDataDictionary) {
+        dictionary = referenceDataDictionary;
+    }
+
+    /**
+     * Resolve advisor and investment type names to foreign keys before writing
+     *
+     * @param proposal Investment proposal about to be inserted or updated
+     */
+    @PrePersist
+    @PreUpdate
+    public void resolveIds(InvestmentProposal proposal) {
+        if (proposal.getAssignedAdvisor() != null) {
+            proposal.setAdvisorId(dictionary.advisorByName(proposal.getAssignedAdvisor()).getId());
+        }
+        if (proposal.getInvestmentType() != null) {
+            proposal.setInvestmentTypeId(dictionary.investmentTypeByCode(proposal.getInvestmentType()).getId());
+        }
+    }
+
+    /**
+     * Resolve advisor and investment type foreign keys to shared names after loading
+     *
+     * @param proposal Investment proposal just loaded from the database
+     */
+    @PostLoad
+    public void resolveNames(InvestmentProposal proposal) {
+        if (proposal.getAdvisorId() != null) {
+            proposal.setAssignedAdvisor(dictionary.advisor(proposal.getAdvisorId()).getName());
+        }
+        if (proposal.getInvestmentTypeId() != null) {
+            proposal.setInvestmentType(dictionary.investmentType(proposal.getInvestmentTypeId()).getCode());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.investment.proposal.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Buffered FileChannel Writer for Investment Reports
+ * Spring Boot: Fixed-size direct buffer in front of a FileChannel
+ * Writes go into one off-heap buffer that is drained to the channel when full, so report
+ * generation uses the same small amount of memory whatever the number of proposals.
+ */
+final class BufferedChannelOutput implements Closeable {
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private long position;
+
+    BufferedChannelOutput(Path file, int bufferSize) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    /**
+     * Bytes written so far, including bytes still in the buffer
+     */
+    long position() {
+        return position;
+    }
+
+    void putByte(byte value) throws IOException {
+        ensure(Byte.BYTES);
+        buffer.put(value);
+        position += Byte.BYTES;
+    }
+
+    void putShort(short value) throws IOException {
+        ensure(Short.BYTES);
+        buffer.putShort(value);
+        position += Short.BYTES;
+    }
+
+    void putInt(int value) throws IOException {
+        ensure(Integer.BYTES);
+        buffer.putInt(value);
+        position += Integer.BYTES;
+    }
+
+    void putLong(long value) throws IOException {
+        ensure(Long.BYTES);
+        buffer.putLong(value);
+        position += Long.BYTES;
+    }
+
+    void putBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.capacity()) {
+            // Spring Boot: Oversized values bypass the buffer instead of growing it
+            flush();
+            ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+            while (wrapped.hasRemaining()) {
+                channel.write(wrapped);
+            }
+        } else {
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+        position += bytes.length;
+    }
+
+    void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            channel.force(false);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+}
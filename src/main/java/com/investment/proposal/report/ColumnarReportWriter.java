@@ -0,0 +1,180 @@
+package com.investment.proposal.report;
+
+import com.investment.proposal.entity.InvestmentProposal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Columnar Binary Writer for Weekly Investment Reports
+ * Spring Boot: Compact, column-oriented copy of the report for analytical tooling
+ * Rows are collected into fixed-size row groups; each full group is written column by
+ * column, so memory is bounded by one group no matter how many proposals are reported.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * header    : magic "IPCR" | int version | int columnCount | columnCount x (short nameLength, name, byte type)
+ * row group : int rowCount | per column: int byteLength, column data
+ *             INT64  -> rowCount x long
+ *             INT8   -> rowCount x byte
+ *             STRING -> rowCount x int length, then the UTF-8 bytes (length -1 means null)
+ * footer    : int rowGroupCount | rowGroupCount x long offset | long totalRows | int footerLength | magic "IPCR"
+ * </pre>
+ * Amounts and returns are stored as hundredths (scale 2), createdAt as UTC epoch milliseconds
+ * and risk level as its enum ordinal.
+ */
+class ColumnarReportWriter implements ProposalReportSink {
+
+    static final byte[] MAGIC = "IPCR".getBytes(StandardCharsets.US_ASCII);
+    static final int VERSION = 1;
+    static final byte INT64 = 1;
+    static final byte STRING = 2;
+    static final byte INT8 = 3;
+
+    private static final String[] COLUMN_NAMES = {
+            "id", "proposal_reference", "client_name", "investment_amount_hundredths",
+            "expected_return_hundredths", "risk_level", "investment_type", "assigned_advisor",
+            "created_at_epoch_millis", "approved"};
+    private static final byte[] COLUMN_TYPES = {
+            INT64, STRING, STRING, INT64, INT64, INT8, STRING, STRING, INT64, INT8};
+
+    private final BufferedChannelOutput output;
+    private final int rowGroupSize;
+    private final List<Long> rowGroupOffsets = new ArrayList<>();
+    private long totalRows;
+
+    // Spring Boot: Column buffers for the current row group, reused across groups
+    private final long[] ids;
+    private final byte[][] references;
+    private final byte[][] clients;
+    private final long[] amounts;
+    private final long[] returns;
+    private final byte[] riskLevels;
+    private final byte[][] types;
+    private final byte[][] advisors;
+    private final long[] createdAt;
+    private final byte[] approved;
+    private int rows;
+
+    ColumnarReportWriter(Path file, int bufferSize, int rowGroupSize) throws IOException {
+        this.output = new BufferedChannelOutput(file, bufferSize);
+        this.rowGroupSize = rowGroupSize;
+        this.ids = new long[rowGroupSize];
+        this.references = new byte[rowGroupSize][];
+        this.clients = new byte[rowGroupSize][];
+        this.amounts = new long[rowGroupSize];
+        this.returns = new long[rowGroupSize];
+        this.riskLevels = new byte[rowGroupSize];
+        this.types = new byte[rowGroupSize][];
+        this.advisors = new byte[rowGroupSize][];
+        this.createdAt = new long[rowGroupSize];
+        this.approved = new byte[rowGroupSize];
+        writeHeader();
+    }
+
+    @Override
+    public void write(InvestmentProposal proposal) throws IOException {
+        ids[rows] = proposal.getId();
+        references[rows] = utf8(proposal.getProposalReference());
+        clients[rows] = utf8(proposal.getClientName());
+        amounts[rows] = proposal.getInvestmentAmount().getCents();
+        returns[rows] = proposal.getExpectedReturn().getBasisPoints();
+        riskLevels[rows] = (byte) proposal.getRiskLevel().ordinal();
+        types[rows] = utf8(proposal.getInvestmentType());
+        advisors[rows] = utf8(proposal.getAssignedAdvisor());
+        createdAt[rows] = proposal.getCreatedAt() == null ? 0L
+                : proposal.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        approved[rows] = (byte) (Boolean.TRUE.equals(proposal.getApproved()) ? 1 : 0);
+        if (++rows == rowGroupSize) {
+            writeRowGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (rows > 0) {
+            writeRowGroup();
+        }
+        long footerStart = output.position();
+        output.putInt(rowGroupOffsets.size());
+        for (long offset : rowGroupOffsets) {
+            output.putLong(offset);
+        }
+        output.putLong(totalRows);
+        output.putInt((int) (output.position() - footerStart));
+        output.putBytes(MAGIC);
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    private void writeHeader() throws IOException {
+        output.putBytes(MAGIC);
+        output.putInt(VERSION);
+        output.putInt(COLUMN_NAMES.length);
+        for (int i = 0; i < COLUMN_NAMES.length; i++) {
+            byte[] name = COLUMN_NAMES[i].getBytes(StandardCharsets.UTF_8);
+            output.putShort((short) name.length);
+            output.putBytes(name);
+            output.putByte(COLUMN_TYPES[i]);
+        }
+    }
+
+    private void writeRowGroup() throws IOException {
+        rowGroupOffsets.add(output.position());
+        output.putInt(rows);
+        writeLongs(ids);
+        writeStrings(references);
+        writeStrings(clients);
+        writeLongs(amounts);
+        writeLongs(returns);
+        writeBytes(riskLevels);
+        writeStrings(types);
+        writeStrings(advisors);
+        writeLongs(createdAt);
+        writeBytes(approved);
+        totalRows += rows;
+        rows = 0;
+    }
+
+    private void writeLongs(long[] column) throws IOException {
+        output.putInt(rows * Long.BYTES);
+        for (int i = 0; i < rows; i++) {
+            output.putLong(column[i]);
+        }
+    }
+
+    private void writeBytes(byte[] column) throws IOException {
+        output.putInt(rows);
+        for (int i = 0; i < rows; i++) {
+            output.putByte(column[i]);
+        }
+    }
+
+    private void writeStrings(byte[][] column) throws IOException {
+        int length = rows * Integer.BYTES;
+        for (int i = 0; i < rows; i++) {
+            length += column[i] == null ? 0 : column[i].length;
+        }
+        output.putInt(length);
+        for (int i = 0; i < rows; i++) {
+            output.putInt(column[i] == null ? -1 : column[i].length);
+        }
+        for (int i = 0; i < rows; i++) {
+            if (column[i] != null) {
+                output.putBytes(column[i]);
+            }
+            column[i] = null;
+        }
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package com.investment.proposal.report;
+
+import com.investment.proposal.entity.InvestmentProposal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * CSV Writer for Weekly Investment Reports
+ * Spring Boot: Streams one RFC 4180 line per proposal into a buffered FileChannel
+ */
+class CsvReportWriter implements ProposalReportSink {
+
+    static final String HEADER = "id,proposal_reference,client_name,investment_amount,expected_return,"
+            + "risk_level,investment_type,assigned_advisor,created_at,approved\n";
+
+    private final BufferedChannelOutput output;
+    private final StringBuilder line = new StringBuilder(256);
+
+    CsvReportWriter(Path file, int bufferSize) throws IOException {
+        this.output = new BufferedChannelOutput(file, bufferSize);
+        output.putBytes(HEADER.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(InvestmentProposal proposal) throws IOException {
+        line.setLength(0);
+        line.append(proposal.getId()).append(',');
+        appendText(proposal.getProposalReference()).append(',');
+        appendText(proposal.getClientName()).append(',');
+        line.append(proposal.getInvestmentAmount()).append(',');
+        line.append(proposal.getExpectedReturn()).append(',');
+        line.append(proposal.getRiskLevel()).append(',');
+        appendText(proposal.getInvestmentType()).append(',');
+        appendText(proposal.getAssignedAdvisor()).append(',');
+        line.append(proposal.getCreatedAt()).append(',');
+        line.append(Boolean.TRUE.equals(proposal.getApproved())).append('\n');
+        output.putBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void finish() {
+        // Spring Boot: CSV has no trailer; rows are complete once flushed
+    }
+
+    @Override
+    public void close() throws IOException {
+        output.close();
+    }
+
+    /**
+     * Append a text field, quoting it when it contains a delimiter, quote or line break
+     */
+    private StringBuilder appendText(String value) {
+        if (value == null) {
+            return line;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return line.append(value);
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+}
@@ -0,0 +1,82 @@
+package com.investment.proposal.report;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.money.Money;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Single-Pass Breakdowns for Weekly Investment Reports
+ * Spring Boot: Accumulates totals while proposal rows stream past, then writes them as CSV
+ * Memory is bounded by the number of distinct risk levels, investment types and advisors,
+ * not by the number of proposals.
+ */
+class PortfolioReportSummary implements ProposalReportSink {
+
+    private final Path file;
+    private final int bufferSize;
+
+    private final Totals total = new Totals();
+    private final Totals approved = new Totals();
+    private final Map<String, Totals> byRiskLevel = new TreeMap<>();
+    private final Map<String, Totals> byInvestmentType = new TreeMap<>();
+    private final Map<String, Totals> byAdvisor = new TreeMap<>();
+
+    PortfolioReportSummary(Path file, int bufferSize) {
+        this.file = file;
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public void write(InvestmentProposal proposal) {
+        long amount = proposal.getInvestmentAmount().getCents();
+        total.add(amount);
+        if (Boolean.TRUE.equals(proposal.getApproved())) {
+            approved.add(amount);
+        }
+        byRiskLevel.computeIfAbsent(String.valueOf(proposal.getRiskLevel()), key -> new Totals()).add(amount);
+        byInvestmentType.computeIfAbsent(String.valueOf(proposal.getInvestmentType()), key -> new Totals()).add(amount);
+        byAdvisor.computeIfAbsent(String.valueOf(proposal.getAssignedAdvisor()), key -> new Totals()).add(amount);
+    }
+
+    @Override
+    public void finish() throws IOException {
+        try (BufferedChannelOutput output = new BufferedChannelOutput(file, bufferSize)) {
+            StringBuilder csv = new StringBuilder("section,key,count,investment_amount\n");
+            append(csv, "TOTAL", "ALL", total);
+            append(csv, "APPROVED", "ALL", approved);
+            byRiskLevel.forEach((key, totals) -> append(csv, "RISK_LEVEL", key, totals));
+            byInvestmentType.forEach((key, totals) -> append(csv, "INVESTMENT_TYPE", key, totals));
+            byAdvisor.forEach((key, totals) -> append(csv, "ASSIGNED_ADVISOR", key, totals));
+            output.putBytes(csv.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void close() {
+        // Spring Boot: The summary file is opened and closed within finish()
+    }
+
+    long getTotalCount() {
+        return total.count;
+    }
+
+    private static void append(StringBuilder csv, String section, String key, Totals totals) {
+        csv.append(section).append(',').append(key.replace(",", " ")).append(',')
+                .append(totals.count).append(',').append(Money.ofCents(totals.cents)).append('\n');
+    }
+
+    private static final class Totals {
+        private long count;
+        private long cents;
+
+        private void add(long value) {
+            count++;
+            cents = Math.addExact(cents, value);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.investment.proposal.report;
+
+import com.investment.proposal.entity.InvestmentProposal;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Investment Report Output
+ * Spring Boot: One report file fed row by row during a single pass over the proposals
+ */
+interface ProposalReportSink extends Closeable {
+
+    /**
+     * Append one investment proposal
+     *
+     * @param proposal Investment proposal to write
+     */
+    void write(InvestmentProposal proposal) throws IOException;
+
+    /**
+     * Write any trailing data; called once after the last row and before close
+     */
+    void finish() throws IOException;
+}
@@ -0,0 +1,36 @@
+package com.investment.proposal.report;
+
+import java.time.Instant;
+
+/**
+ * Weekly Investment Report File Descriptor
+ * Spring Boot: Immutable name, format, size and time of one generated report file
+ */
+public class ReportFile {
+
+    private final String fileName;
+    private final ReportFormat format;
+    private final long sizeBytes;
+    private final Instant lastModified;
+
+    /**
+     * Constructor for an investment report file descriptor
+     *
+     * @param fileName Report file name, used in the download URL
+     * @param format Report file format
+     * @param sizeBytes File size in bytes
+     * @param lastModified Time the file was written
+     */
+    public ReportFile(String fileName, ReportFormat format, long sizeBytes, Instant lastModified) {
+        this.fileName = fileName;
+        this.format = format;
+        this.sizeBytes = sizeBytes;
+        this.lastModified = lastModified;
+    }
+
+    // Getters for investment report file data access
+    public String getFileName() { return fileName; }
+    public ReportFormat getFormat() { return format; }
+    public long getSizeBytes() { return sizeBytes; }
+    public Instant getLastModified() { return lastModified; }
+}
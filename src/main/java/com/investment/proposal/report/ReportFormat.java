@@ -0,0 +1,47 @@
+package com.investment.proposal.report;
+
+/**
+ * Investment Report File Formats
+ * Spring Boot: File extension and media type of each weekly report file
+ */
+public enum ReportFormat {
+
+    /**
+     * One CSV line per proposal with a header row
+     */
+    CSV(".csv", "text/csv"),
+
+    /**
+     * Compact columnar binary file, see ColumnarReportWriter for the layout
+     */
+    COLUMNAR(".ipc", "application/octet-stream"),
+
+    /**
+     * CSV breakdowns computed during the same pass as the proposal rows
+     */
+    SUMMARY("-summary.csv", "text/csv");
+
+    private final String suffix;
+    private final String mediaType;
+
+    ReportFormat(String suffix, String mediaType) {
+        this.suffix = suffix;
+        this.mediaType = mediaType;
+    }
+
+    public String getSuffix() { return suffix; }
+    public String getMediaType() { return mediaType; }
+
+    /**
+     * Format of a report file name
+     *
+     * @param fileName Report file name
+     * @return Matching format, longest suffix first
+     */
+    public static ReportFormat of(String fileName) {
+        if (fileName.endsWith(SUMMARY.suffix)) {
+            return SUMMARY;
+        }
+        return fileName.endsWith(COLUMNAR.suffix) ? COLUMNAR : CSV;
+    }
+}
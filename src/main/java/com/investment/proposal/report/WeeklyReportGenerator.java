@@ -0,0 +1,207 @@
+package com.investment.proposal.report;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.exception.ReportNotFoundException;
+import com.investment.proposal.repository.InvestmentProposalRepository;
+import com.investment.proposal.sharding.ShardedInvestmentProposalStore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Weekly Investment Portfolio Report Generator
+ * Spring Boot: Writes the weekly compliance report in one streaming pass over all proposals
+ * Proposals are read through a fetch-size cursor and detached one by one, and every row is
+ * handed to three sinks at once: the CSV file, the columnar binary file and the single-pass
+ * breakdown summary. Nothing proportional to the number of proposals is kept in memory.
+ *
+ * Files are written under a temporary name and moved into place when complete, so the
+ * download endpoint never serves a half-written report.
+ */
+@Component  // Spring Boot: Component registration for investment report generation
+// Registers this class as a managed Spring component
+public class WeeklyReportGenerator {
+
+    /**
+     * Report file names as served by the download endpoint; no path separators
+     */
+    private static final Pattern FILE_NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]*");
+
+    @Autowired  // Spring Boot: Repository injection for streaming investment proposals
+    private InvestmentProposalRepository investmentProposalRepository;
+
+    @Autowired(required = false)  // Spring Boot: Present only when investment sharding is enabled
+    private ShardedInvestmentProposalStore shardedStore;
+
+    @PersistenceContext  // Spring Boot: Entity manager for detaching streamed investment proposals
+    private EntityManager entityManager;
+
+    @Autowired  // Spring Boot: Transaction manager injection for the read-only report cursor
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment report settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    /**
+     * Generate this week's investment portfolio report
+     * Spring Boot: Replaces any report already generated for the same ISO week
+     *
+     * @return Generated report files
+     */
+    public List<ReportFile> generateWeeklyReport() {
+        LocalDate today = LocalDate.now();
+        String baseName = String.format("portfolio-report-%d-W%02d",
+                today.get(IsoFields.WEEK_BASED_YEAR), today.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR));
+        return generate(baseName);
+    }
+
+    /**
+     * Generate an investment portfolio report under a given base file name
+     *
+     * @param baseName File name without format suffix
+     * @return Generated report files
+     */
+    public List<ReportFile> generate(String baseName) {
+        InvestmentConfig.InvestmentManagementProperties.Report settings = investmentProperties.getReport();
+        Path directory = directory();
+        try {
+            Files.createDirectories(directory);
+            Path csvTemp = directory.resolve(baseName + ReportFormat.CSV.getSuffix() + ".tmp");
+            Path columnarTemp = directory.resolve(baseName + ReportFormat.COLUMNAR.getSuffix() + ".tmp");
+            Path summaryTemp = directory.resolve(baseName + ReportFormat.SUMMARY.getSuffix() + ".tmp");
+
+            try (CsvReportWriter csv = new CsvReportWriter(csvTemp, settings.getBufferSize());
+                 ColumnarReportWriter columnar = new ColumnarReportWriter(columnarTemp, settings.getBufferSize(),
+                         settings.getRowGroupSize());
+                 PortfolioReportSummary summary = new PortfolioReportSummary(summaryTemp, settings.getBufferSize())) {
+                List<ProposalReportSink> sinks = List.of(csv, columnar, summary);
+                streamProposals(sinks);
+                for (ProposalReportSink sink : sinks) {
+                    sink.finish();
+                }
+            }
+
+            List<ReportFile> files = new ArrayList<>();
+            for (Path temp : List.of(csvTemp, columnarTemp, summaryTemp)) {
+                String fileName = temp.getFileName().toString().replace(".tmp", "");
+                Path target = directory.resolve(fileName);
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                files.add(describe(target));
+            }
+            return files;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Investment portfolio report generation failed", e);
+        }
+    }
+
+    /**
+     * List generated investment reports, newest first
+     *
+     * @return Report files in the report directory
+     */
+    public List<ReportFile> listReports() {
+        Path directory = directory();
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> isReportName(path.getFileName().toString()))
+                    .map(this::describe)
+                    .sorted(Comparator.comparing(ReportFile::getLastModified).reversed())
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Investment report listing failed", e);
+        }
+    }
+
+    /**
+     * Resolve a report file name to its path
+     * Spring Boot: Rejects anything that is not a plain report file name in the report directory
+     *
+     * @param fileName Report file name from the download URL
+     * @return Path of an existing report file
+     * @throws ReportNotFoundException if the name is invalid or no such report exists
+     */
+    public Path resolve(String fileName) {
+        if (!isReportName(fileName)) {
+            throw new ReportNotFoundException("Investment report not found: " + fileName);
+        }
+        Path directory = directory();
+        Path file = directory.resolve(fileName).normalize();
+        if (!file.getParent().equals(directory) || !Files.isRegularFile(file)) {
+            throw new ReportNotFoundException("Investment report not found: " + fileName);
+        }
+        return file;
+    }
+
+    /**
+     * Feed every investment proposal to the sinks in id order
+     */
+    private void streamProposals(List<ProposalReportSink> sinks) throws IOException {
+        if (shardedStore != null) {
+            // Spring Boot: Scatter-gather has no cursor, so sharded reports load one result list
+            for (InvestmentProposal proposal : shardedStore.findAll()) {
+                writeRow(sinks, proposal);
+            }
+            return;
+        }
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            try (Stream<InvestmentProposal> proposals = investmentProposalRepository.streamAllOrderById()) {
+                proposals.forEach(proposal -> {
+                    try {
+                        writeRow(sinks, proposal);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    // Spring Boot: Keep the persistence context from growing with the table
+                    entityManager.detach(proposal);
+                });
+            }
+        });
+    }
+
+    private static void writeRow(List<ProposalReportSink> sinks, InvestmentProposal proposal) throws IOException {
+        for (ProposalReportSink sink : sinks) {
+            sink.write(proposal);
+        }
+    }
+
+    private ReportFile describe(Path file) {
+        try {
+            String fileName = file.getFileName().toString();
+            return new ReportFile(fileName, ReportFormat.of(fileName), Files.size(file),
+                    Files.getLastModifiedTime(file).toInstant());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean isReportName(String fileName) {
+        return fileName != null && FILE_NAME.matcher(fileName).matches() && !fileName.endsWith(".tmp")
+                && (fileName.endsWith(ReportFormat.CSV.getSuffix()) || fileName.endsWith(ReportFormat.COLUMNAR.getSuffix()));
+    }
+
+    private Path directory() {
+        return Paths.get(investmentProperties.getReport().getDirectory()).toAbsolutePath().normalize();
+    }
+}
@@ -2,25 +2,33 @@ package com.investment.proposal.repository;
 
 import com.investment.proposal.entity.InvestmentProposal;
 import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Investment Proposal Repository for Database Operations
  * Spring Boot: JPA Repository with custom investment queries and data access
  * This interface provides investment data access layer with optimized database operations
  * and supports investment portfolio analysis and reporting requirements
+ * Multi-criteria searches are built as Specifications by ProposalSearchService
  */
 @Repository  // Spring Boot: Repository component annotation for data access layer
 // Registers this interface as a managed Spring Data repository component
-public interface InvestmentProposalRepository extends JpaRepository<InvestmentProposal, Long> {
+public interface InvestmentProposalRepository extends JpaRepository<InvestmentProposal, Long>,
+        JpaSpecificationExecutor<InvestmentProposal> {  // Spring Boot: Specification queries for investment search
 
     /**
      * Find investment proposals by client name with case-insensitive search
@@ -46,6 +54,7 @@ public interface InvestmentProposalRepository extends JpaRepository<InvestmentPr
      * @return List of investment proposals with specified risk level classification
      *         Provides investment data for risk-based portfolio management
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))  // Spring Boot: Query cache lookup
     List<InvestmentProposal> findByRiskLevel(RiskLevel riskLevel);  // Spring Boot: Enum-based querying
 
     /**
@@ -59,6 +68,7 @@ public interface InvestmentProposalRepository extends JpaRepository<InvestmentPr
      * @return List of investment proposals with specified approval status
      *         Provides investment data for workflow management and tracking
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))  // Spring Boot: Query cache lookup
     List<InvestmentProposal> findByApproved(Boolean approved);  // Spring Boot: Boolean-based filtering
 
     /**
@@ -67,17 +77,17 @@ public interface InvestmentProposalRepository extends JpaRepository<InvestmentPr
      * Supports investment portfolio analysis and targeted investment searches
      * Enables investment diversification and asset allocation analysis workflows
      *
-     * @param type Investment type for portfolio categorization and analysis
-     *             Supports investment type-based portfolio management and reporting
+     * @param typeId Investment type identifier from the reference data dictionary
+     *               Compared against the indexed investment_type_id foreign key
      * @param minAmount Minimum investment amount for value-based filtering
      *                  Enables investment portfolio analysis by investment value ranges
      * @return List of investment proposals matching type and minimum amount criteria
      *         Provides targeted investment data for portfolio analysis and management
      */
-    @Query("SELECT ip FROM InvestmentProposal ip WHERE ip.investmentType = :type AND ip.investmentAmount >= :minAmount")
-    List<InvestmentProposal> findByInvestmentTypeAndMinAmount(
-            @Param("type") String type,  // Spring Boot: Named parameter binding for investment type
-            @Param("minAmount") BigDecimal minAmount);  // Spring Boot: Named parameter binding for minimum amount
+    @Query("SELECT ip FROM InvestmentProposal ip WHERE ip.investmentTypeId = :typeId AND ip.investmentAmount >= :minAmount")
+    List<InvestmentProposal> findByInvestmentTypeIdAndMinAmount(
+            @Param("typeId") Long typeId,  // Spring Boot: Named parameter binding for investment type id
+            @Param("minAmount") Money minAmount);  // Spring Boot: Named parameter binding for minimum amount
 
     /**
      * Find high-value investment proposals for premium client analysis
@@ -99,12 +109,13 @@ public interface InvestmentProposalRepository extends JpaRepository<InvestmentPr
      * Supports investment advisor performance tracking and client relationship management
      * Enables investment service quality monitoring and advisor assignment optimization
      *
-     * @param advisorName Advisor name for investment proposal filtering and analysis
-     *                    Supports investment advisor performance tracking and management
+     * @param advisorId Advisor identifier from the reference data dictionary
+     *                  Matched against the indexed advisor_id foreign key
      * @return List of investment proposals assigned to specified advisor
      *         Provides advisor-specific investment data for performance analysis
      */
-    List<InvestmentProposal> findByAssignedAdvisor(String advisorName);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))  // Spring Boot: Query cache lookup
+    List<InvestmentProposal> findByAdvisorId(Long advisorId);
 
     /**
      * Find investment proposals with pagination for large portfolio management
@@ -131,4 +142,39 @@ public interface InvestmentProposalRepository extends JpaRepository<InvestmentPr
      *         Provides statistical data for investment portfolio analysis
      */
     long countByRiskLevel(RiskLevel riskLevel);
-}
\ No newline at end of file
+
+    /**
+     * Check whether an investment proposal reference is already taken
+     * Spring Boot: Derived exists query served by the unique index on proposal_reference
+     *
+     * @param proposalReference Investment proposal reference
+     * @return True if a proposal with the reference exists
+     */
+    boolean existsByProposalReference(String proposalReference);
+
+    /**
+     * Load every investment proposal reference without hydrating entities
+     * Spring Boot: Projection query used to rebuild the in-memory reference filter
+     *
+     * @return All investment proposal references
+     */
+    @Query("SELECT ip.proposalReference FROM InvestmentProposal ip")
+    List<String> findAllProposalReferences();
+
+    /**
+     * Stream every investment proposal in id order
+     * Spring Boot: Cursor-backed stream fetching REPORT_FETCH_SIZE rows per round trip
+     * Must be consumed inside a transaction and closed; callers should detach each entity
+     * so the persistence context does not grow with the table
+     *
+     * @return Stream of all investment proposals ordered by id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = REPORT_FETCH_SIZE))
+    @Query("SELECT ip FROM InvestmentProposal ip ORDER BY ip.id")
+    Stream<InvestmentProposal> streamAllOrderById();
+
+    /**
+     * JDBC fetch size used when streaming investment proposals for reports
+     */
+    String REPORT_FETCH_SIZE = "500";
+}
@@ -0,0 +1,40 @@
+package com.investment.proposal.retention;
+
+/**
+ * Investment Retention Run Result
+ * Spring Boot: Immutable summary of one archiving run for logging and monitoring
+ */
+public class ArchiveRunResult {
+
+    private final long archived;
+    private final int chunks;
+    private final long cursor;
+    private final boolean passCompleted;
+
+    /**
+     * Constructor for an investment retention run result
+     *
+     * @param archived Proposals moved to the archive in this run
+     * @param chunks Chunk transactions committed in this run
+     * @param cursor Keyset cursor left for the next run, zero once a pass completes
+     * @param passCompleted Whether the run reached the end of the live table
+     */
+    public ArchiveRunResult(long archived, int chunks, long cursor, boolean passCompleted) {
+        this.archived = archived;
+        this.chunks = chunks;
+        this.cursor = cursor;
+        this.passCompleted = passCompleted;
+    }
+
+    // Getters for investment retention run result data access
+    public long getArchived() { return archived; }
+    public int getChunks() { return chunks; }
+    public long getCursor() { return cursor; }
+    public boolean isPassCompleted() { return passCompleted; }
+
+    @Override
+    public String toString() {
+        return "archived=" + archived + ", chunks=" + chunks + ", cursor=" + cursor
+                + (passCompleted ? ", pass completed" : ", pass continues next run");
+    }
+}
@@ -0,0 +1,294 @@
+package com.investment.proposal.retention;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.lock.JdbcLeaseLockProvider;
+import com.investment.proposal.lock.LeaseLock;
+import com.investment.proposal.lock.SchedulerLockContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Investment Proposal Retention and Archiving Job
+ * Spring Boot: Moves aged proposals from investment_proposals to investment_proposals_archive
+ * Walks the live table in primary-key order (keyset pagination, never OFFSET) and moves one
+ * chunk per short transaction: copy to the archive, delete from the live table and advance
+ * the checkpoint cursor together, so a crash loses at most the uncommitted chunk and the next
+ * run resumes right after the last committed one.
+ *
+ * The job throttles itself twice: it never exceeds the configured rows per second, and when
+ * a chunk transaction takes longer than the latency threshold it treats that as a sign of
+ * OLTP contention and pauses before the next chunk.
+ *
+ * When called under a scheduler lease, every chunk first verifies the lease's fencing token,
+ * so a node stalled past its lease cannot move rows the new holder is already processing.
+ */
+@Component  // Spring Boot: Component registration for investment retention archiving
+// Registers this class as a managed Spring component
+public class ProposalArchiveJob {
+
+    static final String JOB_NAME = "proposal-archive";
+
+    /**
+     * Retention rule shared by the chunk selection; parameters are the two cutoff times
+     */
+    private static final String RETENTION_PREDICATE =
+            "((approved = TRUE AND created_at < :approvedCutoff) OR (approved = FALSE AND created_at < :pendingCutoff))";
+
+    private static final String ARCHIVE_COLUMNS =
+            "id, proposal_reference, client_name, investment_amount, expected_return, risk_level, "
+                    + "investment_type_id, advisor_id, created_at, approved";
+
+    @Autowired  // Spring Boot: JDBC dependency injection for investment archiving
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired  // Spring Boot: Transaction manager injection for per-chunk investment transactions
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment retention rules
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    @Autowired  // Spring Boot: Event publisher injection so derived investment views drop archived rows
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired  // Spring Boot: Cache manager injection for investment cache eviction after archiving
+    private CacheManager cacheManager;
+
+    @Autowired  // Spring Boot: Entity manager factory injection for second-level cache eviction after archiving
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired  // Spring Boot: Lease lock injection for fencing investment archive writes
+    private JdbcLeaseLockProvider lockProvider;
+
+    @Autowired  // Spring Boot: Metrics registry injection for investment retention progress
+    private MeterRegistry meterRegistry;
+
+    private NamedParameterJdbcTemplate namedJdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong cursor = new AtomicLong();
+
+    private Counter archivedCounter;
+    private Counter chunkCounter;
+    private Counter pauseCounter;
+    private Timer chunkTimer;
+
+    /**
+     * Prepare templates and register investment retention metrics
+     */
+    @PostConstruct
+    public void init() {
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        archivedCounter = meterRegistry.counter("investment.retention.archived");
+        chunkCounter = meterRegistry.counter("investment.retention.chunks");
+        pauseCounter = meterRegistry.counter("investment.retention.latency.pauses");
+        chunkTimer = meterRegistry.timer("investment.retention.chunk.duration");
+        Gauge.builder("investment.retention.cursor", cursor, AtomicLong::get)
+                .description("Last proposal id committed by the current retention pass")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the retention job until the pass completes or the run budget is spent
+     * Spring Boot: Invoked from the hourly investment data cleanup
+     *
+     * @return Outcome of this run
+     */
+    public ArchiveRunResult run() {
+        if (!running.compareAndSet(false, true)) {
+            return new ArchiveRunResult(0, 0, cursor.get(), false);
+        }
+        try {
+            return archive();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ArchiveRunResult archive() {
+        InvestmentConfig.InvestmentManagementProperties.Retention retention = investmentProperties.getRetention();
+        Checkpoint checkpoint = loadCheckpoint();
+        cursor.set(checkpoint.lastId);
+
+        // Spring Boot: Cutoffs come from the pass start time, so a resumed pass keeps its rules
+        MapSqlParameterSource cutoffs = new MapSqlParameterSource()
+                .addValue("approvedCutoff", Timestamp.valueOf(checkpoint.passStartedAt.minus(retention.getApprovedRetention())))
+                .addValue("pendingCutoff", Timestamp.valueOf(checkpoint.passStartedAt.minus(retention.getPendingRetention())));
+
+        long runStarted = System.nanoTime();
+        long deadline = runStarted + retention.getMaxRunDuration().toNanos();
+        long lastId = checkpoint.lastId;
+        long archived = 0;
+        int chunks = 0;
+
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            long chunkStarted = System.nanoTime();
+            List<InvestmentProposal> moved = archiveChunk(lastId, retention.getChunkSize(), cutoffs);
+            long chunkNanos = System.nanoTime() - chunkStarted;
+
+            if (moved.isEmpty()) {
+                // Spring Boot: Pass finished; the next run starts a new pass with fresh cutoffs
+                completePass();
+                cursor.set(0);
+                return new ArchiveRunResult(archived, chunks, 0, true);
+            }
+
+            lastId = moved.get(moved.size() - 1).getId();
+            archived += moved.size();
+            chunks++;
+            cursor.set(lastId);
+            chunkTimer.record(chunkNanos, TimeUnit.NANOSECONDS);
+            chunkCounter.increment();
+            archivedCounter.increment(moved.size());
+            afterChunk(moved);
+
+            // Spring Boot: Back off when the chunk was slow, then hold the rows-per-second cap
+            if (chunkNanos > retention.getLatencyThreshold().toNanos()) {
+                pauseCounter.increment();
+                sleepNanos(retention.getLatencyPause().toNanos());
+            }
+            long minimumElapsed = archived * TimeUnit.SECONDS.toNanos(1) / Math.max(1, retention.getMaxRowsPerSecond());
+            sleepNanos(minimumElapsed - (System.nanoTime() - runStarted));
+        }
+        return new ArchiveRunResult(archived, chunks, lastId, false);
+    }
+
+    /**
+     * Move one keyset chunk to the archive in its own short transaction
+     *
+     * @return Moved proposals in id order, carrying only their id and reference
+     */
+    private List<InvestmentProposal> archiveChunk(long afterId, int chunkSize, MapSqlParameterSource cutoffs) {
+        LeaseLock lease = SchedulerLockContext.current();
+        return transactionTemplate.execute(status -> {
+            // Spring Boot: When run under @SchedulerLock, stop if another node took the lease over
+            if (lease != null) {
+                lockProvider.verify(lease);
+            }
+            MapSqlParameterSource params = new MapSqlParameterSource(cutoffs.getValues())
+                    .addValue("afterId", afterId)
+                    .addValue("limit", chunkSize);
+            List<InvestmentProposal> chunk = namedJdbcTemplate.query(
+                    "SELECT id, proposal_reference FROM investment_proposals"
+                            + " WHERE id > :afterId AND " + RETENTION_PREDICATE
+                            + " ORDER BY id LIMIT :limit",
+                    params,
+                    (rs, rowNum) -> {
+                        InvestmentProposal proposal = new InvestmentProposal();
+                        proposal.setId(rs.getLong("id"));
+                        proposal.setProposalReference(rs.getString("proposal_reference"));
+                        return proposal;
+                    });
+            if (chunk.isEmpty()) {
+                return chunk;
+            }
+
+            MapSqlParameterSource ids = new MapSqlParameterSource("ids",
+                    chunk.stream().map(InvestmentProposal::getId).toList());
+            namedJdbcTemplate.update("INSERT INTO investment_proposals_archive (" + ARCHIVE_COLUMNS + ", archived_at)"
+                    + " SELECT " + ARCHIVE_COLUMNS + ", CURRENT_TIMESTAMP FROM investment_proposals WHERE id IN (:ids)", ids);
+            namedJdbcTemplate.update("DELETE FROM investment_proposals WHERE id IN (:ids)", ids);
+            jdbcTemplate.update("UPDATE investment_retention_checkpoint"
+                            + " SET last_id = ?, archived_total = archived_total + ?, updated_at = CURRENT_TIMESTAMP"
+                            + " WHERE job_name = ?",
+                    chunk.get(chunk.size() - 1).getId(), chunk.size(), JOB_NAME);
+            return chunk;
+        });
+    }
+
+    /**
+     * Tell caches and in-memory investment views that the moved rows are gone
+     */
+    private void afterChunk(List<InvestmentProposal> moved) {
+        Cache cache = cacheManager.getCache("investmentProposals");
+        if (cache != null) {
+            cache.clear();
+        }
+        // Spring Boot: JDBC deletes bypass Hibernate, so drop the moved entities and cached finder results
+        jakarta.persistence.Cache secondLevelCache = entityManagerFactory.getCache();
+        for (InvestmentProposal proposal : moved) {
+            secondLevelCache.evict(InvestmentProposal.class, proposal.getId());
+        }
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        // Spring Boot: One archived event per chunk; the rows were moved, not deleted
+        eventPublisher.publishEvent(new InvestmentProposalsArchivedEvent(
+                moved.stream().map(InvestmentProposal::getId).toList(),
+                moved.stream().map(InvestmentProposal::getProposalReference).toList()));
+    }
+
+    /**
+     * Load the checkpoint, starting a new pass if none is in progress
+     */
+    private Checkpoint loadCheckpoint() {
+        List<Checkpoint> rows = jdbcTemplate.query(
+                "SELECT last_id, pass_started_at FROM investment_retention_checkpoint WHERE job_name = ?",
+                (rs, rowNum) -> new Checkpoint(rs.getLong("last_id"), rs.getTimestamp("pass_started_at").toLocalDateTime()),
+                JOB_NAME);
+        if (!rows.isEmpty()) {
+            return rows.get(0);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update("INSERT INTO investment_retention_checkpoint"
+                        + " (job_name, last_id, pass_started_at, archived_total, updated_at) VALUES (?, 0, ?, 0, ?)",
+                JOB_NAME, Timestamp.valueOf(now), Timestamp.valueOf(now));
+        return new Checkpoint(0, now);
+    }
+
+    /**
+     * Reset the cursor and stamp the start of the next pass
+     */
+    private void completePass() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("UPDATE investment_retention_checkpoint"
+                + " SET last_id = 0, pass_started_at = ?, updated_at = ? WHERE job_name = ?", now, now, JOB_NAME);
+    }
+
+    private static void sleepNanos(long nanos) {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Persisted position of the current retention pass
+     */
+    private static final class Checkpoint {
+        private final long lastId;
+        private final LocalDateTime passStartedAt;
+
+        private Checkpoint(long lastId, LocalDateTime passStartedAt) {
+            this.lastId = lastId;
+            this.passStartedAt = passStartedAt;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.investment.proposal.risk;
+
+/**
+ * Investment Loss Tail
+ * Spring Boot: Bounded min-heap over a primitive array keeping the largest simulated losses
+ * VaR and Expected Shortfall only depend on the worst losses, so a simulation keeps the
+ * tail of each slice instead of every path's loss. Offering a loss below the current tail
+ * is a single comparison and nothing is ever allocated after construction.
+ */
+final class LossTail {
+
+    private final double[] heap;
+    private int size;
+
+    LossTail(int capacity) {
+        heap = new double[capacity];
+    }
+
+    /**
+     * Keep a loss if it belongs to the tail
+     */
+    void offer(double loss) {
+        if (size < heap.length) {
+            int child = size++;
+            while (child > 0) {
+                int parent = (child - 1) >>> 1;
+                if (heap[parent] <= loss) {
+                    break;
+                }
+                heap[child] = heap[parent];
+                child = parent;
+            }
+            heap[child] = loss;
+        } else if (heap.length > 0 && loss > heap[0]) {
+            siftDown(loss);
+        }
+    }
+
+    /**
+     * Fold another slice of paths' tail into this one
+     */
+    LossTail merge(LossTail other) {
+        for (int i = 0; i < other.size; i++) {
+            offer(other.heap[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Smallest loss kept, the Value-at-Risk once every path has been offered
+     */
+    double threshold() {
+        return heap[0];
+    }
+
+    /**
+     * Average of the losses kept, the Expected Shortfall once every path has been offered
+     */
+    double mean() {
+        double sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += heap[i];
+        }
+        return sum / size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return heap.length;
+    }
+
+    private void siftDown(double loss) {
+        int parent = 0;
+        int half = size >>> 1;
+        while (parent < half) {
+            int child = 2 * parent + 1;
+            if (child + 1 < size && heap[child + 1] < heap[child]) {
+                child++;
+            }
+            if (loss <= heap[child]) {
+                break;
+            }
+            heap[parent] = heap[child];
+            parent = child;
+        }
+        heap[parent] = loss;
+    }
+}
@@ -0,0 +1,388 @@
+package com.investment.proposal.risk;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.exception.InvalidRiskSimulationException;
+import com.investment.proposal.exception.RiskSimulationNotFoundException;
+import com.investment.proposal.service.InvestmentProposalService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monte Carlo Investment Risk Engine
+ * Spring Boot: Parallel Value-at-Risk and Expected Shortfall over the approved proposal book
+ * Every approved proposal is a position whose horizon return is normal with its expected
+ * return as drift and the volatility configured for its risk level. Returns share one market
+ * factor with the configured correlation, so slices of the book do not diversify away.
+ *
+ * A run snapshots the book into primitive columns, then a fork-join task splits the path
+ * range in half until it fits a leaf. Each task owns a SplittableRandom split from its
+ * parent, so a seed reproduces the result however the pool schedules the leaves. A leaf
+ * sums position losses per slice into one scratch array and offers them to bounded loss
+ * tails, so the per-path loop allocates nothing. Tails are merged on join and VaR and ES are
+ * read off the merged tails.
+ */
+@Service  // Spring Boot: Service component annotation for investment risk simulations
+public class MonteCarloRiskEngine {
+
+    /**
+     * Paths simulated by one fork-join leaf
+     */
+    private static final int LEAF_PATHS = 8_192;
+
+    private static final String PORTFOLIO = "PORTFOLIO";
+
+    /**
+     * Investment proposal service used to snapshot the approved book
+     * Spring Boot: Service injection so simulations follow the active storage backend
+     */
+    @Autowired  // Spring Boot: Service dependency injection for investment risk simulations
+    private InvestmentProposalService investmentProposalService;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment risk parameters
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    private ExecutorService coordinator;
+    private ForkJoinPool pool;
+
+    /**
+     * Recent simulation jobs by id, oldest evicted first
+     */
+    private final Map<String, RiskSimulationJob> jobs = new LinkedHashMap<>();
+
+    /**
+     * Create the investment risk simulation pools
+     */
+    @PostConstruct
+    public void init() {
+        int parallelism = investmentProperties.getRiskSimulation().getParallelism();
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "investment-risk");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Spring Boot: A dedicated pool keeps long simulations off the common pool used by analytics
+        pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Stop the investment risk simulation pools
+     */
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Queue a Monte Carlo simulation of the approved investment book
+     *
+     * @param paths Return paths, default and cap from investment.management.risk-simulation
+     * @param confidence Confidence level strictly between 0 and 1, or null for the default
+     * @param horizonDays Loss horizon in trading days, or null for the default
+     * @param seed Root seed for a reproducible run, or null for a random one
+     * @return Queued simulation job
+     * @throws InvalidRiskSimulationException if a parameter is out of range
+     */
+    public RiskSimulationJob submit(Integer paths, Double confidence, Integer horizonDays, Long seed) {
+        InvestmentConfig.InvestmentManagementProperties.RiskSimulation settings = investmentProperties.getRiskSimulation();
+        int pathCount = paths != null ? paths : settings.getDefaultPaths();
+        double level = confidence != null ? confidence : settings.getDefaultConfidence();
+        int horizon = horizonDays != null ? horizonDays : settings.getDefaultHorizonDays();
+        if (pathCount < 1) {
+            throw new InvalidRiskSimulationException("Investment risk simulation needs at least one path");
+        }
+        if (!(level > 0 && level < 1)) {
+            throw new InvalidRiskSimulationException("Investment risk confidence must be between 0 and 1: " + level);
+        }
+        if (horizon < 1) {
+            throw new InvalidRiskSimulationException("Investment risk horizon must be at least one day: " + horizon);
+        }
+
+        RiskSimulationJob job = new RiskSimulationJob(UUID.randomUUID().toString(),
+                Math.min(pathCount, settings.getMaxPaths()), level, horizon,
+                seed != null ? seed : ThreadLocalRandom.current().nextLong());
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+            while (jobs.size() > settings.getRetainedJobs()) {
+                jobs.remove(jobs.keySet().iterator().next());
+            }
+        }
+        coordinator.submit(() -> run(job));
+        return job;
+    }
+
+    /**
+     * Find an investment risk simulation job
+     *
+     * @param id Simulation job identifier
+     * @return Simulation job
+     * @throws RiskSimulationNotFoundException if the job is unknown or was evicted
+     */
+    public RiskSimulationJob getJob(String id) {
+        synchronized (jobs) {
+            RiskSimulationJob job = jobs.get(id);
+            if (job == null) {
+                throw new RiskSimulationNotFoundException("Investment risk simulation not found: " + id);
+            }
+            return job;
+        }
+    }
+
+    /**
+     * Recent investment risk simulation jobs, oldest first
+     *
+     * @return Simulation jobs still retained
+     */
+    public List<RiskSimulationJob> getJobs() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.values());
+        }
+    }
+
+    /**
+     * Run one simulation to completion on the coordinator thread
+     */
+    private void run(RiskSimulationJob job) {
+        try {
+            Book book = snapshot(job.getHorizonDays());
+            job.start(book.size);
+            int paths = (int) job.getPaths();
+            // Spring Boot: Nearest-rank VaR is the smallest of the worst (1 - confidence) share of losses
+            int tailSize = paths - (int) Math.ceil(job.getConfidence() * paths - 1e-9) + 1;
+            LossTail[] tails;
+            if (book.size == 0) {
+                // Spring Boot: Nothing approved means nothing at risk; skip the paths
+                tails = emptyTails(book, tailSize);
+                job.pathsSimulatedCounter().set(paths);
+            } else {
+                tails = pool.invoke(new SimulationTask(book, tailSize, new SplittableRandom(job.getSeed()),
+                        job.pathsSimulatedCounter(), 0, paths));
+            }
+            job.complete(result(book, tails));
+            System.out.println("Investment risk simulation " + job.getId() + " finished " + paths + " paths over "
+                    + book.size + " approved proposals");
+        } catch (RuntimeException e) {
+            System.err.println("Investment risk simulation " + job.getId() + " failed: " + e.getMessage());
+            job.fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Copy the approved book into primitive columns scaled to the horizon
+     */
+    private Book snapshot(int horizonDays) {
+        InvestmentConfig.InvestmentManagementProperties.RiskSimulation settings = investmentProperties.getRiskSimulation();
+        List<InvestmentProposal> approved = new ArrayList<>();
+        for (InvestmentProposal proposal : investmentProposalService.getAllInvestmentProposals()) {
+            if (Boolean.TRUE.equals(proposal.getApproved()) && proposal.getInvestmentAmount() != null) {
+                approved.add(proposal);
+            }
+        }
+
+        // Spring Boot: Slice 0 is the portfolio, then advisors by name, then investment types by code
+        Map<String, Integer> advisors = new TreeMap<>();
+        Map<String, Integer> types = new TreeMap<>();
+        for (InvestmentProposal proposal : approved) {
+            if (proposal.getAssignedAdvisor() != null) {
+                advisors.put(proposal.getAssignedAdvisor(), 0);
+            }
+            if (proposal.getInvestmentType() != null) {
+                types.put(proposal.getInvestmentType(), 0);
+            }
+        }
+        String[] labels = new String[1 + advisors.size() + types.size()];
+        labels[0] = PORTFOLIO;
+        int slice = 1;
+        for (Map.Entry<String, Integer> advisor : advisors.entrySet()) {
+            advisor.setValue(slice);
+            labels[slice++] = advisor.getKey();
+        }
+        for (Map.Entry<String, Integer> type : types.entrySet()) {
+            type.setValue(slice);
+            labels[slice++] = type.getKey();
+        }
+
+        double horizon = (double) horizonDays / settings.getTradingDaysPerYear();
+        double horizonVolatility = Math.sqrt(horizon);
+        Book book = new Book(approved.size(), labels, 1 + advisors.size(), settings.getMarketCorrelation());
+        for (int i = 0; i < approved.size(); i++) {
+            InvestmentProposal proposal = approved.get(i);
+            double amount = proposal.getInvestmentAmount().doubleValue();
+            double annualReturn = proposal.getExpectedReturn() == null ? 0.0 : proposal.getExpectedReturn().fraction();
+            Double volatility = proposal.getRiskLevel() == null ? null
+                    : settings.getVolatility().get(proposal.getRiskLevel());
+            if (volatility == null) {
+                volatility = settings.getVolatility().getOrDefault(RiskLevel.HIGH, 0.0);
+            }
+            book.exposure[i] = amount;
+            book.drift[i] = amount * annualReturn * horizon;
+            book.deviation[i] = amount * volatility * horizonVolatility;
+            book.advisorSlice[i] = proposal.getAssignedAdvisor() == null ? -1 : advisors.get(proposal.getAssignedAdvisor());
+            book.typeSlice[i] = proposal.getInvestmentType() == null ? -1 : types.get(proposal.getInvestmentType());
+        }
+        return book;
+    }
+
+    private static LossTail[] emptyTails(Book book, int tailSize) {
+        LossTail[] tails = new LossTail[book.labels.length];
+        for (int s = 0; s < tails.length; s++) {
+            tails[s] = new LossTail(tailSize);
+            tails[s].offer(0.0);
+        }
+        return tails;
+    }
+
+    private static RiskSimulationResult result(Book book, LossTail[] tails) {
+        long[] proposals = new long[book.labels.length];
+        double[] exposure = new double[book.labels.length];
+        for (int i = 0; i < book.size; i++) {
+            proposals[0]++;
+            exposure[0] += book.exposure[i];
+            if (book.advisorSlice[i] >= 0) {
+                proposals[book.advisorSlice[i]]++;
+                exposure[book.advisorSlice[i]] += book.exposure[i];
+            }
+            if (book.typeSlice[i] >= 0) {
+                proposals[book.typeSlice[i]]++;
+                exposure[book.typeSlice[i]] += book.exposure[i];
+            }
+        }
+        List<RiskMeasure> measures = new ArrayList<>(book.labels.length);
+        for (int s = 0; s < book.labels.length; s++) {
+            measures.add(new RiskMeasure(book.labels[s], proposals[s], amount(exposure[s]),
+                    amount(tails[s].threshold()), amount(tails[s].mean())));
+        }
+        return new RiskSimulationResult(measures.get(0),
+                List.copyOf(measures.subList(1, book.firstTypeSlice)),
+                List.copyOf(measures.subList(book.firstTypeSlice, measures.size())));
+    }
+
+    private static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Approved investment book as primitive columns, amounts already scaled to the horizon
+     */
+    static final class Book {
+        final int size;
+        final String[] labels;
+        final int firstTypeSlice;
+        final double marketLoading;
+        final double idiosyncraticLoading;
+        final double[] exposure;
+        final double[] drift;
+        final double[] deviation;
+        final int[] advisorSlice;
+        final int[] typeSlice;
+
+        Book(int size, String[] labels, int firstTypeSlice, double correlation) {
+            this.size = size;
+            this.labels = labels;
+            this.firstTypeSlice = firstTypeSlice;
+            this.marketLoading = Math.sqrt(correlation);
+            this.idiosyncraticLoading = Math.sqrt(1.0 - correlation);
+            exposure = new double[size];
+            drift = new double[size];
+            deviation = new double[size];
+            advisorSlice = new int[size];
+            typeSlice = new int[size];
+        }
+    }
+
+    /**
+     * Fork-join task simulating a range of investment return paths
+     * Spring Boot: Splits path ranges in half until they fit a single leaf loop
+     */
+    static final class SimulationTask extends RecursiveTask<LossTail[]> {
+        private final Book book;
+        private final int tailSize;
+        private final SplittableRandom random;
+        private final AtomicLong progress;
+        private final int from;
+        private final int to;
+
+        SimulationTask(Book book, int tailSize, SplittableRandom random, AtomicLong progress, int from, int to) {
+            this.book = book;
+            this.tailSize = tailSize;
+            this.random = random;
+            this.progress = progress;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected LossTail[] compute() {
+            if (to - from > LEAF_PATHS) {
+                int mid = (from + to) >>> 1;
+                // Spring Boot: Split before forking so each subtree's stream is fixed by the seed alone
+                SimulationTask left = new SimulationTask(book, tailSize, random.split(), progress, from, mid);
+                left.fork();
+                LossTail[] right = new SimulationTask(book, tailSize, random, progress, mid, to).compute();
+                LossTail[] merged = left.join();
+                int capacity = Math.min(tailSize, to - from);
+                for (int s = 0; s < merged.length; s++) {
+                    // Spring Boot: A small half's tail may be too short to hold the combined tail
+                    if (merged[s].capacity() < capacity) {
+                        merged[s] = new LossTail(capacity).merge(merged[s]);
+                    }
+                    merged[s].merge(right[s]);
+                }
+                return merged;
+            }
+
+            // Spring Boot: Leaf loop over primitive investment columns, one scratch array for all paths
+            int slices = book.labels.length;
+            LossTail[] tails = new LossTail[slices];
+            for (int s = 0; s < slices; s++) {
+                tails[s] = new LossTail(Math.min(tailSize, to - from));
+            }
+            double[] losses = new double[slices];
+            double[] drift = book.drift;
+            double[] deviation = book.deviation;
+            int[] advisorSlice = book.advisorSlice;
+            int[] typeSlice = book.typeSlice;
+            for (int path = from; path < to; path++) {
+                Arrays.fill(losses, 0.0);
+                double market = book.marketLoading * random.nextGaussian();
+                for (int i = 0; i < book.size; i++) {
+                    double shock = market + book.idiosyncraticLoading * random.nextGaussian();
+                    double loss = -(drift[i] + deviation[i] * shock);
+                    losses[0] += loss;
+                    if (advisorSlice[i] >= 0) {
+                        losses[advisorSlice[i]] += loss;
+                    }
+                    if (typeSlice[i] >= 0) {
+                        losses[typeSlice[i]] += loss;
+                    }
+                }
+                for (int s = 0; s < slices; s++) {
+                    tails[s].offer(losses[s]);
+                }
+            }
+            progress.addAndGet(to - from);
+            return tails;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.investment.proposal.risk;
+
+import java.math.BigDecimal;
+
+/**
+ * Investment Risk Measure
+ * Spring Boot: Value-at-Risk and Expected Shortfall of one slice of the approved book
+ * Losses are positive amounts over the simulation horizon; a negative value means the
+ * slice is still expected to gain at that confidence level.
+ */
+public class RiskMeasure {
+
+    private final String group;
+    private final long proposals;
+    private final BigDecimal exposure;
+    private final BigDecimal valueAtRisk;
+    private final BigDecimal expectedShortfall;
+
+    /**
+     * Constructor for an investment risk measure
+     *
+     * @param group Advisor name, investment type code or PORTFOLIO
+     * @param proposals Approved proposals in the slice
+     * @param exposure Total invested amount of the slice
+     * @param valueAtRisk Loss not exceeded at the confidence level
+     * @param expectedShortfall Average loss beyond the Value-at-Risk
+     */
+    public RiskMeasure(String group, long proposals, BigDecimal exposure,
+                       BigDecimal valueAtRisk, BigDecimal expectedShortfall) {
+        this.group = group;
+        this.proposals = proposals;
+        this.exposure = exposure;
+        this.valueAtRisk = valueAtRisk;
+        this.expectedShortfall = expectedShortfall;
+    }
+
+    // Getters for investment risk measure data access
+    public String getGroup() { return group; }
+    public long getProposals() { return proposals; }
+    public BigDecimal getExposure() { return exposure; }
+    public BigDecimal getValueAtRisk() { return valueAtRisk; }
+    public BigDecimal getExpectedShortfall() { return expectedShortfall; }
+}
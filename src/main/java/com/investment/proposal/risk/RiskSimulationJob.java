@@ -0,0 +1,117 @@
+package com.investment.proposal.risk;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Investment Risk Simulation Job
+ * Spring Boot: Live progress of one Monte Carlo run, serialized as the job endpoint response
+ * Fork-join leaves add their finished paths to one counter, so progress moves in steps of
+ * one leaf. The result is attached once every path has been simulated.
+ */
+public class RiskSimulationJob {
+
+    private final String id;
+    private final long paths;
+    private final double confidence;
+    private final int horizonDays;
+    private final long seed;
+    private final Instant submittedAt = Instant.now();
+    private final CountDownLatch done = new CountDownLatch(1);
+
+    private final AtomicLong pathsSimulated = new AtomicLong();
+
+    private volatile RiskSimulationState state = RiskSimulationState.QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile long proposals;
+    private volatile RiskSimulationResult result;
+    private volatile String error;
+
+    /**
+     * Constructor for an investment risk simulation job
+     *
+     * @param id Simulation job identifier
+     * @param paths Return paths to simulate
+     * @param confidence Confidence level, e.g. 0.99
+     * @param horizonDays Loss horizon in trading days
+     * @param seed Root seed; the same seed over the same book reproduces the result
+     */
+    public RiskSimulationJob(String id, long paths, double confidence, int horizonDays, long seed) {
+        this.id = id;
+        this.paths = paths;
+        this.confidence = confidence;
+        this.horizonDays = horizonDays;
+        this.seed = seed;
+    }
+
+    void start(long proposals) {
+        this.proposals = proposals;
+        startedAt = Instant.now();
+        state = RiskSimulationState.RUNNING;
+    }
+
+    void complete(RiskSimulationResult result) {
+        this.result = result;
+        finishedAt = Instant.now();
+        state = RiskSimulationState.COMPLETED;
+        done.countDown();
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = Instant.now();
+        state = RiskSimulationState.FAILED;
+        done.countDown();
+    }
+
+    /**
+     * Wait for the simulation to finish
+     *
+     * @param timeout Maximum wait
+     * @return True if the job completed or failed within the timeout
+     */
+    public boolean awaitCompletion(Duration timeout) throws InterruptedException {
+        return done.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    AtomicLong pathsSimulatedCounter() { return pathsSimulated; }
+
+    // Getters for investment risk simulation progress data access
+    public String getId() { return id; }
+    public RiskSimulationState getState() { return state; }
+    public long getPaths() { return paths; }
+    public double getConfidence() { return confidence; }
+    public int getHorizonDays() { return horizonDays; }
+    public long getSeed() { return seed; }
+    public long getProposals() { return proposals; }
+    public long getPathsSimulated() { return pathsSimulated.get(); }
+    public Instant getSubmittedAt() { return submittedAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public RiskSimulationResult getResult() { return result; }
+    public String getError() { return error; }
+
+    /**
+     * Share of the paths simulated so far, 0-100
+     */
+    public double getPercentComplete() {
+        return paths == 0 ? 100.0 : Math.min(100.0, pathsSimulated.get() * 100.0 / paths);
+    }
+
+    /**
+     * Paths simulated per second since the job started
+     */
+    public double getPathsPerSecond() {
+        Instant start = startedAt;
+        if (start == null) {
+            return 0.0;
+        }
+        Instant end = finishedAt != null ? finishedAt : Instant.now();
+        double seconds = Math.max(0.001, Duration.between(start, end).toNanos() / 1e9);
+        return pathsSimulated.get() / seconds;
+    }
+}
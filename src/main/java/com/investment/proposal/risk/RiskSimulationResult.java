@@ -0,0 +1,32 @@
+package com.investment.proposal.risk;
+
+import java.util.List;
+
+/**
+ * Investment Risk Simulation Result
+ * Spring Boot: Portfolio, per-advisor and per-investment-type risk of one simulation run
+ */
+public class RiskSimulationResult {
+
+    private final RiskMeasure portfolio;
+    private final List<RiskMeasure> byAdvisor;
+    private final List<RiskMeasure> byInvestmentType;
+
+    /**
+     * Constructor for an investment risk simulation result
+     *
+     * @param portfolio Risk of the whole approved book
+     * @param byAdvisor Risk of each advisor's approved proposals, by advisor name
+     * @param byInvestmentType Risk of each investment type's approved proposals, by type code
+     */
+    public RiskSimulationResult(RiskMeasure portfolio, List<RiskMeasure> byAdvisor, List<RiskMeasure> byInvestmentType) {
+        this.portfolio = portfolio;
+        this.byAdvisor = byAdvisor;
+        this.byInvestmentType = byInvestmentType;
+    }
+
+    // Getters for investment risk simulation result data access
+    public RiskMeasure getPortfolio() { return portfolio; }
+    public List<RiskMeasure> getByAdvisor() { return byAdvisor; }
+    public List<RiskMeasure> getByInvestmentType() { return byInvestmentType; }
+}
@@ -0,0 +1,12 @@
+package com.investment.proposal.risk;
+
+/**
+ * Investment Risk Simulation Job States
+ * Spring Boot: Lifecycle of one Monte Carlo Value-at-Risk run
+ */
+public enum RiskSimulationState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
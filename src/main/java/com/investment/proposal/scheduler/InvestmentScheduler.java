@@ -1,6 +1,11 @@
 package com.investment.proposal.scheduler;
 
 import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.lock.SchedulerLock;
+import com.investment.proposal.report.ReportFile;
+import com.investment.proposal.report.WeeklyReportGenerator;
+import com.investment.proposal.retention.ArchiveRunResult;
+import com.investment.proposal.retention.ProposalArchiveJob;
 import com.investment.proposal.service.InvestmentProposalService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -38,6 +43,20 @@ public class InvestmentScheduler {
     // Injects InvestmentManagementProperties for investment scheduled task configuration
     private InvestmentConfig.InvestmentManagementProperties investmentProperties;
 
+    /**
+     * Investment proposal retention job for hourly archiving
+     * Spring Boot: Component injection moving aged proposals to the archive table
+     */
+    @Autowired  // Spring Boot: Retention job injection for investment data cleanup
+    private ProposalArchiveJob proposalArchiveJob;
+
+    /**
+     * Weekly investment report generator for compliance report files
+     * Spring Boot: Component injection streaming all proposals into report files
+     */
+    @Autowired  // Spring Boot: Report generator injection for investment portfolio review
+    private WeeklyReportGenerator weeklyReportGenerator;
+
     /**
      * Scheduled task for investment portfolio review and analysis
      * Spring Boot: Scheduled method execution for investment maintenance and monitoring
@@ -46,6 +65,8 @@ public class InvestmentScheduler {
      */
     @Scheduled(cron = "${investment.management.portfolio-review-cron:0 0 9 * * MON}")  // Spring Boot: Cron expression for weekly investment review
     // Configurable cron expression for investment portfolio maintenance
+    @SchedulerLock(name = "weeklyInvestmentPortfolioReview", lockAtMostFor = "30m", lockAtLeastFor = "5m")  // Spring Boot: One node per cluster
+    // Every node fires the same cron at once; the lease lets only one of them run the review
     public void weeklyInvestmentPortfolioReview() {
         // Spring Boot: Log weekly investment portfolio review start for system monitoring
         // Provides investment system maintenance and monitoring capabilities
@@ -62,9 +83,12 @@ public class InvestmentScheduler {
             // Provides investment portfolio analysis and reporting information
             System.out.println("Portfolio Summary: " + portfolioSummary);
 
-            // Spring Boot: Additional investment portfolio analysis and reporting logic
-            // Implements investment system maintenance and compliance workflows
-            // Additional analysis logic can be implemented here for investment maintenance
+            // Spring Boot: Write the full weekly compliance report files for download
+            // Streams every investment proposal once into CSV, columnar and summary files
+            for (ReportFile reportFile : weeklyReportGenerator.generateWeeklyReport()) {
+                System.out.println("Portfolio report written: " + reportFile.getFileName()
+                        + " (" + reportFile.getSizeBytes() + " bytes)");
+            }
         } catch (Exception e) {
             // Spring Boot: Handle investment portfolio review errors gracefully
             // Ensures investment system reliability and error recovery capabilities
@@ -80,6 +104,10 @@ public class InvestmentScheduler {
      */
     @Scheduled(fixedRateString = "${investment.management.data-cleanup-interval:3600000}")  // Spring Boot: Configurable interval for investment data cleanup
     // Hourly execution for investment data cleanup with configuration
+    @SchedulerLock(name = "hourlyInvestmentDataCleanup", lockAtMostFor = "55m", lockAtLeastFor = "50m")  // Spring Boot: One node per cluster
+    // Nodes start at different times, so fixed-rate ticks are offset; holding the lease for most
+    // of the interval makes the other nodes' ticks in that hour skip. lockAtMostFor must exceed the
+    // retention job's max-run-duration so a live run never loses its lease
     public void hourlyInvestmentDataCleanup() {
         // Spring Boot: Log hourly investment data cleanup execution for system monitoring
         // Provides investment system maintenance and optimization capabilities
@@ -88,9 +116,12 @@ public class InvestmentScheduler {
         // Spring Boot: Perform investment data optimization and maintenance logic
         // Implements investment system data management and optimization workflows
         try {
-            // Spring Boot: Investment data optimization and maintenance operations
-            // Provides investment system performance and data governance capabilities
-            // Cleanup logic can be implemented here for investment data optimization
+            // Spring Boot: Archive aged investment proposals in throttled, checkpointed chunks
+            // Keeps the live investment table small so interactive scans stay fast
+            if (investmentProperties.getRetention().isEnabled()) {
+                ArchiveRunResult result = proposalArchiveJob.run();
+                System.out.println("Investment proposal archiving: " + result);
+            }
 
             // Spring Boot: Log successful investment data cleanup completion
             // Provides investment system maintenance status information
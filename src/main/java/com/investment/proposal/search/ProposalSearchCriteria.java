@@ -0,0 +1,76 @@
+package com.investment.proposal.search;
+
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Proposal Search Criteria for Multi-Criteria Investment Queries
+ * Spring Boot: Request parameters bound by the search endpoint; every filter is optional
+ * Filters present are combined with AND; several risk levels are combined with OR.
+ * Range bounds are inclusive and dates use ISO-8601, e.g. 2024-01-31T00:00:00
+ */
+public class ProposalSearchCriteria {
+
+    private List<RiskLevel> riskLevel;
+    private String investmentType;
+    private String assignedAdvisor;
+    private Boolean approved;
+    private Money minAmount;
+    private Money maxAmount;
+    private Rate minReturn;
+    private Rate maxReturn;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)  // Spring Boot: ISO-8601 binding for investment date filters
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)  // Spring Boot: ISO-8601 binding for investment date filters
+    private LocalDateTime createdTo;
+
+    /**
+     * Result order; cursors are only valid for the order they were issued for
+     */
+    private ProposalSearchSort sort = ProposalSearchSort.NEWEST;
+
+    /**
+     * Page size, capped by investment.management.search.max-page-size
+     */
+    private Integer size;
+
+    /**
+     * Opaque cursor from the previous page's nextCursor
+     */
+    private String cursor;
+
+    // Getters and setters for investment search criteria access
+    public List<RiskLevel> getRiskLevel() { return riskLevel; }
+    public void setRiskLevel(List<RiskLevel> riskLevel) { this.riskLevel = riskLevel; }
+    public String getInvestmentType() { return investmentType; }
+    public void setInvestmentType(String investmentType) { this.investmentType = investmentType; }
+    public String getAssignedAdvisor() { return assignedAdvisor; }
+    public void setAssignedAdvisor(String assignedAdvisor) { this.assignedAdvisor = assignedAdvisor; }
+    public Boolean getApproved() { return approved; }
+    public void setApproved(Boolean approved) { this.approved = approved; }
+    public Money getMinAmount() { return minAmount; }
+    public void setMinAmount(Money minAmount) { this.minAmount = minAmount; }
+    public Money getMaxAmount() { return maxAmount; }
+    public void setMaxAmount(Money maxAmount) { this.maxAmount = maxAmount; }
+    public Rate getMinReturn() { return minReturn; }
+    public void setMinReturn(Rate minReturn) { this.minReturn = minReturn; }
+    public Rate getMaxReturn() { return maxReturn; }
+    public void setMaxReturn(Rate maxReturn) { this.maxReturn = maxReturn; }
+    public LocalDateTime getCreatedFrom() { return createdFrom; }
+    public void setCreatedFrom(LocalDateTime createdFrom) { this.createdFrom = createdFrom; }
+    public LocalDateTime getCreatedTo() { return createdTo; }
+    public void setCreatedTo(LocalDateTime createdTo) { this.createdTo = createdTo; }
+    public ProposalSearchSort getSort() { return sort; }
+    public void setSort(ProposalSearchSort sort) { this.sort = sort; }
+    public Integer getSize() { return size; }
+    public void setSize(Integer size) { this.size = size; }
+    public String getCursor() { return cursor; }
+    public void setCursor(String cursor) { this.cursor = cursor; }
+}
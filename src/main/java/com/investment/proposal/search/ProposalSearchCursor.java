@@ -0,0 +1,90 @@
+package com.investment.proposal.search;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.exception.InvalidSearchRequestException;
+import com.investment.proposal.money.Money;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Proposal Search Cursor for Investment Keyset Pagination
+ * Spring Boot: Position after the last row of a page, encoded as an opaque URL-safe token
+ * The token carries the sort it was issued for, the sort value of the last row and its id;
+ * the next page is everything strictly after that (value, id) pair in sort order.
+ */
+public final class ProposalSearchCursor {
+
+    private final ProposalSearchSort sort;
+    private final Comparable<?> value;
+    private final long id;
+
+    private ProposalSearchCursor(ProposalSearchSort sort, Comparable<?> value, long id) {
+        this.sort = sort;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * Cursor positioned after a proposal
+     *
+     * @param sort Sort order of the page
+     * @param last Last proposal of the page
+     * @return Cursor resuming after the proposal
+     */
+    public static ProposalSearchCursor after(ProposalSearchSort sort, InvestmentProposal last) {
+        Comparable<?> value = switch (sort) {
+            case NEWEST -> last.getCreatedAt();
+            case LARGEST -> last.getInvestmentAmount();
+            case ID -> null;
+        };
+        return new ProposalSearchCursor(sort, value, last.getId());
+    }
+
+    /**
+     * Decode a cursor token
+     *
+     * @param token Token from a previous page
+     * @param sort Sort order of the requested page
+     * @return Decoded cursor
+     * @throws InvalidSearchRequestException if the token is malformed or was issued for another sort
+     */
+    public static ProposalSearchCursor decode(String token, ProposalSearchSort sort) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|", -1);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSearchRequestException("Malformed investment search cursor");
+        }
+        if (parts.length != 3 || !sort.name().equals(parts[0])) {
+            throw new InvalidSearchRequestException("Investment search cursor does not match sort " + sort);
+        }
+        try {
+            Comparable<?> value = switch (sort) {
+                case NEWEST -> LocalDateTime.parse(parts[1]);
+                case LARGEST -> Money.of(parts[1]);
+                case ID -> null;
+            };
+            return new ProposalSearchCursor(sort, value, Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidSearchRequestException("Malformed investment search cursor");
+        }
+    }
+
+    /**
+     * Encode the cursor as an opaque token
+     *
+     * @return URL-safe token
+     */
+    public String encode() {
+        String text = sort.name() + "|" + (value == null ? "" : value.toString()) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Getters for investment search cursor access
+    public ProposalSearchSort getSort() { return sort; }
+    public Comparable<?> getValue() { return value; }
+    public long getId() { return id; }
+}
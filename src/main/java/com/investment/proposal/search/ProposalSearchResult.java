@@ -0,0 +1,30 @@
+package com.investment.proposal.search;
+
+import com.investment.proposal.entity.InvestmentProposal;
+
+import java.util.List;
+
+/**
+ * Proposal Search Result for Investment Keyset Pagination
+ * Spring Boot: One page of matching proposals and the cursor of the next page
+ * There is no total count: counting every match would cost as much as the query the
+ * cursor exists to avoid. nextCursor is null on the last page.
+ */
+public class ProposalSearchResult {
+
+    private final List<InvestmentProposal> content;
+    private final int size;
+    private final String nextCursor;
+
+    public ProposalSearchResult(List<InvestmentProposal> content, int size, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters for investment search result access
+    public List<InvestmentProposal> getContent() { return content; }
+    public int getSize() { return size; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return nextCursor != null; }
+}
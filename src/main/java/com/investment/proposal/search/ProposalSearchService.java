@@ -0,0 +1,95 @@
+package com.investment.proposal.search;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.exception.InvalidSearchRequestException;
+import com.investment.proposal.reference.ReferenceDataDictionary;
+import com.investment.proposal.repository.InvestmentProposalRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Proposal Search Service for Multi-Criteria Investment Queries
+ * Spring Boot: Service combining optional filters into one indexed query with keyset pagination
+ * Replaces picking one fixed finder and filtering the rest client-side. Advisor and type
+ * names are resolved to ids through the in-memory reference dictionary, so filters hit the
+ * indexed foreign key columns without a join. Pages are fetched with a keyset predicate and
+ * LIMIT size + 1 instead of OFFSET: the extra row tells whether another page exists, and
+ * the cost of page N does not grow with N.
+ *
+ * Searches run against the JPA store; with sharding enabled they cover the primary
+ * datasource only, like the paginated endpoint.
+ */
+@Service  // Spring Boot: Service component annotation for investment search
+public class ProposalSearchService {
+
+    @Autowired  // Spring Boot: Repository injection for Specification-based investment queries
+    private InvestmentProposalRepository investmentProposalRepository;
+
+    @Autowired  // Spring Boot: Dictionary injection resolving advisor and investment type names in memory
+    private ReferenceDataDictionary dictionary;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment search page sizes
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    /**
+     * Search investment proposals
+     *
+     * @param criteria Optional filters, sort, page size and cursor
+     * @return Page of matching proposals and the cursor of the next page
+     * @throws InvalidSearchRequestException if a range is inverted or the cursor is invalid
+     * @throws com.investment.proposal.exception.UnknownReferenceDataException if an advisor or type is unknown
+     */
+    @Transactional(readOnly = true)  // Spring Boot: Read-only transaction for investment search
+    public ProposalSearchResult search(ProposalSearchCriteria criteria) {
+        checkRange("amount", criteria.getMinAmount(), criteria.getMaxAmount());
+        checkRange("expected return", criteria.getMinReturn(), criteria.getMaxReturn());
+        checkRange("created", criteria.getCreatedFrom(), criteria.getCreatedTo());
+
+        ProposalSearchSort sort = criteria.getSort() != null ? criteria.getSort() : ProposalSearchSort.NEWEST;
+        int size = pageSize(criteria.getSize());
+        ProposalSearchCursor cursor = criteria.getCursor() == null || criteria.getCursor().isBlank()
+                ? null : ProposalSearchCursor.decode(criteria.getCursor(), sort);
+
+        Specification<InvestmentProposal> specification = Specification.allOf(
+                ProposalSpecifications.riskLevelIn(criteria.getRiskLevel()),
+                ProposalSpecifications.advisorId(criteria.getAssignedAdvisor() == null ? null
+                        : dictionary.advisorByName(criteria.getAssignedAdvisor()).getId()),
+                ProposalSpecifications.investmentTypeId(criteria.getInvestmentType() == null ? null
+                        : dictionary.investmentTypeByCode(criteria.getInvestmentType()).getId()),
+                ProposalSpecifications.approved(criteria.getApproved()),
+                ProposalSpecifications.amountBetween(criteria.getMinAmount(), criteria.getMaxAmount()),
+                ProposalSpecifications.expectedReturnBetween(criteria.getMinReturn(), criteria.getMaxReturn()),
+                ProposalSpecifications.createdBetween(criteria.getCreatedFrom(), criteria.getCreatedTo()),
+                ProposalSpecifications.after(cursor));
+
+        // Spring Boot: One row past the page decides hasNext without a count query
+        List<InvestmentProposal> rows = investmentProposalRepository.findBy(specification,
+                query -> query.sortBy(ProposalSpecifications.orderOf(sort)).limit(size + 1).all());
+        if (rows.size() <= size) {
+            return new ProposalSearchResult(rows, size, null);
+        }
+        List<InvestmentProposal> page = new ArrayList<>(rows.subList(0, size));
+        return new ProposalSearchResult(page, size, ProposalSearchCursor.after(sort, page.get(size - 1)).encode());
+    }
+
+    private int pageSize(Integer requested) {
+        InvestmentConfig.InvestmentManagementProperties.Search settings = investmentProperties.getSearch();
+        if (requested == null || requested < 1) {
+            return settings.getDefaultPageSize();
+        }
+        return Math.min(requested, settings.getMaxPageSize());
+    }
+
+    private static <T extends Comparable<? super T>> void checkRange(String name, T min, T max) {
+        if (min != null && max != null && min.compareTo(max) > 0) {
+            throw new InvalidSearchRequestException("Investment search " + name + " range is inverted: "
+                    + min + " > " + max);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.investment.proposal.search;
+
+/**
+ * Proposal Search Sort Enum for Investment Keyset Pagination
+ * Spring Boot: Enum for the orders a search can be paged in
+ * Every order ends with the proposal id so rows with equal sort values still have a
+ * strict position, which is what lets a cursor resume exactly after the last row
+ */
+public enum ProposalSearchSort {
+    NEWEST,   // createdAt descending, then id descending
+    LARGEST,  // investmentAmount descending, then id descending
+    ID        // id ascending
+}
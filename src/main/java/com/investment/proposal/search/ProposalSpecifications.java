@@ -0,0 +1,109 @@
+package com.investment.proposal.search;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Proposal Specifications for Multi-Criteria Investment Queries
+ * Spring Boot: Specification building blocks combined by ProposalSearchService
+ * Each factory returns null when its filter is absent; Specification.allOf skips nulls,
+ * so only the requested predicates reach the SQL. Equality filters come first so the
+ * generated WHERE clause lines up with the leading columns of the composite indexes on
+ * InvestmentProposal: (risk_level, approved, created_at), (advisor_id, approved, created_at)
+ * and (investment_type_id, investment_amount).
+ */
+public final class ProposalSpecifications {
+
+    private ProposalSpecifications() {
+    }
+
+    public static Specification<InvestmentProposal> riskLevelIn(Collection<RiskLevel> riskLevels) {
+        if (riskLevels == null || riskLevels.isEmpty()) {
+            return null;
+        }
+        return (root, query, cb) -> riskLevels.size() == 1
+                ? cb.equal(root.get("riskLevel"), riskLevels.iterator().next())
+                : root.get("riskLevel").in(riskLevels);
+    }
+
+    public static Specification<InvestmentProposal> advisorId(Long advisorId) {
+        return advisorId == null ? null : (root, query, cb) -> cb.equal(root.get("advisorId"), advisorId);
+    }
+
+    public static Specification<InvestmentProposal> investmentTypeId(Long investmentTypeId) {
+        return investmentTypeId == null ? null : (root, query, cb) -> cb.equal(root.get("investmentTypeId"), investmentTypeId);
+    }
+
+    public static Specification<InvestmentProposal> approved(Boolean approved) {
+        return approved == null ? null : (root, query, cb) -> cb.equal(root.get("approved"), approved);
+    }
+
+    public static Specification<InvestmentProposal> amountBetween(Money min, Money max) {
+        return between("investmentAmount", min, max);
+    }
+
+    public static Specification<InvestmentProposal> expectedReturnBetween(Rate min, Rate max) {
+        return between("expectedReturn", min, max);
+    }
+
+    public static Specification<InvestmentProposal> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return between("createdAt", from, to);
+    }
+
+    /**
+     * Rows strictly after a cursor in the cursor's sort order
+     * Spring Boot: (value, id) row comparison written out, since JPA criteria has no tuple compare
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Specification<InvestmentProposal> after(ProposalSearchCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<Long> id = root.get("id");
+            if (cursor.getSort() == ProposalSearchSort.ID) {
+                return cb.greaterThan(id, cursor.getId());
+            }
+            Path<Comparable> value = root.get(sortAttribute(cursor.getSort()));
+            Comparable last = cursor.getValue();
+            return cb.or(cb.lessThan(value, last),
+                    cb.and(cb.equal(value, last), cb.lessThan(id, cursor.getId())));
+        };
+    }
+
+    /**
+     * ORDER BY matching the keyset predicate of a sort
+     */
+    public static Sort orderOf(ProposalSearchSort sort) {
+        if (sort == ProposalSearchSort.ID) {
+            return Sort.by(Sort.Direction.ASC, "id");
+        }
+        return Sort.by(Sort.Direction.DESC, sortAttribute(sort), "id");
+    }
+
+    private static String sortAttribute(ProposalSearchSort sort) {
+        return sort == ProposalSearchSort.NEWEST ? "createdAt" : "investmentAmount";
+    }
+
+    private static <T extends Comparable<? super T>> Specification<InvestmentProposal> between(
+            String attribute, T min, T max) {
+        if (min == null && max == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Path<T> path = root.get(attribute);
+            if (min == null) {
+                return cb.lessThanOrEqualTo(path, max);
+            }
+            return max == null ? cb.greaterThanOrEqualTo(path, min) : cb.between(path, min, max);
+        };
+    }
+}
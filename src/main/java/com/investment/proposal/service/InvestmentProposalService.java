@@ -1,10 +1,15 @@
 package com.investment.proposal.service;
 
+import com.investment.proposal.assignment.AdvisorAssignmentEngine;
 import com.investment.proposal.config.InvestmentConfig;
 import com.investment.proposal.entity.InvestmentProposal;
 import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.exception.DuplicateProposalReferenceException;
 import com.investment.proposal.exception.InvestmentProposalNotFoundException;
+import com.investment.proposal.identity.ProposalReferenceGenerator;
+import com.investment.proposal.identity.ProposalReferenceIndex;
 import com.investment.proposal.repository.InvestmentProposalRepository;
+import com.investment.proposal.sharding.ShardedInvestmentProposalStore;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
@@ -14,7 +19,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +77,37 @@ public class InvestmentProposalService {
     // Injects InvestmentAsyncService for investment async operations
     private InvestmentAsyncService investmentAsyncService;
 
+    /**
+     * Advisor assignment engine for proposals created without an advisor
+     * Spring Boot: Service injection implementing investment.management.default-advisor-strategy
+     */
+    @Autowired  // Spring Boot: Assignment engine injection for investment advisor allocation
+    private AdvisorAssignmentEngine advisorAssignmentEngine;
+
+    /**
+     * Investment proposal reference filter for pre-insert duplicate checks
+     * Spring Boot: Component injection avoiding failed inserts on duplicate references
+     */
+    @Autowired  // Spring Boot: Reference index injection for investment duplicate pre-checks
+    private ProposalReferenceIndex proposalReferenceIndex;
+
+    /**
+     * Investment proposal reference generator for server-assigned references
+     * Spring Boot: Component injection for collision-free investment references
+     */
+    @Autowired  // Spring Boot: Reference generator injection for investment proposal creation
+    private ProposalReferenceGenerator proposalReferenceGenerator;
+
+    /**
+     * Sharded investment proposal store for horizontally partitioned data
+     * Spring Boot: Optional dependency present only when investment sharding is enabled
+     * Routes point operations to the owning shard and runs list queries as scatter-gather
+     * Falls back to the single JPA repository when absent
+     */
+    @Autowired(required = false)  // Spring Boot: Optional injection of the sharded investment store
+    // Injects ShardedInvestmentProposalStore only when investment.management.sharding.enabled is true
+    private ShardedInvestmentProposalStore shardedStore;
+
     /**
      * Create new investment proposal with validation and business rules
      * Spring Boot: Service method with business logic validation and processing
@@ -92,16 +128,30 @@ public class InvestmentProposalService {
     public InvestmentProposal createInvestmentProposal(@Valid InvestmentProposal proposal) {
         // Spring Boot: Validate investment amount against system limits for risk management
         // Prevents investment proposals that exceed maximum allowed investment amounts
-        if (proposal.getInvestmentAmount().compareTo(investmentProperties.getMaxInvestmentAmount()) > 0) {
+        if (proposal.getInvestmentAmount().isGreaterThan(investmentProperties.getMaxInvestmentAmount())) {
             // Spring Boot: Throw exception for investment amount exceeding system limits
             // Ensures investment risk management and regulatory compliance
             throw new IllegalArgumentException("Investment amount exceeds maximum allowed limit of " +
                     investmentProperties.getMaxInvestmentAmount());
         }
 
+        // Spring Boot: Generate or pre-check the investment proposal reference before any insert
+        // Generated references are unique by construction and skip the uniqueness check entirely
+        if (proposal.getProposalReference() == null || proposal.getProposalReference().isBlank()) {
+            proposal.setProposalReference(proposalReferenceGenerator.nextReference());
+        } else if (proposalReferenceIndex.isDuplicate(proposal.getProposalReference(), this::existsByProposalReference)) {
+            throw new DuplicateProposalReferenceException("Investment proposal reference already exists: "
+                    + proposal.getProposalReference());
+        }
+
+        // Spring Boot: Assign an advisor when the investment proposal does not name one
+        // Uses the configured default advisor strategy without locking the create path
+        advisorAssignmentEngine.assignIfUnassigned(proposal);
+
         // Spring Boot: Save investment proposal to database with transaction management
         // Persists investment proposal data with automatic ID generation and timestamps
-        InvestmentProposal savedProposal = investmentProposalRepository.save(proposal);
+        InvestmentProposal savedProposal = saveProposal(proposal);
+        proposalReferenceIndex.add(savedProposal.getProposalReference());
 
         // Spring Boot: Publish investment proposal creation event for system integration
         // Enables investment workflow notifications and audit trail maintenance
@@ -125,13 +175,29 @@ public class InvestmentProposalService {
      * @return List of all investment proposals with caching optimization
      *         Provides efficient investment portfolio data for management and analysis
      */
-    @Cacheable("investmentProposals")  // Spring Boot: Caching annotation for investment data performance
-    // Caches investment proposal data to improve retrieval performance
+    @Cacheable(value = "investmentProposals", sync = true)  // Spring Boot: Caching annotation for investment data performance
+    // Caches investment proposal data; sync routes concurrent misses through one single-flight load
     @Transactional(readOnly = true)  // Spring Boot: Read-only transaction for investment data retrieval
     // Optimizes database access for investment portfolio analysis
     public List<InvestmentProposal> getAllInvestmentProposals() {
         // Spring Boot: Retrieve all investment proposals from database with caching
         // Provides efficient investment portfolio data for management and analysis
+        return loadAllInvestmentProposals();
+    }
+
+    /**
+     * Load all investment proposals from storage, bypassing the proposal list cache
+     * Spring Boot: For rebuilds of derived investment state, which must not start from a
+     * stale refresh-ahead entry and persist it as the truth
+     *
+     * @return List of all investment proposals as currently stored
+     */
+    @Transactional(readOnly = true)  // Spring Boot: Read-only transaction for investment data retrieval
+    public List<InvestmentProposal> loadAllInvestmentProposals() {
+        if (shardedStore != null) {
+            // Spring Boot: Scatter-gather across investment shards with ID-ordered merge
+            return shardedStore.findAll();
+        }
         return investmentProposalRepository.findAll();
     }
 
@@ -153,7 +219,7 @@ public class InvestmentProposalService {
     public InvestmentProposal getInvestmentProposalById(Long id) {
         // Spring Boot: Retrieve investment proposal by ID with exception handling
         // Provides safe investment data retrieval with proper error management
-        return investmentProposalRepository.findById(id)
+        return (shardedStore != null ? shardedStore.findById(id) : investmentProposalRepository.findById(id))
                 .orElseThrow(() -> new InvestmentProposalNotFoundException("Investment proposal not found with ID: " + id));
     }
 
@@ -187,7 +253,7 @@ public class InvestmentProposalService {
 
         // Spring Boot: Save updated investment proposal with transaction management
         // Persists investment proposal status changes with data consistency
-        InvestmentProposal updatedProposal = investmentProposalRepository.save(proposal);
+        InvestmentProposal updatedProposal = saveProposal(proposal);
 
         // Spring Boot: Publish investment approval status change event for system integration
         // Enables investment workflow notifications and audit trail maintenance
@@ -224,7 +290,11 @@ public class InvestmentProposalService {
 
         // Spring Boot: Delete investment proposal from database with transaction management
         // Removes investment proposal data with proper cascade operations
-        investmentProposalRepository.delete(proposal);
+        if (shardedStore != null) {
+            shardedStore.delete(proposal);
+        } else {
+            investmentProposalRepository.delete(proposal);
+        }
 
         // Spring Boot: Publish investment proposal deletion event for system integration
         // Enables investment workflow notifications and audit trail maintenance
@@ -247,6 +317,9 @@ public class InvestmentProposalService {
     public List<InvestmentProposal> getInvestmentProposalsByClient(String clientName) {
         // Spring Boot: Retrieve investment proposals by client with case-insensitive search
         // Provides flexible investment client portfolio data retrieval and management
+        if (shardedStore != null) {
+            return shardedStore.findByClientNameContainingIgnoreCase(clientName);
+        }
         return investmentProposalRepository.findByClientNameContainingIgnoreCase(clientName);
     }
 
@@ -262,6 +335,11 @@ public class InvestmentProposalService {
     @Transactional(readOnly = true)  // Spring Boot: Read-only transaction for investment portfolio analysis
     // Optimizes database access for investment statistical processing
     public Map<RiskLevel, Long> getPortfolioSummaryByRiskLevel() {
+        if (shardedStore != null) {
+            // Spring Boot: One parallel GROUP BY per investment shard, summed per risk level
+            return shardedStore.countByRiskLevel();
+        }
+
         // Spring Boot: Stream through risk levels and count investment proposals for each
         // Provides comprehensive investment portfolio risk level analysis and statistics
         return java.util.Arrays.stream(RiskLevel.values())
@@ -306,6 +384,45 @@ public class InvestmentProposalService {
     public List<InvestmentProposal> getHighValueInvestments(BigDecimal thresholdAmount) {
         // Spring Boot: Retrieve high-value investment proposals with native query optimization
         // Provides efficient high-value investment data for premium client management
+        if (shardedStore != null) {
+            // Spring Boot: Scatter-gather across investment shards with amount-descending merge
+            return shardedStore.findHighValueInvestments(thresholdAmount);
+        }
         return investmentProposalRepository.findHighValueInvestments(thresholdAmount);
     }
+
+    /**
+     * Get every investment proposal reference
+     * Spring Boot: Lightweight projection used to rebuild the investment reference filter
+     *
+     * @return All stored investment proposal references
+     */
+    @Transactional(readOnly = true)  // Spring Boot: Read-only transaction for investment reference retrieval
+    public List<String> getAllProposalReferences() {
+        if (shardedStore != null) {
+            return shardedStore.findAllProposalReferences();
+        }
+        return investmentProposalRepository.findAllProposalReferences();
+    }
+
+    private boolean existsByProposalReference(String proposalReference) {
+        if (shardedStore != null) {
+            return shardedStore.existsByProposalReference(proposalReference);
+        }
+        return investmentProposalRepository.existsByProposalReference(proposalReference);
+    }
+
+    /**
+     * Persist an investment proposal through the active storage backend
+     * Spring Boot: Routes to the owning shard when sharding is enabled, otherwise to JPA
+     *
+     * @param proposal Investment proposal to insert or update
+     * @return Stored investment proposal with its identifier
+     */
+    private InvestmentProposal saveProposal(InvestmentProposal proposal) {
+        if (shardedStore != null) {
+            return shardedStore.save(proposal);
+        }
+        return investmentProposalRepository.save(proposal);
+    }
 }
\ No newline at end of file
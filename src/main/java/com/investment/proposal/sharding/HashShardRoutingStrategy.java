@@ -0,0 +1,78 @@
+package com.investment.proposal.sharding;
+
+import com.investment.proposal.entity.InvestmentProposal;
+
+import java.util.function.Function;
+
+/**
+ * Hash-Based Investment Shard Routing Strategy
+ * Spring Boot: Routes investment proposals by a hash of a single string attribute
+ * Uses a mixed String hash so similar keys (INV-001, INV-002, ...) spread evenly
+ * across shards instead of clustering on neighbouring hash codes
+ */
+public class HashShardRoutingStrategy implements ShardRoutingStrategy {
+
+    /**
+     * Extractor for the investment proposal attribute used as the routing key
+     * Spring Boot: Routing key accessor, e.g. assigned advisor or proposal reference
+     */
+    private final Function<InvestmentProposal, String> keyExtractor;
+
+    /**
+     * Constructor for hash-based investment shard routing
+     *
+     * @param keyExtractor Accessor for the investment proposal routing key
+     */
+    public HashShardRoutingStrategy(Function<InvestmentProposal, String> keyExtractor) {
+        this.keyExtractor = keyExtractor;
+    }
+
+    /**
+     * Create a routing strategy from the configured routing key name
+     * Spring Boot: Factory for investment.management.sharding.routing-key values
+     *
+     * @param routingKey ASSIGNED_ADVISOR or PROPOSAL_REFERENCE
+     * @return Hash routing strategy for the requested investment proposal attribute
+     * @throws IllegalArgumentException if the routing key is not supported
+     */
+    public static HashShardRoutingStrategy forRoutingKey(String routingKey) {
+        switch (routingKey) {
+            case "ASSIGNED_ADVISOR":
+                return new HashShardRoutingStrategy(InvestmentProposal::getAssignedAdvisor);
+            case "PROPOSAL_REFERENCE":
+                return new HashShardRoutingStrategy(InvestmentProposal::getProposalReference);
+            default:
+                throw new IllegalArgumentException("Unsupported investment shard routing key: " + routingKey);
+        }
+    }
+
+    /**
+     * Select the owning shard by hashing the investment routing key
+     * Spring Boot: Deterministic routing so the same key always maps to the same shard
+     *
+     * @param proposal Investment proposal being stored
+     * @param shardCount Number of configured investment shards
+     * @return Shard index in the range [0, shardCount)
+     */
+    @Override
+    public int shardFor(InvestmentProposal proposal, int shardCount) {
+        // Spring Boot: Hash the routing key with a finalizer to avoid sequential key clustering
+        String key = keyExtractor.apply(proposal);
+        return Math.floorMod(mix(key == null ? 0 : key.hashCode()), shardCount);
+    }
+
+    /**
+     * Murmur3 32-bit finalizer for investment routing key hashes
+     *
+     * @param h Raw String hash code
+     * @return Well-distributed hash value
+     */
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
\ No newline at end of file
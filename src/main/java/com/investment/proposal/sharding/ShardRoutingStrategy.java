@@ -0,0 +1,22 @@
+package com.investment.proposal.sharding;
+
+import com.investment.proposal.entity.InvestmentProposal;
+
+/**
+ * Investment Shard Routing Strategy
+ * Spring Boot: Pluggable routing contract for sharded investment proposal storage
+ * Implementations decide which shard owns a new investment proposal
+ * so alternative partitioning schemes can be swapped in through configuration
+ */
+public interface ShardRoutingStrategy {
+
+    /**
+     * Select the owning shard for an investment proposal
+     * Spring Boot: Routing decision made once, when the proposal is first stored
+     *
+     * @param proposal Investment proposal being stored
+     * @param shardCount Number of configured investment shards
+     * @return Shard index in the range [0, shardCount)
+     */
+    int shardFor(InvestmentProposal proposal, int shardCount);
+}
\ No newline at end of file
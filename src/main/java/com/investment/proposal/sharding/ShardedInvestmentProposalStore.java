@@ -0,0 +1,428 @@
+package com.investment.proposal.sharding;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Sharded Investment Proposal Store for Horizontal Scaling
+ * Spring Boot: JDBC-based investment proposal storage spread across N datasources
+ * Point operations are routed to the owning shard and list queries run as a
+ * parallel scatter-gather whose per-shard sorted results are merged with a k-way merge
+ *
+ * Proposal IDs are global: globalId = localId * shardCount + shardIndex, so the
+ * owning shard is recovered from the ID alone and no lookup table is needed.
+ * The shard count is therefore fixed once data has been written.
+ */
+public class ShardedInvestmentProposalStore {
+
+    /**
+     * Per-shard investment table definition, applied idempotently at startup
+     * Spring Boot: Mirrors the investment_proposals columns of the JPA entity
+     */
+    private static final String SHARD_SCHEMA =
+            "CREATE TABLE IF NOT EXISTS investment_proposals (" +
+            " id BIGINT AUTO_INCREMENT PRIMARY KEY," +
+            " proposal_reference VARCHAR(20) NOT NULL UNIQUE," +
+            " client_name VARCHAR(100) NOT NULL," +
+            " investment_amount DECIMAL(15,2) NOT NULL," +
+            " expected_return DECIMAL(38,2) NOT NULL," +
+            " risk_level VARCHAR(16) NOT NULL," +
+            " investment_type VARCHAR(255) NOT NULL," +
+            " assigned_advisor VARCHAR(255) NOT NULL," +
+            " created_at TIMESTAMP NOT NULL," +
+            " approved BOOLEAN NOT NULL)";
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, proposal_reference, client_name, investment_amount, expected_return, risk_level," +
+            " investment_type, assigned_advisor, created_at, approved FROM investment_proposals";
+
+    /**
+     * Ordering of merged scatter-gather results by global investment proposal ID
+     */
+    private static final Comparator<InvestmentProposal> BY_ID = Comparator.comparing(InvestmentProposal::getId);
+
+    /**
+     * Ordering of merged high-value results by investment amount, largest first
+     */
+    private static final Comparator<InvestmentProposal> BY_AMOUNT_DESC =
+            Comparator.comparingLong((InvestmentProposal proposal) -> proposal.getInvestmentAmount().getCents()).reversed();
+
+    /**
+     * JDBC templates for each investment shard, indexed by shard number
+     */
+    private final List<NamedParameterJdbcTemplate> shards;
+
+    /**
+     * Investment shard datasources, retained so their pools can be closed on shutdown
+     */
+    private final List<DataSource> dataSources;
+
+    /**
+     * Routing strategy selecting the owning shard of new investment proposals
+     */
+    private final ShardRoutingStrategy routingStrategy;
+
+    /**
+     * Executor running per-shard queries in parallel for scatter-gather
+     */
+    private final ExecutorService scatterExecutor;
+
+    /**
+     * Upper bound on scatter-gather latency, in milliseconds
+     */
+    private final long queryTimeoutMillis;
+
+    /**
+     * Constructor for sharded investment proposal storage
+     * Spring Boot: Wires shard datasources, routing and the scatter executor
+     *
+     * @param dataSources Investment shard datasources in shard index order
+     * @param routingStrategy Routing strategy for new investment proposals
+     * @param scatterExecutor Executor for parallel per-shard queries
+     * @param queryTimeoutMillis Maximum wait for a scatter-gather query
+     */
+    public ShardedInvestmentProposalStore(List<DataSource> dataSources, ShardRoutingStrategy routingStrategy,
+                                          ExecutorService scatterExecutor, long queryTimeoutMillis) {
+        if (dataSources.isEmpty()) {
+            throw new IllegalArgumentException("At least one investment shard datasource is required");
+        }
+        this.dataSources = new ArrayList<>(dataSources);
+        this.shards = new ArrayList<>(dataSources.size());
+        for (DataSource dataSource : dataSources) {
+            this.shards.add(new NamedParameterJdbcTemplate(dataSource));
+        }
+        this.routingStrategy = routingStrategy;
+        this.scatterExecutor = scatterExecutor;
+        this.queryTimeoutMillis = queryTimeoutMillis;
+    }
+
+    /**
+     * Create the investment proposal table on every shard if it is missing
+     * Spring Boot: Called once when the sharded store bean is initialized
+     */
+    public void initializeSchema() {
+        for (NamedParameterJdbcTemplate shard : shards) {
+            shard.getJdbcTemplate().execute(SHARD_SCHEMA);
+        }
+    }
+
+    /**
+     * Stop the scatter executor and close pooled shard datasources
+     * Spring Boot: Destroy callback for the sharded investment store bean
+     */
+    public void shutdown() {
+        scatterExecutor.shutdown();
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable) {
+                try {
+                    ((AutoCloseable) dataSource).close();
+                } catch (Exception e) {
+                    System.err.println("Failed to close investment shard datasource: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of configured investment shards
+     *
+     * @return Investment shard count
+     */
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Insert or update an investment proposal on its owning shard
+     * Spring Boot: New proposals are routed by strategy, existing ones by their global ID
+     *
+     * @param proposal Investment proposal to store
+     * @return Stored investment proposal carrying its global ID
+     */
+    public InvestmentProposal save(InvestmentProposal proposal) {
+        if (proposal.getId() == null) {
+            // Spring Boot: Route the new investment proposal and encode its shard into the ID
+            int shardIndex = routingStrategy.shardFor(proposal, shards.size());
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            shards.get(shardIndex).update(
+                    "INSERT INTO investment_proposals (proposal_reference, client_name, investment_amount," +
+                    " expected_return, risk_level, investment_type, assigned_advisor, created_at, approved)" +
+                    " VALUES (:reference, :client, :amount, :expectedReturn, :riskLevel, :type, :advisor, :createdAt, :approved)",
+                    toParameters(proposal), keyHolder, new String[]{"id"});
+            proposal.setId(toGlobalId(keyHolder.getKey().longValue(), shardIndex));
+        } else {
+            // Spring Boot: Update mutable investment proposal columns on the owning shard
+            shardOf(proposal.getId()).update(
+                    "UPDATE investment_proposals SET client_name = :client, investment_amount = :amount," +
+                    " expected_return = :expectedReturn, risk_level = :riskLevel, investment_type = :type," +
+                    " assigned_advisor = :advisor, approved = :approved WHERE id = :id",
+                    toParameters(proposal).addValue("id", toLocalId(proposal.getId())));
+        }
+        return proposal;
+    }
+
+    /**
+     * Point lookup of an investment proposal on its owning shard
+     *
+     * @param id Global investment proposal ID
+     * @return Investment proposal if present on the owning shard
+     */
+    public Optional<InvestmentProposal> findById(Long id) {
+        int shardIndex = shardIndexOf(id);
+        List<InvestmentProposal> rows = shards.get(shardIndex).query(
+                SELECT_COLUMNS + " WHERE id = :id",
+                new MapSqlParameterSource("id", toLocalId(id)), rowMapper(shardIndex));
+        return rows.stream().findFirst();
+    }
+
+    /**
+     * Delete an investment proposal from its owning shard
+     *
+     * @param proposal Investment proposal to delete
+     */
+    public void delete(InvestmentProposal proposal) {
+        shardOf(proposal.getId()).update("DELETE FROM investment_proposals WHERE id = :id",
+                new MapSqlParameterSource("id", toLocalId(proposal.getId())));
+    }
+
+    /**
+     * Scatter-gather retrieval of all investment proposals ordered by global ID
+     * Spring Boot: Each shard returns an ID-ordered run, merged in a single k-way pass
+     *
+     * @return All investment proposals across shards
+     */
+    public List<InvestmentProposal> findAll() {
+        List<List<InvestmentProposal>> runs = scatter(shardIndex -> shards.get(shardIndex).query(
+                SELECT_COLUMNS + " ORDER BY id", rowMapper(shardIndex)));
+        return mergeSorted(runs, BY_ID);
+    }
+
+    /**
+     * Scatter-gather case-insensitive search of investment proposals by client name
+     * Spring Boot: Each shard returns an ID-ordered run, merged in a single k-way pass
+     *
+     * @param clientName Partial client name to match
+     * @return Matching investment proposals across shards
+     */
+    public List<InvestmentProposal> findByClientNameContainingIgnoreCase(String clientName) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("pattern", "%" + clientName.toLowerCase() + "%");
+        List<List<InvestmentProposal>> runs = scatter(shardIndex -> shards.get(shardIndex).query(
+                SELECT_COLUMNS + " WHERE LOWER(client_name) LIKE :pattern ORDER BY id", parameters, rowMapper(shardIndex)));
+        return mergeSorted(runs, BY_ID);
+    }
+
+    /**
+     * Scatter-gather retrieval of investment proposals above an amount threshold
+     * Spring Boot: Each shard returns an amount-descending run, merged in a single k-way pass
+     *
+     * @param thresholdAmount Exclusive lower bound on investment amount
+     * @return High-value investment proposals, largest amount first
+     */
+    public List<InvestmentProposal> findHighValueInvestments(BigDecimal thresholdAmount) {
+        List<List<InvestmentProposal>> runs = scatter(shardIndex -> shards.get(shardIndex).query(
+                SELECT_COLUMNS + " WHERE investment_amount > :threshold ORDER BY investment_amount DESC",
+                new MapSqlParameterSource("threshold", thresholdAmount), rowMapper(shardIndex)));
+        return mergeSorted(runs, BY_AMOUNT_DESC);
+    }
+
+    /**
+     * Scatter-gather existence check for an investment proposal reference
+     * Spring Boot: Probes every shard since references are not always the routing key
+     *
+     * @param proposalReference Investment proposal reference
+     * @return True if any shard holds the reference
+     */
+    public boolean existsByProposalReference(String proposalReference) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("reference", proposalReference);
+        return scatter(shardIndex -> shards.get(shardIndex).queryForObject(
+                "SELECT COUNT(*) FROM investment_proposals WHERE proposal_reference = :reference", parameters, Long.class))
+                .stream().anyMatch(count -> count != null && count > 0);
+    }
+
+    /**
+     * Scatter-gather retrieval of every investment proposal reference
+     *
+     * @return All investment proposal references across shards
+     */
+    public List<String> findAllProposalReferences() {
+        List<String> references = new ArrayList<>();
+        scatter(shardIndex -> shards.get(shardIndex).getJdbcTemplate().queryForList(
+                "SELECT proposal_reference FROM investment_proposals", String.class)).forEach(references::addAll);
+        return references;
+    }
+
+    /**
+     * Scatter-gather count of investment proposals per risk level
+     * Spring Boot: One GROUP BY per shard instead of one COUNT per risk level per shard
+     *
+     * @return Investment proposal counts for every risk level
+     */
+    public Map<RiskLevel, Long> countByRiskLevel() {
+        List<Map<RiskLevel, Long>> partials = scatter(shardIndex -> {
+            Map<RiskLevel, Long> counts = new EnumMap<>(RiskLevel.class);
+            shards.get(shardIndex).getJdbcTemplate().query(
+                    "SELECT risk_level, COUNT(*) FROM investment_proposals GROUP BY risk_level",
+                    rs -> { counts.put(RiskLevel.valueOf(rs.getString(1)), rs.getLong(2)); });
+            return counts;
+        });
+
+        // Spring Boot: Sum per-shard investment counts, reporting zero for absent risk levels
+        Map<RiskLevel, Long> totals = new EnumMap<>(RiskLevel.class);
+        for (RiskLevel riskLevel : RiskLevel.values()) {
+            totals.put(riskLevel, 0L);
+        }
+        for (Map<RiskLevel, Long> partial : partials) {
+            partial.forEach((riskLevel, count) -> totals.merge(riskLevel, count, Long::sum));
+        }
+        return totals;
+    }
+
+    /**
+     * Run a query on every investment shard in parallel and gather the results
+     * Spring Boot: Fails fast with the first shard error or when the timeout elapses
+     *
+     * @param query Per-shard query, given the shard index
+     * @param <T> Per-shard result type
+     * @return Results in shard index order
+     */
+    private <T> List<T> scatter(Function<Integer, T> query) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(shards.size());
+        for (int shardIndex = 0; shardIndex < shards.size(); shardIndex++) {
+            final int index = shardIndex;
+            futures.add(CompletableFuture.supplyAsync(() -> query.apply(index), scatterExecutor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .orTimeout(queryTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException e) {
+            // Spring Boot: Surface the underlying shard failure instead of the wrapper
+            futures.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Investment shard query failed", e.getCause());
+        }
+        List<T> results = new ArrayList<>(futures.size());
+        for (CompletableFuture<T> future : futures) {
+            results.add(future.join());
+        }
+        return results;
+    }
+
+    /**
+     * K-way merge of individually sorted investment result runs
+     * Spring Boot: O(n log k) merge using a heap holding one cursor per shard run
+     *
+     * @param runs Per-shard results, each sorted by the comparator
+     * @param comparator Ordering shared by every run
+     * @param <T> Element type
+     * @return Single list sorted by the comparator
+     */
+    static <T> List<T> mergeSorted(List<List<T>> runs, Comparator<? super T> comparator) {
+        int total = 0;
+        for (List<T> run : runs) {
+            total += run.size();
+        }
+        List<T> merged = new ArrayList<>(total);
+
+        // Spring Boot: Heap entries are {runIndex, position}, ordered by the element at that position
+        PriorityQueue<int[]> heap = new PriorityQueue<>(Math.max(1, runs.size()),
+                (a, b) -> comparator.compare(runs.get(a[0]).get(a[1]), runs.get(b[0]).get(b[1])));
+        for (int runIndex = 0; runIndex < runs.size(); runIndex++) {
+            if (!runs.get(runIndex).isEmpty()) {
+                heap.add(new int[]{runIndex, 0});
+            }
+        }
+        while (!heap.isEmpty()) {
+            int[] cursor = heap.poll();
+            List<T> run = runs.get(cursor[0]);
+            merged.add(run.get(cursor[1]));
+            if (++cursor[1] < run.size()) {
+                heap.add(cursor);
+            }
+        }
+        return merged;
+    }
+
+    private NamedParameterJdbcTemplate shardOf(Long globalId) {
+        return shards.get(shardIndexOf(globalId));
+    }
+
+    private int shardIndexOf(Long globalId) {
+        return (int) Math.floorMod(globalId, (long) shards.size());
+    }
+
+    private long toLocalId(Long globalId) {
+        return Math.floorDiv(globalId, (long) shards.size());
+    }
+
+    private long toGlobalId(long localId, int shardIndex) {
+        return localId * shards.size() + shardIndex;
+    }
+
+    /**
+     * Map investment proposal fields to named SQL parameters
+     *
+     * @param proposal Investment proposal to bind
+     * @return Named parameters for insert and update statements
+     */
+    private static MapSqlParameterSource toParameters(InvestmentProposal proposal) {
+        return new MapSqlParameterSource()
+                .addValue("reference", proposal.getProposalReference())
+                .addValue("client", proposal.getClientName())
+                .addValue("amount", proposal.getInvestmentAmount().toBigDecimal())
+                .addValue("expectedReturn", proposal.getExpectedReturn().toBigDecimal())
+                .addValue("riskLevel", proposal.getRiskLevel().name())
+                .addValue("type", proposal.getInvestmentType())
+                .addValue("advisor", proposal.getAssignedAdvisor())
+                .addValue("createdAt", Timestamp.valueOf(proposal.getCreatedAt()))
+                .addValue("approved", Boolean.TRUE.equals(proposal.getApproved()));
+    }
+
+    /**
+     * Row mapper translating shard-local IDs back into global investment proposal IDs
+     *
+     * @param shardIndex Shard the rows were read from
+     * @return Investment proposal row mapper for the shard
+     */
+    private RowMapper<InvestmentProposal> rowMapper(int shardIndex) {
+        return (rs, rowNum) -> {
+            InvestmentProposal proposal = new InvestmentProposal(
+                    rs.getString("proposal_reference"),
+                    rs.getString("client_name"),
+                    Money.of(rs.getBigDecimal("investment_amount")),
+                    Rate.of(rs.getBigDecimal("expected_return")),
+                    RiskLevel.valueOf(rs.getString("risk_level")),
+                    rs.getString("investment_type"),
+                    rs.getString("assigned_advisor"));
+            proposal.setId(toGlobalId(rs.getLong("id"), shardIndex));
+            proposal.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
+            proposal.setApproved(rs.getBoolean("approved"));
+            return proposal;
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.investment.proposal.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+
+/**
+ * Serialized Batch of the Investment Change Stream
+ * Spring Boot: One SSE event, rendered once and written unchanged to every subscriber
+ */
+final class ChangeBatch {
+
+    static final String CHANGES = "changes";
+    static final String RESET = "reset";
+
+    private final long sequence;
+    private final Set<DataWithMediaType> frame;
+
+    ChangeBatch(long sequence, String eventId, String eventName, String json) {
+        this.sequence = sequence;
+        this.frame = SseEmitter.event().id(eventId).name(eventName).data(json).build();
+    }
+
+    long getSequence() { return sequence; }
+    Set<DataWithMediaType> getFrame() { return frame; }
+}
@@ -0,0 +1,117 @@
+package com.investment.proposal.stream;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+
+/**
+ * Investment Proposal Change for the Change Stream
+ * Spring Boot: Immutable delta copied from a lifecycle event, serialized into stream batches
+ * Only plain column values are copied, so no entity or persistence context outlives the event
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)  // Spring Boot: Deletions and archivals omit the proposal state fields
+public class ProposalChange {
+
+    private final ProposalChangeType type;
+    private final Long id;
+    private final String proposalReference;
+    private final String clientName;
+    private final Money investmentAmount;
+    private final Rate expectedReturn;
+    private final String riskLevel;
+    private final String investmentType;
+    private final String assignedAdvisor;
+    private final Boolean approved;
+
+    private ProposalChange(ProposalChangeType type, InvestmentProposal proposal, boolean withState) {
+        this.type = type;
+        this.id = proposal.getId();
+        this.proposalReference = proposal.getProposalReference();
+        this.clientName = withState ? proposal.getClientName() : null;
+        this.investmentAmount = withState ? proposal.getInvestmentAmount() : null;
+        this.expectedReturn = withState ? proposal.getExpectedReturn() : null;
+        this.riskLevel = withState && proposal.getRiskLevel() != null ? proposal.getRiskLevel().name() : null;
+        this.investmentType = withState ? proposal.getInvestmentType() : null;
+        this.assignedAdvisor = withState ? proposal.getAssignedAdvisor() : null;
+        this.approved = withState ? proposal.getApproved() : null;
+    }
+
+    private ProposalChange(Long id, String proposalReference) {
+        this.type = ProposalChangeType.ARCHIVED;
+        this.id = id;
+        this.proposalReference = proposalReference;
+        this.clientName = null;
+        this.investmentAmount = null;
+        this.expectedReturn = null;
+        this.riskLevel = null;
+        this.investmentType = null;
+        this.assignedAdvisor = null;
+        this.approved = null;
+    }
+
+    private ProposalChange(ProposalChangeType type, ProposalChange state) {
+        this.type = type;
+        this.id = state.id;
+        this.proposalReference = state.proposalReference;
+        this.clientName = state.clientName;
+        this.investmentAmount = state.investmentAmount;
+        this.expectedReturn = state.expectedReturn;
+        this.riskLevel = state.riskLevel;
+        this.investmentType = state.investmentType;
+        this.assignedAdvisor = state.assignedAdvisor;
+        this.approved = state.approved;
+    }
+
+    /**
+     * Change carrying the current state of an investment proposal
+     *
+     * @param type CREATED or STATUS_CHANGED
+     * @param proposal Investment proposal from the lifecycle event
+     * @return Change with all proposal fields
+     */
+    public static ProposalChange of(ProposalChangeType type, InvestmentProposal proposal) {
+        return new ProposalChange(type, proposal, type != ProposalChangeType.DELETED);
+    }
+
+    /**
+     * Change announcing that an investment proposal moved to the retention archive
+     *
+     * @param id Archived proposal id
+     * @param proposalReference Archived proposal reference
+     * @return Change with id and reference only
+     */
+    public static ProposalChange archived(Long id, String proposalReference) {
+        return new ProposalChange(id, proposalReference);
+    }
+
+    /**
+     * Merge a later change to the same proposal into this one
+     * Spring Boot: Used when coalescing a burst; null means the two changes cancel out
+     *
+     * @param later Later change to the same proposal
+     * @return Single change with the combined effect, or null if nothing is left to send
+     */
+    ProposalChange merge(ProposalChange later) {
+        if (type != ProposalChangeType.CREATED) {
+            return later;
+        }
+        // Spring Boot: Subscribers never saw the creation, so report the latest state as created
+        if (later.type == ProposalChangeType.DELETED || later.type == ProposalChangeType.ARCHIVED) {
+            return null;
+        }
+        return new ProposalChange(ProposalChangeType.CREATED, later);
+    }
+
+    // Getters for investment change data access
+    public ProposalChangeType getType() { return type; }
+    public Long getId() { return id; }
+    public String getProposalReference() { return proposalReference; }
+    public String getClientName() { return clientName; }
+    public Money getInvestmentAmount() { return investmentAmount; }
+    public Rate getExpectedReturn() { return expectedReturn; }
+    public String getRiskLevel() { return riskLevel; }
+    public String getInvestmentType() { return investmentType; }
+    public String getAssignedAdvisor() { return assignedAdvisor; }
+    public Boolean getApproved() { return approved; }
+}
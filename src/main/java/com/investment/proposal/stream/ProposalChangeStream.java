@@ -0,0 +1,430 @@
+package com.investment.proposal.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.event.InvestmentProposalsImportedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Investment Proposal Change Stream over Server-Sent Events
+ * Spring Boot: Pushes created, status-changed and deleted deltas instead of list polling
+ * Lifecycle events are collected for a short window, coalesced per proposal and rendered
+ * once into a batch frame. Frames are kept in a bounded replay ring shared by all
+ * subscribers, so a subscriber is only an emitter plus a cursor into the ring; a reconnecting
+ * client's Last-Event-ID is its cursor.
+ *
+ * A small fan-out pool writes frames. Each subscriber is drained by at most one thread at a
+ * time and always from its cursor, so a slow client never holds a queue of its own: it
+ * catches up from the ring, and when it falls behind the ring it receives a reset event and
+ * refetches the list once.
+ *
+ * Event ids carry the process epoch, so a resume after a restart is recognized as unknown
+ * and answered with a reset instead of replaying unrelated batches.
+ */
+@Component  // Spring Boot: Component registration for the investment change stream
+// Registers this class as a managed Spring component
+public class ProposalChangeStream {
+
+    private static final long RECONNECT_MILLIS = 3000;
+
+    @Autowired  // Spring Boot: JSON mapper injection for rendering investment change batches
+    private ObjectMapper objectMapper;
+
+    @Autowired  // Spring Boot: Configuration properties injection for investment change stream settings
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    @Autowired  // Spring Boot: Metrics registry injection for investment change stream monitoring
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Prefix of event ids issued by this process
+     */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Queue<ProposalChange> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<String> pendingReset = new AtomicReference<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Replay ring; batch with sequence s lives at s % length, guarded by itself
+     */
+    private ChangeBatch[] ring;
+    private volatile long head;
+
+    private ScheduledExecutorService timer;
+    private ExecutorService fanout;
+
+    private Counter batchCounter;
+    private Counter changeCounter;
+    private Counter coalescedCounter;
+    private Counter resetCounter;
+    private Counter rejectedCounter;
+
+    /**
+     * Allocate the replay ring, start the flush and heartbeat timers and register metrics
+     */
+    @PostConstruct
+    public void init() {
+        InvestmentConfig.InvestmentManagementProperties.ChangeStream settings = investmentProperties.getChangeStream();
+        ring = new ChangeBatch[settings.getReplayBatches()];
+        timer = Executors.newSingleThreadScheduledExecutor(daemonThreads("investment-stream-timer"));
+        fanout = Executors.newFixedThreadPool(settings.getFanoutThreads(), daemonThreads("investment-stream-fanout"));
+        long window = settings.getCoalesceWindow().toMillis();
+        long heartbeat = settings.getHeartbeatInterval().toMillis();
+        timer.scheduleWithFixedDelay(this::flush, window, window, TimeUnit.MILLISECONDS);
+        timer.scheduleAtFixedRate(this::heartbeat, heartbeat, heartbeat, TimeUnit.MILLISECONDS);
+
+        batchCounter = meterRegistry.counter("investment.stream.batches");
+        changeCounter = meterRegistry.counter("investment.stream.changes");
+        coalescedCounter = meterRegistry.counter("investment.stream.coalesced");
+        resetCounter = meterRegistry.counter("investment.stream.resets");
+        rejectedCounter = meterRegistry.counter("investment.stream.rejected");
+        Gauge.builder("investment.stream.subscribers", subscribers, Set::size)
+                .description("Open investment change stream connections")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Close all investment change stream connections
+     */
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        fanout.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * Open an investment change stream connection
+     * Spring Boot: Resumes after Last-Event-ID when it is still in the replay ring
+     *
+     * @param lastEventId Last-Event-ID header of a reconnecting client, or null
+     * @return Emitter for the connection, empty if the subscriber limit is reached
+     */
+    public Optional<SseEmitter> subscribe(String lastEventId) {
+        InvestmentConfig.InvestmentManagementProperties.ChangeStream settings = investmentProperties.getChangeStream();
+        if (subscribers.size() >= settings.getMaxSubscribers()) {
+            rejectedCounter.increment();
+            return Optional.empty();
+        }
+        SseEmitter emitter = new SseEmitter(settings.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        long current = head;
+        if (lastEventId == null || lastEventId.isBlank()) {
+            subscriber.cursor = current;
+        } else {
+            long resumeAt = parseSequence(lastEventId);
+            if (resumeAt < 0 || resumeAt > current) {
+                subscriber.resetReason = "unknown-event-id";
+                subscriber.cursor = current;
+            } else {
+                subscriber.cursor = resumeAt;
+            }
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> {
+            // Spring Boot: Completing here ends the request normally instead of raising AsyncRequestTimeoutException
+            subscribers.remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Event id of the newest batch, the position a new subscriber starts from
+     *
+     * @return Current event id
+     */
+    public String getCurrentEventId() {
+        return eventId(head);
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Queue a created investment proposal for the next batch
+     *
+     * @param event Investment proposal creation event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment creation
+    public void onProposalCreated(InvestmentProposalCreatedEvent event) {
+        pending.add(ProposalChange.of(ProposalChangeType.CREATED, event.getProposal()));
+    }
+
+    /**
+     * Queue an investment proposal status change for the next batch
+     *
+     * @param event Investment proposal status change event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment status changes
+    public void onProposalStatusChanged(InvestmentProposalStatusChangedEvent event) {
+        pending.add(ProposalChange.of(ProposalChangeType.STATUS_CHANGED, event.getProposal()));
+    }
+
+    /**
+     * Queue a deleted investment proposal for the next batch
+     *
+     * @param event Investment proposal deletion event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment deletion
+    public void onProposalDeleted(InvestmentProposalDeletedEvent event) {
+        pending.add(ProposalChange.of(ProposalChangeType.DELETED, event.getProposal()));
+    }
+
+    /**
+     * Queue investment proposals moved to the archive for the next batch
+     *
+     * @param event Investment proposals archived event
+     */
+    @TransactionalEventListener(fallbackExecution = true)  // Spring Boot: After-commit listener for investment archiving
+    public void onProposalsArchived(InvestmentProposalsArchivedEvent event) {
+        List<Long> ids = event.getProposalIds();
+        List<String> references = event.getProposalReferences();
+        for (int i = 0; i < ids.size(); i++) {
+            pending.add(ProposalChange.archived(ids.get(i), references.get(i)));
+        }
+    }
+
+    /**
+     * Tell subscribers to refetch after a bulk import
+     * Spring Boot: Imports publish no per-row events, so one reset replaces the deltas
+     *
+     * @param event Investment bulk import completion event
+     */
+    @EventListener  // Spring Boot: Listener for investment bulk import completion
+    public void onProposalsImported(InvestmentProposalsImportedEvent event) {
+        pendingReset.set("bulk-import");
+    }
+
+    /**
+     * Coalesce the changes of the last window into batches and wake all subscribers
+     * Spring Boot: Runs on the stream timer thread only, so batches are appended in order;
+     * tests call it directly with a window long enough that the timer never fires
+     */
+    void flush() {
+        try {
+            String reset = pendingReset.getAndSet(null);
+            if (reset != null) {
+                // Spring Boot: Subscribers refetch everything, so queued deltas are redundant
+                pending.clear();
+                append(ChangeBatch.RESET, reason(reset));
+                resetCounter.increment();
+            } else if (!appendChanges()) {
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                schedule(subscriber);
+            }
+        } catch (RuntimeException | JsonProcessingException e) {
+            // Spring Boot: Keep the timer alive; the failed window is lost, not the stream
+            System.err.println("Investment change stream flush failed: " + e.getMessage());
+        }
+    }
+
+    private boolean appendChanges() throws JsonProcessingException {
+        Map<Object, ProposalChange> coalesced = new LinkedHashMap<>();
+        int drained = 0;
+        for (ProposalChange change; (change = pending.poll()) != null; drained++) {
+            Object key = change.getId() != null ? change.getId() : change.getProposalReference();
+            coalesced.merge(key, change, ProposalChange::merge);
+        }
+        coalescedCounter.increment(drained - coalesced.size());
+        if (coalesced.isEmpty()) {
+            return false;
+        }
+        int maxBatch = investmentProperties.getChangeStream().getMaxBatchChanges();
+        List<ProposalChange> changes = new ArrayList<>(coalesced.values());
+        for (int from = 0; from < changes.size(); from += maxBatch) {
+            List<ProposalChange> batch = changes.subList(from, Math.min(changes.size(), from + maxBatch));
+            append(ChangeBatch.CHANGES, objectMapper.writeValueAsString(batch));
+            changeCounter.increment(batch.size());
+        }
+        return true;
+    }
+
+    private void append(String eventName, String json) {
+        synchronized (ring) {
+            long sequence = head + 1;
+            ring[(int) (sequence % ring.length)] = new ChangeBatch(sequence, eventId(sequence), eventName, json);
+            head = sequence;
+        }
+        batchCounter.increment();
+    }
+
+    /**
+     * Batches after a cursor, or null if the cursor has fallen out of the replay ring
+     */
+    private List<ChangeBatch> batchesAfter(long cursor) {
+        synchronized (ring) {
+            if (head - cursor > ring.length) {
+                return null;
+            }
+            List<ChangeBatch> batches = new ArrayList<>((int) (head - cursor));
+            for (long sequence = cursor + 1; sequence <= head; sequence++) {
+                batches.add(ring[(int) (sequence % ring.length)]);
+            }
+            return batches;
+        }
+    }
+
+    private void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue = true;
+            schedule(subscriber);
+        }
+    }
+
+    /**
+     * Drain a subscriber on the fan-out pool unless a drain is already running
+     * Spring Boot: The work counter makes a running drain loop again instead of a second thread starting
+     */
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.work.getAndIncrement() == 0) {
+            try {
+                fanout.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscribers.remove(subscriber);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        int missed = 1;
+        do {
+            try {
+                deliver(subscriber);
+            } catch (IOException | IllegalStateException e) {
+                // Spring Boot: Client went away; the work counter stays raised so it is never drained again
+                subscribers.remove(subscriber);
+                return;
+            } catch (RuntimeException e) {
+                // Spring Boot: Never leave a subscriber with its work counter raised and no drain running
+                System.err.println("Investment change stream delivery failed: " + e.getMessage());
+                subscribers.remove(subscriber);
+                subscriber.emitter.completeWithError(e);
+                return;
+            }
+            missed = subscriber.work.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliver(Subscriber subscriber) throws IOException {
+        boolean sent = false;
+        if (!subscriber.greeted) {
+            // Spring Boot: First event pins the client's Last-Event-ID before any change arrives
+            subscriber.emitter.send(SseEmitter.event().id(eventId(subscriber.cursor)).name("ready")
+                    .reconnectTime(RECONNECT_MILLIS).data(reason("connected")));
+            subscriber.greeted = true;
+            sent = true;
+        }
+        List<ChangeBatch> batches = subscriber.resetReason == null ? batchesAfter(subscriber.cursor) : null;
+        if (batches == null) {
+            String resetReason = subscriber.resetReason != null ? subscriber.resetReason : "replay-window-exceeded";
+            long current = head;
+            subscriber.emitter.send(SseEmitter.event().id(eventId(current)).name(ChangeBatch.RESET)
+                    .data(reason(resetReason)));
+            subscriber.cursor = current;
+            subscriber.resetReason = null;
+            resetCounter.increment();
+            sent = true;
+        } else {
+            for (ChangeBatch batch : batches) {
+                subscriber.emitter.send(batch.getFrame());
+                subscriber.cursor = batch.getSequence();
+                sent = true;
+            }
+        }
+        if (subscriber.heartbeatDue) {
+            subscriber.heartbeatDue = false;
+            if (!sent) {
+                subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+            }
+        }
+    }
+
+    private String eventId(long sequence) {
+        return epoch + "-" + sequence;
+    }
+
+    private long parseSequence(String eventId) {
+        int separator = eventId.lastIndexOf('-');
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String reason(String reason) {
+        return "{\"reason\":\"" + reason + "\"}";
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * One open stream connection: the emitter and its position in the replay ring
+     */
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicInteger work = new AtomicInteger();
+        private volatile long cursor;
+        private volatile String resetReason;
+        private volatile boolean greeted;
+        private volatile boolean heartbeatDue;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.investment.proposal.stream;
+
+/**
+ * Proposal Change Type Enum for the Investment Change Stream
+ * Spring Boot: Enum for the lifecycle deltas pushed to change stream subscribers
+ */
+public enum ProposalChangeType {
+    CREATED,         // New proposal; the change carries its full state
+    STATUS_CHANGED,  // Approval status changed; the change carries its full state
+    DELETED,         // Proposal deleted; the change carries id and reference only
+    ARCHIVED         // Proposal moved to the retention archive; the change carries id and reference only
+}
@@ -8,18 +8,29 @@ INSERT INTO investment_advisors (id, name, email, specialization, created_at) VA
                                                                                   (2, 'Bob Smith', 'bob.smith@investment.com', 'BONDS', CURRENT_TIMESTAMP),
                                                                                   (3, 'Carol Davis', 'carol.davis@investment.com', 'REAL_ESTATE', CURRENT_TIMESTAMP);
 
+-- Spring Boot: Insert investment types referenced by investment_proposals.investment_type_id
+-- Pre-populate investment type reference data for the reference data dictionary
+INSERT INTO investment_types (id, code, description) VALUES
+                                                         (1, 'STOCKS', 'Listed equities'),
+                                                         (2, 'BONDS', 'Government and corporate fixed income'),
+                                                         (3, 'REAL_ESTATE', 'Direct and listed property'),
+                                                         (4, 'MUTUAL_FUNDS', 'Pooled investment funds'),
+                                                         (5, 'ETF', 'Exchange traded funds'),
+                                                         (6, 'COMMODITIES', 'Commodity exposure');
+
 -- Spring Boot: Insert sample investment proposals for investment portfolio demonstration
 -- Pre-populate investment proposal data for system testing and showcase
+-- Advisor and investment type are stored as foreign keys into the reference tables above
 INSERT INTO investment_proposals (
     proposal_reference, client_name, investment_amount,
-    expected_return, risk_level, investment_type,
-    assigned_advisor, created_at, approved
+    expected_return, risk_level, investment_type_id,
+    advisor_id, created_at, approved
 ) VALUES
-      ('INV-001', 'John Doe', 50000.00, 7.5, 'MEDIUM', 'STOCKS', 'Alice Johnson', CURRENT_TIMESTAMP, false),
-      ('INV-002', 'Jane Smith', 100000.00, 12.0, 'HIGH', 'REAL_ESTATE', 'Carol Davis', CURRENT_TIMESTAMP, true),
-      ('INV-003', 'Bob Johnson', 25000.00, 5.8, 'LOW', 'BONDS', 'Bob Smith', CURRENT_TIMESTAMP, false),
-      ('INV-004', 'Alice Brown', 75000.00, 9.2, 'MEDIUM', 'MUTUAL_FUNDS', 'Alice Johnson', CURRENT_TIMESTAMP, true),
-      ('INV-005', 'Charlie Wilson', 150000.00, 15.5, 'HIGH', 'STOCKS', 'Carol Davis', CURRENT_TIMESTAMP, false);
+      ('INV-001', 'John Doe', 50000.00, 7.5, 'MEDIUM', 1, 1, CURRENT_TIMESTAMP, false),
+      ('INV-002', 'Jane Smith', 100000.00, 12.0, 'HIGH', 3, 3, CURRENT_TIMESTAMP, true),
+      ('INV-003', 'Bob Johnson', 25000.00, 5.8, 'LOW', 2, 2, CURRENT_TIMESTAMP, false),
+      ('INV-004', 'Alice Brown', 75000.00, 9.2, 'MEDIUM', 4, 1, CURRENT_TIMESTAMP, true),
+      ('INV-005', 'Charlie Wilson', 150000.00, 15.5, 'HIGH', 1, 3, CURRENT_TIMESTAMP, false);
 
 -- Spring Boot: Insert investment portfolio categories for investment management
 -- Pre-populate investment category data for portfolio analysis
@@ -0,0 +1,56 @@
+-- Spring Boot: Supplementary schema script for investment proposal management system
+-- Creates reference tables seeded by data.sql that have no JPA entity mapping
+
+-- Spring Boot: investment_advisors and investment_types are mapped by the Advisor and
+-- InvestmentType entities and created by Hibernate together with their foreign keys
+-- This script is executed after Hibernate DDL because spring.jpa.defer-datasource-initialization is enabled
+
+-- Spring Boot: Investment portfolio category reference table for category seed data
+-- Dropped and recreated on startup to match Hibernate create-drop semantics
+DROP TABLE IF EXISTS investment_categories;
+CREATE TABLE investment_categories (
+    id BIGINT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    description VARCHAR(255),
+    minimum_investment DECIMAL(15,2) NOT NULL,
+    risk_level VARCHAR(16) NOT NULL
+);
+
+-- Spring Boot: Archive of investment proposals moved out by the retention job
+-- Same columns as investment_proposals plus the archive time; ids are kept, so no sequence
+DROP TABLE IF EXISTS investment_proposals_archive;
+CREATE TABLE investment_proposals_archive (
+    id BIGINT PRIMARY KEY,
+    proposal_reference VARCHAR(255) NOT NULL,
+    client_name VARCHAR(255) NOT NULL,
+    investment_amount DECIMAL(15,2) NOT NULL,
+    expected_return DECIMAL(38,2) NOT NULL,
+    risk_level VARCHAR(16) NOT NULL,
+    investment_type_id BIGINT NOT NULL,
+    advisor_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    approved BOOLEAN NOT NULL,
+    archived_at TIMESTAMP NOT NULL
+);
+
+-- Spring Boot: Retention job checkpoint; one row per job holding the keyset cursor of the
+-- current pass and the time the pass started, so a restarted job resumes with the same cutoffs
+DROP TABLE IF EXISTS investment_retention_checkpoint;
+CREATE TABLE investment_retention_checkpoint (
+    job_name VARCHAR(64) PRIMARY KEY,
+    last_id BIGINT NOT NULL,
+    pass_started_at TIMESTAMP NOT NULL,
+    archived_total BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+-- Spring Boot: Cluster-wide leases for scheduled investment tasks; a lock is free once
+-- lock_until has passed, and fencing_token grows by one on every acquisition
+DROP TABLE IF EXISTS investment_scheduler_lock;
+CREATE TABLE investment_scheduler_lock (
+    name VARCHAR(64) PRIMARY KEY,
+    lock_until TIMESTAMP NOT NULL,
+    locked_at TIMESTAMP NOT NULL,
+    locked_by VARCHAR(255) NOT NULL,
+    fencing_token BIGINT NOT NULL
+);
@@ -0,0 +1,58 @@
+package com.investment.proposal;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment REST API Smoke Tests
+ * Spring Boot: End-to-end smoke tests against the running investment web server
+ * Runs on the JVM with mvn test and against the native binary with mvn -PnativeTest test
+ * so the native image is exercised through the same REST API as the JVM build
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)  // Spring Boot: Full server on a random port
+        // Starts the embedded investment web server for HTTP smoke testing
+class NativeApiSmokeTest {
+
+    /**
+     * Test REST client bound to the random investment server port
+     * Spring Boot: TestRestTemplate including the /investment context path
+     */
+    @Autowired  // Spring Boot: Automatic injection of the investment test REST client
+    private TestRestTemplate restTemplate;
+
+    /**
+     * Test authenticated proposal listing through the REST API
+     * Spring Boot: Smoke test for Jackson serialization of investment proposals
+     * Fails in native mode when entity or enum reflection hints are missing
+     */
+    @Test  // Spring Boot: Test method annotation for investment API smoke testing
+    void listProposals_WithAdminCredentials_ShouldReturnOk() {
+        // Spring Boot: Call the investment proposal list endpoint with admin credentials
+        // Exercises security, JPA and JSON serialization in a single request
+        ResponseEntity<String> response = restTemplate.withBasicAuth("admin", "password")
+                .getForEntity("/api/investment-proposals", String.class);
+
+        // Spring Boot: Verify the investment proposal list is served successfully
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+    }
+
+    /**
+     * Test anonymous access is rejected by the investment security chain
+     * Spring Boot: Smoke test for the native security filter chain
+     */
+    @Test  // Spring Boot: Test method annotation for investment security smoke testing
+    void listProposals_WithoutCredentials_ShouldReturnUnauthorized() {
+        // Spring Boot: Call the investment proposal list endpoint without credentials
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/investment-proposals", String.class);
+
+        // Spring Boot: Verify HTTP Basic challenge for unauthenticated investment access
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+}
\ No newline at end of file
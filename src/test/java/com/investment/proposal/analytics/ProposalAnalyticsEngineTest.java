@@ -0,0 +1,97 @@
+package com.investment.proposal.analytics;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Analytics Engine Unit Tests
+ * Spring Boot: Tests for columnar snapshot aggregation and incremental refresh
+ */
+class ProposalAnalyticsEngineTest {
+
+    @Mock  // Spring Boot: Mock annotation for investment event log testing
+    private ProposalEventLog proposalEventLog;
+
+    @InjectMocks  // Spring Boot: Inject mocks annotation for analytics engine testing
+    private ProposalAnalyticsEngine analyticsEngine;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        List<InvestmentProposal> proposals = new ArrayList<>();
+        proposals.add(proposal(1L, "100000.00", "10.0", RiskLevel.HIGH, "STOCKS", "Alice Johnson", true));
+        proposals.add(proposal(2L, "300000.00", "20.0", RiskLevel.HIGH, "REAL_ESTATE", "Carol Davis", false));
+        proposals.add(proposal(3L, "50000.00", "5.0", RiskLevel.LOW, "BONDS", "Bob Smith", true));
+        when(proposalEventLog.currentProposals()).thenReturn(proposals);
+        analyticsEngine.rebuildSnapshot();
+    }
+
+    /**
+     * Test totals and amount-weighted return per risk level
+     */
+    @Test  // Spring Boot: Test method annotation for investment breakdown testing
+    void breakdown_ByRiskLevel_ShouldComputeTotalsAndWeightedReturn() {
+        List<GroupBreakdown> rows = analyticsEngine.breakdown(GroupDimension.RISK_LEVEL, false);
+
+        GroupBreakdown high = find(rows, "HIGH");
+        assertEquals(2, high.getProposalCount());
+        assertEquals(new BigDecimal("400000.00"), high.getTotalInvestmentAmount());
+        // (100000 * 10 + 300000 * 20) / 400000 = 17.5
+        assertEquals(0, new BigDecimal("17.5").compareTo(high.getWeightedAverageReturn()));
+        assertEquals(new BigDecimal("100000.00"), high.getMedianInvestmentAmount());
+        assertEquals(new BigDecimal("300000.00"), high.getP99InvestmentAmount());
+        assertNull(rows.stream().filter(r -> r.getGroup().equals("MEDIUM")).findFirst().orElse(null));
+    }
+
+    /**
+     * Test incremental lifecycle updates are reflected without a rebuild
+     */
+    @Test  // Spring Boot: Test method annotation for investment incremental refresh testing
+    void lifecycleEvents_ShouldUpdateSnapshotIncrementally() {
+        InvestmentProposal created = proposal(4L, "20000.00", "4.0", RiskLevel.LOW, "BONDS", "Bob Smith", false);
+        analyticsEngine.onProposalCreated(new InvestmentProposalCreatedEvent(created));
+        created.setApproved(true);
+        analyticsEngine.onProposalStatusChanged(new InvestmentProposalStatusChangedEvent(created));
+        analyticsEngine.onProposalDeleted(new InvestmentProposalDeletedEvent(
+                proposal(1L, "100000.00", "10.0", RiskLevel.HIGH, "STOCKS", "Alice Johnson", true)));
+
+        List<GroupBreakdown> approvedByType = analyticsEngine.breakdown(GroupDimension.INVESTMENT_TYPE, true);
+
+        assertEquals(1, approvedByType.size());
+        assertEquals("BONDS", approvedByType.get(0).getGroup());
+        assertEquals(2, approvedByType.get(0).getProposalCount());
+        assertEquals(new BigDecimal("70000.00"), approvedByType.get(0).getTotalInvestmentAmount());
+        verify(proposalEventLog, times(1)).currentProposals();
+    }
+
+    private static GroupBreakdown find(List<GroupBreakdown> rows, String group) {
+        return rows.stream().filter(r -> r.getGroup().equals(group)).findFirst().orElseThrow();
+    }
+
+    private static InvestmentProposal proposal(Long id, String amount, String expectedReturn, RiskLevel riskLevel,
+                                               String type, String advisor, boolean approved) {
+        InvestmentProposal proposal = new InvestmentProposal("INV-" + id, "Client " + id, Money.of(amount),
+                Rate.of(expectedReturn), riskLevel, type, advisor);
+        proposal.setId(id);
+        proposal.setApproved(approved);
+        return proposal;
+    }
+}
\ No newline at end of file
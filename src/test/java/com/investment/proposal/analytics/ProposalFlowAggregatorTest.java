@@ -0,0 +1,86 @@
+package com.investment.proposal.analytics;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Flow Aggregator Unit Tests
+ * Spring Boot: Tests for time-bucketed rolling investment proposal flow
+ */
+class ProposalFlowAggregatorTest {
+
+    @Mock  // Spring Boot: Mock annotation for investment event log testing
+    private ProposalEventLog proposalEventLog;
+
+    @InjectMocks  // Spring Boot: Inject mocks annotation for flow aggregator testing
+    private ProposalFlowAggregator flowAggregator;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // One proposal two days ago (outside the last 24 hours), one approved an hour ago
+        when(proposalEventLog.currentProposals()).thenReturn(List.of(
+                proposal("100000.00", LocalDateTime.now().minusDays(2), false),
+                proposal("50000.00", LocalDateTime.now().minusHours(1), true)));
+        flowAggregator.backfill();
+    }
+
+    /**
+     * Test the startup backfill places proposals by createdAt
+     */
+    @Test  // Spring Boot: Test method annotation for investment flow backfill testing
+    void backfill_ShouldBucketProposalsByCreatedAt() {
+        FlowBucket lastDay = flowAggregator.window(FlowGranularity.HOUR, 24);
+        FlowBucket lastWeek = flowAggregator.window(FlowGranularity.DAY, 7);
+
+        assertEquals(1, lastDay.getCreated());
+        assertEquals(1, lastDay.getApproved());
+        assertEquals(new BigDecimal("50000.00"), lastDay.getCreatedAmount());
+        assertEquals(2, lastWeek.getCreated());
+        assertEquals(new BigDecimal("150000.00"), lastWeek.getCreatedAmount());
+        assertEquals(24, flowAggregator.series(FlowGranularity.HOUR, 24).size());
+    }
+
+    /**
+     * Test lifecycle events land in the current minute bucket
+     */
+    @Test  // Spring Boot: Test method annotation for investment flow event testing
+    void lifecycleEvents_ShouldCountInCurrentBucket() {
+        InvestmentProposal created = proposal("20000.00", LocalDateTime.now(), false);
+        flowAggregator.onProposalCreated(new InvestmentProposalCreatedEvent(created));
+        created.setApproved(true);
+        flowAggregator.onProposalStatusChanged(new InvestmentProposalStatusChangedEvent(created));
+
+        List<FlowBucket> minutes = flowAggregator.series(FlowGranularity.MINUTE, 2);
+        FlowBucket current = minutes.get(minutes.size() - 1);
+
+        assertEquals(1, current.getCreated() + minutes.get(0).getCreated());
+        assertEquals(1, current.getApproved() + minutes.get(0).getApproved());
+        assertEquals(new BigDecimal("20000.00"), flowAggregator.window(FlowGranularity.MINUTE, 2).getApprovedAmount());
+    }
+
+    private static InvestmentProposal proposal(String amount, LocalDateTime createdAt, boolean approved) {
+        InvestmentProposal proposal = new InvestmentProposal("INV-FLOW", "Flow Client", Money.of(amount),
+                Rate.of("5.0"), RiskLevel.LOW, "BONDS", "Bob Smith");
+        proposal.setCreatedAt(createdAt);
+        proposal.setApproved(approved);
+        return proposal;
+    }
+}
\ No newline at end of file
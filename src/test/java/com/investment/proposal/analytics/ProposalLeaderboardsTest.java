@@ -0,0 +1,116 @@
+package com.investment.proposal.analytics;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.reference.ReferenceDataDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Leaderboards Unit Tests
+ * Spring Boot: Tests for incrementally maintained top-K boards and their lazy rebuild
+ */
+class ProposalLeaderboardsTest {
+
+    @Mock  // Spring Boot: Mock annotation for investment event log testing
+    private ProposalEventLog proposalEventLog;
+
+    @Mock  // Spring Boot: Mock annotation for investment reference data testing
+    private ReferenceDataDictionary dictionary;
+
+    @Spy  // Spring Boot: Real investment properties with small boards to force truncation
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties =
+            new InvestmentConfig.InvestmentManagementProperties();
+
+    @InjectMocks  // Spring Boot: Inject mocks annotation for leaderboard testing
+    private ProposalLeaderboards leaderboards;
+
+    private final List<InvestmentProposal> table = new ArrayList<>();
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        investmentProperties.getLeaderboard().setSize(2);
+        investmentProperties.getLeaderboard().setHeadroom(1);
+        table.add(proposal(1L, "Alice Johnson", "10000.00", "9.0"));
+        table.add(proposal(2L, "Alice Johnson", "50000.00", "4.0"));
+        table.add(proposal(3L, "Alice Johnson", "30000.00", "6.0"));
+        table.add(proposal(4L, "Alice Johnson", "20000.00", "8.0"));
+        table.add(proposal(5L, "Bob Smith", "90000.00", "3.0"));
+        when(proposalEventLog.currentProposals()).thenAnswer(invocation -> List.copyOf(table));
+        leaderboards.rebuild();
+    }
+
+    /**
+     * Test boards rank by each metric and follow create and approve events without reloading
+     */
+    @Test  // Spring Boot: Test method annotation for investment leaderboard ranking testing
+    void leaderboards_ShouldRankAndFollowEvents() {
+        assertEquals(List.of(5L, 2L), ids(leaderboards.global(LeaderboardMetric.INVESTMENT_AMOUNT, 10)));
+        assertEquals(List.of(1L, 4L), ids(leaderboards.advisor("Alice Johnson", LeaderboardMetric.EXPECTED_RETURN, 10)));
+
+        InvestmentProposal created = proposal(6L, "Alice Johnson", "70000.00", "5.0");
+        table.add(created);
+        leaderboards.onProposalCreated(new InvestmentProposalCreatedEvent(created));
+        created.setApproved(true);
+        leaderboards.onProposalStatusChanged(new InvestmentProposalStatusChangedEvent(created));
+
+        List<LeaderboardEntry> alice = leaderboards.advisor("Alice Johnson", LeaderboardMetric.INVESTMENT_AMOUNT, 10);
+        assertEquals(List.of(6L, 2L), ids(alice));
+        assertTrue(alice.get(0).isApproved());
+        assertEquals(List.of(5L, 6L), ids(leaderboards.global(LeaderboardMetric.INVESTMENT_AMOUNT, 10)));
+        assertEquals(List.of("Alice Johnson", "Bob Smith"),
+                List.copyOf(leaderboards.advisors(LeaderboardMetric.INVESTMENT_AMOUNT, 1).keySet()));
+        verify(proposalEventLog, times(1)).currentProposals();
+    }
+
+    /**
+     * Test deletions use the headroom first and reload a board only once it is exhausted
+     */
+    @Test  // Spring Boot: Test method annotation for investment leaderboard rebuild testing
+    void delete_ShouldRebuildBoardOnlyAfterHeadroomIsExhausted() {
+        // Spring Boot: Alice's amount board holds 50000, 30000 and 20000; 10000 was dropped
+        delete(2L);
+        assertEquals(List.of(3L, 4L), ids(leaderboards.advisor("Alice Johnson", LeaderboardMetric.INVESTMENT_AMOUNT, 10)));
+        verify(proposalEventLog, times(1)).currentProposals();
+
+        delete(3L);
+        assertEquals(List.of(4L, 1L), ids(leaderboards.advisor("Alice Johnson", LeaderboardMetric.INVESTMENT_AMOUNT, 10)));
+        verify(proposalEventLog, times(2)).currentProposals();
+    }
+
+    private void delete(Long id) {
+        InvestmentProposal deleted = table.stream().filter(p -> p.getId().equals(id)).findFirst().orElseThrow();
+        table.remove(deleted);
+        leaderboards.onProposalDeleted(new InvestmentProposalDeletedEvent(deleted));
+    }
+
+    private static List<Long> ids(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::getId).toList();
+    }
+
+    private static InvestmentProposal proposal(Long id, String advisor, String amount, String expectedReturn) {
+        InvestmentProposal proposal = new InvestmentProposal("LDR-" + id, "Leaderboard Client", Money.of(amount),
+                Rate.of(expectedReturn), RiskLevel.MEDIUM, "STOCKS", advisor);
+        proposal.setId(id);
+        proposal.setApproved(false);
+        return proposal;
+    }
+}
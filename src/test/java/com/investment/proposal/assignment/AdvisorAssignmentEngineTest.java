@@ -0,0 +1,112 @@
+package com.investment.proposal.assignment;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.reference.ReferenceDataDictionary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Advisor Assignment Engine Unit Tests
+ * Spring Boot: Tests for pluggable advisor assignment strategies
+ */
+class AdvisorAssignmentEngineTest {
+
+    private static final Advisor ALICE = new Advisor(1L, "Alice Johnson", "alice@investment.com", "STOCKS", LocalDateTime.now());
+    private static final Advisor BOB = new Advisor(2L, "Bob Smith", "bob@investment.com", "BONDS", LocalDateTime.now());
+    private static final Advisor CAROL = new Advisor(3L, "Carol Davis", "carol@investment.com", "STOCKS", LocalDateTime.now());
+
+    private AdvisorLoadTracker loadTracker;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        // Spring Boot: Alice has the heaviest book, Bob the lightest
+        loadTracker = mock(AdvisorLoadTracker.class);
+        when(loadTracker.openProposals(1L)).thenReturn(5L);
+        when(loadTracker.openProposals(2L)).thenReturn(0L);
+        when(loadTracker.openProposals(3L)).thenReturn(2L);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    /**
+     * Test round-robin cycles through advisors in order
+     */
+    @Test  // Spring Boot: Test method annotation for round-robin investment assignment testing
+    void roundRobin_ShouldCycleThroughAdvisors() {
+        AdvisorAssignmentEngine engine = engine("ROUND_ROBIN");
+
+        assertEquals("Alice Johnson", assign(engine, "BONDS"));
+        assertEquals("Bob Smith", assign(engine, "BONDS"));
+        assertEquals("Carol Davis", assign(engine, "BONDS"));
+        assertEquals("Alice Johnson", assign(engine, "BONDS"));
+        assertEquals(2.0, meterRegistry.get("investment.advisor.assignments")
+                .tag("advisor", "Alice Johnson").counter().count());
+    }
+
+    /**
+     * Test least-loaded and specialization strategies use live loads
+     */
+    @Test  // Spring Boot: Test method annotation for load-aware investment assignment testing
+    void loadAwareStrategies_ShouldPreferLightestSuitableAdvisor() {
+        assertEquals("Bob Smith", assign(engine("LEAST_LOADED"), "STOCKS"));
+        // Spring Boot: Only Alice and Carol specialize in stocks; Carol has the lighter book
+        assertEquals("Carol Davis", assign(engine("SPECIALIZATION"), "STOCKS"));
+        // Spring Boot: Nobody specializes in ETFs, so all advisors are considered
+        assertEquals("Bob Smith", assign(engine("SPECIALIZATION"), "ETF"));
+    }
+
+    /**
+     * Test explicitly named advisors are kept
+     */
+    @Test  // Spring Boot: Test method annotation for explicit investment advisor testing
+    void namedAdvisor_ShouldNotBeReassigned() {
+        InvestmentProposal proposal = proposal("STOCKS");
+        proposal.setAssignedAdvisor("Alice Johnson");
+
+        engine("LEAST_LOADED").assignIfUnassigned(proposal);
+
+        assertEquals("Alice Johnson", proposal.getAssignedAdvisor());
+        assertNull(proposal.getAdvisorId());
+    }
+
+    private AdvisorAssignmentEngine engine(String strategyName) {
+        InvestmentConfig.InvestmentManagementProperties properties = new InvestmentConfig.InvestmentManagementProperties();
+        properties.setDefaultAdvisorStrategy(strategyName);
+        ReferenceDataDictionary dictionary = mock(ReferenceDataDictionary.class);
+        when(dictionary.advisors()).thenReturn(List.of(ALICE, BOB, CAROL));
+
+        AdvisorAssignmentEngine engine = new AdvisorAssignmentEngine();
+        ReflectionTestUtils.setField(engine, "investmentProperties", properties);
+        ReflectionTestUtils.setField(engine, "dictionary", dictionary);
+        ReflectionTestUtils.setField(engine, "loadTracker", loadTracker);
+        ReflectionTestUtils.setField(engine, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(engine, "strategies", List.of(new RoundRobinAssignmentStrategy(),
+                new LeastLoadedAssignmentStrategy(), new SpecializationAssignmentStrategy()));
+        engine.selectStrategy();
+        return engine;
+    }
+
+    private static String assign(AdvisorAssignmentEngine engine, String investmentType) {
+        InvestmentProposal proposal = proposal(investmentType);
+        engine.assignIfUnassigned(proposal);
+        return proposal.getAssignedAdvisor();
+    }
+
+    private static InvestmentProposal proposal(String investmentType) {
+        return new InvestmentProposal("INV-ASSIGN", "Assign Client", Money.of("20000.00"),
+                Rate.of("4.0"), RiskLevel.LOW, investmentType, null);
+    }
+}
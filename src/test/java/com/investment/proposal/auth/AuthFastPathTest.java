@@ -0,0 +1,76 @@
+package com.investment.proposal.auth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Authentication Fast Path Integration Tests
+ * Spring Boot: Tests for token exchange, bearer verification and the verified credential cache
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)  // Spring Boot: Full security chain over HTTP
+class AuthFastPathTest {
+
+    @Autowired  // Spring Boot: Automatic injection of the investment test REST client
+    private TestRestTemplate restTemplate;
+
+    @Autowired  // Spring Boot: Micrometer registry injection for investment authentication metrics
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Test a token issued for Basic credentials authenticates API calls and cannot renew itself
+     */
+    @Test  // Spring Boot: Test method annotation for investment token exchange testing
+    void token_ShouldAuthenticateApiCallsUntilTampered() {
+        ResponseEntity<Map<String, Object>> issued = restTemplate.withBasicAuth("admin", "password")
+                .exchange("/api/auth/token", HttpMethod.POST, null, new ParameterizedTypeReference<>() {});
+        assertEquals(200, issued.getStatusCode().value());
+        assertEquals("Bearer", issued.getBody().get("token_type"));
+        String token = (String) issued.getBody().get("access_token");
+
+        assertEquals(200, callWithBearer("/api/investment-proposals", HttpMethod.GET, token).getStatusCode().value());
+        assertEquals(403, callWithBearer("/api/auth/token", HttpMethod.POST, token).getStatusCode().value());
+
+        // Spring Boot: Changing one payload character invalidates the signature
+        String tampered = (token.charAt(0) == 'A' ? 'B' : 'A') + token.substring(1);
+        ResponseEntity<String> rejected = callWithBearer("/api/investment-proposals", HttpMethod.GET, tampered);
+        assertEquals(401, rejected.getStatusCode().value());
+        assertTrue(rejected.getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE).startsWith("Bearer"));
+        assertTrue(meterRegistry.get("investment.auth.verification").tag("path", "bearer").timer().count() >= 2);
+    }
+
+    /**
+     * Test repeated Basic logins are answered from the cache and wrong passwords are not
+     */
+    @Test  // Spring Boot: Test method annotation for investment credential cache testing
+    void basicLogins_ShouldHitCredentialCacheAfterFirstVerification() {
+        double hitsBefore = meterRegistry.get("investment.auth.credential.cache").tag("result", "hit").counter().count();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, restTemplate.withBasicAuth("admin", "password")
+                    .getForEntity("/api/investment-proposals", String.class).getStatusCode().value());
+        }
+        assertEquals(401, restTemplate.withBasicAuth("admin", "wrong")
+                .getForEntity("/api/investment-proposals", String.class).getStatusCode().value());
+
+        double hits = meterRegistry.get("investment.auth.credential.cache").tag("result", "hit").counter().count();
+        assertTrue(hits - hitsBefore >= 2, "hits: " + (hits - hitsBefore));
+    }
+
+    private ResponseEntity<String> callWithBearer(String path, HttpMethod method, String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return restTemplate.exchange(path, method, new HttpEntity<>(headers), String.class);
+    }
+}
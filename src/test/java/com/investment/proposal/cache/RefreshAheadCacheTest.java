@@ -0,0 +1,73 @@
+package com.investment.proposal.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Refresh-Ahead Cache Unit Tests
+ * Spring Boot: Tests for stale-while-revalidate serving of investment cache entries
+ */
+class RefreshAheadCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final List<Runnable> queuedRefreshes = new ArrayList<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private RefreshAheadCache cache;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // Spring Boot: Manual clock and executor so staleness and refreshes are deterministic
+        cache = new RefreshAheadCache("investmentProposals",
+                new SingleFlightLoader("investmentProposals", 1_000, meterRegistry),
+                Duration.ofSeconds(30), Duration.ofMinutes(5), queuedRefreshes::add, meterRegistry, nanos::get);
+        assertEquals("v1", cache.get("all", this::load));
+    }
+
+    /**
+     * Test entries past the soft TTL are served stale and refreshed once in the background
+     */
+    @Test  // Spring Boot: Test method annotation for investment stale-while-revalidate testing
+    void softExpiredEntry_ShouldServeStaleAndRefreshOnce() {
+        advance(Duration.ofSeconds(31));
+
+        assertEquals("v1", cache.get("all", this::load));
+        assertEquals("v1", cache.get("all", this::load));
+        assertEquals(1, queuedRefreshes.size());
+
+        queuedRefreshes.get(0).run();
+        assertEquals("v2", cache.get("all", this::load));
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * Test eviction marks entries stale and the hard TTL forces a synchronous load
+     */
+    @Test  // Spring Boot: Test method annotation for investment staleness bound testing
+    void evictedAndHardExpiredEntries_ShouldHonourStalenessBounds() {
+        cache.clear();
+        assertEquals("v1", cache.get("all", this::load));
+        assertEquals(1, queuedRefreshes.size());
+
+        advance(Duration.ofMinutes(6));
+        assertNull(cache.get("all"));
+        assertEquals("v2", cache.get("all", this::load));
+    }
+
+    private String load() {
+        return "v" + loads.incrementAndGet();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+}
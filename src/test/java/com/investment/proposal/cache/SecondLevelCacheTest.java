@@ -0,0 +1,86 @@
+package com.investment.proposal.cache;
+
+import com.investment.proposal.config.HibernateCacheConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.repository.InvestmentProposalRepository;
+import com.investment.proposal.service.InvestmentProposalService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Second-Level Cache Integration Tests
+ * Spring Boot: Tests for entity and query cache hits and their invalidation on writes
+ */
+@SpringBootTest  // Spring Boot: Full context with the JCache-backed Hibernate regions
+class SecondLevelCacheTest {
+
+    @Autowired  // Spring Boot: Service injection for cached investment lookups and updates
+    private InvestmentProposalService investmentProposalService;
+
+    @Autowired  // Spring Boot: Repository injection for cacheable investment finders
+    private InvestmentProposalRepository investmentProposalRepository;
+
+    @Autowired  // Spring Boot: Entity manager factory injection for Hibernate cache statistics
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired  // Spring Boot: Actuator endpoint injection for investment cache statistics
+    private SecondLevelCacheEndpoint secondLevelCacheEndpoint;
+
+    /**
+     * Test a proposal loaded twice is served from the entity region with reference names resolved
+     */
+    @Test  // Spring Boot: Test method annotation for investment entity cache testing
+    void getById_ShouldHitEntityRegionOnRepeatedLookup() {
+        InvestmentProposal saved = investmentProposalRepository.save(new InvestmentProposal("L2-ENTITY", "Cache Client",
+                Money.of("30000.00"), Rate.of("5.0"), RiskLevel.LOW, "ETF", "Carol Davis"));
+        entityManagerFactory.getCache().evict(InvestmentProposal.class, saved.getId());
+        Statistics statistics = statistics();
+        long hitsBefore = statistics.getCacheRegionStatistics(HibernateCacheConfig.PROPOSAL_REGION).getHitCount();
+
+        investmentProposalService.getInvestmentProposalById(saved.getId());
+        InvestmentProposal cached = investmentProposalService.getInvestmentProposalById(saved.getId());
+
+        assertEquals(hitsBefore + 1, statistics.getCacheRegionStatistics(HibernateCacheConfig.PROPOSAL_REGION).getHitCount());
+        // Spring Boot: @PostLoad still resolves transient names for entities assembled from the cache
+        assertEquals("Carol Davis", cached.getAssignedAdvisor());
+        assertEquals("ETF", cached.getInvestmentType());
+        assertTrue(((Map<?, ?>) secondLevelCacheEndpoint.statistics().get("regions"))
+                .containsKey(HibernateCacheConfig.PROPOSAL_REGION));
+        investmentProposalService.deleteInvestmentProposal(saved.getId());
+    }
+
+    /**
+     * Test a cacheable finder is answered from the query cache until the table changes
+     */
+    @Test  // Spring Boot: Test method annotation for investment query cache testing
+    void cacheableFinder_ShouldHitQueryCacheUntilProposalUpdated() {
+        InvestmentProposal saved = investmentProposalRepository.save(new InvestmentProposal("L2-QUERY", "Cache Client",
+                Money.of("40000.00"), Rate.of("6.0"), RiskLevel.HIGH, "STOCKS", "Alice Johnson"));
+        Statistics statistics = statistics();
+
+        int approvedBefore = investmentProposalRepository.findByApproved(true).size();
+        long hitsBefore = statistics.getQueryCacheHitCount();
+        assertEquals(approvedBefore, investmentProposalRepository.findByApproved(true).size());
+        assertEquals(hitsBefore + 1, statistics.getQueryCacheHitCount());
+
+        // Spring Boot: A write through Hibernate marks the table as changed and invalidates cached results
+        investmentProposalService.updateApprovalStatus(saved.getId(), true);
+        assertEquals(approvedBefore + 1, investmentProposalRepository.findByApproved(true).size());
+        investmentProposalService.deleteInvestmentProposal(saved.getId());
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,90 @@
+package com.investment.proposal.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Single-Flight Cache Unit Tests
+ * Spring Boot: Tests for coalescing of concurrent investment cache misses
+ */
+class SingleFlightCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlightCache cache;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new SingleFlightCache(new ConcurrentMapCache("investmentProposals"),
+                new SingleFlightLoader("investmentProposals", 5_000, meterRegistry));
+    }
+
+    /**
+     * Test concurrent misses of one key run the loader exactly once
+     */
+    @Test  // Spring Boot: Test method annotation for investment cache coalescing testing
+    void concurrentMisses_ShouldLoadOnce() throws Exception {
+        int readers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch allWaiting = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < readers; i++) {
+                results.add(executor.submit(() -> cache.get("all", () -> {
+                    loads.incrementAndGet();
+                    // Spring Boot: Hold the load open until every reader has missed
+                    allWaiting.await(5, TimeUnit.SECONDS);
+                    return "proposals";
+                })));
+            }
+            // Spring Boot: Wait until the other readers are parked on the leader's future
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (coalescedCount() < readers - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            allWaiting.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("proposals", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(readers - 1, coalescedCount());
+        assertEquals("proposals", cache.get("all").get());
+    }
+
+    /**
+     * Test loader failures propagate and are not cached
+     */
+    @Test  // Spring Boot: Test method annotation for investment cache failure testing
+    void failedLoad_ShouldPropagateAndNotCache() {
+        Cache.ValueRetrievalException ex = assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get("all", () -> { throw new IllegalStateException("database down"); }));
+
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertNull(cache.get("all"));
+        assertEquals("recovered", cache.get("all", () -> "recovered"));
+    }
+
+    private double coalescedCount() {
+        return meterRegistry.get("investment.cache.singleflight").tag("outcome", "coalesced").counter().count();
+    }
+}
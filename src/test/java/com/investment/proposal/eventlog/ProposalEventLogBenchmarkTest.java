@@ -0,0 +1,109 @@
+package com.investment.proposal.eventlog;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.service.InvestmentProposalService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Event Log Replay Benchmark
+ * Spring Boot: Writes creates, approvals and deletions to memory-mapped segments and times
+ * a cold replay of the whole log
+ * Excluded from the default build; run with mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+class ProposalEventLogBenchmarkTest {
+
+    private static final int EVENTS = Integer.getInteger("benchmark.events", 2_000_000);
+    private static final int ROUNDS = Integer.getInteger("benchmark.rounds", 3);
+
+    @TempDir  // Spring Boot: Temporary directory for investment event log files
+    Path directory;
+
+    /**
+     * Benchmark replay throughput without snapshots, so every event is read from the segments
+     */
+    @Test  // Spring Boot: Test method annotation for investment event log replay throughput
+    @SuppressWarnings("unchecked")
+    void replay_ShouldReplayEventsFromSegments() {
+        InvestmentConfig.InvestmentManagementProperties investmentProperties =
+                new InvestmentConfig.InvestmentManagementProperties();
+        investmentProperties.getEventLog().setDirectory(directory.toString());
+        investmentProperties.getEventLog().setSnapshotInterval(Long.MAX_VALUE);
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        // Spring Boot: An empty table fingerprint keeps the writer from re-basing on open
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class))).thenReturn(new long[] {0, 0, 0, 0});
+
+        ProposalEventLog writer = open(jdbcTemplate, investmentProperties);
+        InvestmentProposal proposal = new InvestmentProposal("EVT-BENCH", "Benchmark Client", Money.of("75000.00"),
+                Rate.of("6.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
+        proposal.setInvestmentTypeId(1L);
+        proposal.setAdvisorId(1L);
+        proposal.setCreatedAt(LocalDateTime.of(2026, 1, 15, 9, 30));
+        proposal.setApproved(false);
+        int proposals = EVENTS / 2;
+        for (long id = 1; id <= proposals; id++) {
+            proposal.setId(id);
+            writer.onProposalCreated(new InvestmentProposalCreatedEvent(proposal));
+        }
+        proposal.setApproved(true);
+        for (long id = 1; id <= proposals; id++) {
+            proposal.setId(id);
+            if (id % 5 == 0) {
+                writer.onProposalDeleted(new InvestmentProposalDeletedEvent(proposal));
+            } else {
+                writer.onProposalStatusChanged(new InvestmentProposalStatusChangedEvent(proposal));
+            }
+        }
+        writer.close();
+
+        // Spring Boot: A fingerprint no log can match, so each open stops after the replay it times
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class))).thenReturn(new long[] {-1, 0, 0, 0});
+        InvestmentProposalService investmentProposalService = mock(InvestmentProposalService.class);
+        when(investmentProposalService.loadAllInvestmentProposals()).thenThrow(new IllegalStateException("timed"));
+        for (int round = 1; round <= ROUNDS; round++) {
+            ProposalEventLog replayed = new ProposalEventLog();
+            ReflectionTestUtils.setField(replayed, "investmentProposalService", investmentProposalService);
+            ReflectionTestUtils.setField(replayed, "jdbcTemplate", jdbcTemplate);
+            ReflectionTestUtils.setField(replayed, "investmentProperties", investmentProperties);
+            // Spring Boot: The failing re-base disables the log without touching its files
+            replayed.open();
+            Map<String, Object> statistics = replayed.statistics();
+            replayed.close();
+            System.out.printf("Round %d: replayed %d events in %s ms (%,d events/s)%n", round,
+                    statistics.get("replayedEvents"), statistics.get("replayMillis"),
+                    Math.round((Double) statistics.get("replayEventsPerSecond")));
+            assertEquals((long) EVENTS, statistics.get("replayedEvents"));
+        }
+    }
+
+    private static ProposalEventLog open(JdbcTemplate jdbcTemplate,
+                                         InvestmentConfig.InvestmentManagementProperties investmentProperties) {
+        ProposalEventLog log = new ProposalEventLog();
+        ReflectionTestUtils.setField(log, "investmentProposalService", mock(InvestmentProposalService.class));
+        ReflectionTestUtils.setField(log, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(log, "investmentProperties", investmentProperties);
+        log.open();
+        return log;
+    }
+}
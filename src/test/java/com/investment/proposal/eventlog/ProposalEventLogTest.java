@@ -0,0 +1,246 @@
+package com.investment.proposal.eventlog;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalsArchivedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.service.InvestmentProposalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Event Log Unit Tests
+ * Spring Boot: Tests for CRC-framed segments, snapshot replay, compaction and re-basing
+ */
+class ProposalEventLogTest {
+
+    @TempDir  // Spring Boot: Temporary directory for investment event log files
+    Path directory;
+
+    private InvestmentProposalService investmentProposalService;
+    private JdbcTemplate jdbcTemplate;
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+    private final List<ProposalEventLog> opened = new ArrayList<>();
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        investmentProposalService = mock(InvestmentProposalService.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        investmentProperties = new InvestmentConfig.InvestmentManagementProperties();
+        investmentProperties.getEventLog().setDirectory(directory.toString());
+        tableHolds(List.of());
+    }
+
+    @AfterEach  // Spring Boot: After each test annotation releasing the log directory
+    void tearDown() {
+        opened.forEach(ProposalEventLog::close);
+    }
+
+    /**
+     * Test a reopened log replays every event, cuts off a torn record and keeps appending
+     */
+    @Test  // Spring Boot: Test method annotation for investment event log replay testing
+    void replay_ShouldRestoreStateAndCutOffTornRecord() throws Exception {
+        ProposalEventLog log = open();
+        InvestmentProposal first = proposal(1L, "10000.00");
+        InvestmentProposal second = proposal(2L, "20000.00");
+        InvestmentProposal third = proposal(3L, "30000.00");
+        log.onProposalCreated(new InvestmentProposalCreatedEvent(first));
+        log.onProposalCreated(new InvestmentProposalCreatedEvent(second));
+        log.onProposalCreated(new InvestmentProposalCreatedEvent(third));
+        second.setApproved(true);
+        log.onProposalStatusChanged(new InvestmentProposalStatusChangedEvent(second));
+        log.onProposalDeleted(new InvestmentProposalDeletedEvent(third));
+        log.close();
+
+        // Spring Boot: A crash mid-append leaves a framed record whose body does not match its CRC
+        Path segment = files("events-").get(0);
+        int end = endOfRecords(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(40).putInt(32).putInt(12345).putLong(6L).flip(), end);
+        }
+
+        tableHolds(List.of(first, second));
+        ProposalEventLog reopened = open();
+        List<InvestmentProposal> live = reopened.currentProposals();
+        assertEquals(List.of(1L, 2L), live.stream().map(InvestmentProposal::getId).toList());
+        assertTrue(live.get(1).getApproved());
+        assertEquals(Money.of("20000.00"), live.get(1).getInvestmentAmount());
+        assertEquals("Alice Johnson", live.get(1).getAssignedAdvisor());
+        assertEquals("log", reopened.statistics().get("stateSource"));
+        verify(investmentProposalService, never()).getAllInvestmentProposals();
+
+        reopened.onProposalDeleted(new InvestmentProposalDeletedEvent(first));
+        List<Map<String, Object>> audit = reopened.read(1, 100);
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), audit.stream().map(event -> event.get("sequence")).toList());
+        assertEquals(ProposalEventType.DELETED, audit.get(5).get("type"));
+        assertEquals(List.of(2L), reopened.currentProposals().stream().map(InvestmentProposal::getId).toList());
+    }
+
+    /**
+     * Test archived proposals are logged as ARCHIVED records with id and reference only
+     */
+    @Test  // Spring Boot: Test method annotation for investment archive logging testing
+    void archived_ShouldLogDistinctRecordsAndDropLiveState() {
+        ProposalEventLog log = open();
+        InvestmentProposal first = proposal(1L, "10000.00");
+        log.onProposalCreated(new InvestmentProposalCreatedEvent(first));
+        log.onProposalCreated(new InvestmentProposalCreatedEvent(proposal(2L, "20000.00")));
+
+        log.onProposalsArchived(new InvestmentProposalsArchivedEvent(List.of(1L), List.of(first.getProposalReference())));
+
+        List<Map<String, Object>> audit = log.read(0, 100);
+        Map<String, Object> archived = audit.get(audit.size() - 1);
+        assertEquals(ProposalEventType.ARCHIVED, archived.get("type"));
+        assertEquals(1L, archived.get("proposalId"));
+        assertEquals(first.getProposalReference(), archived.get("proposalReference"));
+        assertFalse(archived.containsKey("proposal"));
+        assertEquals(List.of(2L), log.currentProposals().stream().map(InvestmentProposal::getId).toList());
+    }
+
+    /**
+     * Test snapshots let old segments go and a log that disagrees with the table is re-based
+     */
+    @Test  // Spring Boot: Test method annotation for investment snapshot and compaction testing
+    void snapshot_ShouldCompactSegmentsAndRebaseOnMismatch() throws Exception {
+        investmentProperties.getEventLog().setSegmentSize(4096);
+        investmentProperties.getEventLog().setSnapshotInterval(25);
+        investmentProperties.getEventLog().setRetainedSnapshots(1);
+        ProposalEventLog log = open();
+        List<InvestmentProposal> table = new ArrayList<>();
+        for (long id = 1; id <= 200; id++) {
+            InvestmentProposal proposal = proposal(id, "50000.00");
+            table.add(proposal);
+            log.onProposalCreated(new InvestmentProposalCreatedEvent(proposal));
+        }
+        assertEquals(List.of(directory.resolve(String.format("snapshot-%020d.snap", 200))), files("snapshot-"));
+        assertTrue(files("events-").size() <= 2, files("events-").toString());
+        log.close();
+
+        tableHolds(table);
+        ProposalEventLog replayed = open();
+        assertEquals(200, replayed.currentProposals().size());
+        assertEquals("log", replayed.statistics().get("stateSource"));
+        replayed.close();
+
+        // Spring Boot: The table lost a proposal the log never heard about
+        tableHolds(table.subList(1, 200));
+        ProposalEventLog rebased = open();
+        assertEquals(199, rebased.currentProposals().size());
+        assertTrue(rebased.statistics().get("stateSource").toString().startsWith("table"));
+        // Spring Boot: The re-base reads storage directly, never the refresh-ahead proposal list
+        verify(investmentProposalService, never()).getAllInvestmentProposals();
+
+        // Spring Boot: The unrelated chain is kept aside but no longer read, and sequences are not reused
+        assertTrue(rebased.read(0, 1000).isEmpty());
+        List<Path> superseded = files("superseded-");
+        assertEquals(1, superseded.size());
+        try (Stream<Path> aside = Files.list(superseded.get(0))) {
+            assertTrue(aside.anyMatch(file -> file.getFileName().toString().startsWith("events-")));
+        }
+        rebased.onProposalCreated(new InvestmentProposalCreatedEvent(proposal(201L, "50000.00")));
+        assertEquals(List.of(201L), rebased.read(0, 1000).stream().map(event -> event.get("sequence")).toList());
+    }
+
+    /**
+     * Test a re-base forced by sharded storage keeps the audit history in place
+     */
+    @Test  // Spring Boot: Test method annotation for investment sharded re-base testing
+    void shardedRebase_ShouldKeepHistory() throws Exception {
+        ProposalEventLog log = open();
+        InvestmentProposal first = proposal(1L, "10000.00");
+        log.onProposalCreated(new InvestmentProposalCreatedEvent(first));
+        log.close();
+
+        investmentProperties.getSharding().setEnabled(true);
+        tableHolds(List.of(first));
+        ProposalEventLog reopened = open();
+        assertEquals("table (sharded storage)", reopened.statistics().get("stateSource"));
+        assertEquals(List.of(1L), reopened.read(0, 100).stream().map(event -> event.get("sequence")).toList());
+        assertTrue(files("superseded-").isEmpty());
+    }
+
+    private ProposalEventLog open() {
+        ProposalEventLog log = new ProposalEventLog();
+        inject(log);
+        log.open();
+        return log;
+    }
+
+    private void inject(ProposalEventLog log) {
+        ReflectionTestUtils.setField(log, "investmentProposalService", investmentProposalService);
+        ReflectionTestUtils.setField(log, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(log, "investmentProperties", investmentProperties);
+        opened.add(log);
+    }
+
+    /**
+     * Stub the proposal table and its fingerprint query
+     */
+    @SuppressWarnings("unchecked")
+    private void tableHolds(List<InvestmentProposal> proposals) {
+        long idSum = 0;
+        long approvedIdSum = 0;
+        long cents = 0;
+        for (InvestmentProposal proposal : proposals) {
+            idSum += proposal.getId();
+            approvedIdSum += Boolean.TRUE.equals(proposal.getApproved()) ? proposal.getId() : 0;
+            cents += proposal.getInvestmentAmount().getCents();
+        }
+        when(investmentProposalService.loadAllInvestmentProposals()).thenReturn(proposals);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class)))
+                .thenReturn(new long[] {proposals.size(), idSum, approvedIdSum, cents});
+    }
+
+    private List<Path> files(String prefix) throws Exception {
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    private static int endOfRecords(Path segment) throws Exception {
+        int[] end = {0};
+        EventLogSegment.read(segment, (sequence, type, recordedAt, payload) -> {
+            end[0] += EventLogSegment.FRAME_HEADER + EventLogSegment.BODY_HEADER + payload.remaining();
+            return true;
+        });
+        return end[0];
+    }
+
+    private static InvestmentProposal proposal(Long id, String amount) {
+        InvestmentProposal proposal = new InvestmentProposal("EVT-" + id, "Event Client", Money.of(amount),
+                Rate.of("6.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
+        proposal.setId(id);
+        proposal.setInvestmentTypeId(1L);
+        proposal.setAdvisorId(1L);
+        proposal.setCreatedAt(LocalDateTime.of(2026, 1, 15, 9, 30));
+        proposal.setApproved(false);
+        return proposal;
+    }
+}
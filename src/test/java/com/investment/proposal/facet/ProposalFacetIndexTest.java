@@ -0,0 +1,132 @@
+package com.investment.proposal.facet;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.eventlog.ProposalEventLog;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Facet Index Unit Tests
+ * Spring Boot: Tests for bitmap facet counts and their incremental maintenance
+ */
+class ProposalFacetIndexTest {
+
+    @Mock  // Spring Boot: Mock annotation for investment event log testing
+    private ProposalEventLog proposalEventLog;
+
+    @Spy  // Spring Boot: Real investment properties with default search limits
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties =
+            new InvestmentConfig.InvestmentManagementProperties();
+
+    @InjectMocks  // Spring Boot: Inject mocks annotation for facet index testing
+    private ProposalFacetIndex facetIndex;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(proposalEventLog.currentProposals()).thenReturn(List.of(
+                proposal(1L, RiskLevel.HIGH, "STOCKS", "Alice Johnson", false),
+                proposal(2L, RiskLevel.HIGH, "BONDS", "Bob Smith", true),
+                proposal(3L, RiskLevel.MEDIUM, "STOCKS", "Alice Johnson", true),
+                proposal(4L, RiskLevel.LOW, "BONDS", "Carol Davis", false),
+                proposal(5L, RiskLevel.MEDIUM, "ETF", "Bob Smith", false)));
+        facetIndex.rebuild();
+    }
+
+    /**
+     * Test values OR within a dimension, dimensions AND, and counts ignore their own selection
+     */
+    @Test  // Spring Boot: Test method annotation for investment facet query testing
+    void query_ShouldCombineSelectionsAndCountAlternatives() {
+        FacetQuery query = new FacetQuery();
+        query.setRiskLevel(List.of(RiskLevel.HIGH, RiskLevel.MEDIUM));
+        query.setApproved(List.of(false));
+
+        FacetResult result = facetIndex.query(query);
+
+        assertEquals(2, result.getTotal());
+        assertEquals(List.of(1L, 5L), result.getIds());
+        // Spring Boot: Risk counts apply approved=false only, so LOW still shows its one proposal
+        assertEquals(Map.of("HIGH", 1L, "MEDIUM", 1L, "LOW", 1L), result.getFacets().get(FacetDimension.RISK_LEVEL));
+        assertEquals(Map.of("false", 2L, "true", 2L), result.getFacets().get(FacetDimension.APPROVED));
+        assertEquals(Map.of("STOCKS", 1L, "ETF", 1L), result.getFacets().get(FacetDimension.INVESTMENT_TYPE));
+    }
+
+    /**
+     * Test lifecycle events move, add and drop proposals without a rebuild
+     */
+    @Test  // Spring Boot: Test method annotation for investment facet maintenance testing
+    void events_ShouldUpdateIndexIncrementally() {
+        InvestmentProposal approved = proposal(1L, RiskLevel.HIGH, "STOCKS", "Alice Johnson", true);
+        facetIndex.onProposalStatusChanged(new InvestmentProposalStatusChangedEvent(approved));
+        facetIndex.onProposalCreated(new InvestmentProposalCreatedEvent(
+                proposal(6L, RiskLevel.HIGH, "COMMODITIES", "Carol Davis", false)));
+        facetIndex.onProposalDeleted(new InvestmentProposalDeletedEvent(
+                proposal(2L, RiskLevel.HIGH, "BONDS", "Bob Smith", true)));
+
+        FacetQuery query = new FacetQuery();
+        query.setRiskLevel(List.of(RiskLevel.HIGH));
+        FacetResult result = facetIndex.query(query);
+
+        assertEquals(List.of(1L, 6L), result.getIds());
+        assertEquals(Map.of("true", 1L, "false", 1L), result.getFacets().get(FacetDimension.APPROVED));
+        assertEquals(Map.of("STOCKS", 1L, "COMMODITIES", 1L), result.getFacets().get(FacetDimension.INVESTMENT_TYPE));
+        verify(proposalEventLog, times(1)).currentProposals();
+
+        query.setInvestmentType(List.of("UNKNOWN"));
+        FacetResult empty = facetIndex.query(query);
+        assertEquals(0, empty.getTotal());
+        // Spring Boot: The type facet ignores its own selection, so the real types stay selectable
+        assertEquals(Map.of("STOCKS", 1L, "COMMODITIES", 1L), empty.getFacets().get(FacetDimension.INVESTMENT_TYPE));
+        assertTrue(empty.getFacets().get(FacetDimension.APPROVED).isEmpty());
+    }
+
+    /**
+     * Test events delivered while a rebuild reads its snapshot survive the swap
+     */
+    @Test  // Spring Boot: Test method annotation for investment facet rebuild race testing
+    void rebuild_ShouldReplayEventsArrivingDuringSnapshotRead() {
+        when(proposalEventLog.currentProposals()).thenAnswer(invocation -> {
+            // Spring Boot: Committed after the snapshot was taken, delivered mid-rebuild
+            facetIndex.onProposalCreated(new InvestmentProposalCreatedEvent(
+                    proposal(7L, RiskLevel.LOW, "ETF", "Carol Davis", false)));
+            facetIndex.onProposalDeleted(new InvestmentProposalDeletedEvent(
+                    proposal(4L, RiskLevel.LOW, "BONDS", "Carol Davis", false)));
+            return List.of(
+                    proposal(1L, RiskLevel.HIGH, "STOCKS", "Alice Johnson", false),
+                    proposal(4L, RiskLevel.LOW, "BONDS", "Carol Davis", false));
+        });
+
+        facetIndex.rebuild();
+
+        FacetResult result = facetIndex.query(new FacetQuery());
+        assertEquals(List.of(1L, 7L), result.getIds());
+        assertEquals(Map.of("HIGH", 1L, "LOW", 1L), result.getFacets().get(FacetDimension.RISK_LEVEL));
+    }
+
+    private static InvestmentProposal proposal(Long id, RiskLevel riskLevel, String type, String advisor,
+                                               boolean approved) {
+        InvestmentProposal proposal = new InvestmentProposal("FCT-" + id, "Facet Client", Money.of("25000.00"),
+                Rate.of("6.0"), riskLevel, type, advisor);
+        proposal.setId(id);
+        proposal.setApproved(approved);
+        return proposal;
+    }
+}
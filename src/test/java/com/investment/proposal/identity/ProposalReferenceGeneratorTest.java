@@ -0,0 +1,101 @@
+package com.investment.proposal.identity;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.lock.JdbcLeaseLockProvider;
+import com.investment.proposal.lock.LeaseLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Reference Generator and Filter Unit Tests
+ * Spring Boot: Tests for collision-free references and the counting Bloom pre-check
+ */
+class ProposalReferenceGeneratorTest {
+
+    @Mock  // Spring Boot: Mock annotation for investment configuration testing
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    @Mock  // Spring Boot: Mock annotation for investment node id lease testing
+    private JdbcLeaseLockProvider leaseLockProvider;
+
+    @InjectMocks  // Spring Boot: Inject mocks annotation for reference generator testing
+    private ProposalReferenceGenerator generator;
+
+    private InvestmentConfig.InvestmentManagementProperties.ProposalReference settings;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        settings = new InvestmentConfig.InvestmentManagementProperties.ProposalReference();
+        settings.setNodeId(7);
+        when(investmentProperties.getProposalReference()).thenReturn(settings);
+        generator.init();
+    }
+
+    /**
+     * Test concurrent generation never repeats a reference and respects the column limit
+     */
+    @Test  // Spring Boot: Test method annotation for investment reference uniqueness testing
+    void nextReference_ShouldBeUniqueAcrossThreads() {
+        Set<String> references = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 20_000).parallel().forEach(i -> references.add(generator.nextReference()));
+
+        assertEquals(20_000, references.size());
+        assertTrue(references.stream().allMatch(ref -> ref.startsWith("INV-") && ref.length() <= 20));
+    }
+
+    /**
+     * Test an unconfigured node id is claimed as the first free lease and embedded in ids
+     */
+    @Test  // Spring Boot: Test method annotation for investment node id claim testing
+    void init_WithoutNodeId_ShouldClaimFirstFreeLease() {
+        settings.setNodeId(null);
+        LeaseLock lease = new LeaseLock("proposal-reference-node-1", 3L, LocalDateTime.now(), Duration.ZERO);
+        when(leaseLockProvider.tryAcquire(eq("proposal-reference-node-1"), any(), any())).thenReturn(Optional.of(lease));
+        ProposalReferenceGenerator claiming = new ProposalReferenceGenerator();
+        ReflectionTestUtils.setField(claiming, "investmentProperties", investmentProperties);
+        ReflectionTestUtils.setField(claiming, "leaseLockProvider", leaseLockProvider);
+        claiming.init();
+        try {
+            assertEquals(1, claiming.getNodeId());
+            assertEquals(1, (claiming.nextId() >>> ProposalReferenceGenerator.SEQUENCE_BITS) & ProposalReferenceGenerator.MAX_NODE_ID);
+            verify(leaseLockProvider).tryAcquire(eq("proposal-reference-node-0"), any(), any());
+        } finally {
+            claiming.shutdown();
+        }
+        verify(leaseLockProvider).release(lease);
+    }
+
+    /**
+     * Test the counting filter has no false negatives and supports removal
+     */
+    @Test  // Spring Boot: Test method annotation for investment reference filter testing
+    void countingBloomFilter_ShouldAddAndRemoveReferences() {
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        IntStream.range(0, 1_000).forEach(i -> filter.add("INV-" + i));
+
+        assertTrue(IntStream.range(0, 1_000).allMatch(i -> filter.mightContain("INV-" + i)));
+        long falsePositives = IntStream.range(1_000, 11_000).filter(i -> filter.mightContain("INV-" + i)).count();
+        assertTrue(falsePositives < 500, "false positives: " + falsePositives);
+
+        filter.remove("INV-1");
+        assertFalse(filter.mightContain("INV-1"));
+        assertTrue(filter.mightContain("INV-2"));
+    }
+}
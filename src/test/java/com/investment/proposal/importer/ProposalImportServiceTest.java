@@ -0,0 +1,144 @@
+package com.investment.proposal.importer;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.facet.FacetQuery;
+import com.investment.proposal.facet.ProposalFacetIndex;
+import com.investment.proposal.service.InvestmentProposalService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Bulk Import Pipeline Integration Tests
+ * Spring Boot: Tests for chunked parsing, validation, batch inserts and rejected-row reports
+ */
+@SpringBootTest(properties = {
+        // Spring Boot: Private database, so imported rows never reach contexts other tests share
+        "spring.datasource.url=jdbc:h2:mem:import-test"
+})
+@DirtiesContext  // Spring Boot: Imports add rows the seeded-data assertions of other tests do not expect
+class ProposalImportServiceTest {
+
+    @Autowired  // Spring Boot: Import service injection for investment bulk import testing
+    private ProposalImportService importService;
+
+    @Autowired  // Spring Boot: Configuration properties injection to force many small parse chunks
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties;
+
+    @Autowired  // Spring Boot: JDBC injection for verifying imported investment rows
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired  // Spring Boot: Facet index injection for checking in-memory views after an import
+    private ProposalFacetIndex facetIndex;
+
+    @Autowired  // Spring Boot: Proposal service injection for filling the proposal list cache
+    private InvestmentProposalService investmentProposalService;
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Test valid rows are inserted across chunk and batch boundaries and invalid rows are reported
+     */
+    @Test  // Spring Boot: Test method annotation for investment bulk import testing
+    void submit_ShouldInsertValidRowsAndReportRejectedRows() throws Exception {
+        StringBuilder csv = new StringBuilder("\uFEFFclient_name,investment_type,proposal_reference,risk_level,"
+                + "investment_amount,expected_return,assigned_advisor\r\n");
+        for (int i = 0; i < 250; i++) {
+            csv.append("\"Import Client ").append(i).append(", Ltd\",STOCKS,IMP-").append(i)
+                    .append(",medium,").append(5000 + i).append(".50,6.5,Alice Johnson\r\n");
+        }
+        csv.append("Import Client Generated,BONDS,,LOW,25000.00,4.0,\n");
+        csv.append("Import Client Small,BONDS,IMP-SMALL,LOW,10.00,4.0,Bob Smith\n");
+        csv.append("Import Client Advisor,BONDS,IMP-ADVISOR,LOW,25000.00,4.0,Nobody Known\n");
+        csv.append("Import Client Risk,BONDS,IMP-RISK,EXTREME,25000.00,4.0,Bob Smith\n");
+        csv.append("Import Client Duplicate,BONDS,IMP-7,LOW,25000.00,4.0,Bob Smith\n");
+        csv.append("Import Client Short,BONDS\n");
+        csv.append("\n");
+        Path file = tempDir.resolve("proposals.csv");
+        Files.writeString(file, csv, StandardCharsets.UTF_8);
+
+        InvestmentConfig.InvestmentManagementProperties.ImportSettings settings = investmentProperties.getImporter();
+        long chunkBytes = settings.getChunkBytes();
+        int batchSize = settings.getBatchSize();
+        settings.setChunkBytes(1024);
+        settings.setBatchSize(16);
+        try {
+            // Spring Boot: A listed portfolio leaves the pre-import list in the refresh-ahead cache
+            investmentProposalService.getAllInvestmentProposals();
+            ImportJob job = importService.submit(file);
+            assertTrue(job.awaitCompletion(Duration.ofSeconds(30)));
+
+            assertEquals(ImportState.COMPLETED, job.getState(), job.getError());
+            assertEquals(256, job.getRowsParsed());
+            assertEquals(251, job.getRowsInserted());
+            assertEquals(5, job.getRowsRejected());
+            assertEquals(job.getBytesTotal(), job.getBytesParsed());
+            assertEquals(251, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM investment_proposals WHERE client_name LIKE 'Import Client%'", Integer.class));
+            assertEquals("Import Client 42, Ltd", jdbcTemplate.queryForObject(
+                    "SELECT client_name FROM investment_proposals WHERE proposal_reference = 'IMP-42'", String.class));
+            assertNotNull(jdbcTemplate.queryForObject(
+                    "SELECT advisor_id FROM investment_proposals WHERE client_name = 'Import Client Generated'", Long.class));
+            // Spring Boot: In-memory views are rebuilt from the table, not from a cached pre-import list
+            assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM investment_proposals", Long.class),
+                    facetIndex.query(new FacetQuery()).getTotal());
+
+            List<String> rejected = Files.readAllLines(importService.getRejectedFile(job.getId()));
+            assertEquals("byte_offset,reason,line", rejected.get(0));
+            assertEquals(6, rejected.size());
+            String report = String.join("\n", rejected);
+            for (String reference : List.of("IMP-SMALL", "IMP-ADVISOR", "IMP-RISK", "IMP-7", "Import Client Short")) {
+                assertTrue(report.contains(reference), reference);
+            }
+        } finally {
+            settings.setChunkBytes(chunkBytes);
+            settings.setBatchSize(batchSize);
+        }
+    }
+
+    /**
+     * Test stored uploads are deleted after their import and reports go with evicted jobs
+     */
+    @Test  // Spring Boot: Test method annotation for investment import file cleanup testing
+    void submit_ShouldDeleteStoredUploadAndEvictedReport() throws Exception {
+        String csv = "client_name,investment_type,proposal_reference,risk_level,investment_amount,expected_return,"
+                + "assigned_advisor\nUpload Client,BONDS,IMP-UPLOAD,LOW,25000.00,4.0,Bob Smith\n"
+                + "Upload Client Small,BONDS,IMP-UPLOAD-SMALL,LOW,10.00,4.0,Bob Smith\n";
+        InvestmentConfig.InvestmentManagementProperties.ImportSettings settings = investmentProperties.getImporter();
+        String directory = settings.getDirectory();
+        int retainedJobs = settings.getRetainedJobs();
+        settings.setDirectory(tempDir.toString());
+        settings.setRetainedJobs(1);
+        try {
+            ImportJob first = importService.submit(new MockMultipartFile("file", "first.csv", "text/csv",
+                    csv.getBytes(StandardCharsets.UTF_8)));
+            assertTrue(first.awaitCompletion(Duration.ofSeconds(30)));
+            assertEquals(1, first.getRowsRejected());
+            Path report = importService.getRejectedFile(first.getId());
+
+            // Spring Boot: The single coordinator thread finished the first job before running the second
+            ImportJob second = importService.submit(new MockMultipartFile("file", "second.csv", "text/csv",
+                    csv.replace("IMP-UPLOAD", "IMP-UPLOAD-2").getBytes(StandardCharsets.UTF_8)));
+            assertTrue(second.awaitCompletion(Duration.ofSeconds(30)));
+            assertFalse(Files.exists(tempDir.resolve(first.getId() + ".csv")));
+            assertFalse(Files.exists(report));
+            assertTrue(Files.exists(importService.getRejectedFile(second.getId())));
+        } finally {
+            settings.setDirectory(directory);
+            settings.setRetainedJobs(retainedJobs);
+        }
+    }
+}
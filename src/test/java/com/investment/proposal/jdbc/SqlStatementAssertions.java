@@ -0,0 +1,76 @@
+package com.investment.proposal.jdbc;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Investment SQL Statement Count Assertions
+ * Spring Boot: Test helper failing the build when a service call issues more statements than expected
+ * Counts are taken on the calling thread, so the call under test must run its queries
+ * synchronously; statements from other threads and other tests never leak into the count.
+ *
+ * <pre>
+ * List&lt;InvestmentProposal&gt; proposals = SqlStatementAssertions.expectSelects(1,
+ *         () -&gt; investmentProposalService.getInvestmentProposalsByClient("Smith"));
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    /**
+     * Run a call and return the statements it executed
+     *
+     * @param call Call under test
+     * @return Statements executed by the call on this thread
+     */
+    public static SqlStatementCounts countStatements(Runnable call) {
+        SqlStatementCounts before = SqlStatisticsRecorder.currentThreadCounts();
+        call.run();
+        return SqlStatisticsRecorder.currentThreadCounts().since(before);
+    }
+
+    /**
+     * Assert a call issues exactly the given number of SELECT statements
+     *
+     * @param expected Expected SELECT statements
+     * @param call Call under test
+     * @return Result of the call
+     */
+    public static <T> T expectSelects(long expected, Supplier<T> call) {
+        return expect(SqlOperation.SELECT, expected, call);
+    }
+
+    /**
+     * Assert a call issues exactly the given number of statements of one operation
+     *
+     * @param operation SQL operation counted
+     * @param expected Expected statements
+     * @param call Call under test
+     * @return Result of the call
+     */
+    public static <T> T expect(SqlOperation operation, long expected, Supplier<T> call) {
+        SqlStatementCounts before = SqlStatisticsRecorder.currentThreadCounts();
+        T result = call.get();
+        SqlStatementCounts executed = SqlStatisticsRecorder.currentThreadCounts().since(before);
+        assertEquals(expected, executed.get(operation),
+                "Unexpected number of " + operation + " statements (" + executed + ")");
+        return result;
+    }
+
+    /**
+     * Assert a call issues no SQL at all, for paths expected to be served from a cache
+     *
+     * @param call Call under test
+     * @return Result of the call
+     */
+    public static <T> T expectNoStatements(Supplier<T> call) {
+        SqlStatementCounts before = SqlStatisticsRecorder.currentThreadCounts();
+        T result = call.get();
+        SqlStatementCounts executed = SqlStatisticsRecorder.currentThreadCounts().since(before);
+        assertEquals(0, executed.total(), "Expected no SQL statements (" + executed + ")");
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package com.investment.proposal.jdbc;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.service.InvestmentProposalService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment SQL Instrumentation Integration Tests
+ * Spring Boot: Tests for statement counts per service call, statement metrics and the slowqueries endpoint
+ */
+@SpringBootTest  // Spring Boot: Full context with the instrumented investment DataSource
+class SqlStatisticsTest {
+
+    @Autowired  // Spring Boot: Service injection for investment statement-count assertions
+    private InvestmentProposalService investmentProposalService;
+
+    @Autowired  // Spring Boot: Meter registry injection for investment SQL metrics
+    private MeterRegistry meterRegistry;
+
+    @Autowired  // Spring Boot: Actuator endpoint injection for investment SQL statistics
+    private SlowQueryEndpoint slowQueryEndpoint;
+
+    /**
+     * Test client lookups issue one query regardless of how many proposals match
+     */
+    @Test  // Spring Boot: Test method annotation for investment N+1 regression testing
+    void getByClient_ShouldIssueSingleSelect() {
+        List<InvestmentProposal> proposals = SqlStatementAssertions.expectSelects(1,
+                () -> investmentProposalService.getInvestmentProposalsByClient("a"));
+        assertTrue(proposals.size() > 1, "lookup should match several seeded proposals");
+    }
+
+    /**
+     * Test a repeated lookup by id is served by the second-level cache without SQL
+     */
+    @Test  // Spring Boot: Test method annotation for investment cached lookup testing
+    void getById_ShouldIssueNoStatementsWhenCached() {
+        Long id = investmentProposalService.getInvestmentProposalsByClient("a").get(0).getId();
+        investmentProposalService.getInvestmentProposalById(id);
+
+        InvestmentProposal cached = SqlStatementAssertions.expectNoStatements(
+                () -> investmentProposalService.getInvestmentProposalById(id));
+        assertEquals(id, cached.getId());
+    }
+
+    /**
+     * Test executions are published per normalized statement and listed by the endpoint
+     */
+    @Test  // Spring Boot: Test method annotation for investment SQL metrics testing
+    @SuppressWarnings("unchecked")
+    void statements_ShouldBeRecordedAsMetricsAndInEndpoint() {
+        SqlStatementCounts executed = SqlStatementAssertions.countStatements(
+                () -> investmentProposalService.getInvestmentProposalsByClient("Smith"));
+        assertEquals(1, executed.get(SqlOperation.SELECT), executed.toString());
+
+        Map<String, Object> body = slowQueryEndpoint.slowQueries();
+        List<Map<String, Object>> topStatements = (List<Map<String, Object>>) body.get("topStatements");
+        Map<String, Object> clientLookup = topStatements.stream()
+                .filter(statement -> ((String) statement.get("sql")).contains("upper(ip1_0.client_name) like"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("client lookup not listed: " + topStatements));
+        assertFalse(((String) clientLookup.get("sql")).contains("Smith"));
+
+        Timer timer = meterRegistry.find("investment.sql.statement")
+                .tag("statement", (String) clientLookup.get("statement"))
+                .timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+        assertNotNull(meterRegistry.find("investment.sql.connection.acquire").timer());
+        assertEquals(200L, body.get("thresholdMillis"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.investment.proposal.lock;
+
+import com.investment.proposal.scheduler.InvestmentScheduler;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Scheduler Lease Lock Integration Tests
+ * Spring Boot: Tests for lease acquisition, expiry and fencing against H2
+ */
+@SpringBootTest  // Spring Boot: Full context with the investment_scheduler_lock table
+class JdbcLeaseLockProviderTest {
+
+    @Autowired  // Spring Boot: Lease lock injection for investment scheduler lock testing
+    private JdbcLeaseLockProvider lockProvider;
+
+    @Autowired  // Spring Boot: Scheduler injection to check @SchedulerLock proxying
+    private InvestmentScheduler investmentScheduler;
+
+    /**
+     * Test a held lease excludes others and a re-acquisition fences out the old holder
+     */
+    @Test  // Spring Boot: Test method annotation for investment lease exclusion testing
+    void tryAcquire_ShouldExcludeWhileHeldAndFenceOldLeases() {
+        LeaseLock first = lockProvider.tryAcquire("test-exclusive", Duration.ofMinutes(5), Duration.ZERO).orElseThrow();
+        assertTrue(lockProvider.tryAcquire("test-exclusive", Duration.ofMinutes(5), Duration.ZERO).isEmpty());
+        lockProvider.verify(first);
+
+        lockProvider.release(first);
+        LeaseLock second = lockProvider.tryAcquire("test-exclusive", Duration.ofMinutes(5), Duration.ZERO).orElseThrow();
+
+        assertEquals(first.getFencingToken() + 1, second.getFencingToken());
+        assertThrows(LockLostException.class, () -> lockProvider.verify(first));
+        assertTrue(AopUtils.isAopProxy(investmentScheduler));
+    }
+
+    /**
+     * Test a lease of a dead holder expires after lockAtMostFor, and lockAtLeastFor outlives release
+     */
+    @Test  // Spring Boot: Test method annotation for investment lease expiry testing
+    void tryAcquire_ShouldTakeOverExpiredLeaseAndHonourLockAtLeastFor() throws InterruptedException {
+        LeaseLock abandoned = lockProvider.tryAcquire("test-expiry", Duration.ofMillis(50), Duration.ZERO).orElseThrow();
+        Thread.sleep(100);
+
+        LeaseLock takeover = lockProvider.tryAcquire("test-expiry", Duration.ofMinutes(5), Duration.ofMinutes(1)).orElseThrow();
+        assertThrows(LockLostException.class, () -> lockProvider.verify(abandoned));
+
+        lockProvider.release(takeover);
+        Optional<LeaseLock> tooSoon = lockProvider.tryAcquire("test-expiry", Duration.ofMinutes(5), Duration.ZERO);
+        assertTrue(tooSoon.isEmpty());
+    }
+}
@@ -0,0 +1,66 @@
+package com.investment.proposal.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.investment.proposal.dto.InvestmentProposalDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Money and Rate Unit Tests
+ * Spring Boot: Tests for the JSON shape, rounding and range validation of fixed-point values
+ */
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /**
+     * Test amounts and rates stay plain JSON numbers in both directions
+     */
+    @Test  // Spring Boot: Test method annotation for investment amount JSON testing
+    void json_ShouldKeepNumericShape() throws Exception {
+        InvestmentProposalDTO dto = objectMapper.readValue(
+                "{\"investmentAmount\": 50000, \"expectedReturn\": 7.5}", InvestmentProposalDTO.class);
+
+        assertEquals(5_000_000L, dto.getInvestmentAmount().getCents());
+        assertEquals(750L, dto.getExpectedReturn().getBasisPoints());
+        String json = objectMapper.writeValueAsString(dto);
+        assertTrue(json.contains("\"investmentAmount\":50000.00"), json);
+        assertTrue(json.contains("\"expectedReturn\":7.50"), json);
+    }
+
+    /**
+     * Test decimals round half up to the fixed scale and compare on the primitive value
+     */
+    @Test  // Spring Boot: Test method annotation for investment amount arithmetic testing
+    void of_ShouldRoundHalfUpAndCompareByMinorUnits() {
+        assertEquals(Money.ofCents(1235), Money.of("12.345"));
+        assertEquals(Rate.ofBasisPoints(1), Rate.of("0.005"));
+        assertTrue(Money.of("10000000.01").isGreaterThan(Money.of("10000000.00")));
+        assertEquals("1000.00", Money.of("1000").toString());
+        assertThrows(ArithmeticException.class, () -> Money.of("1e30"));
+    }
+
+    /**
+     * Test range constraints apply the same bounds as the former decimal constraints
+     */
+    @Test  // Spring Boot: Test method annotation for investment amount validation testing
+    void validation_ShouldApplyInclusiveBounds() {
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        InvestmentProposalDTO dto = new InvestmentProposalDTO();
+        dto.setInvestmentAmount(Money.of("999.99"));
+        dto.setExpectedReturn(Rate.of("100.00"));
+
+        Set<String> invalid = validator.validate(dto).stream()
+                .map(ConstraintViolation::getPropertyPath).map(Object::toString).collect(Collectors.toSet());
+
+        assertTrue(invalid.contains("investmentAmount"), invalid.toString());
+        assertFalse(invalid.contains("expectedReturn"), invalid.toString());
+    }
+}
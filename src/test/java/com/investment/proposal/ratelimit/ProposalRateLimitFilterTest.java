@@ -0,0 +1,111 @@
+package com.investment.proposal.ratelimit;
+
+import com.investment.proposal.config.InvestmentConfig.InvestmentManagementProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment API Rate Limit Filter Unit Tests
+ * Spring Boot: Tests for per-principal token-bucket admission control
+ */
+class ProposalRateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProposalRateLimitFilter filter;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        // Spring Boot: Burst of two writes with a slow refill so the third is rejected
+        InvestmentManagementProperties properties = new InvestmentManagementProperties();
+        properties.getRateLimit().setWrite(new InvestmentManagementProperties.RateLimit.Limit(2, 0.1));
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new ProposalRateLimitFilter(properties, meterRegistry);
+    }
+
+    @AfterEach  // Spring Boot: After each test annotation for security context cleanup
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    /**
+     * Test writes beyond the burst are rejected with 429 and Retry-After
+     */
+    @Test  // Spring Boot: Test method annotation for investment rate limit testing
+    void writesBeyondBurst_ShouldBeRejectedWithRetryAfter() throws Exception {
+        authenticate("alice");
+
+        assertEquals(200, post().getStatus());
+        assertEquals(200, post().getStatus());
+        MockHttpServletResponse rejected = post();
+
+        assertEquals(429, rejected.getStatus());
+        assertEquals("10", rejected.getHeader("Retry-After"));
+        assertEquals(1.0, meterRegistry.get("investment.ratelimit.throttled")
+                .tag("endpoint_class", "WRITE").counter().count());
+    }
+
+    /**
+     * Test buckets are independent per principal and per endpoint class
+     */
+    @Test  // Spring Boot: Test method annotation for investment rate limit isolation testing
+    void buckets_ShouldBeIsolatedPerPrincipalAndEndpointClass() throws Exception {
+        authenticate("alice");
+        post();
+        post();
+        assertEquals(429, post().getStatus());
+
+        // Spring Boot: Reads by the same principal use a separate bucket
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/investment-proposals"), read, new MockFilterChain());
+        assertEquals(200, read.getStatus());
+
+        // Spring Boot: Another principal is unaffected by the noisy one
+        authenticate("bob");
+        assertEquals(200, post().getStatus());
+    }
+
+    /**
+     * Test idle buckets are only dropped by the background sweep, and only past the bound
+     */
+    @Test  // Spring Boot: Test method annotation for investment rate limit eviction testing
+    void evictIdleBuckets_ShouldDropFullBucketsBeyondBound() throws Exception {
+        InvestmentManagementProperties properties = new InvestmentManagementProperties();
+        properties.getRateLimit().setMaxTrackedPrincipals(2);
+        filter = new ProposalRateLimitFilter(properties, meterRegistry);
+
+        // Spring Boot: Requests past the bound never scan the registry themselves
+        for (String user : new String[] {"alice", "bob", "carol"}) {
+            authenticate(user);
+            MockHttpServletResponse read = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/investment-proposals"), read, new MockFilterChain());
+            assertEquals(200, read.getStatus());
+        }
+        assertEquals(3, filter.trackedBuckets());
+
+        // Spring Boot: Buckets refill within 20ms at 50 tokens per second
+        Thread.sleep(50);
+        filter.evictIdleBuckets();
+        assertEquals(0, filter.trackedBuckets());
+    }
+
+    private MockHttpServletResponse post() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("POST", "/api/investment-proposals"), response, new MockFilterChain());
+        return response;
+    }
+
+    private static void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user, "password", AuthorityUtils.createAuthorityList("ROLE_INVESTMENT_MANAGER")));
+    }
+}
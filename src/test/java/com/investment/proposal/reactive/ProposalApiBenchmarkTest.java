@@ -0,0 +1,161 @@
+package com.investment.proposal.reactive;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Servlet versus Reactive Investment API Benchmark
+ * Spring Boot: Drives both list endpoints with the same concurrent load and reports
+ * in-flight connections, server threads and latency percentiles
+ * Excluded from the default build; run with mvn -Pbenchmark test
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "investment.management.reactive.enabled=true",
+        "investment.management.reactive.port=0",
+        "investment.management.rate-limit.enabled=false"
+})  // Spring Boot: Servlet and reactive investment APIs side by side on free ports
+class ProposalApiBenchmarkTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 500);
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 10000);
+
+    @LocalServerPort
+    private int servletPort;
+
+    @Autowired  // Spring Boot: Reactive server injection to find the bound investment API port
+    private ReactiveProposalServer reactiveServer;
+
+    /**
+     * Plain-text passwords so both runs measure request handling rather than BCrypt hashing
+     */
+    @TestConfiguration
+    static class BenchmarkSecurityConfig {
+
+        @Bean  // Spring Boot: Benchmark-only password encoder for the investment users
+        @SuppressWarnings("deprecation")
+        PasswordEncoder passwordEncoder() {
+            return NoOpPasswordEncoder.getInstance();
+        }
+    }
+
+    /**
+     * Compare the servlet and reactive list endpoints under the same load
+     */
+    @Test  // Spring Boot: Benchmark method for investment API stack comparison
+    void listEndpoints_ServletVersusReactive() throws Exception {
+        String path = "/investment/api/investment-proposals";
+        run("servlet", "http://localhost:" + servletPort + path, 500);
+        run("reactive", "http://localhost:" + reactiveServer.getPort() + path, 500);
+
+        Result servlet = run("servlet", "http://localhost:" + servletPort + path, REQUESTS);
+        Result reactive = run("reactive", "http://localhost:" + reactiveServer.getPort() + path, REQUESTS);
+        System.out.println(servlet);
+        System.out.println(reactive);
+        assertEquals(0, servlet.failures);
+        assertEquals(0, reactive.failures);
+    }
+
+    /**
+     * Issue requests with at most CONCURRENCY in flight
+     */
+    private Result run(String name, String url, int requests) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .header("Accept", "application/json")
+                .header("Authorization", "Basic " + Base64.getEncoder()
+                        .encodeToString("admin:password".getBytes(StandardCharsets.UTF_8)))
+                .build();
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        int baselineThreads = threads.getThreadCount();
+
+        Semaphore permits = new Semaphore(CONCURRENCY);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[requests];
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[requests];
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            permits.acquire();
+            int index = i;
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            long sent = System.nanoTime();
+            calls[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[index] = System.nanoTime() - sent;
+                        if (error != null || response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                        inFlight.decrementAndGet();
+                        permits.release();
+                    });
+        }
+        CompletableFuture.allOf(calls).exceptionally(error -> null).join();
+        long elapsed = System.nanoTime() - started;
+        Arrays.sort(latencies);
+        return new Result(name, requests, peakInFlight.get(), threads.getPeakThreadCount() - baselineThreads,
+                failures.get(), elapsed, latencies);
+    }
+
+    /**
+     * Latency percentiles and concurrency of one run
+     */
+    private static final class Result {
+        private final String name;
+        private final int requests;
+        private final int peakConnections;
+        private final int addedThreads;
+        private final int failures;
+        private final long elapsedNanos;
+        private final long[] sortedLatencies;
+
+        private Result(String name, int requests, int peakConnections, int addedThreads, int failures,
+                       long elapsedNanos, long[] sortedLatencies) {
+            this.name = name;
+            this.requests = requests;
+            this.peakConnections = peakConnections;
+            this.addedThreads = addedThreads;
+            this.failures = failures;
+            this.elapsedNanos = elapsedNanos;
+            this.sortedLatencies = sortedLatencies;
+        }
+
+        private double percentileMillis(double percentile) {
+            int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-8s requests=%d peakConnections=%d addedThreads=%d failures=%d "
+                            + "throughput=%.0f/s p50=%.1fms p99=%.1fms p999=%.1fms max=%.1fms",
+                    name, requests, peakConnections, addedThreads, failures,
+                    requests / (elapsedNanos / 1_000_000_000.0), percentileMillis(0.50), percentileMillis(0.99),
+                    percentileMillis(0.999), percentileMillis(1.0));
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.investment.proposal.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Reactive Investment API Integration Tests
+ * Spring Boot: Tests for the WebFlux and R2DBC proposal routes over real HTTP
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "investment.management.reactive.enabled=true",
+        "investment.management.reactive.port=0"
+})  // Spring Boot: Servlet and reactive investment APIs side by side on free ports
+class ReactiveProposalApiTest {
+
+    @Autowired  // Spring Boot: Reactive server injection to find the bound investment API port
+    private ReactiveProposalServer reactiveServer;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    /**
+     * Test list streaming as JSON and NDJSON, lookups, aggregates and error mapping
+     */
+    @Test  // Spring Boot: Test method annotation for reactive investment API testing
+    void reactiveApi_ShouldMirrorServletEndpoints() throws Exception {
+        HttpResponse<String> list = get("", "application/json", true);
+        assertEquals(200, list.statusCode());
+        assertTrue(list.body().startsWith("["), list.body());
+        assertTrue(list.body().contains("\"assignedAdvisor\""), list.body());
+
+        HttpResponse<String> ndjson = get("", "application/x-ndjson", true);
+        assertEquals(200, ndjson.statusCode());
+        List<String> lines = ndjson.body().lines().toList();
+        assertFalse(lines.isEmpty());
+        assertTrue(lines.stream().allMatch(line -> line.startsWith("{\"id\":")), ndjson.body());
+
+        HttpResponse<String> first = get("/1", "application/json", true);
+        assertEquals(200, first.statusCode());
+        assertTrue(first.body().contains("\"id\":1"), first.body());
+
+        HttpResponse<String> missing = get("/999999", "application/json", true);
+        assertEquals(404, missing.statusCode());
+        assertTrue(missing.body().contains("Investment proposal not found with ID: 999999"), missing.body());
+
+        HttpResponse<String> summary = get("/portfolio/summary", "application/json", true);
+        assertEquals(200, summary.statusCode());
+        assertTrue(summary.body().contains("\"LOW\""), summary.body());
+
+        HttpResponse<String> page = get("/paginated?page=0&size=2", "application/json", true);
+        assertEquals(200, page.statusCode());
+        assertTrue(page.body().contains("\"totalElements\""), page.body());
+
+        assertEquals(401, get("", "application/json", false).statusCode());
+    }
+
+    private HttpResponse<String> get(String path, String accept, boolean authenticated) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + reactiveServer.getPort()
+                        + "/investment/api/investment-proposals" + path))
+                .header("Accept", accept);
+        if (authenticated) {
+            request.header("Authorization", "Basic " + Base64.getEncoder()
+                    .encodeToString("admin:password".getBytes(StandardCharsets.UTF_8)));
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,99 @@
+package com.investment.proposal.reference;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.Advisor;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.InvestmentType;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.exception.UnknownReferenceDataException;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.repository.InvestmentProposalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Reference Data Integration Tests
+ * Spring Boot: Tests for foreign key resolution of advisors and investment types
+ */
+@SpringBootTest  // Spring Boot: Full context with H2 seed data for reference data testing
+class ReferenceDataDictionaryTest {
+
+    @Autowired  // Spring Boot: Repository injection for investment persistence testing
+    private InvestmentProposalRepository investmentProposalRepository;
+
+    @Autowired  // Spring Boot: Dictionary injection for investment reference lookups
+    private ReferenceDataDictionary dictionary;
+
+    /**
+     * Test names are stored as foreign keys and resolved to shared instances on load
+     */
+    @Test  // Spring Boot: Test method annotation for investment reference round trip testing
+    void saveAndLoad_ShouldStoreIdsAndShareDictionaryNames() {
+        InvestmentProposal saved = investmentProposalRepository.save(new InvestmentProposal("REF-001", "Ref Client",
+                Money.of("20000.00"), Rate.of("4.0"), RiskLevel.LOW, "BONDS", "Bob Smith"));
+
+        assertEquals(dictionary.advisorByName("Bob Smith").getId(), saved.getAdvisorId());
+        assertEquals(dictionary.investmentTypeByCode("BONDS").getId(), saved.getInvestmentTypeId());
+
+        List<InvestmentProposal> byAdvisor = investmentProposalRepository.findByAdvisorId(saved.getAdvisorId());
+        InvestmentProposal loaded = byAdvisor.stream()
+                .filter(p -> p.getProposalReference().equals("REF-001")).findFirst().orElseThrow();
+        assertSame(dictionary.advisor(saved.getAdvisorId()).getName(), loaded.getAssignedAdvisor());
+        assertEquals("BONDS", loaded.getInvestmentType());
+        investmentProposalRepository.delete(loaded);
+    }
+
+    /**
+     * Test unknown advisor names are rejected before insert
+     */
+    @Test  // Spring Boot: Test method annotation for investment reference validation testing
+    void save_WithUnknownAdvisor_ShouldThrow() {
+        InvestmentProposal proposal = new InvestmentProposal("REF-002", "Ref Client",
+                Money.of("20000.00"), Rate.of("4.0"), RiskLevel.LOW, "BONDS", "Nobody Known");
+
+        assertThrows(UnknownReferenceDataException.class, () -> investmentProposalRepository.save(proposal));
+    }
+
+    /**
+     * Test unknown names fail without a reload and unknown ids reload at most once per interval
+     */
+    @Test  // Spring Boot: Test method annotation for investment reference reload limiting
+    @SuppressWarnings("unchecked")
+    void lookups_ShouldNotReloadOnUnknownNamesAndRateLimitIdMisses() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.query(contains("investment_advisors"), any(RowMapper.class)))
+                .thenReturn(List.of(new Advisor(1L, "Alice Johnson", "alice@example.com", "Equities", null)));
+        when(jdbcTemplate.query(contains("investment_types"), any(RowMapper.class)))
+                .thenReturn(List.of(new InvestmentType(1L, "STOCKS", "Stocks")));
+        InvestmentConfig.InvestmentManagementProperties investmentProperties =
+                new InvestmentConfig.InvestmentManagementProperties();
+        ReferenceDataDictionary isolated = new ReferenceDataDictionary();
+        ReflectionTestUtils.setField(isolated, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(isolated, "investmentProperties", investmentProperties);
+
+        for (int i = 0; i < 50; i++) {
+            assertThrows(UnknownReferenceDataException.class, () -> isolated.advisorByName("Nobody Known"));
+            assertThrows(UnknownReferenceDataException.class, () -> isolated.investmentTypeByCode("GOLD"));
+            assertThrows(IllegalStateException.class, () -> isolated.advisor(99L));
+        }
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class));
+
+        investmentProperties.getReferenceData().setMinReloadInterval(Duration.ZERO);
+        assertThrows(IllegalStateException.class, () -> isolated.investmentType(99L));
+        verify(jdbcTemplate, times(4)).query(anyString(), any(RowMapper.class));
+    }
+}
@@ -0,0 +1,78 @@
+package com.investment.proposal.report;
+
+import com.investment.proposal.repository.InvestmentProposalRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Weekly Investment Report Integration Tests
+ * Spring Boot: Tests for single-pass report files and their download over HTTP
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)  // Spring Boot: Real Tomcat for sendfile downloads
+class WeeklyReportGeneratorTest {
+
+    @Autowired  // Spring Boot: Report generator injection for investment report testing
+    private WeeklyReportGenerator reportGenerator;
+
+    @Autowired  // Spring Boot: Repository injection for investment row counts
+    private InvestmentProposalRepository investmentProposalRepository;
+
+    @Autowired  // Spring Boot: Test REST client bound to the random investment server port
+    private TestRestTemplate restTemplate;
+
+    /**
+     * Test every proposal lands in the CSV, columnar and summary files
+     */
+    @Test  // Spring Boot: Test method annotation for investment report content testing
+    void generate_ShouldWriteAllProposalsInEveryFormat() throws IOException {
+        long proposals = investmentProposalRepository.count();
+        List<ReportFile> files = reportGenerator.generate("test-portfolio-report");
+        assertEquals(3, files.size());
+
+        List<String> csv = Files.readAllLines(reportGenerator.resolve("test-portfolio-report.csv"));
+        assertEquals(CsvReportWriter.HEADER.trim(), csv.get(0));
+        assertEquals(proposals + 1, csv.size());
+
+        ByteBuffer columnar = ByteBuffer.wrap(Files.readAllBytes(reportGenerator.resolve("test-portfolio-report.ipc")));
+        byte[] trailer = Arrays.copyOfRange(columnar.array(), columnar.limit() - 4, columnar.limit());
+        assertArrayEquals(ColumnarReportWriter.MAGIC, trailer);
+        int footerLength = columnar.getInt(columnar.limit() - 8);
+        assertEquals(proposals, columnar.getLong(columnar.limit() - 8 - Long.BYTES));
+        assertEquals(4 + 8 + 8, footerLength);  // one row group offset for the seed data
+
+        Path summary = reportGenerator.resolve("test-portfolio-report-summary.csv");
+        assertTrue(Files.readString(summary, StandardCharsets.UTF_8).contains("TOTAL,ALL," + proposals + ","));
+    }
+
+    /**
+     * Test the download endpoint serves the exact file bytes and hides unknown names
+     */
+    @Test  // Spring Boot: Test method annotation for investment report download testing
+    void downloadReport_ShouldServeFileBytes() throws IOException {
+        reportGenerator.generate("test-download-report");
+        byte[] expected = Files.readAllBytes(reportGenerator.resolve("test-download-report.ipc"));
+
+        ResponseEntity<byte[]> response = restTemplate.withBasicAuth("admin", "password")
+                .getForEntity("/api/reports/test-download-report.ipc", byte[].class);
+        ResponseEntity<String> missing = restTemplate.withBasicAuth("admin", "password")
+                .getForEntity("/api/reports/no-such-report.csv", String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertArrayEquals(expected, response.getBody());
+        assertEquals(HttpStatus.NOT_FOUND, missing.getStatusCode());
+    }
+}
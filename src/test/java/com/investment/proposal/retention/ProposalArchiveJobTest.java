@@ -0,0 +1,82 @@
+package com.investment.proposal.retention;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Retention Job Integration Tests
+ * Spring Boot: Tests for chunked archiving and checkpoint resume against H2
+ */
+@SpringBootTest(properties = {
+        "investment.management.retention.enabled=false",  // Spring Boot: Keep the scheduler from racing the test
+        "investment.management.retention.chunk-size=2",
+        "investment.management.retention.max-rows-per-second=100000",
+        // Spring Boot: Private database, so closing this context cannot drop tables other contexts use
+        "spring.datasource.url=jdbc:h2:mem:archive-test"
+})
+@DirtiesContext  // Spring Boot: Archiving removes rows other integration tests rely on
+class ProposalArchiveJobTest {
+
+    @Autowired  // Spring Boot: JDBC injection for investment fixture rows
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired  // Spring Boot: Retention job injection for investment archiving testing
+    private ProposalArchiveJob proposalArchiveJob;
+
+    /**
+     * Test a pass resumed from a checkpoint finishes the tail, and the next pass picks up the rest
+     */
+    @Test  // Spring Boot: Test method annotation for investment retention resume testing
+    void run_ShouldResumeFromCheckpointAndArchiveInChunks() {
+        long liveBefore = count("investment_proposals");
+        LocalDateTime twoYearsAgo = LocalDateTime.now().minusYears(2);
+        List<Long> aged = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            aged.add(insert("ARC-" + i, twoYearsAgo, i % 2 == 0));
+        }
+        insert("ARC-RECENT", LocalDateTime.now().minusDays(1), false);
+
+        // Spring Boot: Simulate a crash after the chunk ending at the second aged row committed
+        jdbcTemplate.update("INSERT INTO investment_retention_checkpoint"
+                        + " (job_name, last_id, pass_started_at, archived_total, updated_at) VALUES (?, ?, ?, 2, ?)",
+                ProposalArchiveJob.JOB_NAME, aged.get(1), Timestamp.valueOf(LocalDateTime.now()),
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        ArchiveRunResult resumed = proposalArchiveJob.run();
+        assertTrue(resumed.isPassCompleted());
+        assertEquals(3, resumed.getArchived());
+        assertEquals(2, resumed.getChunks());
+        assertEquals(3, count("investment_proposals_archive"));
+
+        ArchiveRunResult nextPass = proposalArchiveJob.run();
+        assertEquals(2, nextPass.getArchived());
+        assertEquals(5, count("investment_proposals_archive"));
+        assertEquals(liveBefore + 1, count("investment_proposals"));
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT last_id FROM investment_retention_checkpoint WHERE job_name = ?", Long.class,
+                ProposalArchiveJob.JOB_NAME));
+    }
+
+    private long insert(String reference, LocalDateTime createdAt, boolean approved) {
+        jdbcTemplate.update("INSERT INTO investment_proposals (proposal_reference, client_name, investment_amount,"
+                        + " expected_return, risk_level, investment_type_id, advisor_id, created_at, approved)"
+                        + " VALUES (?, 'Archive Client', 10000.00, 4.0, 'LOW', 2, 2, ?, ?)",
+                reference, Timestamp.valueOf(createdAt), approved);
+        return jdbcTemplate.queryForObject("SELECT id FROM investment_proposals WHERE proposal_reference = ?",
+                Long.class, reference);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -0,0 +1,130 @@
+package com.investment.proposal.risk;
+
+import com.investment.proposal.config.InvestmentConfig;
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.exception.InvalidRiskSimulationException;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.service.InvestmentProposalService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Investment Monte Carlo Risk Engine Unit Tests
+ * Spring Boot: Tests for simulated VaR and ES against closed-form values and seed reproducibility
+ */
+class MonteCarloRiskEngineTest {
+
+    @Mock  // Spring Boot: Mock annotation for investment service testing
+    private InvestmentProposalService investmentProposalService;
+
+    @Spy  // Spring Boot: Real investment properties with default volatilities
+    private InvestmentConfig.InvestmentManagementProperties investmentProperties =
+            new InvestmentConfig.InvestmentManagementProperties();
+
+    @InjectMocks  // Spring Boot: Inject mocks annotation for risk engine testing
+    private MonteCarloRiskEngine riskEngine;
+
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        riskEngine.init();
+    }
+
+    @AfterEach  // Spring Boot: After each test annotation for pool shutdown
+    void tearDown() {
+        riskEngine.shutdown();
+    }
+
+    /**
+     * Test a single position converges to the normal VaR and ES of its horizon return
+     */
+    @Test  // Spring Boot: Test method annotation for investment VaR accuracy testing
+    void simulation_ShouldMatchClosedFormForSinglePosition() throws Exception {
+        when(investmentProposalService.getAllInvestmentProposals()).thenReturn(List.of(
+                proposal(1L, "100000.00", "10.0", RiskLevel.HIGH, "STOCKS", "Alice Johnson", true),
+                proposal(2L, "900000.00", "5.0", RiskLevel.LOW, "BONDS", "Bob Smith", false)));
+
+        RiskSimulationJob job = run(200_000, 0.99, 10, 42L);
+
+        // Spring Boot: Horizon drift and deviation of 100,000 at 10% return and 30% volatility over 10 of 252 days
+        double drift = 100_000 * 0.10 * 10 / 252;
+        double deviation = 100_000 * 0.30 * Math.sqrt(10.0 / 252);
+        double var = 2.326348 * deviation - drift;
+        double es = deviation * 0.026652 / 0.01 - drift;
+        RiskMeasure portfolio = job.getResult().getPortfolio();
+        assertEquals(1, portfolio.getProposals());
+        assertEquals(0, new BigDecimal("100000.00").compareTo(portfolio.getExposure()));
+        assertEquals(var, portfolio.getValueAtRisk().doubleValue(), var * 0.03);
+        assertEquals(es, portfolio.getExpectedShortfall().doubleValue(), es * 0.03);
+        assertEquals(200_000, job.getPathsSimulated());
+        assertEquals(100.0, job.getPercentComplete());
+    }
+
+    /**
+     * Test slices per advisor and type, and that a seed reproduces the run exactly
+     */
+    @Test  // Spring Boot: Test method annotation for investment VaR breakdown testing
+    void simulation_ShouldBreakDownBySliceAndReproduceWithSeed() throws Exception {
+        when(investmentProposalService.getAllInvestmentProposals()).thenReturn(List.of(
+                proposal(1L, "250000.00", "8.0", RiskLevel.HIGH, "STOCKS", "Alice Johnson", true),
+                proposal(2L, "400000.00", "4.0", RiskLevel.LOW, "BONDS", "Alice Johnson", true),
+                proposal(3L, "150000.00", "6.0", RiskLevel.MEDIUM, "STOCKS", "Bob Smith", true)));
+
+        RiskSimulationResult first = run(50_000, 0.975, 5, 7L).getResult();
+        RiskSimulationResult second = run(50_000, 0.975, 5, 7L).getResult();
+
+        assertEquals(List.of("Alice Johnson", "Bob Smith"),
+                first.getByAdvisor().stream().map(RiskMeasure::getGroup).toList());
+        assertEquals(List.of("BONDS", "STOCKS"),
+                first.getByInvestmentType().stream().map(RiskMeasure::getGroup).toList());
+        assertEquals(2, first.getByInvestmentType().get(1).getProposals());
+        for (RiskMeasure measure : first.getByAdvisor()) {
+            assertTrue(measure.getExpectedShortfall().compareTo(measure.getValueAtRisk()) >= 0);
+        }
+        // Spring Boot: Normal losses are sub-additive, so the book is no riskier than its advisors together
+        BigDecimal advisorSum = first.getByAdvisor().get(0).getValueAtRisk()
+                .add(first.getByAdvisor().get(1).getValueAtRisk());
+        assertTrue(first.getPortfolio().getValueAtRisk().compareTo(advisorSum) <= 0);
+        assertEquals(first.getPortfolio().getValueAtRisk(), second.getPortfolio().getValueAtRisk());
+        assertEquals(first.getPortfolio().getExpectedShortfall(), second.getPortfolio().getExpectedShortfall());
+    }
+
+    /**
+     * Test out-of-range parameters are rejected before a job is queued
+     */
+    @Test  // Spring Boot: Test method annotation for investment risk validation testing
+    void submit_ShouldRejectInvalidConfidence() {
+        assertThrows(InvalidRiskSimulationException.class, () -> riskEngine.submit(1000, 1.0, 10, 1L));
+        assertTrue(riskEngine.getJobs().isEmpty());
+    }
+
+    private RiskSimulationJob run(int paths, double confidence, int horizonDays, long seed) throws InterruptedException {
+        RiskSimulationJob job = riskEngine.submit(paths, confidence, horizonDays, seed);
+        assertTrue(job.awaitCompletion(Duration.ofSeconds(30)));
+        assertEquals(RiskSimulationState.COMPLETED, job.getState(), job.getError());
+        return job;
+    }
+
+    private static InvestmentProposal proposal(Long id, String amount, String expectedReturn, RiskLevel riskLevel,
+                                               String type, String advisor, boolean approved) {
+        InvestmentProposal proposal = new InvestmentProposal("RISK-" + id, "Risk Client", Money.of(amount),
+                Rate.of(expectedReturn), riskLevel, type, advisor);
+        proposal.setId(id);
+        proposal.setApproved(approved);
+        return proposal;
+    }
+}
@@ -0,0 +1,32 @@
+package com.investment.proposal.search;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hibernate statement inspector recording the SQL generated on the calling thread
+ * Spring Boot: Test helper so query-plan assertions run EXPLAIN on the exact generated SQL
+ */
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final ThreadLocal<List<String>> CAPTURED = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        CAPTURED.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * Run a call and return the SQL Hibernate generated for it
+     */
+    static List<String> capture(Runnable call) {
+        CAPTURED.get().clear();
+        call.run();
+        List<String> sql = new ArrayList<>(CAPTURED.get());
+        CAPTURED.get().clear();
+        return sql;
+    }
+}
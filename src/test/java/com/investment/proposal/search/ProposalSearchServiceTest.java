@@ -0,0 +1,135 @@
+package com.investment.proposal.search;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.exception.InvalidSearchRequestException;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import com.investment.proposal.repository.InvestmentProposalRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Multi-Criteria Search Integration Tests
+ * Spring Boot: Tests for combined filters, keyset pagination and composite index usage
+ */
+@SpringBootTest(properties = {  // Spring Boot: Own database since the statement inspector needs its own context
+        "spring.datasource.url=jdbc:h2:mem:search-test",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.investment.proposal.search.CapturingStatementInspector"
+})
+class ProposalSearchServiceTest {
+
+    @Autowired  // Spring Boot: Search service injection for investment search testing
+    private ProposalSearchService searchService;
+
+    @Autowired  // Spring Boot: Repository injection for investment search fixtures
+    private InvestmentProposalRepository investmentProposalRepository;
+
+    @Autowired  // Spring Boot: JDBC injection for EXPLAIN query plans
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<InvestmentProposal> fixtures = new ArrayList<>();
+
+    @AfterEach
+    void removeFixtures() {
+        investmentProposalRepository.deleteAll(fixtures);
+        fixtures.clear();
+    }
+
+    /**
+     * Test keyset pages cover every match exactly once, including rows with equal sort values
+     */
+    @Test  // Spring Boot: Test method annotation for investment keyset pagination testing
+    void search_ShouldPageThroughMatchesWithCursor() {
+        String[] amounts = {"20000.00", "35000.00", "35000.00", "35000.00", "50000.00", "75000.00", "90000.00"};
+        for (int i = 0; i < amounts.length; i++) {
+            fixture("SRCH-" + i, Money.of(amounts[i]), i % 2 == 0);
+        }
+        fixture("SRCH-OUT", Money.of("80000.00"), true).setExpectedReturn(Rate.of("43.00"));
+        investmentProposalRepository.saveAll(fixtures);
+
+        ProposalSearchCriteria criteria = new ProposalSearchCriteria();
+        criteria.setRiskLevel(List.of(RiskLevel.HIGH));
+        criteria.setInvestmentType("ETF");
+        criteria.setAssignedAdvisor("Carol Davis");
+        criteria.setMinReturn(Rate.of("41.00"));
+        criteria.setMaxReturn(Rate.of("42.00"));
+        criteria.setSort(ProposalSearchSort.LARGEST);
+        criteria.setSize(3);
+
+        List<Money> seen = new ArrayList<>();
+        Set<Long> ids = new HashSet<>();
+        int pages = 0;
+        ProposalSearchResult result;
+        do {
+            result = searchService.search(criteria);
+            pages++;
+            for (InvestmentProposal proposal : result.getContent()) {
+                assertTrue(ids.add(proposal.getId()), "proposal returned twice: " + proposal.getId());
+                seen.add(proposal.getInvestmentAmount());
+            }
+            criteria.setCursor(result.getNextCursor());
+        } while (result.isHasNext());
+
+        assertEquals(3, pages);
+        assertEquals(List.of(Money.of("90000.00"), Money.of("75000.00"), Money.of("50000.00"),
+                Money.of("35000.00"), Money.of("35000.00"), Money.of("35000.00"),
+                Money.of("20000.00")), seen);
+
+        criteria.setCursor(null);
+        criteria.setApproved(true);
+        criteria.setSize(null);
+        assertEquals(4, searchService.search(criteria).getContent().size());
+
+        criteria.setCursor(ProposalSearchCursor.after(ProposalSearchSort.ID, fixtures.get(0)).encode());
+        assertThrows(InvalidSearchRequestException.class, () -> searchService.search(criteria));
+    }
+
+    /**
+     * Test the common filter combinations are served by their composite indexes
+     */
+    @Test  // Spring Boot: Test method annotation for investment query plan testing
+    void search_ShouldUseCompositeIndexesForCommonFilters() {
+        ProposalSearchCriteria riskAndStatus = new ProposalSearchCriteria();
+        riskAndStatus.setRiskLevel(List.of(RiskLevel.HIGH));
+        riskAndStatus.setApproved(false);
+        assertPlanUses(riskAndStatus, "IDX_INVESTMENT_PROPOSALS_RISK_STATUS", "HIGH", false, 21);
+
+        ProposalSearchCriteria advisorWorklist = new ProposalSearchCriteria();
+        advisorWorklist.setAssignedAdvisor("Bob Smith");
+        advisorWorklist.setApproved(false);
+        assertPlanUses(advisorWorklist, "IDX_INVESTMENT_PROPOSALS_ADVISOR_STATUS", 2L, false, 21);
+
+        ProposalSearchCriteria typeAndAmount = new ProposalSearchCriteria();
+        typeAndAmount.setInvestmentType("BONDS");
+        typeAndAmount.setMinAmount(Money.of("50000.00"));
+        assertPlanUses(typeAndAmount, "IDX_INVESTMENT_PROPOSALS_TYPE_AMOUNT", 2L, new BigDecimal("50000.00"), 21);
+    }
+
+    private void assertPlanUses(ProposalSearchCriteria criteria, String index, Object... parameters) {
+        List<String> sql = CapturingStatementInspector.capture(() -> searchService.search(criteria));
+        assertEquals(1, sql.size(), sql.toString());
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql.get(0), String.class, parameters);
+        assertTrue(plan.toUpperCase().contains(index), plan);
+    }
+
+    private InvestmentProposal fixture(String reference, Money amount, boolean approved) {
+        InvestmentProposal proposal = new InvestmentProposal(reference, "Search Client", amount,
+                Rate.of("41.50"), RiskLevel.HIGH, "ETF", "Carol Davis");
+        proposal.setApproved(approved);
+        fixtures.add(proposal);
+        return proposal;
+    }
+}
@@ -1,9 +1,14 @@
 package com.investment.proposal.service;
 
+import com.investment.proposal.assignment.AdvisorAssignmentEngine;
+import com.investment.proposal.identity.ProposalReferenceGenerator;
+import com.investment.proposal.identity.ProposalReferenceIndex;
 import com.investment.proposal.config.InvestmentConfig;
 import com.investment.proposal.entity.InvestmentProposal;
 import com.investment.proposal.entity.RiskLevel;
 import com.investment.proposal.exception.InvestmentProposalNotFoundException;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
 import com.investment.proposal.repository.InvestmentProposalRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,7 +17,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.ApplicationEventPublisher;
 
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -58,6 +62,23 @@ class InvestmentProposalServiceTest {
     // Creates mock ApplicationEventPublisher for unit testing
     private ApplicationEventPublisher eventPublisher;
 
+    /**
+     * Mock advisor assignment engine for testing investment creation
+     * Spring Boot: Mock engine; test proposals already name their advisor
+     */
+    @Mock  // Spring Boot: Mock annotation for advisor assignment testing
+    private AdvisorAssignmentEngine advisorAssignmentEngine;
+
+    /**
+     * Mock investment reference index and generator for testing investment creation
+     * Spring Boot: Mock components; the mocked index reports every reference as new
+     */
+    @Mock  // Spring Boot: Mock annotation for reference pre-check testing
+    private ProposalReferenceIndex proposalReferenceIndex;
+
+    @Mock  // Spring Boot: Mock annotation for reference generator testing
+    private ProposalReferenceGenerator proposalReferenceGenerator;
+
     /**
      * Mock investment async service for testing background processing operations
      * Spring Boot: Mock async service for investment service testing and validation
@@ -93,7 +114,7 @@ class InvestmentProposalServiceTest {
 
         // Spring Boot: Configure mock investment properties for testing
         // Sets up investment configuration for investment service unit tests
-        when(investmentProperties.getMaxInvestmentAmount()).thenReturn(new BigDecimal("10000000.00"));
+        when(investmentProperties.getMaxInvestmentAmount()).thenReturn(Money.of("10000000.00"));
     }
 
     /**
@@ -108,8 +129,8 @@ class InvestmentProposalServiceTest {
         // Spring Boot: Create test investment proposal for creation testing
         // Sets up valid investment proposal data for investment service testing
         InvestmentProposal proposal = new InvestmentProposal(
-                "INV-001", "John Doe", new BigDecimal("50000.00"),
-                new BigDecimal("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
+                "INV-001", "John Doe", Money.of("50000.00"),
+                Rate.of("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
 
         // Spring Boot: Configure mock repository behavior for investment creation
         // Sets up mock repository to return saved investment proposal for testing
@@ -123,8 +144,9 @@ class InvestmentProposalServiceTest {
         // Validates investment service behavior and repository interactions
         assertNotNull(result);
         assertEquals("INV-001", result.getProposalReference());
+        verify(advisorAssignmentEngine, times(1)).assignIfUnassigned(proposal);
         verify(investmentProposalRepository, times(1)).save(proposal);
-        verify(eventPublisher, times(1)).publishEvent(any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
     }
 
     /**
@@ -139,8 +161,8 @@ class InvestmentProposalServiceTest {
         // Spring Boot: Create test investment proposal with excessive amount
         // Sets up invalid investment proposal data for investment service testing
         InvestmentProposal proposal = new InvestmentProposal(
-                "INV-002", "Jane Smith", new BigDecimal("15000000.00"),
-                new BigDecimal("12.0"), RiskLevel.HIGH, "REAL_ESTATE", "Carol Davis");
+                "INV-002", "Jane Smith", Money.of("15000000.00"),
+                Rate.of("12.0"), RiskLevel.HIGH, "REAL_ESTATE", "Carol Davis");
 
         // Spring Boot: Execute investment proposal creation and verify exception
         // Tests investment service validation with excessive investment amounts
@@ -166,10 +188,10 @@ class InvestmentProposalServiceTest {
         // Spring Boot: Create test investment proposals for retrieval testing
         // Sets up investment proposal data for investment service portfolio testing
         List<InvestmentProposal> proposals = Arrays.asList(
-                new InvestmentProposal("INV-001", "John Doe", new BigDecimal("50000.00"),
-                        new BigDecimal("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson"),
-                new InvestmentProposal("INV-002", "Jane Smith", new BigDecimal("100000.00"),
-                        new BigDecimal("12.0"), RiskLevel.HIGH, "REAL_ESTATE", "Carol Davis")
+                new InvestmentProposal("INV-001", "John Doe", Money.of("50000.00"),
+                        Rate.of("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson"),
+                new InvestmentProposal("INV-002", "Jane Smith", Money.of("100000.00"),
+                        Rate.of("12.0"), RiskLevel.HIGH, "REAL_ESTATE", "Carol Davis")
         );
 
         // Spring Boot: Configure mock repository behavior for investment retrieval
@@ -198,8 +220,8 @@ class InvestmentProposalServiceTest {
         // Spring Boot: Create test investment proposal for ID retrieval testing
         // Sets up investment proposal data for investment service ID-based testing
         InvestmentProposal proposal = new InvestmentProposal(
-                "INV-001", "John Doe", new BigDecimal("50000.00"),
-                new BigDecimal("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
+                "INV-001", "John Doe", Money.of("50000.00"),
+                Rate.of("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
 
         // Spring Boot: Configure mock repository behavior for investment ID retrieval
         // Sets up mock repository to return specific investment proposal for testing
@@ -251,8 +273,8 @@ class InvestmentProposalServiceTest {
         // Spring Boot: Create test investment proposal for approval status testing
         // Sets up investment proposal data for investment service approval testing
         InvestmentProposal proposal = new InvestmentProposal(
-                "INV-001", "John Doe", new BigDecimal("50000.00"),
-                new BigDecimal("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
+                "INV-001", "John Doe", Money.of("50000.00"),
+                Rate.of("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
 
         // Spring Boot: Configure mock repository behavior for investment approval
         // Sets up mock repository interactions for investment service approval testing
@@ -268,7 +290,7 @@ class InvestmentProposalServiceTest {
         assertTrue(result.getApproved());
         verify(investmentProposalRepository, times(1)).findById(1L);
         verify(investmentProposalRepository, times(1)).save(proposal);
-        verify(eventPublisher, times(1)).publishEvent(any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
     }
 
     /**
@@ -283,8 +305,8 @@ class InvestmentProposalServiceTest {
         // Spring Boot: Create test investment proposal for deletion testing
         // Sets up investment proposal data for investment service deletion testing
         InvestmentProposal proposal = new InvestmentProposal(
-                "INV-001", "John Doe", new BigDecimal("50000.00"),
-                new BigDecimal("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
+                "INV-001", "John Doe", Money.of("50000.00"),
+                Rate.of("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
 
         // Spring Boot: Configure mock repository behavior for investment deletion
         // Sets up mock repository interactions for investment service deletion testing
@@ -298,7 +320,7 @@ class InvestmentProposalServiceTest {
         // Validates investment service behavior and repository interactions
         verify(investmentProposalRepository, times(1)).findById(1L);
         verify(investmentProposalRepository, times(1)).delete(proposal);
-        verify(eventPublisher, times(1)).publishEvent(any());
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
     }
 
     /**
@@ -313,8 +335,8 @@ class InvestmentProposalServiceTest {
         // Spring Boot: Create test investment proposals for client retrieval testing
         // Sets up client-specific investment proposal data for investment service testing
         List<InvestmentProposal> proposals = Arrays.asList(
-                new InvestmentProposal("INV-001", "John Doe", new BigDecimal("50000.00"),
-                        new BigDecimal("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson")
+                new InvestmentProposal("INV-001", "John Doe", Money.of("50000.00"),
+                        Rate.of("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson")
         );
 
         // Spring Boot: Configure mock repository behavior for client-based retrieval
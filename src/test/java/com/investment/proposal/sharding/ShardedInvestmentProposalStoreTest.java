@@ -0,0 +1,172 @@
+package com.investment.proposal.sharding;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sharded Investment Proposal Store Unit Tests
+ * Spring Boot: Tests for shard routing and scatter-gather queries
+ * Uses three independent in-memory H2 databases as investment shards
+ */
+class ShardedInvestmentProposalStoreTest {
+
+    private static final int SHARD_COUNT = 3;
+
+    /**
+     * Sharded investment proposal store under test
+     */
+    private ShardedInvestmentProposalStore store;
+
+    /**
+     * Investment shard datasources, used to inspect where rows were written
+     */
+    private List<DataSource> dataSources;
+
+    /**
+     * Setup method creating fresh H2 investment shards for every test
+     */
+    @BeforeEach  // Spring Boot: Before each test annotation for setup
+    void setUp() {
+        // Spring Boot: Create uniquely named in-memory databases so tests stay isolated
+        dataSources = new ArrayList<>();
+        String run = UUID.randomUUID().toString();
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            dataSources.add(new DriverManagerDataSource(
+                    "jdbc:h2:mem:shard" + shard + "_" + run + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(SHARD_COUNT);
+        store = new ShardedInvestmentProposalStore(dataSources,
+                HashShardRoutingStrategy.forRoutingKey("PROPOSAL_REFERENCE"), executor, 5000);
+        store.initializeSchema();
+    }
+
+    @AfterEach  // Spring Boot: After each test annotation for cleanup
+    void tearDown() {
+        store.shutdown();
+    }
+
+    /**
+     * Test point lookups are routed back to the shard that stored the proposal
+     */
+    @Test  // Spring Boot: Test method annotation for investment shard routing
+    void save_ThenFindById_ShouldRouteToOwningShard() {
+        InvestmentProposal saved = store.save(proposal("INV-001", "50000.00", RiskLevel.MEDIUM));
+
+        Optional<InvestmentProposal> found = store.findById(saved.getId());
+
+        assertTrue(found.isPresent());
+        assertEquals("INV-001", found.get().getProposalReference());
+        assertEquals(saved.getId(), found.get().getId());
+    }
+
+    /**
+     * Test proposals are spread over more than one shard
+     */
+    @Test  // Spring Boot: Test method annotation for investment shard distribution
+    void save_ManyProposals_ShouldUseSeveralShards() {
+        for (int i = 0; i < 30; i++) {
+            store.save(proposal(String.format("INV-%03d", i), "10000.00", RiskLevel.LOW));
+        }
+
+        // Spring Boot: Count the investment shards that received at least one row
+        int populatedShards = 0;
+        for (DataSource dataSource : dataSources) {
+            Integer rows = new org.springframework.jdbc.core.JdbcTemplate(dataSource)
+                    .queryForObject("SELECT COUNT(*) FROM investment_proposals", Integer.class);
+            if (rows != null && rows > 0) {
+                populatedShards++;
+            }
+        }
+        assertTrue(populatedShards > 1);
+    }
+
+    /**
+     * Test scatter-gather retrieval merges every shard in global ID order
+     */
+    @Test  // Spring Boot: Test method annotation for investment scatter-gather listing
+    void findAll_ShouldMergeAllShardsInIdOrder() {
+        for (int i = 0; i < 20; i++) {
+            store.save(proposal(String.format("INV-%03d", i), "10000.00", RiskLevel.LOW));
+        }
+
+        List<InvestmentProposal> all = store.findAll();
+
+        assertEquals(20, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getId() < all.get(i).getId());
+        }
+    }
+
+    /**
+     * Test high-value scatter-gather merges shards by amount, largest first
+     */
+    @Test  // Spring Boot: Test method annotation for investment high-value merge
+    void findHighValueInvestments_ShouldMergeByAmountDescending() {
+        store.save(proposal("INV-A", "150000.00", RiskLevel.HIGH));
+        store.save(proposal("INV-B", "50000.00", RiskLevel.MEDIUM));
+        store.save(proposal("INV-C", "250000.00", RiskLevel.HIGH));
+        store.save(proposal("INV-D", "120000.00", RiskLevel.LOW));
+
+        List<InvestmentProposal> highValue = store.findHighValueInvestments(new BigDecimal("100000.00"));
+
+        assertEquals(3, highValue.size());
+        assertEquals("INV-C", highValue.get(0).getProposalReference());
+        assertEquals("INV-A", highValue.get(1).getProposalReference());
+        assertEquals("INV-D", highValue.get(2).getProposalReference());
+    }
+
+    /**
+     * Test risk level counts are summed across shards
+     */
+    @Test  // Spring Boot: Test method annotation for investment portfolio summary
+    void countByRiskLevel_ShouldSumAcrossShards() {
+        for (int i = 0; i < 9; i++) {
+            store.save(proposal("INV-L" + i, "10000.00", RiskLevel.LOW));
+        }
+        store.save(proposal("INV-H1", "10000.00", RiskLevel.HIGH));
+
+        Map<RiskLevel, Long> counts = store.countByRiskLevel();
+
+        assertEquals(9L, counts.get(RiskLevel.LOW));
+        assertEquals(0L, counts.get(RiskLevel.MEDIUM));
+        assertEquals(1L, counts.get(RiskLevel.HIGH));
+    }
+
+    /**
+     * Test updates and deletes reach the owning shard
+     */
+    @Test  // Spring Boot: Test method annotation for investment shard writes
+    void saveExisting_AndDelete_ShouldTargetOwningShard() {
+        InvestmentProposal saved = store.save(proposal("INV-001", "50000.00", RiskLevel.MEDIUM));
+
+        saved.setApproved(true);
+        store.save(saved);
+        assertTrue(store.findById(saved.getId()).orElseThrow().getApproved());
+
+        store.delete(saved);
+        assertTrue(store.findById(saved.getId()).isEmpty());
+    }
+
+    private static InvestmentProposal proposal(String reference, String amount, RiskLevel riskLevel) {
+        return new InvestmentProposal(reference, "John Doe", Money.of(amount),
+                Rate.of("7.5"), riskLevel, "STOCKS", "Alice Johnson");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.investment.proposal.stream;
+
+import com.investment.proposal.entity.InvestmentProposal;
+import com.investment.proposal.entity.RiskLevel;
+import com.investment.proposal.event.InvestmentProposalCreatedEvent;
+import com.investment.proposal.event.InvestmentProposalDeletedEvent;
+import com.investment.proposal.event.InvestmentProposalStatusChangedEvent;
+import com.investment.proposal.money.Money;
+import com.investment.proposal.money.Rate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Investment Change Stream Integration Tests
+ * Spring Boot: Tests for coalesced SSE batches and Last-Event-ID resume over real HTTP
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "investment.management.change-stream.coalesce-window=1h"
+})  // Spring Boot: Real Tomcat for async SSE responses; own context whose timer never flushes during a test
+class ProposalChangeStreamTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired  // Spring Boot: Event publisher injection to drive investment lifecycle events
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired  // Spring Boot: Change stream injection so the test closes each coalescing window itself
+    private ProposalChangeStream changeStream;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    /**
+     * Test a burst is coalesced into one batch and replayed to a client resuming before it
+     */
+    @Test  // Spring Boot: Test method annotation for investment change stream testing
+    void stream_ShouldCoalesceBurstAndReplayAfterLastEventId() throws Exception {
+        BlockingQueue<String> live = connect(null);
+        String[] ready = nextEvent(live, "ready");
+
+        InvestmentProposal kept = proposal(90001L, "STREAM-1");
+        InvestmentProposal dropped = proposal(90002L, "STREAM-2");
+        eventPublisher.publishEvent(new InvestmentProposalCreatedEvent(kept));
+        kept.setApproved(true);
+        eventPublisher.publishEvent(new InvestmentProposalStatusChangedEvent(kept));
+        eventPublisher.publishEvent(new InvestmentProposalCreatedEvent(dropped));
+        eventPublisher.publishEvent(new InvestmentProposalDeletedEvent(dropped));
+        // Spring Boot: Flush explicitly so the burst cannot straddle a timer tick and split into two batches
+        changeStream.flush();
+
+        String[] batch = nextEvent(live, "changes");
+        assertTrue(batch[1].contains("\"id\":90001"), batch[1]);
+        assertTrue(batch[1].contains("\"type\":\"CREATED\""), batch[1]);
+        assertTrue(batch[1].contains("\"approved\":true"), batch[1]);
+        assertFalse(batch[1].contains("STREAM-2"), batch[1]);
+
+        // Spring Boot: A client that saw only the ready event gets the batch replayed
+        BlockingQueue<String> resumed = connect(ready[0]);
+        String[] replayed = nextEvent(resumed, "changes");
+        assertEquals(batch[0], replayed[0]);
+        assertEquals(batch[1], replayed[1]);
+
+        // Spring Boot: An id from another process epoch cannot be resumed and forces a refetch
+        BlockingQueue<String> stale = connect("0-1");
+        assertTrue(nextEvent(stale, "reset")[1].contains("unknown-event-id"));
+    }
+
+    private BlockingQueue<String> connect(String lastEventId) {
+        HttpRequest.Builder request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/investment/api/investment-proposals/stream"))
+                .header("Accept", "text/event-stream")
+                .header("Authorization", "Basic " + Base64.getEncoder()
+                        .encodeToString("admin:password".getBytes(StandardCharsets.UTF_8)));
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+        BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+        httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines())
+                .thenAccept(response -> {
+                    assertEquals(200, response.statusCode());
+                    try (Stream<String> body = response.body()) {
+                        body.forEach(lines::add);
+                    }
+                });
+        return lines;
+    }
+
+    /**
+     * Read until the next event with the given name
+     *
+     * @return Event id and data
+     */
+    private static String[] nextEvent(BlockingQueue<String> lines, String name) throws InterruptedException {
+        String id = null;
+        String event = null;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String line;
+        while ((line = lines.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+            if (line.startsWith("id:")) {
+                id = line.substring(3);
+            } else if (line.startsWith("event:")) {
+                event = line.substring(6);
+            } else if (line.startsWith("data:") && name.equals(event)) {
+                return new String[] {id, line.substring(5)};
+            } else if (line.isEmpty()) {
+                id = null;
+                event = null;
+            }
+        }
+        fail("No '" + name + "' event received");
+        return null;
+    }
+
+    private static InvestmentProposal proposal(Long id, String reference) {
+        InvestmentProposal proposal = new InvestmentProposal(reference, "Stream Client", Money.of("50000.00"),
+                Rate.of("7.5"), RiskLevel.MEDIUM, "STOCKS", "Alice Johnson");
+        proposal.setId(id);
+        proposal.setApproved(false);
+        return proposal;
+    }
+}